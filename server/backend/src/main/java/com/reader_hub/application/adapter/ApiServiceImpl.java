@@ -1,58 +1,198 @@
 package com.reader_hub.application.adapter;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.reader_hub.application.dto.*;
 import com.reader_hub.application.dto.ExternalMangaDto;
 import com.reader_hub.application.exception.ExternalApiException;
 import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.ports.ChapterFeed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.web.client.RestClientException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
-import static org.springframework.http.HttpMethod.GET;
+import static com.reader_hub.application.adapter.MangaDexHttpClient.await;
 
 @Service
 @Slf4j
-public class ApiServiceImpl implements ApiService {
+public class ApiServiceImpl implements ApiService, AsyncApiService {
 
     @Value("${mangadex.api.url:https://api.mangadex.org}")
     private String apiUrl;
 
-    private final RestTemplate restTemplate;
+    private static final int MAX_IDS_PER_REQUEST = 100;
+    private static final DateTimeFormatter SINCE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Value("${mangadex.feed.page-size:500}")
+    private int feedPageSize;
+
+    @Value("${mangadex.feed.item-timeout-ms:60000}")
+    private long feedItemTimeoutMs;
+
+    private final MangaDexHttpClient httpClient;
+    private final ExecutorService feedExecutor;
+    private final AtHomeServerCache atHomeCache;
 
     @Autowired
-    public ApiServiceImpl(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
+    public ApiServiceImpl(MangaDexHttpClient httpClient,
+                          @Qualifier("mangaDexFeedExecutor") ExecutorService feedExecutor,
+                          AtHomeServerCache atHomeCache) {
+        this.httpClient = httpClient;
+        this.feedExecutor = feedExecutor;
+        this.atHomeCache = atHomeCache;
     }
 
+    // ================== API SÍNCRONA (aguarda a variante assíncrona) ==================
+
     @Override
     public Optional<ExternalMangaDto> getMangaById(String id) {
-        String url = apiUrl + "/manga/" + id;
+        return await(getMangaByIdAsync(id));
+    }
+
+    @Override
+    public List<ExternalMangaDto> searchMangas(String query, Integer limit, Integer offset) {
+        return await(searchMangasAsync(query, limit, offset));
+    }
+
+    @Override
+    public PaginatedDto<ExternalMangaDto> getMangas(Integer limit, Integer offset) {
+        return await(getMangasAsync(limit, offset));
+    }
+
+    @Override
+    public List<ExternalMangaDto> getMangasByIds(Collection<String> ids) {
+        return await(getMangasByIdsAsync(ids));
+    }
+
+    @Override
+    public Optional<AuthorDto> getAuthorById(String id) {
+        return await(getAuthorByIdAsync(id));
+    }
+
+    @Override
+    public PaginatedDto<AuthorDto> getAuthors(Integer limit, Integer offset) {
+        return await(getAuthorsAsync(limit, offset));
+    }
+
+    @Override
+    public List<AuthorDto> getAuthorsByIds(Collection<String> ids) {
+        return await(getAuthorsByIdsAsync(ids));
+    }
+
+    @Override
+    public Optional<ChapterDto> getChapterById(String id) {
+        return await(getChapterByIdAsync(id));
+    }
+
+    @Override
+    public List<ChapterDto> getChaptersByMangaId(String mangaId, Integer limit, Integer offset) {
+        return await(getChaptersByMangaIdAsync(mangaId, limit, offset));
+    }
+
+    /**
+     * Variante streaming de {@link #getChaptersByMangaId}: cada capítulo é entregue
+     * ao consumer enquanto o corpo ainda está sendo baixado.
+     */
+    @Override
+    public StreamedPageDto streamChaptersByMangaId(String mangaId, Integer limit, Integer offset,
+                                                   Consumer<ChapterDto> consumer) {
+        String url = chapterFeedUrl(mangaId, limit, offset);
         try {
-            var response = restTemplate.exchange(url, GET, null,
-                new ParameterizedTypeReference<ApiSingleResponse<ExternalMangaDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return Optional.of(response.getBody().getData());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar manga com ID {}: {}", id, e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao buscar manga: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar manga com ID {}: {}", id, e.getMessage(), e);
+            return httpClient.streamCollection(url, ChapterDto.class, consumer);
+        } catch (ExternalApiException e) {
+            log.error("Erro ao buscar capítulos do manga {}: {}", mangaId, e.getMessage());
+            throw e;
         }
-        return Optional.empty();
     }
 
+    /**
+     * Feed completo (todas as páginas) com a página seguinte pré-carregada
+     * enquanto a atual é consumida.
+     */
     @Override
-    public List<ExternalMangaDto> searchMangas(String query, Integer limit, Integer offset) {
+    public ChapterFeed openChapterFeed(String mangaId) {
+        return new PrefetchingChapterFeed(
+                (offset, limit, consumer) -> streamChaptersByMangaId(mangaId, limit, offset, consumer),
+                feedPageSize, Duration.ofMillis(feedItemTimeoutMs), feedExecutor);
+    }
+
+    @Override
+    public List<String> getChapterPages(String chapterId) {
+        return await(getChapterPagesAsync(chapterId));
+    }
+
+    @Override
+    public Optional<ChapterDto.ChapterPagesDto> getAtHomeServer(String chapterId) {
+        return await(getAtHomeServerAsync(chapterId));
+    }
+
+    @Override
+    public String downloadFile(String url, Path target) {
+        return await(downloadFileAsync(url, target));
+    }
+
+    @Override
+    public PaginatedDto<ExternalMangaDto> getPopularMangas(Integer limit, Integer offset) {
+        return await(getPopularMangasAsync(limit, offset));
+    }
+
+    @Override
+    public PaginatedDto<ExternalMangaDto> getRecentMangas(Integer limit, Integer offset) {
+        return await(getRecentMangasAsync(limit, offset));
+    }
+
+    @Override
+    public PaginatedDto<ExternalMangaDto> getMangasCreatedSince(OffsetDateTime since, Integer limit, Integer offset) {
+        return await(getMangasCreatedSinceAsync(since, limit, offset));
+    }
+
+    @Override
+    public PaginatedDto<ExternalMangaDto> getMangasUpdatedSince(OffsetDateTime since, Integer limit, Integer offset) {
+        return await(getMangasUpdatedSinceAsync(since, limit, offset));
+    }
+
+    @Override
+    public PaginatedDto<ChapterDto> getChaptersUpdatedSince(OffsetDateTime since, Integer limit, Integer offset) {
+        return await(getChaptersUpdatedSinceAsync(since, limit, offset));
+    }
+
+    @Override
+    public String getMangaCoverUrl(String mangaId) {
+        return await(getMangaCoverUrlAsync(mangaId));
+    }
+
+    // ================== API ASSÍNCRONA ==================
+
+    @Override
+    public CompletableFuture<Optional<ExternalMangaDto>> getMangaByIdAsync(String id) {
+        String url = apiUrl + "/manga/" + id;
+        return httpClient.getAsync(url, new TypeReference<ApiSingleResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> Optional.ofNullable(body != null ? body.getData() : null))
+                .exceptionally(rethrow("Falha ao buscar manga",
+                        e -> log.error("Erro ao buscar manga com ID {}: {}", id, e.getMessage())));
+    }
+
+    @Override
+    public CompletableFuture<List<ExternalMangaDto>> searchMangasAsync(String query, Integer limit, Integer offset) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
                 .queryParam("title", query)
                 .queryParam("limit", limit != null ? limit : 20)
@@ -60,25 +200,16 @@ public class ApiServiceImpl implements ApiService {
                 .queryParam("includes[]", "author")
                 .queryParam("includes[]", "artist")
                 .queryParam("includes[]", "cover_art")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<ExternalMangaDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return response.getBody().getData();
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar mangas com query '{}': {}", query, e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao buscar mangas: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar mangas com query '{}': {}", query, e.getMessage(), e);
-        }
-        return List.of();
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> body != null && body.getData() != null ? body.getData() : List.<ExternalMangaDto>of())
+                .exceptionally(rethrow("Falha ao buscar mangas",
+                        e -> log.error("Erro ao buscar mangas com query '{}': {}", query, e.getMessage())));
     }
 
     @Override
-    public PaginatedDto<ExternalMangaDto> getMangas(Integer limit, Integer offset) {
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasAsync(Integer limit, Integer offset) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
                 .queryParam("limit", limit != null ? limit : 20)
                 .queryParam("offset", offset != null ? offset : 0)
@@ -86,166 +217,188 @@ public class ApiServiceImpl implements ApiService {
                 .queryParam("includes[]", "artist")
                 .queryParam("includes[]", "cover_art")
                 .queryParam("order[latestUploadedChapter]", "desc")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<ExternalMangaDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return new PaginatedDto<>(response.getBody().getData(),
-                        response.getBody().getTotal(),
-                        response.getBody().getOffset(),
-                        response.getBody().getLimit());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao listar mangas: {}", e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao listar mangas: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao listar mangas: {}", e.getMessage(), e);
-        }
-        return new PaginatedDto<>(List.of(), 0, offset != null ? offset : 0, limit != null ? limit : 20);
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao listar mangas",
+                        e -> log.error("Erro ao listar mangas: {}", e.getMessage())));
     }
 
     @Override
-    public Optional<AuthorDto> getAuthorById(String id) {
+    public CompletableFuture<Optional<AuthorDto>> getAuthorByIdAsync(String id) {
         var url = apiUrl + "/author/" + id;
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiSingleResponse<AuthorDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return Optional.of(response.getBody().getData());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar autor com ID {}: {}", id, e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar autor com ID {}: {}", id, e.getMessage(), e);
-        }
-        return Optional.empty();
+        return httpClient.getAsync(url, new TypeReference<ApiSingleResponse<AuthorDto>>() {})
+                .thenApply(body -> Optional.ofNullable(body != null ? body.getData() : null))
+                .exceptionally(e -> {
+                    log.error("Erro ao buscar autor com ID {}: {}", id, unwrap(e).getMessage());
+                    return Optional.empty();
+                });
     }
 
     @Override
-    public PaginatedDto<AuthorDto> getAuthors(Integer limit, Integer offset) {
+    public CompletableFuture<PaginatedDto<AuthorDto>> getAuthorsAsync(Integer limit, Integer offset) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/author")
                 .queryParam("limit", limit != null ? limit : 20)
                 .queryParam("offset", offset != null ? offset : 0)
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<AuthorDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return new PaginatedDto<>(response.getBody().getData(),
-                        response.getBody().getTotal(),
-                        response.getBody().getOffset(),
-                        response.getBody().getLimit());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao listar autores: {}", e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao listar autores: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao listar autores: {}", e.getMessage(), e);
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<AuthorDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao listar autores",
+                        e -> log.error("Erro ao listar autores: {}", e.getMessage())));
+    }
+
+    /**
+     * Busca vários mangás (com a capa) pelo filtro ids[] do MangaDex, em lotes de até
+     * {@value #MAX_IDS_PER_REQUEST} IDs. Um lote que falha derruba a busca inteira.
+     */
+    @Override
+    public CompletableFuture<List<ExternalMangaDto>> getMangasByIdsAsync(Collection<String> ids) {
+        List<String> distinctIds = ids == null ? List.of() : ids.stream().distinct().toList();
+        return fetchByIdsInBatches(distinctIds, batch -> {
+            var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
+                    .queryParam("ids[]", batch.toArray())
+                    .queryParam("limit", batch.size())
+                    .queryParam("includes[]", "cover_art")
+                    .build().encode().toUriString();
+            return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                    .thenApply(body -> body != null && body.getData() != null ? body.getData() : List.<ExternalMangaDto>of());
+        }).exceptionally(rethrow("Falha ao buscar mangas em lote",
+                e -> log.error("Erro ao buscar {} mangas em lote: {}", distinctIds.size(), e.getMessage())));
+    }
+
+    /**
+     * Busca vários autores pelo filtro ids[] do MangaDex, em lotes de até
+     * {@value #MAX_IDS_PER_REQUEST} IDs (limite da API). Os lotes saem em paralelo;
+     * um lote que falha é refeito autor a autor.
+     */
+    @Override
+    public CompletableFuture<List<AuthorDto>> getAuthorsByIdsAsync(Collection<String> ids) {
+        List<String> distinctIds = ids == null ? List.of() : ids.stream().distinct().toList();
+        return fetchByIdsInBatches(distinctIds, batch -> {
+            var url = UriComponentsBuilder.fromUriString(apiUrl + "/author")
+                    .queryParam("ids[]", batch.toArray())
+                    .queryParam("limit", batch.size())
+                    .build().encode().toUriString();
+            return httpClient.getAsync(url, new TypeReference<ApiResponse<AuthorDto>>() {})
+                    .thenApply(body -> body != null && body.getData() != null ? body.getData() : List.<AuthorDto>of())
+                    .exceptionallyCompose(e -> getAuthorsOneByOneAsync(batch, e));
+        }).exceptionally(rethrow("Falha ao buscar autores em lote",
+                e -> log.error("Erro ao buscar {} autores em lote: {}", distinctIds.size(), e.getMessage())));
+    }
+
+    /**
+     * Divide os IDs em lotes de {@value #MAX_IDS_PER_REQUEST} (limite do filtro ids[]),
+     * dispara todos em paralelo e junta os resultados na ordem dos lotes.
+     */
+    private static <T> CompletableFuture<List<T>> fetchByIdsInBatches(
+            List<String> ids, Function<List<String>, CompletableFuture<List<T>>> fetcher) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
         }
-        return new PaginatedDto<>(List.of(), 0, offset != null ? offset : 0, limit != null ? limit : 20);
+
+        List<CompletableFuture<List<T>>> batches = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += MAX_IDS_PER_REQUEST) {
+            batches.add(fetcher.apply(ids.subList(start, Math.min(start + MAX_IDS_PER_REQUEST, ids.size()))));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> batches.stream()
+                        .flatMap(batch -> batch.join().stream())
+                        .toList());
+    }
+
+    /**
+     * Plano B de um lote de autores que falhou: busca cada ID em /author/{id}.
+     * Quem falhar também fica de fora do resultado; o chamador compara com os
+     * IDs pedidos para agendar o retry.
+     */
+    private CompletableFuture<List<AuthorDto>> getAuthorsOneByOneAsync(List<String> ids, Throwable batchError) {
+        log.warn("Lote de {} autores falhou ({}), buscando um a um", ids.size(), unwrap(batchError).getMessage());
+        List<CompletableFuture<AuthorDto>> singles = ids.stream()
+                .map(id -> httpClient.getAsync(apiUrl + "/author/" + id, new TypeReference<ApiSingleResponse<AuthorDto>>() {})
+                        .thenApply(body -> body != null ? body.getData() : null)
+                        .exceptionally(e -> {
+                            log.warn("Erro ao buscar autor com ID {}: {}", id, unwrap(e).getMessage());
+                            return null;
+                        }))
+                .toList();
+        return CompletableFuture.allOf(singles.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> singles.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList());
     }
 
     @Override
-    public Optional<ChapterDto> getChapterById(String id) {
+    public CompletableFuture<Optional<ChapterDto>> getChapterByIdAsync(String id) {
         var url = apiUrl + "/chapter/" + id;
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiSingleResponse<ChapterDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return Optional.of(response.getBody().getData());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar capítulo com ID {}: {}", id, e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar capítulo com ID {}: {}", id, e.getMessage(), e);
-        }
-        return Optional.empty();
+        return httpClient.getAsync(url, new TypeReference<ApiSingleResponse<ChapterDto>>() {})
+                .thenApply(body -> Optional.ofNullable(body != null ? body.getData() : null))
+                .exceptionally(e -> {
+                    log.error("Erro ao buscar capítulo com ID {}: {}", id, unwrap(e).getMessage());
+                    return Optional.empty();
+                });
     }
 
     @Override
-    public List<ChapterDto> getChaptersByMangaId(String mangaId, Integer limit, Integer offset) {
-        var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga/" + mangaId + "/feed")
-                .queryParam("limit", limit != null ? limit : 500)
-                .queryParam("offset", offset != null ? offset : 0)
-                .queryParam("order[chapter]", "asc")
-                .queryParam("translatedLanguage[]", "pt-br")
-                .queryParam("translatedLanguage[]", "en")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<ChapterDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return response.getBody().getData();
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar capítulos do manga {}: {}", mangaId, e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao buscar capítulos: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar capítulos do manga {}: {}", mangaId, e.getMessage(), e);
-        }
-        return List.of();
+    public CompletableFuture<List<ChapterDto>> getChaptersByMangaIdAsync(String mangaId, Integer limit, Integer offset) {
+        var url = chapterFeedUrl(mangaId, limit, offset);
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ChapterDto>>() {})
+                .thenApply(body -> body != null && body.getData() != null ? body.getData() : List.<ChapterDto>of())
+                .exceptionally(rethrow("Falha ao buscar capítulos",
+                        e -> log.error("Erro ao buscar capítulos do manga {}: {}", mangaId, e.getMessage())));
     }
 
     @Override
-    public List<String> getChapterPages(String chapterId) {
+    public CompletableFuture<List<String>> getChapterPagesAsync(String chapterId) {
+        return getAtHomeServerAsync(chapterId)
+                .thenApply(server -> server.map(pages -> pages.pageUrls(false)).orElse(List.of()));
+    }
+
+    /**
+     * Resolução at-home do capítulo (baseUrl + hash + arquivos), servida do
+     * {@link AtHomeServerCache} enquanto o baseUrl ainda é válido.
+     */
+    @Override
+    public CompletableFuture<Optional<ChapterDto.ChapterPagesDto>> getAtHomeServerAsync(String chapterId) {
         var url = apiUrl + "/at-home/server/" + chapterId;
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ChapterDto.ChapterPagesDto>() {});
-            if (response.getBody() != null && response.getBody().getChapter() != null) {
-                var chapterData = response.getBody().getChapter();
-                var baseUrl = response.getBody().getBaseUrl();
-                var hash = chapterData.getHash();
-                
-                List<String> imageUrls = new ArrayList<>();
-                for (String fileName : chapterData.getData()) {
-                    imageUrls.add(baseUrl + "/data/" + hash + "/" + fileName);
-                }
-                return imageUrls;
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar páginas do capítulo {}: {}", chapterId, e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar páginas do capítulo {}: {}", chapterId, e.getMessage(), e);
-        }
-        return List.of();
+        return atHomeCache.get(chapterId,
+                        () -> httpClient.getAsync(url, new TypeReference<ChapterDto.ChapterPagesDto>() {}))
+                .thenApply(server -> Optional.ofNullable(server != null && server.getChapter() != null ? server : null))
+                .exceptionally(e -> {
+                    log.error("Erro ao buscar páginas do capítulo {}: {}", chapterId, unwrap(e).getMessage());
+                    return Optional.empty();
+                });
     }
-    
+
     @Override
-    public PaginatedDto<ExternalMangaDto> getPopularMangas(Integer limit, Integer offset) {
+    public CompletableFuture<String> downloadFileAsync(String url, Path target) {
+        return httpClient.download(url, target)
+                .exceptionally(rethrow("Falha ao baixar arquivo",
+                        e -> log.warn("Erro ao baixar {}: {}", url, e.getMessage())));
+    }
+
+    @Override
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getPopularMangasAsync(Integer limit, Integer offset) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
                 .queryParam("limit", limit != null ? limit : 20)
                 .queryParam("offset", offset != null ? offset : 0)
                 .queryParam("includes[]", "author")
-                .queryParam("includes[]", "artist") 
+                .queryParam("includes[]", "artist")
                 .queryParam("includes[]", "cover_art")
                 .queryParam("order[followedCount]", "desc")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<ExternalMangaDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return new PaginatedDto<>(response.getBody().getData(),
-                        response.getBody().getTotal(),
-                        response.getBody().getOffset(),
-                        response.getBody().getLimit());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar mangas populares: {}", e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao buscar mangas populares: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar mangas populares: {}", e.getMessage(), e);
-        }
-        return new PaginatedDto<>(List.of(), 0, offset != null ? offset : 0, limit != null ? limit : 20);
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao buscar mangas populares",
+                        e -> log.error("Erro ao buscar mangas populares: {}", e.getMessage())));
     }
-    
+
     @Override
-    public PaginatedDto<ExternalMangaDto> getRecentMangas(Integer limit, Integer offset) {
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getRecentMangasAsync(Integer limit, Integer offset) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
                 .queryParam("limit", limit != null ? limit : 20)
                 .queryParam("offset", offset != null ? offset : 0)
@@ -253,56 +406,132 @@ public class ApiServiceImpl implements ApiService {
                 .queryParam("includes[]", "artist")
                 .queryParam("includes[]", "cover_art")
                 .queryParam("order[createdAt]", "desc")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiResponse<ExternalMangaDto>>() {});
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                return new PaginatedDto<>(response.getBody().getData(),
-                        response.getBody().getTotal(),
-                        response.getBody().getOffset(),
-                        response.getBody().getLimit());
-            }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar mangas recentes: {}", e.getMessage());
-            throw new ExternalApiException("MangaDex", "Falha ao buscar mangas recentes: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar mangas recentes: {}", e.getMessage(), e);
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao buscar mangas recentes",
+                        e -> log.error("Erro ao buscar mangas recentes: {}", e.getMessage())));
+    }
+
+    @Override
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasCreatedSinceAsync(OffsetDateTime since,
+                                                                                      Integer limit, Integer offset) {
+        var builder = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
+                .queryParam("limit", limit != null ? limit : 100)
+                .queryParam("offset", offset != null ? offset : 0)
+                .queryParam("includes[]", "author")
+                .queryParam("includes[]", "artist")
+                .queryParam("includes[]", "cover_art")
+                .queryParam("order[createdAt]", "asc");
+        if (since != null) {
+            builder.queryParam("createdAtSince", formatSince(since));
         }
-        return new PaginatedDto<>(List.of(), 0, offset != null ? offset : 0, limit != null ? limit : 20);
+        var url = builder.build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao buscar catálogo de mangas",
+                        e -> log.error("Erro ao buscar mangas criados desde {}: {}", since, e.getMessage())));
     }
 
     @Override
-    public String getMangaCoverUrl(String mangaId) {
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasUpdatedSinceAsync(OffsetDateTime since,
+                                                                                      Integer limit, Integer offset) {
+        var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga")
+                .queryParam("limit", limit != null ? limit : 100)
+                .queryParam("offset", offset != null ? offset : 0)
+                .queryParam("includes[]", "cover_art")
+                .queryParam("order[updatedAt]", "asc")
+                .queryParam("updatedAtSince", formatSince(since))
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao buscar mangas alterados",
+                        e -> log.error("Erro ao buscar mangas alterados desde {}: {}", since, e.getMessage())));
+    }
+
+    @Override
+    public CompletableFuture<PaginatedDto<ChapterDto>> getChaptersUpdatedSinceAsync(OffsetDateTime since,
+                                                                                 Integer limit, Integer offset) {
+        var url = UriComponentsBuilder.fromUriString(apiUrl + "/chapter")
+                .queryParam("limit", limit != null ? limit : 100)
+                .queryParam("offset", offset != null ? offset : 0)
+                .queryParam("order[updatedAt]", "asc")
+                .queryParam("updatedAtSince", formatSince(since))
+                .queryParam("translatedLanguage[]", "pt-br")
+                .queryParam("translatedLanguage[]", "en")
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiResponse<ChapterDto>>() {})
+                .thenApply(body -> toPaginated(body, limit, offset))
+                .exceptionally(rethrow("Falha ao buscar capítulos alterados",
+                        e -> log.error("Erro ao buscar capítulos alterados desde {}: {}", since, e.getMessage())));
+    }
+
+    @Override
+    public CompletableFuture<String> getMangaCoverUrlAsync(String mangaId) {
         var url = UriComponentsBuilder.fromUriString(apiUrl + "/manga/" + mangaId)
                 .queryParam("includes[]", "cover_art")
-                .build().toUriString();
-        
-        try {
-            var response = restTemplate.exchange(url, GET, null,
-                    new ParameterizedTypeReference<ApiSingleResponse<ExternalMangaDto>>() {});
-            
-            if (response.getBody() != null && 
-                response.getBody().getData() != null) {
-                
-                ExternalMangaDto manga = response.getBody().getData();
-                if (manga.getRelationships() != null) {
-                    for (ExternalMangaDto.SimpleRelationship relationship : manga.getRelationships()) {
-                        if ("cover_art".equals(relationship.getType()) && relationship.getAttributes() != null) {
-                            String fileName = (String) relationship.getAttributes().get("fileName");
-                            if (fileName != null) {
-                                return "https://uploads.mangadex.org/covers/" + mangaId + "/" + fileName;
-                            }
-                        }
-                    }
-                }
+                .build().encode().toUriString();
+
+        return httpClient.getAsync(url, new TypeReference<ApiSingleResponse<ExternalMangaDto>>() {})
+                .thenApply(body -> body != null && body.getData() != null
+                        ? body.getData().findCoverUrl().orElse(null)
+                        : null)
+                .exceptionally(e -> {
+                    log.error("Erro ao buscar capa do manga {}: {}", mangaId, unwrap(e).getMessage());
+                    return null;
+                });
+    }
+
+    // ================== MÉTODOS AUXILIARES ==================
+
+    private String chapterFeedUrl(String mangaId, Integer limit, Integer offset) {
+        return UriComponentsBuilder.fromUriString(apiUrl + "/manga/" + mangaId + "/feed")
+                .queryParam("limit", limit != null ? limit : 500)
+                .queryParam("offset", offset != null ? offset : 0)
+                .queryParam("order[chapter]", "asc")
+                .queryParam("translatedLanguage[]", "pt-br")
+                .queryParam("translatedLanguage[]", "en")
+                .build().encode().toUriString();
+    }
+
+    /**
+     * Filtros *Since do MangaDex: "YYYY-MM-DDTHH:MM:SS" em UTC, sem fração nem fuso.
+     */
+    static String formatSince(OffsetDateTime instant) {
+        return instant.withOffsetSameInstant(ZoneOffset.UTC).format(SINCE_FORMAT);
+    }
+
+    private static <T> PaginatedDto<T> toPaginated(ApiResponse<T> body, Integer limit, Integer offset) {
+        if (body != null && body.getData() != null) {
+            return new PaginatedDto<>(body.getData(), body.getTotal(), body.getOffset(), body.getLimit());
+        }
+        return new PaginatedDto<>(List.of(), 0, offset != null ? offset : 0, limit != null ? limit : 20);
+    }
+
+    /**
+     * Loga e relança a falha como {@link ExternalApiException}, preservando o
+     * comportamento das chamadas que devem propagar erro ao controller.
+     */
+    private static <T> Function<Throwable, T> rethrow(String failureMessage, Consumer<Throwable> logger) {
+        return error -> {
+            Throwable cause = unwrap(error);
+            logger.accept(cause);
+            if (cause instanceof ExternalApiException externalApiException) {
+                throw externalApiException;
             }
-        } catch (RestClientException e) {
-            log.error("Erro ao buscar capa do manga {}: {}", mangaId, e.getMessage());
-        } catch (Exception e) {
-            log.error("Erro inesperado ao buscar capa do manga {}: {}", mangaId, e.getMessage(), e);
+            throw new ExternalApiException("MangaDex", failureMessage + ": " + cause.getMessage(), cause);
+        };
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
-        return null;
+        return cause;
     }
 }
@@ -0,0 +1,67 @@
+package com.reader_hub.application.adapter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Semáforo assíncrono: no máximo {@code limit} vagas em uso e uma fila FIFO de
+ * futures esperando a próxima. Nenhuma thread bloqueia; quem espera recebe um
+ * future que completa quando alguém libera a vaga.
+ *
+ * Base do {@link HostConnectionLimiter} (fila sem teto) e do
+ * {@link MangaDexBulkhead} (fila limitada, recusa acima dela).
+ */
+final class AsyncPermits {
+
+    private final int limit;
+    private final int maxQueued;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int inUse;
+
+    AsyncPermits(int limit, int maxQueued) {
+        this.limit = Math.max(1, limit);
+        this.maxQueued = Math.max(0, maxQueued);
+    }
+
+    /**
+     * Future que completa quando a vaga é concedida, ou {@code null} se a fila está cheia.
+     */
+    synchronized CompletableFuture<Void> tryAcquire() {
+        if (inUse < limit) {
+            inUse++;
+            return CompletableFuture.completedFuture(null);
+        }
+        if (waiters.size() >= maxQueued) {
+            return null;
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.addLast(waiter);
+        return waiter;
+    }
+
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            next = waiters.pollFirst();
+            if (next == null) {
+                inUse--;
+                return;
+            }
+        }
+        // A vaga passa direto para o próximo da fila (inUse não muda)
+        next.complete(null);
+    }
+
+    synchronized int inUse() {
+        return inUse;
+    }
+
+    synchronized int queued() {
+        return waiters.size();
+    }
+
+    int limit() {
+        return limit;
+    }
+}
@@ -0,0 +1,108 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.dto.ChapterDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache das resoluções do /at-home/server/{chapterId}.
+ *
+ * O baseUrl devolvido pelo MangaDex vale ~15 minutos, então cada entrada vive
+ * {@code ttl} (abaixo disso). Na janela final ({@code refresh-ahead}) a entrada
+ * ainda é servida, mas uma nova resolução é disparada em segundo plano, para que
+ * leitores não esperem pelo MangaDex ao abrir um capítulo popular. Entradas
+ * vencidas são resolvidas de novo na hora; resoluções simultâneas do mesmo
+ * capítulo compartilham a mesma requisição.
+ */
+@Component
+@Slf4j
+class AtHomeServerCache {
+
+    private final long ttlMs;
+    private final long refreshAheadMs;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final RequestCoalescer<ChapterDto.ChapterPagesDto> loads = new RequestCoalescer<>(0);
+    private final LinkedHashMap<String, Entry> entries;
+
+    @Autowired
+    AtHomeServerCache(@Value("${mangadex.at-home.ttl:10m}") Duration ttl,
+                      @Value("${mangadex.at-home.refresh-ahead:2m}") Duration refreshAhead,
+                      @Value("${mangadex.at-home.max-entries:10000}") int maxEntries) {
+        this(ttl.toMillis(), refreshAhead.toMillis(), maxEntries, System::currentTimeMillis);
+    }
+
+    AtHomeServerCache(long ttlMs, long refreshAheadMs, int maxEntries, LongSupplier clock) {
+        this.ttlMs = Math.max(0, ttlMs);
+        this.refreshAheadMs = Math.max(0, Math.min(refreshAheadMs, this.ttlMs));
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AtHomeServerCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Resolução do capítulo, do cache quando ainda válida ou via {@code loader}.
+     */
+    CompletableFuture<ChapterDto.ChapterPagesDto> get(String chapterId,
+                                                      Supplier<CompletableFuture<ChapterDto.ChapterPagesDto>> loader) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(chapterId);
+        }
+        long now = clock.getAsLong();
+        if (entry != null && now < entry.expiresAt()) {
+            if (now >= entry.expiresAt() - refreshAheadMs) {
+                load(chapterId, loader).exceptionally(e -> {
+                    log.debug("Falha ao renovar at-home do capítulo {}: {}", chapterId, e.getMessage());
+                    return null;
+                });
+            }
+            return CompletableFuture.completedFuture(entry.server());
+        }
+        return load(chapterId, loader);
+    }
+
+    /**
+     * Descarta a resolução (ex.: o nó de entrega parou de responder).
+     */
+    void invalidate(String chapterId) {
+        synchronized (entries) {
+            entries.remove(chapterId);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CompletableFuture<ChapterDto.ChapterPagesDto> load(String chapterId,
+                                                               Supplier<CompletableFuture<ChapterDto.ChapterPagesDto>> loader) {
+        return loads.execute(chapterId, () -> loader.get().thenApply(server -> {
+            if (server != null && server.getBaseUrl() != null && server.getChapter() != null) {
+                synchronized (entries) {
+                    entries.put(chapterId, new Entry(server, clock.getAsLong() + ttlMs));
+                }
+            }
+            return server;
+        }));
+    }
+
+    private record Entry(ChapterDto.ChapterPagesDto server, long expiresAt) {
+    }
+}
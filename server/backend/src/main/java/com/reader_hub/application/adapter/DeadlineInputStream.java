@@ -0,0 +1,124 @@
+package com.reader_hub.application.adapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo de resposta com prazo por leitura: o timeout da requisição só cobre a
+ * espera pelos cabeçalhos, então uma conexão que para no meio do corpo deixaria
+ * o {@code read()} bloqueado para sempre. Se uma leitura fica {@code timeout}
+ * sem devolver nada, o stream de baixo é fechado e ela falha com
+ * {@link SocketTimeoutException}.
+ *
+ * Só conta o tempo dentro do {@code read()}: enquanto quem lê está ocupado
+ * (ex.: esperando a fila do feed esvaziar) o relógio não corre.
+ */
+final class DeadlineInputStream extends FilterInputStream {
+
+    private static final long NOT_READING = Long.MIN_VALUE;
+
+    private final long timeoutNanos;
+    private volatile long readingSince = NOT_READING;
+    private volatile boolean expired;
+    private volatile boolean closed;
+
+    DeadlineInputStream(InputStream in, Duration timeout) {
+        super(in);
+        this.timeoutNanos = Math.max(1, timeout.toNanos());
+        arm(timeoutNanos);
+    }
+
+    @Override
+    public int read() throws IOException {
+        begin();
+        try {
+            return checked(in.read());
+        } catch (IOException e) {
+            throw failure(e);
+        } finally {
+            readingSince = NOT_READING;
+        }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        begin();
+        try {
+            return checked(in.read(buffer, offset, length));
+        } catch (IOException e) {
+            throw failure(e);
+        } finally {
+            readingSince = NOT_READING;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        begin();
+        try {
+            return checked(in.skip(n));
+        } catch (IOException e) {
+            throw failure(e);
+        } finally {
+            readingSince = NOT_READING;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+    }
+
+    private void begin() throws IOException {
+        if (expired) {
+            throw timeout();
+        }
+        readingSince = System.nanoTime();
+    }
+
+    private <T> T checked(T result) throws IOException {
+        // Fechado pelo vigia: o stream de baixo pode ter devolvido EOF em vez de erro
+        if (expired) {
+            throw timeout();
+        }
+        return result;
+    }
+
+    private IOException failure(IOException e) {
+        return expired ? timeout() : e;
+    }
+
+    private SocketTimeoutException timeout() {
+        return new SocketTimeoutException("Leitura parada por mais de "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+    }
+
+    private void arm(long delayNanos) {
+        CompletableFuture.runAsync(this::check,
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void check() {
+        if (closed) {
+            return;
+        }
+        long since = readingSince;
+        long elapsed = since == NOT_READING ? 0 : System.nanoTime() - since;
+        if (elapsed < timeoutNanos) {
+            arm(timeoutNanos - elapsed);
+            return;
+        }
+        expired = true;
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // A leitura bloqueada já vai falhar
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reader_hub.application.adapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Limita quantas requisições ficam em voo por host, sem bloquear threads.
+ *
+ * O HttpClient do JDK não expõe limite de conexões por host. Em HTTP/1.1 cada
+ * requisição em voo ocupa uma conexão, então limitar as requisições é o mesmo
+ * que limitar conexões; em HTTP/2 o limite vira o número de streams simultâneos.
+ * Quem excede o limite recebe um future que só completa quando uma vaga abre.
+ */
+class HostConnectionLimiter {
+
+    private final int defaultLimit;
+    private final Map<String, Integer> hostLimits;
+    private final ConcurrentHashMap<String, AsyncPermits> permitsByHost = new ConcurrentHashMap<>();
+
+    HostConnectionLimiter(int defaultLimit, Map<String, Integer> hostLimits) {
+        this.defaultLimit = Math.max(1, defaultLimit);
+        this.hostLimits = hostLimits;
+    }
+
+    /**
+     * Converte "host=limite,host2=limite" (formato da propriedade) em mapa.
+     */
+    static Map<String, Integer> parseHostLimits(String spec) {
+        Map<String, Integer> limits = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return limits;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length == 2) {
+                limits.put(parts[0].trim().toLowerCase(), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        return limits;
+    }
+
+    <T> CompletableFuture<T> submit(String host, Supplier<CompletableFuture<T>> task) {
+        AsyncPermits permits = permitsByHost.computeIfAbsent(host == null ? "" : host.toLowerCase(),
+                h -> new AsyncPermits(hostLimits.getOrDefault(h, defaultLimit), Integer.MAX_VALUE));
+
+        // Fila sem teto: quem passa do limite só espera, nunca é recusado
+        return permits.tryAcquire().thenCompose(ignored -> {
+            CompletableFuture<T> future;
+            try {
+                future = task.get();
+            } catch (Throwable t) {
+                future = CompletableFuture.failedFuture(t);
+            }
+            return future.whenComplete((result, error) -> permits.release());
+        });
+    }
+
+    int inFlight(String host) {
+        AsyncPermits permits = permitsByHost.get(host == null ? "" : host.toLowerCase());
+        return permits != null ? permits.inUse() : 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.reader_hub.application.adapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulkhead assíncrono de uma família de endpoints: no máximo
+ * {@code maxConcurrent} chamadas em voo e {@code maxQueued} aguardando vaga.
+ * Acima disso a chamada é recusada na hora, para que uma família lenta
+ * (ex.: feed de capítulos) não prenda as vagas de conexão das demais.
+ */
+class MangaDexBulkhead {
+
+    private final AsyncPermits permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    MangaDexBulkhead(int maxConcurrent, int maxQueued) {
+        this.permits = new AsyncPermits(maxConcurrent, maxQueued);
+    }
+
+    /**
+     * Future que completa quando a vaga é concedida, ou {@code null} se o bulkhead está lotado.
+     */
+    CompletableFuture<Void> tryAcquire() {
+        CompletableFuture<Void> permit = permits.tryAcquire();
+        if (permit == null) {
+            rejected.incrementAndGet();
+        }
+        return permit;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    int active() {
+        return permits.inUse();
+    }
+
+    int queued() {
+        return permits.queued();
+    }
+
+    long rejectedCount() {
+        return rejected.get();
+    }
+
+    int maxConcurrent() {
+        return permits.limit();
+    }
+}
@@ -0,0 +1,189 @@
+package com.reader_hub.application.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker por contagem para as chamadas ao MangaDex.
+ *
+ * FECHADO: registra o resultado das últimas {@code windowSize} chamadas; com pelo
+ * menos {@code minimumCalls} no histórico e taxa de falha acima do limite, abre.
+ * ABERTO: recusa tudo localmente até {@code openDuration} passar.
+ * MEIO-ABERTO: deixa passar até {@code halfOpenProbes} chamadas de teste; se todas
+ * derem certo o circuito fecha com janela limpa, qualquer falha reabre.
+ */
+@Slf4j
+class MangaDexCircuitBreaker {
+
+    enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        int code() {
+            return code;
+        }
+    }
+
+    /**
+     * Autorização de uma chamada; probes são as chamadas feitas em MEIO-ABERTO.
+     */
+    enum Permit {
+        REJECTED, CALL, PROBE
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+    private long rejected;
+
+    MangaDexCircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                           long openDurationMs, int halfOpenProbes) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, openDurationMs, halfOpenProbes, System::nanoTime);
+    }
+
+    MangaDexCircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                           long openDurationMs, int halfOpenProbes, LongSupplier nanoClock) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openDurationMs));
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                rejected++;
+                return Permit.REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                rejected++;
+                return Permit.REJECTED;
+            }
+            probesStarted++;
+            return Permit.PROBE;
+        }
+        return Permit.CALL;
+    }
+
+    synchronized void onSuccess(Permit permit) {
+        if (permit == Permit.PROBE) {
+            if (state == State.HALF_OPEN && ++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (permit == Permit.CALL && state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure(Permit permit) {
+        if (permit == Permit.PROBE) {
+            if (state == State.HALF_OPEN) {
+                transitionTo(State.OPEN);
+            }
+        } else if (permit == Permit.CALL && state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Chamada autorizada que terminou sem resultado conclusivo (ex.: cancelada):
+     * devolve a vaga de probe sem contar sucesso nem falha.
+     */
+    synchronized void onIgnored(Permit permit) {
+        if (permit == Permit.PROBE && state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Taxa de falha (0-100) da janela atual.
+     */
+    synchronized double failureRate() {
+        return windowCount == 0 ? 0 : windowFailures * 100.0 / windowCount;
+    }
+
+    synchronized long rejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Quanto falta para o circuito aberto aceitar probes (ms).
+     */
+    synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long remaining = openDurationNanos - (nanoClock.getAsLong() - openedAt);
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    String name() {
+        return name;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+            log.warn("Circuito MangaDex '{}' ABERTO (falhas {}%), chamadas recusadas por {} ms",
+                    name, Math.round(failureRate()), TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+        } else if (next == State.CLOSED) {
+            log.info("Circuito MangaDex '{}' FECHADO após {} probes bem-sucedidos", name, probesSucceeded);
+        } else {
+            log.info("Circuito MangaDex '{}' MEIO-ABERTO, testando com até {} chamadas", name, halfOpenProbes);
+        }
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
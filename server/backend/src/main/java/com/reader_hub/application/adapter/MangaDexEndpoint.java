@@ -0,0 +1,97 @@
+package com.reader_hub.application.adapter;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Famílias de endpoints do MangaDex, usadas para políticas por endpoint
+ * (TTL de cache, limites de concorrência, métricas).
+ */
+enum MangaDexEndpoint {
+    MANGA("manga", Duration.ofHours(1)),
+    MANGA_LIST("manga-list", Duration.ofMinutes(5)),
+    MANGA_FEED("manga-feed", Duration.ofMinutes(2)),
+    AUTHOR("author", Duration.ofHours(24)),
+    AUTHOR_LIST("author-list", Duration.ofHours(1)),
+    CHAPTER("chapter", Duration.ofHours(1)),
+    // Listagens de /chapter (ex.: delta sync por updatedAtSince) mudam a todo momento
+    CHAPTER_LIST("chapter-list", Duration.ofMinutes(2)),
+    COVER("cover", Duration.ofHours(6)),
+    // URLs do at-home expiram e são tratadas à parte; nunca entram no cache HTTP
+    AT_HOME("at-home", Duration.ZERO),
+    UPLOADS("uploads", Duration.ZERO),
+    OTHER("other", Duration.ZERO);
+
+    private final String key;
+    private final Duration defaultTtl;
+
+    MangaDexEndpoint(String key, Duration defaultTtl) {
+        this.key = key;
+        this.defaultTtl = defaultTtl;
+    }
+
+    String key() {
+        return key;
+    }
+
+    Duration defaultTtl() {
+        return defaultTtl;
+    }
+
+    /**
+     * Classifica pelo host e caminho da URL, ex.: /manga/{id}/feed → MANGA_FEED.
+     */
+    static MangaDexEndpoint of(String host, String path, String apiHost) {
+        if (apiHost != null && host != null && !apiHost.equalsIgnoreCase(host)) {
+            return UPLOADS;
+        }
+        String[] segments = path == null ? new String[0] : path.replaceAll("^/+|/+$", "").split("/");
+        if (segments.length == 0 || segments[0].isEmpty()) {
+            return OTHER;
+        }
+        return switch (segments[0]) {
+            case "manga" -> segments.length == 1 ? MANGA_LIST
+                    : segments.length >= 3 && "feed".equals(segments[2]) ? MANGA_FEED
+                    : MANGA;
+            case "author" -> segments.length == 1 ? AUTHOR_LIST : AUTHOR;
+            case "chapter" -> segments.length == 1 ? CHAPTER_LIST : CHAPTER;
+            case "cover" -> COVER;
+            case "at-home" -> AT_HOME;
+            default -> OTHER;
+        };
+    }
+
+    /**
+     * TTLs padrão sobrescritos por "chave=duração,..." (ex.: "author=48h,manga-list=30s").
+     */
+    static Map<MangaDexEndpoint, Duration> parseTtls(String spec) {
+        Map<MangaDexEndpoint, Duration> ttls = new EnumMap<>(MangaDexEndpoint.class);
+        for (MangaDexEndpoint endpoint : values()) {
+            ttls.put(endpoint, endpoint.defaultTtl);
+        }
+        if (spec == null || spec.isBlank()) {
+            return ttls;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length == 2) {
+                ttls.put(fromKey(parts[0]), DurationStyle.detectAndParse(parts[1].trim()));
+            }
+        }
+        return ttls;
+    }
+
+    static MangaDexEndpoint fromKey(String key) {
+        String normalized = key.trim().toLowerCase(Locale.ROOT);
+        for (MangaDexEndpoint endpoint : values()) {
+            if (endpoint.key.equals(normalized)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Endpoint MangaDex desconhecido: " + key);
+    }
+}
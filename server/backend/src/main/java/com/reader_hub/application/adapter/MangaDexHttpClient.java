@@ -0,0 +1,418 @@
+package com.reader_hub.application.adapter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reader_hub.application.dto.StreamedPageDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ponto único de saída HTTP para o MangaDex.
+ *
+ * Toda chamada passa por aqui: coalescência de GETs idênticos em voo, cache
+ * HTTP com revalidação condicional, circuit breaker e bulkhead por família de
+ * endpoint, rate limit compartilhado da API, limite de
+ * conexões por host, timeout de leitura, retentativa de 429 e conversão de
+ * falhas de transporte/status em {@link ExternalApiException}.
+ * Os métodos são assíncronos; a variante síncrona apenas aguarda o future.
+ */
+@Component
+@Slf4j
+public class MangaDexHttpClient {
+
+    static final String SERVICE_NAME = "MangaDex";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int NOT_MODIFIED = 304;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final HostConnectionLimiter hostLimiter;
+    private final MangaDexRateLimiter rateLimiter;
+    private final RequestCoalescer<MangaDexResponse> coalescer;
+    private final MangaDexResponseCache responseCache;
+    private final MangaDexResilience resilience;
+    private final String apiHost;
+    private final Duration readTimeout;
+    private final String userAgent;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public MangaDexHttpClient(HttpClient mangaDexJdkHttpClient,
+                              ObjectMapper objectMapper,
+                              @Value("${mangadex.http.read-timeout-ms:15000}") long readTimeoutMs,
+                              @Value("${mangadex.http.max-connections-per-host:8}") int maxConnectionsPerHost,
+                              @Value("${mangadex.http.host-limits:}") String hostLimits,
+                              @Value("${mangadex.http.user-agent:ReaderHub/1.0}") String userAgent,
+                              @Value("${mangadex.api.url}") String apiUrl,
+                              @Value("${mangadex.rate-limit.requests-per-second:5}") double requestsPerSecond,
+                              @Value("${mangadex.rate-limit.burst:5}") int burst,
+                              @Value("${mangadex.rate-limit.max-retries:3}") int maxRetries,
+                              @Value("${mangadex.rate-limit.retry-backoff-ms:1000}") long retryBackoffMs,
+                              @Value("${mangadex.http.coalescing.enabled:true}") boolean coalescingEnabled,
+                              @Value("${mangadex.http.coalescing.grace-period-ms:0}") long coalescingGracePeriodMs,
+                              MangaDexResponseCache responseCache,
+                              MangaDexResilience resilience) {
+        this.httpClient = mangaDexJdkHttpClient;
+        this.objectMapper = objectMapper;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.hostLimiter = new HostConnectionLimiter(maxConnectionsPerHost,
+                HostConnectionLimiter.parseHostLimits(hostLimits));
+        this.rateLimiter = new MangaDexRateLimiter(requestsPerSecond, burst);
+        this.coalescer = coalescingEnabled ? new RequestCoalescer<>(coalescingGracePeriodMs) : null;
+        this.responseCache = responseCache;
+        this.resilience = resilience;
+        this.apiHost = URI.create(apiUrl).getHost();
+        this.userAgent = userAgent;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = Math.max(1, retryBackoffMs);
+    }
+
+    /**
+     * GET assíncrono com corpo desserializado para o tipo informado.
+     */
+    public <T> CompletableFuture<T> getAsync(String url, TypeReference<T> type) {
+        return fetch(url).thenApply(response -> readBody(url, response, type));
+    }
+
+    /**
+     * GET síncrono — mesmo pipeline, bloqueando até a resposta chegar.
+     */
+    public <T> T get(String url, TypeReference<T> type) {
+        return await(getAsync(url, type));
+    }
+
+    /**
+     * Executa o GET e devolve a resposta bruta. Status fora de 2xx viram
+     * {@link ExternalApiException} com o código HTTP preservado; 429 é repetido
+     * (respeitando Retry-After) até {@code mangadex.rate-limit.max-retries} vezes.
+     * Chamadas simultâneas para a mesma URL compartilham uma única requisição, e
+     * respostas de endpoints com TTL são servidas/revalidadas pelo cache.
+     */
+    public CompletableFuture<MangaDexResponse> fetch(String url) {
+        URI uri;
+        try {
+            uri = toUri(url);
+        } catch (ExternalApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (coalescer == null) {
+            return fetchCached(uri);
+        }
+        return coalescer.execute(uri.toString(), () -> fetchCached(uri));
+    }
+
+    /**
+     * Lê uma resposta de coleção ({@code {"data": [...], "total": ...}}) item a item
+     * com o parser de streaming do Jackson, entregando cada elemento ao consumer
+     * assim que é desserializado. O corpo nunca é carregado inteiro em memória:
+     * o HttpClient só lê mais bytes da rede conforme o parser consome.
+     *
+     * O consumer roda na thread chamadora. Cada leitura do corpo tem o prazo de
+     * {@code read-timeout-ms}: uma conexão parada no meio do corpo vira
+     * {@link ExternalApiException} em vez de prender a thread.
+     */
+    public <T> StreamedPageDto streamCollection(String url, Class<T> itemType, Consumer<T> consumer) {
+        URI uri = toUri(url);
+        HttpResponse<InputStream> response = await(guardedSend(uri, HttpResponse.BodyHandlers.ofInputStream(), Map.of()));
+
+        try (InputStream body = new DeadlineInputStream(response.body(), readTimeout)) {
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                throw new ExternalApiException(SERVICE_NAME,
+                        "HTTP " + response.statusCode() + " em " + uri.getPath(), response.statusCode());
+            }
+            return readCollection(body, itemType, consumer);
+        } catch (SocketTimeoutException e) {
+            throw new ExternalApiException(SERVICE_NAME, e.getMessage() + " em " + uri.getPath(), e);
+        } catch (IOException e) {
+            throw new ExternalApiException(SERVICE_NAME,
+                    "Resposta inválida de " + uri.getPath() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Baixa um arquivo (página, capa) direto para {@code target}, sem passar pelo
+     * cache HTTP nem pela coalescência. Em status fora de 2xx o arquivo é apagado
+     * e o future falha com {@link ExternalApiException}. Devolve o Content-Type.
+     */
+    public CompletableFuture<String> download(String url, Path target) {
+        URI uri;
+        try {
+            uri = toUri(url);
+        } catch (ExternalApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpResponse.BodyHandler<Path> toFile = HttpResponse.BodyHandlers.ofFile(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return guardedSend(uri, toFile, Map.of("Accept", "image/*,*/*"))
+                .thenApply(response -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        deleteQuietly(target);
+                        throw new ExternalApiException(SERVICE_NAME,
+                                "HTTP " + response.statusCode() + " em " + uri.getPath(), response.statusCode());
+                    }
+                    return response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+                })
+                .whenComplete((contentType, error) -> {
+                    if (error != null) {
+                        deleteQuietly(target);
+                    }
+                });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Arquivo temporário de um download que falhou
+        }
+    }
+
+    private <T> StreamedPageDto readCollection(InputStream body, Class<T> itemType, Consumer<T> consumer) throws IOException {
+        int count = 0;
+        Integer total = null;
+        Integer offset = null;
+        Integer limit = null;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("esperado objeto JSON na raiz");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "data" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            consumer.accept(objectMapper.readValue(parser, itemType));
+                            count++;
+                        }
+                    }
+                    case "total" -> total = value.isNumeric() ? parser.getIntValue() : null;
+                    case "offset" -> offset = value.isNumeric() ? parser.getIntValue() : null;
+                    case "limit" -> limit = value.isNumeric() ? parser.getIntValue() : null;
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new StreamedPageDto(count, total, offset, limit);
+    }
+
+    private CompletableFuture<MangaDexResponse> fetchCached(URI uri) {
+        MangaDexEndpoint endpoint = endpointOf(uri);
+        if (!responseCache.isCacheable(endpoint)) {
+            return guardedSend(uri, HttpResponse.BodyHandlers.ofByteArray(), Map.of())
+                    .thenApply(response -> toResponse(uri, response));
+        }
+
+        String key = uri.toString();
+        Optional<MangaDexResponseCache.Entry> cached = responseCache.lookup(key);
+        if (cached.isPresent() && responseCache.isFresh(cached.get())) {
+            return CompletableFuture.completedFuture(fromCache(cached.get()));
+        }
+
+        // Entrada vencida com validadores: GET condicional, 304 reaproveita o corpo guardado
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        cached.filter(MangaDexResponseCache.Entry::hasValidators).ifPresent(entry -> {
+            if (entry.getEtag() != null) {
+                conditionalHeaders.put("If-None-Match", entry.getEtag());
+            }
+            if (entry.getLastModified() != null) {
+                conditionalHeaders.put("If-Modified-Since", entry.getLastModified());
+            }
+        });
+
+        return guardedSend(uri, HttpResponse.BodyHandlers.ofByteArray(), conditionalHeaders)
+                .thenApply(response -> {
+                    if (response.statusCode() == NOT_MODIFIED && cached.isPresent()) {
+                        log.debug("304 em {} - corpo do cache revalidado", uri.getPath());
+                        return fromCache(responseCache.refresh(key, endpoint, cached.get()));
+                    }
+                    MangaDexResponse result = toResponse(uri, response);
+                    if (!isNoStore(response.headers())) {
+                        responseCache.store(key, endpoint, response.body(),
+                                response.headers().firstValue("ETag").orElse(null),
+                                response.headers().firstValue("Last-Modified").orElse(null));
+                    }
+                    return result;
+                });
+    }
+
+    private static MangaDexResponse fromCache(MangaDexResponseCache.Entry entry) {
+        Map<String, List<String>> headers = new HashMap<>();
+        if (entry.getEtag() != null) {
+            headers.put("ETag", List.of(entry.getEtag()));
+        }
+        if (entry.getLastModified() != null) {
+            headers.put("Last-Modified", List.of(entry.getLastModified()));
+        }
+        return new MangaDexResponse(200, HttpHeaders.of(headers, (name, value) -> true), entry.getBody());
+    }
+
+    private static boolean isNoStore(HttpHeaders headers) {
+        return headers.allValues("Cache-Control").stream()
+                .anyMatch(value -> value.toLowerCase().contains("no-store"));
+    }
+
+    private MangaDexEndpoint endpointOf(URI uri) {
+        return MangaDexEndpoint.of(uri.getHost(), uri.getPath(), apiHost);
+    }
+
+    /**
+     * {@link #send} protegido pelo circuit breaker e pelo bulkhead do endpoint.
+     * Retentativas de 429 contam como uma única chamada; 5xx e 429 esgotado
+     * contam como falha, os demais status não.
+     */
+    private <B> CompletableFuture<HttpResponse<B>> guardedSend(URI uri, HttpResponse.BodyHandler<B> bodyHandler,
+                                                               Map<String, String> extraHeaders) {
+        return resilience.execute(endpointOf(uri), () -> send(uri, bodyHandler, extraHeaders, 0),
+                response -> response.statusCode() >= 500 || response.statusCode() == TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Envia o GET pelo pipeline comum (rate limit da API, limite por host e
+     * retentativa de 429). Devolve a resposta com qualquer status; cada chamador
+     * decide como tratar o corpo.
+     */
+    private <B> CompletableFuture<HttpResponse<B>> send(URI uri, HttpResponse.BodyHandler<B> bodyHandler,
+                                                        Map<String, String> extraHeaders, int attempt) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .header("User-Agent", userAgent);
+        extraHeaders.forEach(builder::setHeader);
+        HttpRequest request = builder.build();
+
+        boolean rateLimited = isApiHost(uri);
+        CompletableFuture<Void> permit = rateLimited
+                ? rateLimiter.acquire()
+                : CompletableFuture.completedFuture(null);
+
+        // Em respostas streaming a vaga do host é devolvida quando os cabeçalhos chegam;
+        // o corpo continua sendo lido pela mesma conexão/stream.
+        return permit
+                .thenCompose(ignored -> hostLimiter.submit(uri.getHost(),
+                        () -> httpClient.sendAsync(request, bodyHandler)))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        return CompletableFuture.<HttpResponse<B>>failedFuture(
+                                toExternalApiException(uri.toString(), error));
+                    }
+                    if (response.statusCode() == TOO_MANY_REQUESTS && rateLimited) {
+                        long fallbackNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMs << Math.min(attempt, 6));
+                        long delayNanos = rateLimiter.onTooManyRequests(response.headers(), fallbackNanos);
+                        if (attempt < maxRetries) {
+                            discardBody(response);
+                            log.debug("429 em {} - tentativa {} de {}", uri.getPath(), attempt + 1, maxRetries);
+                            Executor delayed = CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS);
+                            return CompletableFuture.supplyAsync(() -> null, delayed)
+                                    .thenCompose(ignored -> send(uri, bodyHandler, extraHeaders, attempt + 1));
+                        }
+                    } else if (rateLimited) {
+                        rateLimiter.onResponse(response.headers());
+                    }
+                    return CompletableFuture.completedFuture(response);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static MangaDexResponse toResponse(URI uri, HttpResponse<byte[]> response) {
+        MangaDexResponse result = new MangaDexResponse(
+                response.statusCode(), response.headers(), response.body());
+        if (!result.isSuccessful()) {
+            throw new ExternalApiException(SERVICE_NAME,
+                    "HTTP " + response.statusCode() + " em " + uri.getPath(), response.statusCode());
+        }
+        return result;
+    }
+
+    private static void discardBody(HttpResponse<?> response) {
+        if (response.body() instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+                // Corpo descartado de uma resposta 429
+            }
+        }
+    }
+
+    private static URI toUri(String url) {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new ExternalApiException(SERVICE_NAME, "URL inválida: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isApiHost(URI uri) {
+        return apiHost != null && apiHost.equalsIgnoreCase(uri.getHost());
+    }
+
+    /**
+     * Aguarda um future do cliente, desembrulhando a causa real da falha.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ExternalApiException(SERVICE_NAME, String.valueOf(cause.getMessage()), cause);
+        }
+    }
+
+    private <T> T readBody(String url, MangaDexResponse response, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(response.getBody(), type);
+        } catch (IOException e) {
+            throw new ExternalApiException(SERVICE_NAME,
+                    "Resposta inválida de " + URI.create(url).getPath() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static ExternalApiException toExternalApiException(String url, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (cause instanceof ExternalApiException externalApiException) {
+            return externalApiException;
+        }
+        log.debug("Falha de transporte em {}: {}", url, cause.toString());
+        return new ExternalApiException(SERVICE_NAME,
+                cause.getClass().getSimpleName() + ": " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,177 @@
+package com.reader_hub.application.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpHeaders;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket compartilhado por todo o tráfego para a API do MangaDex.
+ *
+ * Cada requisição reserva um token; quando o balde está vazio a reserva devolve
+ * o tempo até o próximo token e o future só completa depois dele, sem prender
+ * thread. O limitador aprende com as respostas:
+ * <ul>
+ *   <li>{@code X-RateLimit-Remaining: 0} + {@code X-RateLimit-Retry-After} (epoch em
+ *   segundos) pausam o balde até o fim da janela;</li>
+ *   <li>{@code 429} pausa pelo {@code Retry-After} e reduz a taxa pela metade, que
+ *   volta a subir aos poucos a cada resposta bem-sucedida.</li>
+ * </ul>
+ * Durante uma pausa o balde não repõe tokens: a reposição recomeça no fim da pausa,
+ * então o que ficou na fila sai espaçado pela taxa em vez de todo de uma vez.
+ */
+@Slf4j
+class MangaDexRateLimiter {
+
+    static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    static final String HEADER_RATE_LIMIT_RETRY_AFTER = "X-RateLimit-Retry-After";
+    static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxRate;
+    private final double minRate;
+    private final double recoveryStep;
+    private final double burst;
+    private final LongSupplier nanoClock;
+    private final LongSupplier epochMillisClock;
+
+    private double rate;
+    private double tokens;
+    // Fica no futuro enquanto o balde está pausado
+    private long lastRefill;
+
+    MangaDexRateLimiter(double requestsPerSecond, int burst) {
+        this(requestsPerSecond, burst, System::nanoTime, System::currentTimeMillis);
+    }
+
+    MangaDexRateLimiter(double requestsPerSecond, int burst, LongSupplier nanoClock, LongSupplier epochMillisClock) {
+        this.maxRate = Math.max(0.1, requestsPerSecond);
+        this.minRate = Math.min(this.maxRate, 0.5);
+        this.recoveryStep = this.maxRate / 20;
+        this.burst = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.epochMillisClock = epochMillisClock;
+        this.rate = this.maxRate;
+        this.tokens = this.burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Future que completa quando a requisição pode sair.
+     */
+    CompletableFuture<Void> acquire() {
+        long delayNanos = reserve();
+        if (delayNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Reserva um token e devolve quanto tempo (ns) a requisição deve esperar.
+     * Reservas feitas com o balde vazio entram em fila: o saldo fica negativo
+     * e cada uma espera proporcionalmente à sua posição, contada a partir do
+     * fim da pausa quando houver uma.
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens -= 1;
+        long waitForToken = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+        return Math.max(0, lastRefill - now) + waitForToken;
+    }
+
+    /**
+     * Ajusta o balde a partir dos cabeçalhos de uma resposta bem-sucedida.
+     */
+    synchronized void onResponse(HttpHeaders headers) {
+        rate = Math.min(maxRate, rate + recoveryStep);
+
+        OptionalLong remaining = parseLong(headers.firstValue(HEADER_REMAINING).orElse(null));
+        if (remaining.isPresent() && remaining.getAsLong() <= 0) {
+            OptionalLong resetEpochSeconds = parseLong(headers.firstValue(HEADER_RATE_LIMIT_RETRY_AFTER).orElse(null));
+            if (resetEpochSeconds.isPresent()) {
+                long waitMillis = resetEpochSeconds.getAsLong() * 1000 - epochMillisClock.getAsLong();
+                pauseFor(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+                log.debug("Cota do MangaDex esgotada ({} req/janela), pausando {}ms",
+                        headers.firstValue(HEADER_LIMIT).orElse("?"), waitMillis);
+            }
+        }
+    }
+
+    /**
+     * Registra um 429: pausa pelo tempo indicado pelo servidor e reduz a taxa.
+     *
+     * @return espera sugerida em nanossegundos antes de repetir a requisição
+     */
+    synchronized long onTooManyRequests(HttpHeaders headers, long fallbackDelayNanos) {
+        rate = Math.max(minRate, rate / 2);
+        tokens = Math.min(tokens, 0);
+
+        long delayNanos = retryAfterNanos(headers).orElse(fallbackDelayNanos);
+        pauseFor(delayNanos);
+        log.warn("MangaDex respondeu 429 - pausando {}ms, taxa reduzida para {} req/s",
+                TimeUnit.NANOSECONDS.toMillis(delayNanos), String.format("%.2f", rate));
+        return delayNanos;
+    }
+
+    synchronized double currentRate() {
+        return rate;
+    }
+
+    private OptionalLong retryAfterNanos(HttpHeaders headers) {
+        // Retry-After padrão vem em segundos relativos
+        OptionalLong retryAfterSeconds = parseLong(headers.firstValue(HEADER_RETRY_AFTER).orElse(null));
+        if (retryAfterSeconds.isPresent()) {
+            return OptionalLong.of(TimeUnit.SECONDS.toNanos(Math.max(0, retryAfterSeconds.getAsLong())));
+        }
+        // O MangaDex manda o fim da janela como epoch em segundos
+        OptionalLong resetEpochSeconds = parseLong(headers.firstValue(HEADER_RATE_LIMIT_RETRY_AFTER).orElse(null));
+        if (resetEpochSeconds.isPresent()) {
+            long waitMillis = resetEpochSeconds.getAsLong() * 1000 - epochMillisClock.getAsLong();
+            return OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(Math.max(0, waitMillis)));
+        }
+        return OptionalLong.empty();
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(burst, tokens + (double) (now - lastRefill) / NANOS_PER_SECOND * rate);
+            lastRefill = now;
+        }
+    }
+
+    /**
+     * Adia a reposição até o fim da pausa. Sobra no máximo um token, liberado
+     * assim que a pausa acaba; os demais saem um intervalo depois do outro.
+     */
+    private void pauseFor(long delayNanos) {
+        if (delayNanos <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long until = now + delayNanos;
+        if (until > lastRefill) {
+            lastRefill = until;
+            tokens = Math.min(tokens, 1);
+        }
+    }
+
+    private static OptionalLong parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker + bulkheads em volta das chamadas ao MangaDex.
+ *
+ * Há um circuito para a API e outro para os servidores de arquivos (uploads /
+ * at-home), já que um pode cair sem o outro. Cada família de endpoint tem seu
+ * bulkhead. Chamadas recusadas falham na hora com
+ * {@link ExternalApiUnavailableException} (503), sem ocupar rate limit nem conexão.
+ *
+ * Estado e contadores são publicados no Micrometer (/actuator/prometheus):
+ * {@code mangadex.circuit.state} (0 fechado, 1 aberto, 2 meio-aberto),
+ * {@code mangadex.circuit.failure.rate}, {@code mangadex.circuit.rejected},
+ * {@code mangadex.bulkhead.active}, {@code mangadex.bulkhead.queued} e
+ * {@code mangadex.bulkhead.rejected}.
+ */
+@Component
+@Slf4j
+class MangaDexResilience {
+
+    private final boolean enabled;
+    private final MangaDexCircuitBreaker apiBreaker;
+    private final MangaDexCircuitBreaker uploadsBreaker;
+    private final Map<MangaDexEndpoint, MangaDexBulkhead> bulkheads = new EnumMap<>(MangaDexEndpoint.class);
+
+    @Autowired
+    MangaDexResilience(@Value("${mangadex.resilience.enabled:true}") boolean enabled,
+                       @Value("${mangadex.resilience.circuit.window-size:20}") int windowSize,
+                       @Value("${mangadex.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                       @Value("${mangadex.resilience.circuit.failure-rate-threshold:50}") double failureRateThreshold,
+                       @Value("${mangadex.resilience.circuit.open-duration-ms:30000}") long openDurationMs,
+                       @Value("${mangadex.resilience.circuit.half-open-probes:3}") int halfOpenProbes,
+                       @Value("${mangadex.resilience.bulkhead.max-concurrent:8}") int maxConcurrent,
+                       @Value("${mangadex.resilience.bulkhead.max-queued:100}") int maxQueued,
+                       @Value("${mangadex.resilience.bulkhead.limits:}") String bulkheadLimits,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this(enabled,
+                new MangaDexCircuitBreaker("api", windowSize, minimumCalls, failureRateThreshold,
+                        openDurationMs, halfOpenProbes),
+                new MangaDexCircuitBreaker("uploads", windowSize, minimumCalls, failureRateThreshold,
+                        openDurationMs, halfOpenProbes),
+                maxConcurrent, maxQueued, HostConnectionLimiter.parseHostLimits(bulkheadLimits));
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    MangaDexResilience(boolean enabled, MangaDexCircuitBreaker apiBreaker, MangaDexCircuitBreaker uploadsBreaker,
+                       int maxConcurrent, int maxQueued, Map<String, Integer> limitsByEndpoint) {
+        this.enabled = enabled;
+        this.apiBreaker = apiBreaker;
+        this.uploadsBreaker = uploadsBreaker;
+        // Falha cedo com chave desconhecida em mangadex.resilience.bulkhead.limits
+        limitsByEndpoint.keySet().forEach(MangaDexEndpoint::fromKey);
+        for (MangaDexEndpoint endpoint : MangaDexEndpoint.values()) {
+            bulkheads.put(endpoint, new MangaDexBulkhead(
+                    limitsByEndpoint.getOrDefault(endpoint.key(), maxConcurrent), maxQueued));
+        }
+    }
+
+    static MangaDexResilience disabled() {
+        return new MangaDexResilience(false, null, null, 1, 0, Map.of());
+    }
+
+    /**
+     * Executa a chamada protegida. {@code isFailure} decide quais respostas contam
+     * como falha para o circuito (5xx, 429 esgotado); exceções de transporte
+     * sempre contam, cancelamentos e 4xx não.
+     */
+    <R> CompletableFuture<R> execute(MangaDexEndpoint endpoint, Supplier<CompletableFuture<R>> call,
+                                     Predicate<R> isFailure) {
+        if (!enabled) {
+            return call.get();
+        }
+        MangaDexCircuitBreaker breaker = breakerFor(endpoint);
+        MangaDexCircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == MangaDexCircuitBreaker.Permit.REJECTED) {
+            long retryAfter = Math.max(1, (breaker.remainingOpenMillis() + 999) / 1000);
+            return CompletableFuture.failedFuture(new ExternalApiUnavailableException(
+                    MangaDexHttpClient.SERVICE_NAME, ExternalApiUnavailableException.Reason.CIRCUIT_OPEN,
+                    "circuito '" + breaker.name() + "' aberto", retryAfter));
+        }
+
+        MangaDexBulkhead bulkhead = bulkheads.get(endpoint);
+        CompletableFuture<Void> slot = bulkhead.tryAcquire();
+        if (slot == null) {
+            breaker.onIgnored(permit);
+            log.debug("Bulkhead MangaDex '{}' lotado", endpoint.key());
+            return CompletableFuture.failedFuture(new ExternalApiUnavailableException(
+                    MangaDexHttpClient.SERVICE_NAME, ExternalApiUnavailableException.Reason.BULKHEAD_FULL,
+                    "limite de chamadas simultâneas para '" + endpoint.key() + "' atingido", 1));
+        }
+
+        return slot.thenCompose(ignored -> {
+            CompletableFuture<R> future;
+            try {
+                future = call.get();
+            } catch (Throwable t) {
+                future = CompletableFuture.failedFuture(t);
+            }
+            return future.whenComplete((result, error) -> {
+                bulkhead.release();
+                record(breaker, permit, result, error, isFailure);
+            });
+        });
+    }
+
+    MangaDexCircuitBreaker.State circuitState(MangaDexEndpoint endpoint) {
+        return enabled ? breakerFor(endpoint).state() : MangaDexCircuitBreaker.State.CLOSED;
+    }
+
+    private <R> void record(MangaDexCircuitBreaker breaker, MangaDexCircuitBreaker.Permit permit,
+                            R result, Throwable error, Predicate<R> isFailure) {
+        if (error == null) {
+            if (isFailure.test(result)) {
+                breaker.onFailure(permit);
+            } else {
+                breaker.onSuccess(permit);
+            }
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            breaker.onIgnored(permit);
+        } else if (cause instanceof ExternalApiException api && api.getStatusCode() >= 400
+                && api.getStatusCode() < 500 && api.getStatusCode() != 429) {
+            breaker.onSuccess(permit);
+        } else {
+            breaker.onFailure(permit);
+        }
+    }
+
+    private MangaDexCircuitBreaker breakerFor(MangaDexEndpoint endpoint) {
+        return endpoint == MangaDexEndpoint.UPLOADS ? uploadsBreaker : apiBreaker;
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        for (MangaDexCircuitBreaker breaker : new MangaDexCircuitBreaker[]{apiBreaker, uploadsBreaker}) {
+            Gauge.builder("mangadex.circuit.state", breaker, b -> b.state().code())
+                    .description("Estado do circuito MangaDex (0 fechado, 1 aberto, 2 meio-aberto)")
+                    .tag("circuit", breaker.name())
+                    .register(registry);
+            Gauge.builder("mangadex.circuit.failure.rate", breaker, MangaDexCircuitBreaker::failureRate)
+                    .description("Taxa de falha (%) na janela do circuito")
+                    .tag("circuit", breaker.name())
+                    .register(registry);
+            FunctionCounter.builder("mangadex.circuit.rejected", breaker, MangaDexCircuitBreaker::rejectedCount)
+                    .description("Chamadas recusadas com o circuito aberto")
+                    .tag("circuit", breaker.name())
+                    .register(registry);
+        }
+        bulkheads.forEach((endpoint, bulkhead) -> {
+            Gauge.builder("mangadex.bulkhead.active", bulkhead, MangaDexBulkhead::active)
+                    .tag("endpoint", endpoint.key())
+                    .register(registry);
+            Gauge.builder("mangadex.bulkhead.queued", bulkhead, MangaDexBulkhead::queued)
+                    .tag("endpoint", endpoint.key())
+                    .register(registry);
+            FunctionCounter.builder("mangadex.bulkhead.rejected", bulkhead, MangaDexBulkhead::rejectedCount)
+                    .tag("endpoint", endpoint.key())
+                    .register(registry);
+        });
+    }
+}
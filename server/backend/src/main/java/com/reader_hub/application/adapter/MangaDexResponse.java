@@ -0,0 +1,22 @@
+package com.reader_hub.application.adapter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.http.HttpHeaders;
+
+/**
+ * Resposta bruta do MangaDex (status, cabeçalhos e corpo ainda não desserializado).
+ * Compartilhada entre chamadores; por isso o corpo nunca deve ser alterado.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MangaDexResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
@@ -0,0 +1,218 @@
+package com.reader_hub.application.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache de respostas do MangaDex em dois níveis: LRU local limitado por bytes e,
+ * opcionalmente, Redis compartilhado entre instâncias.
+ *
+ * Guarda o corpo junto com os validadores (ETag / Last-Modified). Entradas
+ * vencidas não são descartadas de imediato: continuam disponíveis para
+ * revalidação condicional até {@code stale-retention}, e um 304 renova o TTL
+ * sem baixar o corpo de novo. O TTL é definido por família de endpoint.
+ */
+@Component
+@Slf4j
+class MangaDexResponseCache {
+
+    private static final String REDIS_PREFIX = "mangadex:http:";
+
+    private final boolean enabled;
+    private final Map<MangaDexEndpoint, Duration> ttls;
+    private final long staleRetentionMs;
+    private final long maxBytes;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> local = new LinkedHashMap<>(256, 0.75f, true);
+    private long localBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    @Autowired
+    MangaDexResponseCache(@Value("${mangadex.cache.enabled:true}") boolean enabled,
+                          @Value("${mangadex.cache.ttls:}") String ttls,
+                          @Value("${mangadex.cache.stale-retention:24h}") Duration staleRetention,
+                          @Value("${mangadex.cache.local-max-bytes:33554432}") long maxBytes,
+                          @Value("${mangadex.cache.redis-enabled:false}") boolean redisEnabled,
+                          @Value("${app.redis.enabled:false}") boolean appRedisEnabled,
+                          ObjectProvider<StringRedisTemplate> redisTemplate,
+                          ObjectMapper objectMapper) {
+        this(enabled, MangaDexEndpoint.parseTtls(ttls), staleRetention.toMillis(), maxBytes,
+                redisEnabled && appRedisEnabled ? redisTemplate.getIfAvailable() : null,
+                objectMapper, System::currentTimeMillis);
+        log.info("Cache HTTP MangaDex: {} (local {} MB{})", enabled ? "ativo" : "desativado",
+                maxBytes / (1024 * 1024), redis != null ? " + Redis" : "");
+    }
+
+    MangaDexResponseCache(boolean enabled, Map<MangaDexEndpoint, Duration> ttls, long staleRetentionMs,
+                          long maxBytes, StringRedisTemplate redis, ObjectMapper objectMapper, LongSupplier clock) {
+        this.enabled = enabled;
+        this.ttls = ttls;
+        this.staleRetentionMs = Math.max(0, staleRetentionMs);
+        this.maxBytes = Math.max(0, maxBytes);
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    static MangaDexResponseCache disabled() {
+        return new MangaDexResponseCache(false, Map.of(), 0, 0, null, null, System::currentTimeMillis);
+    }
+
+    boolean isCacheable(MangaDexEndpoint endpoint) {
+        return enabled && !ttl(endpoint).isZero();
+    }
+
+    Duration ttl(MangaDexEndpoint endpoint) {
+        return ttls.getOrDefault(endpoint, Duration.ZERO);
+    }
+
+    /**
+     * Entrada para a URL (fresca ou vencida), procurando no local e depois no Redis.
+     */
+    Optional<Entry> lookup(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = local.get(key);
+        }
+        if (entry == null && redis != null) {
+            entry = readRedis(key);
+            if (entry != null) {
+                putLocal(key, entry);
+            }
+        }
+        if (entry == null || clock.getAsLong() > entry.getExpiresAt() + staleRetentionMs) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (entry.isFresh(clock.getAsLong())) {
+            hits.incrementAndGet();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Guarda uma resposta 200 com o TTL da família do endpoint.
+     */
+    Entry store(String key, MangaDexEndpoint endpoint, byte[] body, String etag, String lastModified) {
+        Entry entry = new Entry(body, etag, lastModified, clock.getAsLong() + ttl(endpoint).toMillis());
+        putLocal(key, entry);
+        writeRedis(key, entry);
+        return entry;
+    }
+
+    /**
+     * 304: o corpo guardado continua válido, só o prazo é renovado.
+     */
+    Entry refresh(String key, MangaDexEndpoint endpoint, Entry entry) {
+        revalidations.incrementAndGet();
+        return store(key, endpoint, entry.getBody(), entry.getEtag(), entry.getLastModified());
+    }
+
+    boolean isFresh(Entry entry) {
+        return entry.isFresh(clock.getAsLong());
+    }
+
+    long hitCount() {
+        return hits.get();
+    }
+
+    long missCount() {
+        return misses.get();
+    }
+
+    long revalidationCount() {
+        return revalidations.get();
+    }
+
+    synchronized long localBytes() {
+        return localBytes;
+    }
+
+    private synchronized void putLocal(String key, Entry entry) {
+        long size = entry.getBody().length + key.length();
+        if (size > maxBytes) {
+            return;
+        }
+        Entry previous = local.put(key, entry);
+        if (previous != null) {
+            localBytes -= previous.getBody().length + key.length();
+        }
+        localBytes += size;
+
+        Iterator<Map.Entry<String, Entry>> eldest = local.entrySet().iterator();
+        while (localBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> evicted = eldest.next();
+            localBytes -= evicted.getValue().getBody().length + evicted.getKey().length();
+            eldest.remove();
+        }
+    }
+
+    private Entry readRedis(String key) {
+        try {
+            String json = redis.opsForValue().get(REDIS_PREFIX + key);
+            return json != null ? objectMapper.readValue(json, Entry.class) : null;
+        } catch (Exception e) {
+            log.debug("Falha ao ler cache Redis do MangaDex: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Entry entry) {
+        if (redis == null) {
+            return;
+        }
+        try {
+            long retainMs = Math.max(1, entry.getExpiresAt() + staleRetentionMs - clock.getAsLong());
+            redis.opsForValue().set(REDIS_PREFIX + key, objectMapper.writeValueAsString(entry),
+                    retainMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.debug("Falha ao gravar cache Redis do MangaDex: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Corpo + validadores + prazo de validade (epoch ms, comparável entre instâncias).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private byte[] body;
+        private String etag;
+        private String lastModified;
+        private long expiresAt;
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.StreamedPageDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.ports.ChapterFeed;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChapterFeed} que percorre todas as páginas do feed em segundo plano.
+ *
+ * Um produtor lê as páginas em streaming, em sequência, e coloca os capítulos
+ * numa fila limitada a uma página. Enquanto o consumidor persiste a página N,
+ * o produtor já está baixando a N+1; quando a fila enche, o produtor para de
+ * ler da rede (backpressure), então a memória fica limitada a ~2 páginas
+ * independentemente do tamanho da série.
+ *
+ * O consumidor espera no máximo {@code itemTimeout} pelo próximo capítulo; se o
+ * produtor não entrega nada nesse prazo o feed é fechado e falha com
+ * {@link ExternalApiException}, sem segurar a thread (e a transação) de quem lê.
+ */
+@Slf4j
+class PrefetchingChapterFeed implements ChapterFeed {
+
+    /**
+     * Lê uma página do feed a partir do offset, entregando cada capítulo ao consumer.
+     */
+    @FunctionalInterface
+    interface PageStreamer {
+        StreamedPageDto stream(int offset, int limit, Consumer<ChapterDto> consumer);
+    }
+
+    private static final Object END = new Object();
+
+    private final PageStreamer pageStreamer;
+    private final int pageSize;
+    private final long itemTimeoutMs;
+    private final BlockingQueue<Object> queue;
+    private final Future<?> producer;
+
+    private volatile int total = -1;
+    private volatile RuntimeException failure;
+    private volatile boolean closed;
+    private Object nextItem;
+    private boolean finished;
+    private int consumed;
+
+    PrefetchingChapterFeed(PageStreamer pageStreamer, int pageSize, Duration itemTimeout, ExecutorService executor) {
+        this.pageStreamer = pageStreamer;
+        this.pageSize = Math.max(1, pageSize);
+        this.itemTimeoutMs = Math.max(1, itemTimeout.toMillis());
+        this.queue = new ArrayBlockingQueue<>(this.pageSize + 1);
+        this.producer = executor.submit(this::produce);
+    }
+
+    private void produce() {
+        int offset = 0;
+        try {
+            while (!closed) {
+                StreamedPageDto page = pageStreamer.stream(offset, pageSize, this::enqueue);
+                if (page.getTotal() != null) {
+                    total = page.getTotal();
+                }
+                offset += page.getCount();
+                if (page.getCount() == 0 || page.getTotal() == null || offset >= page.getTotal()) {
+                    break;
+                }
+            }
+        } catch (FeedClosedException e) {
+            return;
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        if (total < 0) {
+            total = offset;
+        }
+        enqueueEnd();
+    }
+
+    private void enqueue(ChapterDto chapter) {
+        try {
+            queue.put(chapter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FeedClosedException();
+        }
+        if (closed) {
+            throw new FeedClosedException();
+        }
+    }
+
+    private void enqueueEnd() {
+        try {
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished || closed) {
+            return false;
+        }
+        if (nextItem == null) {
+            try {
+                nextItem = queue.poll(itemTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Consumidor cancelado (ex.: SSE desconectou): encerra o feed
+                Thread.currentThread().interrupt();
+                close();
+                return false;
+            }
+            if (nextItem == null) {
+                close();
+                finished = true;
+                throw new ExternalApiException(MangaDexHttpClient.SERVICE_NAME,
+                        "Feed de capítulos sem progresso por " + itemTimeoutMs + " ms");
+            }
+        }
+        if (nextItem == END) {
+            finished = true;
+            if (failure != null) {
+                throw failure instanceof ExternalApiException ? failure
+                        : new ExternalApiException(MangaDexHttpClient.SERVICE_NAME,
+                                "Falha ao percorrer feed de capítulos: " + failure.getMessage(), failure);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ChapterDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ChapterDto chapter = (ChapterDto) nextItem;
+        nextItem = null;
+        consumed++;
+        return chapter;
+    }
+
+    @Override
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public int getConsumed() {
+        return consumed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        producer.cancel(true);
+        queue.clear();
+        log.debug("Feed de capítulos fechado após {} capítulos", consumed);
+    }
+
+    /**
+     * Aborta o streaming da página atual quando o feed é fechado.
+     */
+    private static final class FeedClosedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private FeedClosedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.reader_hub.application.adapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight: chamadas concorrentes com a mesma chave compartilham uma
+ * única requisição em voo.
+ *
+ * Depois que a requisição termina com sucesso o resultado pode ficar
+ * disponível por um curto período de carência, absorvendo rajadas que chegam
+ * logo em seguida. Falhas nunca são reaproveitadas.
+ */
+class RequestCoalescer<T> {
+
+    private final long gracePeriodNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Flight<T>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    RequestCoalescer(long gracePeriodMs) {
+        this(gracePeriodMs, System::nanoTime);
+    }
+
+    RequestCoalescer(long gracePeriodMs, LongSupplier nanoClock) {
+        this.gracePeriodNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, gracePeriodMs));
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Devolve o future em voo para a chave ou dispara um novo via {@code loader}.
+     * Cada chamador recebe uma cópia, então cancelar a sua não afeta os demais.
+     */
+    CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> loader) {
+        while (true) {
+            Flight<T> current = flights.get(key);
+            if (current != null && current.isUsable(nanoClock.getAsLong())) {
+                coalesced.incrementAndGet();
+                return current.future.copy();
+            }
+
+            Flight<T> flight = new Flight<>(new CompletableFuture<>());
+            boolean installed = current == null
+                    ? flights.putIfAbsent(key, flight) == null
+                    : flights.replace(key, current, flight);
+            if (!installed) {
+                continue;
+            }
+
+            start(key, flight, loader);
+            return flight.future.copy();
+        }
+    }
+
+    /**
+     * Quantas chamadas foram atendidas por uma requisição já existente.
+     */
+    long coalescedCount() {
+        return coalesced.get();
+    }
+
+    int inFlight() {
+        return flights.size();
+    }
+
+    private void start(String key, Flight<T> flight, Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<T> source;
+        try {
+            source = loader.get();
+        } catch (Throwable t) {
+            source = CompletableFuture.failedFuture(t);
+        }
+
+        source.whenComplete((result, error) -> {
+            if (error != null || gracePeriodNanos == 0) {
+                flights.remove(key, flight);
+            } else {
+                flight.expiresAt = nanoClock.getAsLong() + gracePeriodNanos;
+                CompletableFuture.delayedExecutor(gracePeriodNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> flights.remove(key, flight));
+            }
+            // Completa por último: quem chegar depois já vê o estado final da entrada
+            if (error != null) {
+                flight.future.completeExceptionally(error);
+            } else {
+                flight.future.complete(result);
+            }
+        });
+    }
+
+    private static final class Flight<T> {
+        private final CompletableFuture<T> future;
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Flight(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        private boolean isUsable(long now) {
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && now < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.reader_hub.application.config;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads daemon com nome fixo ou numerado ({@code prefixo-1}, {@code prefixo-2}...),
+ * usadas pelos pools de segundo plano para não segurar o desligamento da JVM.
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+    private final boolean numbered;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private DaemonThreadFactory(String prefix, boolean numbered) {
+        this.prefix = prefix;
+        this.numbered = numbered;
+    }
+
+    /**
+     * Fábrica de threads {@code prefix-N}, numeradas a partir de 1.
+     */
+    public static DaemonThreadFactory numbered(String prefix) {
+        return new DaemonThreadFactory(prefix, true);
+    }
+
+    /**
+     * Fábrica para pools de uma única thread, sempre com o mesmo nome.
+     */
+    public static DaemonThreadFactory named(String name) {
+        return new DaemonThreadFactory(name, false);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, numbered ? prefix + "-" + counter.incrementAndGet() : prefix);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
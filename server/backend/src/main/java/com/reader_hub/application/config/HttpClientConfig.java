@@ -0,0 +1,80 @@
+package com.reader_hub.application.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente HTTP compartilhado para chamadas ao MangaDex.
+ *
+ * Usa o java.net.http.HttpClient do JDK: HTTP/2 com multiplexação (uma conexão
+ * por host atende várias requisições simultâneas), pool de conexões keep-alive
+ * e API assíncrona (sendAsync) que não prende threads do Tomcat esperando I/O.
+ */
+@Configuration
+@Slf4j
+public class HttpClientConfig {
+
+    @Value("${mangadex.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${mangadex.http.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Value("${mangadex.http.io-threads:4}")
+    private int ioThreads;
+
+    @Value("${mangadex.http.keep-alive-seconds:120}")
+    private int keepAliveSeconds;
+
+    @Value("${mangadex.http.idle-pool-size:32}")
+    private int idlePoolSize;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mangaDexFeedExecutor(@Value("${mangadex.feed.max-concurrent:8}") int maxConcurrent,
+                                                @Value("${mangadex.feed.queue-capacity:32}") int queueCapacity) {
+        // Produtores dos feeds paginados: cada feed aberto ocupa uma thread enquanto lê as páginas;
+        // feeds além do teto esperam na fila e acima dela a abertura é rejeitada (503)
+        return new ThreadPoolExecutor(Math.max(1, maxConcurrent), Math.max(1, maxConcurrent), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), DaemonThreadFactory.numbered("mangadex-feed"));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService mangaDexHttpExecutor() {
+        return Executors.newFixedThreadPool(Math.max(1, ioThreads), DaemonThreadFactory.numbered("mangadex-http"));
+    }
+
+    @Bean
+    public HttpClient mangaDexJdkHttpClient(@Qualifier("mangaDexHttpExecutor") ExecutorService mangaDexHttpExecutor) {
+        // Propriedades lidas pelo pool interno do JDK na primeira criação de um HttpClient.
+        // Só definimos se ninguém configurou via -D na linha de comando.
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
+        setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(idlePoolSize));
+
+        log.info("Cliente HTTP MangaDex: {}, connectTimeout={}ms, keepAlive={}s",
+                http2Enabled ? "HTTP/2" : "HTTP/1.1", connectTimeoutMs, keepAliveSeconds);
+
+        return HttpClient.newBuilder()
+                .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(mangaDexHttpExecutor)
+                .build();
+    }
+
+    private static void setIfAbsent(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+        }
+    }
+}
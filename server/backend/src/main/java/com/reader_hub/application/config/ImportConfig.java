@@ -0,0 +1,60 @@
+package com.reader_hub.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads dos estágios do pipeline de importação de mangás, dos jobs de população,
+ * da importação de capítulos (em lote e acompanhada por SSE) e do crawl do catálogo.
+ */
+@Configuration
+public class ImportConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mangaImportExecutor(@Value("${app.population.pipeline.max-threads:32}") int maxThreads) {
+        // Cada importação ocupa os workers configurados por estágio enquanto dura. Sem fila:
+        // um worker enfileirado travaria os estágios que esperam por ele, então acima do teto
+        // a importação é recusada (503)
+        return new ThreadPoolExecutor(0, Math.max(1, maxThreads), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), DaemonThreadFactory.numbered("manga-import"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService populationJobExecutor(@Value("${app.population.jobs.max-concurrent:2}") int maxConcurrent,
+                                                 @Value("${app.population.jobs.queue-capacity:20}") int queueCapacity) {
+        // Jobs simultâneos limitados; acima da fila o POST responde 503
+        return new ThreadPoolExecutor(Math.max(1, maxConcurrent), Math.max(1, maxConcurrent), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), DaemonThreadFactory.numbered("population-job"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService chapterImportExecutor(@Value("${app.population.chapters.max-concurrent:3}") int maxConcurrent) {
+        // Teto global de mangás importando capítulos (cada um segura uma conexão do pool enquanto grava);
+        // quem submete mantém no máximo maxConcurrent tarefas em andamento, então a fila não cresce
+        return new ThreadPoolExecutor(Math.max(1, maxConcurrent), Math.max(1, maxConcurrent), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), DaemonThreadFactory.numbered("chapter-import"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService chapterStreamExecutor(@Value("${app.population.stream.max-concurrent:2}") int maxConcurrent,
+                                                 @Value("${app.population.stream.queue-capacity:10}") int queueCapacity) {
+        // Importações de capítulos acompanhadas por SSE; acima da fila o POST responde 503
+        return new ThreadPoolExecutor(Math.max(1, maxConcurrent), Math.max(1, maxConcurrent), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), DaemonThreadFactory.numbered("chapter-stream"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService catalogCrawlExecutor() {
+        // Um único crawl do catálogo por instância; o desligamento interrompe e o checkpoint retoma
+        return Executors.newSingleThreadExecutor(DaemonThreadFactory.named("catalog-crawl"));
+    }
+}
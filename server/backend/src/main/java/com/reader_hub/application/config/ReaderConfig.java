@@ -0,0 +1,25 @@
+package com.reader_hub.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trabalho em segundo plano disparado pela leitura de capítulos.
+ */
+@Configuration
+public class ReaderConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService chapterPrefetchExecutor(@Value("${app.reader.prefetch.max-concurrent:4}") int maxConcurrent,
+                                                   @Value("${app.reader.prefetch.queue-capacity:50}") int queueCapacity) {
+        // Orçamento do prefetch: poucas threads e fila curta; o excedente é descartado
+        return new ThreadPoolExecutor(Math.max(1, maxConcurrent), Math.max(1, maxConcurrent), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), DaemonThreadFactory.numbered("chapter-prefetch"));
+    }
+}
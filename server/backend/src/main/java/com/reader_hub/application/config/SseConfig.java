@@ -0,0 +1,41 @@
+package com.reader_hub.application.config;
+
+import com.reader_hub.application.sse.ProgressBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Distribuição de progresso via SSE (importações e jobs de população).
+ *
+ * Métricas: {@code reader_hub.sse.subscribers}, {@code reader_hub.sse.topics},
+ * {@code reader_hub.sse.published} (atualizações recebidas) e
+ * {@code reader_hub.sse.sent} (eventos entregues; a diferença é o que foi agrupado).
+ */
+@Configuration
+public class SseConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ProgressBroadcaster progressBroadcaster(@Value("${app.sse.flush-interval-ms:250}") long flushIntervalMs,
+                                                   @Value("${app.sse.history-size:100}") int historySize,
+                                                   @Value("${app.sse.retention-ms:60000}") long retentionMs,
+                                                   @Value("${app.sse.timeout-ms:1800000}") long timeoutMs,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        ProgressBroadcaster broadcaster = new ProgressBroadcaster(flushIntervalMs, historySize, retentionMs, timeoutMs);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("reader_hub.sse.subscribers", broadcaster, ProgressBroadcaster::subscriberCount)
+                    .register(registry);
+            Gauge.builder("reader_hub.sse.topics", broadcaster, ProgressBroadcaster::topicCount)
+                    .register(registry);
+            FunctionCounter.builder("reader_hub.sse.published", broadcaster, ProgressBroadcaster::publishedCount)
+                    .register(registry);
+            FunctionCounter.builder("reader_hub.sse.sent", broadcaster, ProgressBroadcaster::sentCount)
+                    .register(registry);
+        });
+        return broadcaster;
+    }
+}
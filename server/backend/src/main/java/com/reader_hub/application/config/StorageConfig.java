@@ -0,0 +1,67 @@
+package com.reader_hub.application.config;
+
+import com.reader_hub.application.storage.DiskLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches de arquivos em disco (imagens servidas pelo próprio backend) e o
+ * pool que gera as miniaturas de capa.
+ *
+ * Métricas por cache: {@code reader_hub.disk.cache.size}, {@code .entries},
+ * {@code .hits}, {@code .misses} e {@code .evictions} (tag {@code cache}).
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    public DiskLruCache chapterPageCache(@Value("${app.storage.page-cache.dir:./data/cache/pages}") Path dir,
+                                         @Value("${app.storage.page-cache.max-size:2GB}") DataSize maxSize,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        DiskLruCache cache = new DiskLruCache("pages", dir, maxSize.toBytes());
+        meterRegistry.ifAvailable(registry -> bindMetrics(cache, registry));
+        return cache;
+    }
+
+    @Bean
+    public DiskLruCache coverCache(@Value("${app.storage.cover-cache.dir:./data/cache/covers}") Path dir,
+                                   @Value("${app.storage.cover-cache.max-size:512MB}") DataSize maxSize,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        DiskLruCache cache = new DiskLruCache("covers", dir, maxSize.toBytes());
+        meterRegistry.ifAvailable(registry -> bindMetrics(cache, registry));
+        return cache;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService coverThumbnailExecutor(@Value("${app.storage.cover-cache.workers:2}") int workers,
+                                                  @Value("${app.storage.cover-cache.queue-capacity:500}") int queueCapacity) {
+        // Download + redimensionamento das capas; fila limitada, excedente é recusado
+        return new ThreadPoolExecutor(Math.max(1, workers), Math.max(1, workers), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), DaemonThreadFactory.numbered("cover-thumbnail"));
+    }
+
+    private static void bindMetrics(DiskLruCache cache, MeterRegistry registry) {
+        Gauge.builder("reader_hub.disk.cache.size", cache, DiskLruCache::sizeBytes)
+                .baseUnit("bytes").tag("cache", cache.name()).register(registry);
+        Gauge.builder("reader_hub.disk.cache.entries", cache, DiskLruCache::entryCount)
+                .tag("cache", cache.name()).register(registry);
+        FunctionCounter.builder("reader_hub.disk.cache.hits", cache, DiskLruCache::hitCount)
+                .tag("cache", cache.name()).register(registry);
+        FunctionCounter.builder("reader_hub.disk.cache.misses", cache, DiskLruCache::missCount)
+                .tag("cache", cache.name()).register(registry);
+        FunctionCounter.builder("reader_hub.disk.cache.evictions", cache, DiskLruCache::evictionCount)
+                .tag("cache", cache.name()).register(registry);
+    }
+}
@@ -3,7 +3,7 @@ package com.reader_hub.application.controller;
 import com.reader_hub.application.dto.AuthorDto;
 import com.reader_hub.application.dto.AuthorResponseDto;
 import com.reader_hub.application.dto.PaginatedDto;
-import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.AsyncApiService;
 import com.reader_hub.domain.model.Author;
 import com.reader_hub.domain.service.AuthorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/author")
@@ -30,7 +31,7 @@ import java.util.Optional;
 @Tag(name = "👤 Autores", description = "Gerenciamento de autores")
 public class AuthorController {
 
-    private final ApiService apiService;
+    private final AsyncApiService asyncApiService;
     private final AuthorService authorService;
 
     // ================== ENDPOINTS DA API EXTERNA (MangaDx) ==================
@@ -38,18 +39,18 @@ public class AuthorController {
     @Operation(summary = "Buscar autor da API externa", description = "Obtém um autor específico da API MangaDX")
     @Tag(name = "🌐 API Externa")
     @GetMapping("/external/{id}")
-    public Optional<AuthorDto> getExternalAuthorById(
+    public CompletableFuture<Optional<AuthorDto>> getExternalAuthorById(
             @Parameter(description = "ID do autor na API MangaDX")
             @PathVariable 
             @NotBlank(message = "ID do autor é obrigatório")
             String id) {
-        return apiService.getAuthorById(id);
+        return asyncApiService.getAuthorByIdAsync(id);
     }
 
     @Operation(summary = "Listar autores da API externa", description = "Obtém lista de autores da API MangaDX")
     @Tag(name = "🌐 API Externa")
     @GetMapping("/external")
-    public PaginatedDto<AuthorDto> getExternalAuthors(
+    public CompletableFuture<PaginatedDto<AuthorDto>> getExternalAuthors(
             @Parameter(description = "Número máximo de resultados", example = "20")
             @RequestParam(defaultValue = "20") 
             @Min(value = 1, message = "{common.limit.range}")
@@ -60,7 +61,7 @@ public class AuthorController {
             @RequestParam(defaultValue = "0") 
             @Min(value = 0, message = "{common.offset.positive}")
             Integer offset) {
-        return apiService.getAuthors(limit, offset);
+        return asyncApiService.getAuthorsAsync(limit, offset);
     }
 
     // ================== ENDPOINTS DO BANCO LOCAL ==================
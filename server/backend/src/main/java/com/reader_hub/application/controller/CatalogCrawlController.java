@@ -0,0 +1,63 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.dto.CatalogCrawlDto;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.CatalogCrawl;
+import com.reader_hub.domain.service.CatalogCrawlService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/populate/crawl")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "🔄 População", description = "População de dados da API externa")
+public class CatalogCrawlController {
+
+    private final CatalogCrawlService catalogCrawlService;
+
+    @Operation(
+        summary = "Iniciar/retomar crawl do catálogo",
+        description = "Percorre o catálogo do MangaDex em ordem de criação a partir do último checkpoint, em segundo plano"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Crawl iniciado"),
+        @ApiResponse(responseCode = "422", description = "Crawl já em andamento")
+    })
+    @PostMapping("/start")
+    public ResponseEntity<CatalogCrawlDto> start(
+            @Parameter(description = "Máximo de mangas nesta execução (vazio = até o fim do catálogo)", example = "5000")
+            @RequestParam(required = false)
+            @Min(value = 1, message = "{population.limit.range}")
+            Integer limit) {
+
+        CatalogCrawl crawl = catalogCrawlService.start(limit);
+        return ResponseEntity.accepted().body(CatalogCrawlDto.fromEntity(crawl, true, List.of()));
+    }
+
+    @Operation(summary = "Pausar crawl do catálogo", description = "O crawl para depois de gravar a página atual")
+    @PostMapping("/pause")
+    public ResponseEntity<CatalogCrawlDto> pause() {
+        CatalogCrawl crawl = catalogCrawlService.pause();
+        return ResponseEntity.accepted().body(CatalogCrawlDto.fromEntity(crawl, true, List.of()));
+    }
+
+    @Operation(summary = "Estado do crawl do catálogo", description = "Cursor, contadores e as últimas páginas processadas")
+    @GetMapping
+    public ResponseEntity<CatalogCrawlDto> status() {
+        CatalogCrawl crawl = catalogCrawlService.getCrawl()
+                .orElseThrow(() -> new ResourceNotFoundException("Nenhum crawl do catálogo iniciado"));
+        return ResponseEntity.ok(CatalogCrawlDto.fromEntity(crawl, catalogCrawlService.isActive(),
+                catalogCrawlService.recentPages(crawl.getId())));
+    }
+}
@@ -3,9 +3,14 @@ package com.reader_hub.application.controller;
 import com.reader_hub.application.dto.ChapterDto;
 import com.reader_hub.application.dto.ChapterResponseDto;
 import com.reader_hub.application.dto.PaginatedResponseDto;
-import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.storage.ZeroCopyFileResponder;
 import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.service.ChapterPageService;
+import com.reader_hub.domain.service.ChapterPrefetchService;
 import com.reader_hub.domain.service.ChapterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -16,8 +21,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/chapter")
@@ -25,21 +32,24 @@ import java.util.Optional;
 @Validated
 public class ChapterController {
 
-    private final ApiService apiService;
+    private final AsyncApiService asyncApiService;
     private final ChapterService chapterService;
+    private final ChapterPageService chapterPageService;
+    private final ChapterPrefetchService chapterPrefetchService;
+    private final ZeroCopyFileResponder fileResponder;
 
     // ================== ENDPOINTS DA API EXTERNA (MangaDx) ==================
     
     @GetMapping("/external/{id}")
-    public Optional<ChapterDto> getExternalChapterById(
+    public CompletableFuture<Optional<ChapterDto>> getExternalChapterById(
             @PathVariable 
             @NotBlank(message = "ID do capítulo é obrigatório")
             String id) {
-        return apiService.getChapterById(id);
+        return asyncApiService.getChapterByIdAsync(id);
     }
 
     @GetMapping("/external/manga/{mangaId}")
-    public List<ChapterDto> getExternalChaptersByMangaId(
+    public CompletableFuture<List<ChapterDto>> getExternalChaptersByMangaId(
             @PathVariable 
             @NotBlank(message = "{manga.id.required}")
             String mangaId,
@@ -52,15 +62,15 @@ public class ChapterController {
             @RequestParam(defaultValue = "0") 
             @Min(value = 0, message = "{common.offset.positive}")
             Integer offset) {
-        return apiService.getChaptersByMangaId(mangaId, limit, offset);
+        return asyncApiService.getChaptersByMangaIdAsync(mangaId, limit, offset);
     }
 
     @GetMapping("/external/{chapterId}/pages")
-    public List<String> getExternalChapterPages(
+    public CompletableFuture<List<String>> getExternalChapterPages(
             @PathVariable 
             @NotBlank(message = "ID do capítulo é obrigatório")
             String chapterId) {
-        return apiService.getChapterPages(chapterId);
+        return asyncApiService.getChapterPagesAsync(chapterId);
     }
 
     // ================== ENDPOINTS DO BANCO LOCAL ==================
@@ -117,21 +127,53 @@ public class ChapterController {
 
     /**
      * Retorna capítulo com páginas (imagens).
-     * Se as páginas ainda não foram carregadas, busca da API do MangaDex sob demanda (lazy loading).
+     * As URLs são montadas na hora a partir do hash/arquivos gravados e do nó at-home
+     * em cache; {@code dataSaver=true} devolve as imagens comprimidas.
      */
     @GetMapping("/local/{id}/with-pages")
     public ResponseEntity<ChapterResponseDto> getLocalChapterWithPages(
             @PathVariable 
             @NotBlank(message = "ID do capítulo é obrigatório")
-            String id) {
+            String id,
+            
+            @RequestParam(defaultValue = "false") boolean dataSaver) {
         try {
-            Chapter chapter = chapterService.loadPagesIfNeeded(id);
+            Chapter chapter = chapterService.loadPages(id, dataSaver);
+            chapterPrefetchService.prefetchAfter(chapter, dataSaver);
             return ResponseEntity.ok(ChapterResponseDto.fromEntity(chapter));
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * Imagem de uma página (a partir de 1), baixada uma vez do MangaDex e servida
+     * do cache em disco com sendfile e suporte a Range. A URL não muda quando o
+     * capítulo é reenviado, então o cache só é imutável com {@code ?v=<pageHash>}
+     * igual ao hash atual; sem ele o navegador revalida pelo ETag.
+     */
+    @GetMapping("/local/{id}/pages/{pageNumber}")
+    public void getLocalChapterPageImage(
+            @PathVariable 
+            @NotBlank(message = "ID do capítulo é obrigatório")
+            String id,
+            
+            @PathVariable 
+            @Min(value = 1, message = "Página deve ser maior que zero")
+            Integer pageNumber,
+            
+            @RequestParam(defaultValue = "false") boolean dataSaver,
+
+            @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ChapterPageService.PageImage page = chapterPageService.getPage(id, pageNumber, dataSaver);
+        String cacheControl = page.version() != null && page.version().equals(v)
+                ? ZeroCopyFileResponder.IMMUTABLE_CACHE_CONTROL
+                : "public, max-age=300";
+        fileResponder.send(request, response, page.file(), page.contentType(), cacheControl);
+    }
+
     @GetMapping("/latest")
     public ResponseEntity<PaginatedResponseDto<ChapterResponseDto>> getLatestChapters(
             @RequestParam(defaultValue = "10") 
@@ -0,0 +1,55 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.dto.PopulationJobDto;
+import com.reader_hub.application.dto.SyncStateDto;
+import com.reader_hub.domain.model.PopulationJob;
+import com.reader_hub.domain.service.DeltaSyncService;
+import com.reader_hub.domain.service.PopulationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/populate/sync")
+@RequiredArgsConstructor
+@Tag(name = "🔄 População", description = "População de dados da API externa")
+public class DeltaSyncController {
+
+    private final DeltaSyncService deltaSyncService;
+    private final PopulationJobService populationJobService;
+
+    @Operation(
+        summary = "Estado do delta sync",
+        description = "High-water mark, última execução e erro de cada fluxo (mangas e capítulos)"
+    )
+    @GetMapping
+    public ResponseEntity<List<SyncStateDto>> status() {
+        return ResponseEntity.ok(SyncStateDto.fromEntityList(deltaSyncService.getStates()));
+    }
+
+    @Operation(
+        summary = "Executar delta sync agora",
+        description = "Enfileira um job que aplica as alterações do MangaDex desde o último high-water mark"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job enfileirado"),
+        @ApiResponse(responseCode = "503", description = "Fila de jobs cheia")
+    })
+    @PostMapping("/run")
+    public ResponseEntity<PopulationJobDto> run() {
+        PopulationJob job = populationJobService.submitDeltaSync();
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/populate/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(PopulationJobDto.fromEntity(job));
+    }
+}
@@ -0,0 +1,130 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.dto.ImportDeadLetterDto;
+import com.reader_hub.application.dto.ImportRetryDto;
+import com.reader_hub.application.dto.PaginatedResponseDto;
+import com.reader_hub.application.dto.PopulationJobDto;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.PopulationJob;
+import com.reader_hub.domain.service.ImportRetryQueue;
+import com.reader_hub.domain.service.PopulationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/populate/retries")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "🔄 População", description = "População de dados da API externa")
+public class ImportRetryController {
+
+    private final ImportRetryQueue retryQueue;
+    private final PopulationJobService populationJobService;
+
+    @Operation(
+        summary = "Fila de retry de importação",
+        description = "Mangás, autores, capítulos e capas que falharam e aguardam nova tentativa (backoff exponencial)"
+    )
+    @GetMapping
+    public ResponseEntity<PaginatedResponseDto<ImportRetryDto>> pending(
+            @Parameter(description = "Filtrar por operação (MANGA, AUTHOR, CHAPTERS, COVER)")
+            @RequestParam(required = false) ImportRetry.Operation operation,
+
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "{common.limit.range}")
+            @Max(value = 100, message = "{common.limit.range}")
+            Integer limit,
+
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "{common.offset.positive}")
+            Integer offset) {
+        PageRequest page = PageRequest.of(offset / limit, limit, Sort.by("nextAttemptAt"));
+        return ResponseEntity.ok(PaginatedResponseDto.fromPage(
+                retryQueue.findPending(operation, page), ImportRetryDto::fromEntity));
+    }
+
+    @Operation(
+        summary = "Reprocessar agora",
+        description = "Enfileira um job que tenta de novo os itens vencidos da fila sem esperar o agendamento; "
+            + "acompanhe o progresso em /api/populate/jobs/{id}"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job enfileirado"),
+        @ApiResponse(responseCode = "503", description = "Fila de jobs cheia")
+    })
+    @PostMapping("/run")
+    public ResponseEntity<PopulationJobDto> run() {
+        PopulationJob job = populationJobService.submitImportRetry();
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/populate/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(PopulationJobDto.fromEntity(job));
+    }
+
+    @Operation(
+        summary = "Dead-letter de importação",
+        description = "Itens que esgotaram as tentativas ou não existem mais no MangaDex, com o último erro"
+    )
+    @GetMapping("/dead-letters")
+    public ResponseEntity<PaginatedResponseDto<ImportDeadLetterDto>> deadLetters(
+            @Parameter(description = "Filtrar por operação (MANGA, AUTHOR, CHAPTERS, COVER)")
+            @RequestParam(required = false) ImportRetry.Operation operation,
+
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "{common.limit.range}")
+            @Max(value = 100, message = "{common.limit.range}")
+            Integer limit,
+
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "{common.offset.positive}")
+            Integer offset) {
+        PageRequest page = PageRequest.of(offset / limit, limit, Sort.by(Sort.Direction.DESC, "deadAt"));
+        return ResponseEntity.ok(PaginatedResponseDto.fromPage(
+                retryQueue.findDeadLetters(operation, page), ImportDeadLetterDto::fromEntity));
+    }
+
+    @Operation(summary = "Reenviar item da dead-letter", description = "Volta o item à fila, vencido agora e com tentativas zeradas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Item reenviado à fila"),
+        @ApiResponse(responseCode = "404", description = "Item não encontrado")
+    })
+    @PostMapping("/dead-letters/{id}/replay")
+    public ResponseEntity<ImportRetryDto> replay(@PathVariable String id) {
+        return ResponseEntity.accepted().body(ImportRetryDto.fromEntity(retryQueue.replay(id)));
+    }
+
+    @Operation(summary = "Reenviar a dead-letter", description = "Volta à fila todos os itens (ou só os da operação)")
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Object>> replayAll(
+            @Parameter(description = "Reenviar só esta operação (MANGA, AUTHOR, CHAPTERS, COVER)")
+            @RequestParam(required = false) ImportRetry.Operation operation) {
+        return ResponseEntity.accepted().body(Map.of("replayed", retryQueue.replayAll(operation)));
+    }
+
+    @Operation(summary = "Descartar item da dead-letter")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Item descartado"),
+        @ApiResponse(responseCode = "404", description = "Item não encontrado")
+    })
+    @DeleteMapping("/dead-letters/{id}")
+    public ResponseEntity<Void> discard(@PathVariable String id) {
+        retryQueue.discard(id);
+        return ResponseEntity.noContent().build();
+    }
+}
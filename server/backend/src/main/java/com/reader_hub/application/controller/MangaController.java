@@ -1,8 +1,12 @@
 package com.reader_hub.application.controller;
 
 import com.reader_hub.application.dto.*;
-import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.storage.CoverVariant;
+import com.reader_hub.application.storage.ZeroCopyFileResponder;
 import com.reader_hub.domain.model.Manga;
+import com.reader_hub.domain.service.CoverService;
 import com.reader_hub.domain.service.MangaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +16,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -19,13 +25,16 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/manga")
@@ -34,8 +43,12 @@ import java.util.Optional;
 @Tag(name = "📚 Mangás", description = "Operações relacionadas aos mangás")
 public class MangaController {
 
-    private final ApiService apiService;
+    private static final String VERSIONED_COVER_CACHE_CONTROL = "public, max-age=86400";
+
+    private final AsyncApiService asyncApiService;
     private final MangaService mangaService;
+    private final CoverService coverService;
+    private final ZeroCopyFileResponder fileResponder;
 
     // ================== ENDPOINTS DA API EXTERNA (MangaDx) ==================
 
@@ -50,7 +63,7 @@ public class MangaController {
     })
     @Tag(name = "🌐 API Externa")
     @GetMapping("/external")
-    public PaginatedDto<ExternalMangaDto> getExternalMangas(
+    public CompletableFuture<PaginatedDto<ExternalMangaDto>> getExternalMangas(
             @Parameter(description = "Número máximo de resultados", example = "20")
             @RequestParam(defaultValue = "20") 
             @Min(value = 1, message = "{common.limit.range}")
@@ -61,7 +74,7 @@ public class MangaController {
             @RequestParam(defaultValue = "0") 
             @Min(value = 0, message = "{common.offset.positive}")
             Integer offset) {
-        return apiService.getMangas(limit, offset);
+        return asyncApiService.getMangasAsync(limit, offset);
     }
 
     @Operation(
@@ -75,12 +88,12 @@ public class MangaController {
     })
     @Tag(name = "🌐 API Externa")
     @GetMapping("/external/{id}")
-    public Optional<ExternalMangaDto> getExternalMangaById(
+    public CompletableFuture<Optional<ExternalMangaDto>> getExternalMangaById(
             @Parameter(description = "ID único do manga na API MangaDX", example = "32d76d19-8a05-4db0-9fc2-e0b0648fe9d0")
             @PathVariable 
             @NotBlank(message = "{manga.id.required}")
             String id) {
-        return apiService.getMangaById(id);
+        return asyncApiService.getMangaByIdAsync(id);
     }
 
     @Operation(
@@ -94,7 +107,7 @@ public class MangaController {
     })
     @Tag(name = "🌐 API Externa")
     @GetMapping("/external/search")
-    public List<ExternalMangaDto> searchExternalMangas(
+    public CompletableFuture<List<ExternalMangaDto>> searchExternalMangas(
             @Parameter(description = "Termo de busca", example = "Naruto")
             @RequestParam
             @NotBlank(message = "Termo de busca é obrigatório")
@@ -105,7 +118,7 @@ public class MangaController {
             @Min(value = 1, message = "{common.limit.range}")
             @Max(value = 100, message = "{common.limit.range}")
             Integer limit) {
-        return apiService.searchMangas(q, limit, 0);
+        return asyncApiService.searchMangasAsync(q, limit, 0);
     }
 
     // ================== ENDPOINTS DO BANCO LOCAL ==================
@@ -189,6 +202,47 @@ public class MangaController {
         return ResponseEntity.notFound().build();
     }
 
+    @Operation(
+        summary = "Miniatura da capa",
+        description = "Capa reduzida para a largura pedida (256 ou 512 px, JPEG), servida do cache em disco. "
+                + "Enquanto a miniatura é gerada, redireciona para a versão equivalente do MangaDex"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Miniatura servida do cache"),
+        @ApiResponse(responseCode = "302", description = "Miniatura em geração; redireciona para a origem"),
+        @ApiResponse(responseCode = "404", description = "Manga, capa ou largura não encontrados")
+    })
+    @GetMapping("/local/{id}/cover/{width}")
+    public void getLocalMangaCover(
+            @Parameter(description = "ID único do manga", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable 
+            @NotBlank(message = "{manga.id.required}")
+            String id,
+            
+            @Parameter(description = "Largura da miniatura", example = "256")
+            @PathVariable 
+            int width,
+            
+            @Parameter(description = "Versão da capa (vem nas URLs de coverVariants)")
+            @RequestParam(required = false) 
+            String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        CoverVariant variant = CoverVariant.fromWidth(width)
+                .orElseThrow(() -> new ResourceNotFoundException("Variante de capa", "largura", String.valueOf(width)));
+        CoverService.CoverImage cover = coverService.getVariant(id, variant);
+        if (cover.file() == null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.sendRedirect(cover.fallbackUrl());
+            return;
+        }
+        // A versão vem da URL de origem, não dos bytes: cache longo, mas não imutável
+        String cacheControl = cover.version().equals(v)
+                ? VERSIONED_COVER_CACHE_CONTROL
+                : "public, max-age=300";
+        fileResponder.send(request, response, cover.file(), cover.contentType(), cacheControl);
+    }
+
     @Operation(
         summary = "Buscar manga com autor",
         description = "Obtém os detalhes de um manga com as informações completas do autor"
@@ -326,22 +380,18 @@ public class MangaController {
     })
     @Tag(name = "🖼️ Capas")
     @GetMapping("/external/{id}/cover")
-    public ResponseEntity<Map<String, String>> getMangaCover(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> getMangaCover(
             @Parameter(description = "ID único do manga na API MangaDEX",
                     example = "32d76d19-8a05-4db0-9fc2-e0b0648fe9d0")
             @PathVariable 
             @NotBlank(message = "{manga.id.required}")
             String id) {
         
-        try {
-            String coverUrl = apiService.getMangaCoverUrl(id);
-            if (coverUrl != null) {
-                return ResponseEntity.ok(Map.of("coverUrl", coverUrl));
-            }
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
-        }
+        return asyncApiService.getMangaCoverUrlAsync(id)
+                .thenApply(coverUrl -> coverUrl != null
+                        ? ResponseEntity.ok(Map.of("coverUrl", coverUrl))
+                        : ResponseEntity.notFound().<Map<String, String>>build())
+                .exceptionally(e -> ResponseEntity.badRequest().build());
     }
 
     // ================== ENDPOINTS DE BUSCA E FILTROS ==================
@@ -1,6 +1,7 @@
 package com.reader_hub.application.controller;
 
 import com.reader_hub.application.dto.PopulationRequestDto;
+import com.reader_hub.application.sse.ProgressBroadcaster;
 import com.reader_hub.domain.model.Author;
 import com.reader_hub.domain.model.Manga;
 import com.reader_hub.domain.service.AuthorService;
@@ -17,8 +18,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,15 +27,14 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/populate")
-@RequiredArgsConstructor
 @Slf4j
 @Validated
 @Tag(name = "🔄 População", description = "População de dados da API externa")
@@ -44,6 +44,20 @@ public class PopulationController {
     private final MangaService mangaService;
     private final AuthorService authorService;
     private final ChapterService chapterService;
+    private final ProgressBroadcaster progressBroadcaster;
+    private final ExecutorService chapterStreamExecutor;
+
+    public PopulationController(DataPopulationService dataPopulationService, MangaService mangaService,
+                                AuthorService authorService, ChapterService chapterService,
+                                ProgressBroadcaster progressBroadcaster,
+                                @Qualifier("chapterStreamExecutor") ExecutorService chapterStreamExecutor) {
+        this.dataPopulationService = dataPopulationService;
+        this.mangaService = mangaService;
+        this.authorService = authorService;
+        this.chapterService = chapterService;
+        this.progressBroadcaster = progressBroadcaster;
+        this.chapterStreamExecutor = chapterStreamExecutor;
+    }
 
     @Operation(
         summary = "Popular mangás populares",
@@ -75,10 +89,10 @@ public class PopulationController {
     })
     @PostMapping("/popular-mangas")
     public ResponseEntity<Map<String, Object>> populatePopularMangas(
-            @Parameter(description = "Número máximo de mangás para importar (1-100)", example = "20")
+            @Parameter(description = "Número máximo de mangás para importar (1-500)", example = "20")
             @RequestParam(defaultValue = "20") 
-            @Min(value = 1, message = "{population.limit.range}")
-            @Max(value = 100, message = "{population.limit.range}")
+            @Min(value = 1, message = "{population.import.limit.range}")
+            @Max(value = 500, message = "{population.import.limit.range}")
             Integer limit,
             
             @Parameter(description = "Número de itens a pular na API externa", example = "0")
@@ -105,10 +119,10 @@ public class PopulationController {
     )
     @PostMapping("/recent-mangas")
     public ResponseEntity<Map<String, Object>> populateRecentMangas(
-            @Parameter(description = "Número máximo de mangás para importar", example = "20")
+            @Parameter(description = "Número máximo de mangás para importar (1-500)", example = "20")
             @RequestParam(defaultValue = "20") 
-            @Min(value = 1, message = "{population.limit.range}")
-            @Max(value = 100, message = "{population.limit.range}")
+            @Min(value = 1, message = "{population.import.limit.range}")
+            @Max(value = 500, message = "{population.import.limit.range}")
             Integer limit,
             
             @Parameter(description = "Número de itens a pular na API externa", example = "0")
@@ -196,72 +210,87 @@ public class PopulationController {
 
     @Operation(
         summary = "Popular capítulos com progresso (SSE)",
-        description = "Popula capítulos de um manga com streaming de progresso via Server-Sent Events"
+        description = "Inicia (ou acompanha, se já estiver rodando) a importação de capítulos de um manga " +
+                      "com o progresso via Server-Sent Events"
     )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de eventos progress/complete/error"),
+        @ApiResponse(responseCode = "503", description = "Fila de importações cheia")
+    })
     @PostMapping(value = "/chapters/{mangaId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamPopulateChaptersForManga(
             @Parameter(description = "ID único do manga no banco local")
             @PathVariable
             @NotBlank(message = "{manga.id.required}")
-            String mangaId) {
+            String mangaId,
 
-        SseEmitter emitter = new SseEmitter(600_000L); // 10 min timeout
-        AtomicBoolean cancelled = new AtomicBoolean(false);
+            @Parameter(description = "ID do último evento recebido, para retomar sem perder eventos")
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            String lastEventId) {
 
-        Thread importThread = new Thread(() -> {
+        String topic = chapterTopic(mangaId);
+        // Um POST repetido para o mesmo manga assina a importação em andamento em vez de abrir outra
+        if (progressBroadcaster.open(topic)) {
             try {
-                dataPopulationService.populateChaptersForMangaWithProgress(mangaId, (current, total) -> {
-                    if (cancelled.get()) return;
-                    try {
+                chapterStreamExecutor.execute(() -> runChapterImport(mangaId, topic));
+            } catch (RejectedExecutionException e) {
+                progressBroadcaster.discard(topic);
+                throw e;
+            }
+        }
+        return progressBroadcaster.subscribe(topic, lastEventId);
+    }
+
+    @Operation(
+        summary = "Acompanhar importação de capítulos (SSE)",
+        description = "Reconecta ao progresso de uma importação em andamento ou recém-finalizada; " +
+                      "com Last-Event-ID reenvia os eventos perdidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de eventos progress/complete/error"),
+        @ApiResponse(responseCode = "404", description = "Nenhuma importação recente para o manga")
+    })
+    @GetMapping(value = "/chapters/{mangaId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter followChapterImport(
+            @Parameter(description = "ID único do manga no banco local")
+            @PathVariable
+            @NotBlank(message = "{manga.id.required}")
+            String mangaId,
+
+            @Parameter(description = "ID do último evento recebido, para retomar sem perder eventos")
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            String lastEventId) {
+
+        return progressBroadcaster.subscribe(chapterTopic(mangaId), lastEventId);
+    }
+
+    private void runChapterImport(String mangaId, String topic) {
+        try {
+            int chaptersSaved = dataPopulationService.populateChaptersForMangaWithProgress(mangaId,
+                    (current, total) -> {
                         Map<String, Object> data = new HashMap<>();
                         data.put("current", current);
                         data.put("total", total);
                         data.put("percentage", total > 0 ? Math.round((double) current / total * 100) : 0);
-                        emitter.send(SseEmitter.event()
-                                .name("progress")
-                                .data(data, MediaType.APPLICATION_JSON));
-                    } catch (IOException e) {
-                        cancelled.set(true);
-                        log.warn("Erro ao enviar evento SSE de progresso", e);
-                    }
-                });
+                        progressBroadcaster.progress(topic, data);
+                    });
 
-                if (!cancelled.get()) {
-                    Map<String, Object> completeData = new HashMap<>();
-                    completeData.put("status", "success");
-                    completeData.put("message", "População de capítulos concluída");
-                    emitter.send(SseEmitter.event()
-                            .name("complete")
-                            .data(completeData, MediaType.APPLICATION_JSON));
-                    emitter.complete();
-                }
-            } catch (Exception e) {
-                log.error("Erro durante importação de capítulos via stream para manga {}", mangaId, e);
-                try {
-                    if (!cancelled.get()) {
-                        Map<String, Object> errorData = new HashMap<>();
-                        errorData.put("status", "error");
-                        errorData.put("message", e.getMessage());
-                        emitter.send(SseEmitter.event()
-                                .name("error")
-                                .data(errorData, MediaType.APPLICATION_JSON));
-                    }
-                } catch (IOException ignored) {}
-                emitter.completeWithError(e);
-            }
-        });
-
-        emitter.onTimeout(() -> {
-            cancelled.set(true);
-            importThread.interrupt();
-        });
-
-        emitter.onCompletion(() -> cancelled.set(true));
-
-        importThread.setDaemon(true);
-        importThread.start();
+            Map<String, Object> completeData = new HashMap<>();
+            completeData.put("status", "success");
+            completeData.put("message", "População de capítulos concluída");
+            completeData.put("chaptersSaved", chaptersSaved);
+            progressBroadcaster.finish(topic, "complete", completeData);
+        } catch (Exception e) {
+            log.error("Erro durante importação de capítulos via stream para manga {}", mangaId, e);
+            Map<String, Object> errorData = new HashMap<>();
+            errorData.put("status", "error");
+            errorData.put("message", e.getMessage());
+            progressBroadcaster.finish(topic, "error", errorData);
+        }
+    }
 
-        return emitter;
+    private static String chapterTopic(String mangaId) {
+        return "chapters:" + mangaId;
     }
 
     @Operation(
@@ -0,0 +1,209 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.dto.PopulationJobDto;
+import com.reader_hub.application.sse.ProgressBroadcaster;
+import com.reader_hub.domain.model.PopulationJob;
+import com.reader_hub.domain.service.PopulationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Versão assíncrona das importações demoradas: o POST devolve 202 com o job e
+ * o trabalho segue em segundo plano. Os endpoints síncronos de
+ * {@link PopulationController} continuam disponíveis.
+ */
+@RestController
+@RequestMapping("/api/populate/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "🔄 População", description = "População de dados da API externa")
+public class PopulationJobController {
+
+    private final PopulationJobService populationJobService;
+    private final ProgressBroadcaster progressBroadcaster;
+
+    @Operation(
+        summary = "Job: popular mangás populares",
+        description = "Enfileira a importação de mangás populares e devolve o job imediatamente"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job enfileirado"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+        @ApiResponse(responseCode = "503", description = "Fila de jobs cheia")
+    })
+    @PostMapping("/popular-mangas")
+    public ResponseEntity<PopulationJobDto> submitPopularMangas(
+            @Parameter(description = "Número máximo de mangás para importar (1-500)", example = "20")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "{population.import.limit.range}")
+            @Max(value = 500, message = "{population.import.limit.range}")
+            Integer limit,
+
+            @Parameter(description = "Número de itens a pular na API externa", example = "0")
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "{population.offset.positive}")
+            Integer offset) {
+
+        return accepted(populationJobService.submitPopularMangas(limit, offset));
+    }
+
+    @Operation(
+        summary = "Job: população completa",
+        description = "Enfileira a importação de mangás populares + seus capítulos"
+    )
+    @PostMapping("/complete-popular")
+    public ResponseEntity<PopulationJobDto> submitCompletePopular(
+            @Parameter(description = "Número máximo de mangás para importar (1-50)", example = "10")
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "{population.manga.limit.range}")
+            @Max(value = 50, message = "{population.manga.limit.range}")
+            Integer mangaLimit,
+
+            @Parameter(description = "Número de itens a pular", example = "0")
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "{population.offset.positive}")
+            Integer offset,
+
+            @Parameter(description = "Se deve incluir capítulos na população", example = "true")
+            @RequestParam(defaultValue = "true")
+            @NotNull(message = "{population.include.chapters.required}")
+            Boolean includeChapters) {
+
+        return accepted(populationJobService.submitCompletePopular(mangaLimit, offset, includeChapters));
+    }
+
+    @Operation(
+        summary = "Job: atualizar capas",
+        description = "Enfileira a atualização das imagens de capa de todos os mangás"
+    )
+    @PostMapping("/update-cover-images")
+    public ResponseEntity<PopulationJobDto> submitUpdateCoverImages() {
+        return accepted(populationJobService.submitUpdateCoverImages());
+    }
+
+    @Operation(
+        summary = "Job: popular capítulos de um manga",
+        description = "Enfileira a importação de todos os capítulos disponíveis de um manga"
+    )
+    @PostMapping("/chapters/{mangaId}")
+    public ResponseEntity<PopulationJobDto> submitChapters(
+            @Parameter(description = "ID único do manga no banco local", example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable
+            @NotBlank(message = "{manga.id.required}")
+            String mangaId) {
+
+        return accepted(populationJobService.submitChapters(mangaId));
+    }
+
+    @Operation(
+        summary = "Job: carregar dump local",
+        description = "Enfileira a carga de um dump NDJSON (opcionalmente .gz ou .zst) de autores, mangás e " +
+                      "capítulos no formato da API, lido de app.population.dump.dir sem acessar o MangaDex"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job enfileirado"),
+        @ApiResponse(responseCode = "404", description = "Arquivo não encontrado"),
+        @ApiResponse(responseCode = "422", description = "Arquivo fora do diretório de dumps"),
+        @ApiResponse(responseCode = "503", description = "Fila de jobs cheia")
+    })
+    @PostMapping("/dump")
+    public ResponseEntity<PopulationJobDto> submitDumpIngest(
+            @Parameter(description = "Nome do arquivo no diretório de dumps", example = "catalogo.ndjson.gz")
+            @RequestParam
+            @NotBlank(message = "{population.dump.file.required}")
+            String file) {
+
+        return accepted(populationJobService.submitDumpIngest(file));
+    }
+
+    @Operation(summary = "Listar jobs", description = "Últimos 20 jobs, opcionalmente filtrados por status")
+    @GetMapping
+    public ResponseEntity<List<PopulationJobDto>> listJobs(
+            @Parameter(description = "Status do job (QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED)")
+            @RequestParam(required = false)
+            PopulationJob.Status status) {
+
+        return ResponseEntity.ok(PopulationJobDto.fromEntityList(populationJobService.listRecent(status)));
+    }
+
+    @Operation(summary = "Consultar job", description = "Estado, progresso, contadores e erro de um job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job encontrado"),
+        @ApiResponse(responseCode = "404", description = "Job não encontrado")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<PopulationJobDto> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(PopulationJobDto.fromEntity(populationJobService.getJob(id)));
+    }
+
+    @Operation(
+        summary = "Cancelar job",
+        description = "Jobs na fila são cancelados na hora; jobs em execução param no próximo lote"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cancelamento solicitado"),
+        @ApiResponse(responseCode = "404", description = "Job não encontrado"),
+        @ApiResponse(responseCode = "422", description = "Job já finalizado")
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<PopulationJobDto> cancelJob(@PathVariable String id) {
+        return ResponseEntity.ok(PopulationJobDto.fromEntity(populationJobService.cancel(id)));
+    }
+
+    @Operation(
+        summary = "Acompanhar job (SSE)",
+        description = "Envia o estado atual, os progressos (agrupados) e o estado final do job via Server-Sent Events; " +
+                      "com Last-Event-ID reenvia os eventos perdidos"
+    )
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(
+            @PathVariable String id,
+
+            @Parameter(description = "ID do último evento recebido, para retomar sem perder eventos")
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            String lastEventId) {
+
+        // Valida o ID antes de abrir o stream (404 normal)
+        populationJobService.getJob(id);
+
+        String topic = "job:" + id;
+        if (progressBroadcaster.open(topic)) {
+            // Uma ponte por job, qualquer que seja o número de assinantes; o job só troca uma referência.
+            // Sai junto com o tópico (último assinante, descarte ou reabertura), sem acumular ouvintes
+            Runnable unsubscribe = populationJobService.subscribe(id, job -> {
+                PopulationJobDto dto = PopulationJobDto.fromEntity(job);
+                if (dto.isFinished()) {
+                    progressBroadcaster.finish(topic, "finished", dto);
+                } else {
+                    progressBroadcaster.progress(topic, dto);
+                }
+            });
+            progressBroadcaster.onClose(topic, unsubscribe);
+        }
+        return progressBroadcaster.subscribe(topic, lastEventId);
+    }
+
+    private ResponseEntity<PopulationJobDto> accepted(PopulationJob job) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/populate/jobs/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(PopulationJobDto.fromEntity(job));
+    }
+}
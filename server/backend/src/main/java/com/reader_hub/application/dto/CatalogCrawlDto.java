@@ -0,0 +1,87 @@
+package com.reader_hub.application.dto;
+
+import com.reader_hub.domain.model.CatalogCrawl;
+import com.reader_hub.domain.model.CatalogCrawlPage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogCrawlDto {
+
+    private String id;
+    private String status;
+    private boolean active;
+    private OffsetDateTime cursorCreatedAt;
+    private String cursorMangaId;
+    private int boundaryOffset;
+    private long pagesFetched;
+    private long mangasSeen;
+    private long mangasSaved;
+    private long authorsSaved;
+    private long failedPages;
+    private Long totalRemaining;
+    private Integer runLimit;
+    private int runSeen;
+    private String lastError;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+    private List<PageDto> recentPages;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageDto {
+        private OffsetDateTime cursorCreatedAt;
+        private int cursorOffset;
+        private String outcome;
+        private int fetched;
+        private int mangasSaved;
+        private int authorsSaved;
+        private int failures;
+        private String error;
+        private Instant createdAt;
+
+        public static PageDto fromEntity(CatalogCrawlPage page) {
+            return new PageDto(page.getCursorCreatedAt(), page.getCursorOffset(), page.getOutcome().name(),
+                    page.getFetched(), page.getMangasSaved(), page.getAuthorsSaved(), page.getFailures(),
+                    page.getError(), page.getCreatedAt());
+        }
+    }
+
+    public static CatalogCrawlDto fromEntity(CatalogCrawl crawl, boolean active, List<CatalogCrawlPage> pages) {
+        if (crawl == null) {
+            return null;
+        }
+
+        CatalogCrawlDto dto = new CatalogCrawlDto();
+        dto.setId(crawl.getId());
+        dto.setStatus(crawl.getStatus().name());
+        dto.setActive(active);
+        dto.setCursorCreatedAt(crawl.getCursorCreatedAt());
+        dto.setCursorMangaId(crawl.getCursorMangaId());
+        dto.setBoundaryOffset(crawl.getBoundaryOffset());
+        dto.setPagesFetched(crawl.getPagesFetched());
+        dto.setMangasSeen(crawl.getMangasSeen());
+        dto.setMangasSaved(crawl.getMangasSaved());
+        dto.setAuthorsSaved(crawl.getAuthorsSaved());
+        dto.setFailedPages(crawl.getFailedPages());
+        dto.setTotalRemaining(crawl.getTotalRemaining());
+        dto.setRunLimit(crawl.getRunLimit());
+        dto.setRunSeen(crawl.getRunSeen());
+        dto.setLastError(crawl.getLastError());
+        dto.setCreatedAt(crawl.getCreatedAt());
+        dto.setUpdatedAt(crawl.getUpdatedAt());
+        dto.setFinishedAt(crawl.getFinishedAt());
+        dto.setRecentPages(pages.stream().map(PageDto::fromEntity).collect(Collectors.toList()));
+        return dto;
+    }
+}
@@ -40,17 +40,43 @@ public class ChapterDto {
         private Map<String, Object> attributes;
     }
 
-        @Data
+    /**
+     * Resposta do /at-home/server/{id}: nó de entrega (baseUrl, de curta duração)
+     * mais hash e arquivos das páginas, que são estáveis.
+     */
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ChapterPagesDto {
         private String result;
         private String baseUrl;
         private ChapterData chapter;
-        
+
+        /**
+         * URLs das páginas no conjunto original ou no comprimido (data-saver).
+         */
+        public List<String> pageUrls(boolean dataSaver) {
+            if (chapter == null) {
+                return List.of();
+            }
+            List<String> files = dataSaver ? chapter.getDataSaver() : chapter.getData();
+            if (files == null) {
+                return List.of();
+            }
+            return files.stream()
+                    .map(fileName -> pageUrl(baseUrl, chapter.getHash(), fileName, dataSaver))
+                    .toList();
+        }
+
+        public static String pageUrl(String baseUrl, String hash, String fileName, boolean dataSaver) {
+            return baseUrl + (dataSaver ? "/data-saver/" : "/data/") + hash + "/" + fileName;
+        }
+
         @Data
+        @JsonIgnoreProperties(ignoreUnknown = true)
         public static class ChapterData {
             private String hash;
             private List<String> data;
             private List<String> dataSaver;
         }
     }
-}
\ No newline at end of file
+}
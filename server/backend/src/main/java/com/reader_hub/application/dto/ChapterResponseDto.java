@@ -29,6 +29,7 @@ public class ChapterResponseDto {
     private Integer views;
     private Integer comments;
     private List<String> imageUrls; // URLs das páginas
+    private String pageHash; // versão das páginas: ?v= em /local/{id}/pages/{n} libera o cache imutável
     private String mangaId;
     private String mangaTitle;
     
@@ -52,7 +53,9 @@ public class ChapterResponseDto {
         dto.setReadableAt(chapter.getReadableAt());
         dto.setViews(chapter.getViews());
         dto.setComments(chapter.getComments());
-        dto.setImageUrls(chapter.getImages()); // URLs das páginas
+        // URLs montadas na leitura (loadPages); capítulos antigos podem ter só as absolutas
+        dto.setImageUrls(chapter.getPageUrls() != null ? chapter.getPageUrls() : chapter.getImages());
+        dto.setPageHash(chapter.getPageHash());
         
         // Dados do manga de forma segura
         if (chapter.getManga() != null) {
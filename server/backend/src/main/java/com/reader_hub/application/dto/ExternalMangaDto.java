@@ -7,10 +7,14 @@ import lombok.Data;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class ExternalMangaDto {
+    public static final String COVER_BASE_URL = "https://uploads.mangadex.org/covers/";
+
     private String id;
     private String type;
     private ApiMangaAttributes attributes;
@@ -19,6 +23,27 @@ public class ExternalMangaDto {
     @JsonIgnoreProperties(ignoreUnknown = true)
     private List<SimpleRelationship> relationships;
 
+    /**
+     * URL da capa a partir do cover_art incluído na resposta (includes[]=cover_art).
+     * Vazio quando a relação não veio ou veio sem atributos.
+     */
+    public Optional<String> findCoverUrl() {
+        return findRelationships("cover_art").stream()
+                .map(relationship -> relationship.stringAttribute("fileName"))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(fileName -> COVER_BASE_URL + id + "/" + fileName);
+    }
+
+    public List<SimpleRelationship> findRelationships(String relationshipType) {
+        if (relationships == null) {
+            return List.of();
+        }
+        return relationships.stream()
+                .filter(relationship -> relationshipType.equals(relationship.getType()))
+                .toList();
+    }
+
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ApiMangaAttributes {
@@ -71,5 +96,35 @@ public class ExternalMangaDto {
         private String id;
         private String type;
         private Map<String, Object> attributes;
+
+        public String stringAttribute(String name) {
+            Object value = attributes != null ? attributes.get(name) : null;
+            return value instanceof String text ? text : null;
+        }
+
+        /**
+         * Autor montado a partir dos atributos incluídos (includes[]=author).
+         * Vazio quando a relação veio só com id/type.
+         */
+        @SuppressWarnings("unchecked")
+        public Optional<AuthorDto> toIncludedAuthor() {
+            String name = stringAttribute("name");
+            if (name == null) {
+                return Optional.empty();
+            }
+            AuthorDto.ApiAuthorAttributes authorAttributes = new AuthorDto.ApiAuthorAttributes();
+            authorAttributes.setName(name);
+            authorAttributes.setImageUrl(stringAttribute("imageUrl"));
+            authorAttributes.setWebsite(stringAttribute("website"));
+            if (attributes.get("biography") instanceof Map<?, ?> biography) {
+                authorAttributes.setBiography((Map<String, String>) biography);
+            }
+
+            AuthorDto authorDto = new AuthorDto();
+            authorDto.setId(id);
+            authorDto.setType(type);
+            authorDto.setAttributes(authorAttributes);
+            return Optional.of(authorDto);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.reader_hub.application.dto;
+
+import com.reader_hub.domain.model.ImportDeadLetter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportDeadLetterDto {
+
+    private String id;
+    private String operation;
+    private String apiId;
+    private int attempts;
+    private String lastError;
+    private Instant firstFailedAt;
+    private Instant deadAt;
+
+    public static ImportDeadLetterDto fromEntity(ImportDeadLetter deadLetter) {
+        if (deadLetter == null) {
+            return null;
+        }
+
+        return new ImportDeadLetterDto(deadLetter.getId(), deadLetter.getOperation().name(), deadLetter.getApiId(),
+                deadLetter.getAttempts(), deadLetter.getLastError(), deadLetter.getFirstFailedAt(),
+                deadLetter.getDeadAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.reader_hub.application.dto;
+
+import com.reader_hub.domain.model.ImportRetry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRetryDto {
+
+    private String id;
+    private String operation;
+    private String apiId;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    public static ImportRetryDto fromEntity(ImportRetry retry) {
+        if (retry == null) {
+            return null;
+        }
+
+        return new ImportRetryDto(retry.getId(), retry.getOperation().name(), retry.getApiId(), retry.getAttempts(),
+                retry.getNextAttemptAt(), retry.getLastError(), retry.getCreatedAt(), retry.getUpdatedAt());
+    }
+}
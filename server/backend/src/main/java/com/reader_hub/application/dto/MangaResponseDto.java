@@ -1,5 +1,6 @@
 package com.reader_hub.application.dto;
 
+import com.reader_hub.application.storage.CoverVariant;
 import com.reader_hub.domain.model.Manga;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Data
@@ -90,6 +92,10 @@ public class MangaResponseDto {
     @Schema(description = "URL da imagem da capa do manga", example = "https://api.mangadex.org/covers/123e4567-e89b-12d3-a456-426614174000/image.jpg")
     private String coverImage;
     
+    @Schema(description = "Miniaturas da capa servidas pelo backend, por largura em px",
+            example = "{\"256\": \"/api/manga/local/123e4567-e89b-12d3-a456-426614174000/cover/256?v=9f86d081884c7d65\"}")
+    private Map<String, String> coverVariants;
+    
     public static MangaResponseDto fromEntity(Manga manga) {
         if (manga == null) {
             return null;
@@ -109,6 +115,13 @@ public class MangaResponseDto {
         dto.setRating(manga.getRating());
         dto.setRatingCount(manga.getRatingCount());
         dto.setCoverImage(manga.getCoverImage());
+        if (manga.getId() != null && manga.getCoverImage() != null && !manga.getCoverImage().isBlank()) {
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (CoverVariant variant : CoverVariant.values()) {
+                variants.put(String.valueOf(variant.width()), variant.path(manga.getId(), manga.getCoverImage()));
+            }
+            dto.setCoverVariants(variants);
+        }
         
         // Converter autor de forma segura
         if (manga.getAuthor() != null) {
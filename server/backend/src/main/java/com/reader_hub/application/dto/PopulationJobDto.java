@@ -0,0 +1,71 @@
+package com.reader_hub.application.dto;
+
+import com.reader_hub.domain.model.PopulationJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopulationJobDto {
+
+    private String id;
+    private String type;
+    private String status;
+    private Map<String, String> parameters;
+    private int progressCurrent;
+    private int progressTotal;
+    private int percentage;
+    private int mangasSaved;
+    private int authorsSaved;
+    private int chaptersSaved;
+    private Long totalFound;
+    private String message;
+    private String error;
+    private boolean cancelRequested;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static PopulationJobDto fromEntity(PopulationJob job) {
+        if (job == null) {
+            return null;
+        }
+
+        PopulationJobDto dto = new PopulationJobDto();
+        dto.setId(job.getId());
+        dto.setType(job.getType().name());
+        dto.setStatus(job.getStatus().name());
+        dto.setParameters(job.getParameters() != null ? Map.copyOf(job.getParameters()) : Map.of());
+        dto.setProgressCurrent(job.getProgressCurrent());
+        dto.setProgressTotal(job.getProgressTotal());
+        dto.setPercentage(job.getPercentage());
+        dto.setMangasSaved(job.getMangasSaved());
+        dto.setAuthorsSaved(job.getAuthorsSaved());
+        dto.setChaptersSaved(job.getChaptersSaved());
+        dto.setTotalFound(job.getTotalFound());
+        dto.setMessage(job.getMessage());
+        dto.setError(job.getError());
+        dto.setCancelRequested(job.isCancelRequested());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        return dto;
+    }
+
+    public static List<PopulationJobDto> fromEntityList(List<PopulationJob> jobs) {
+        return jobs.stream()
+                .map(PopulationJobDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isFinished() {
+        return PopulationJob.Status.valueOf(status).isFinished();
+    }
+}
@@ -0,0 +1,17 @@
+package com.reader_hub.application.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resumo de uma página de coleção lida em streaming: os itens já foram
+ * entregues ao consumer, aqui ficam só a contagem e a paginação da resposta.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StreamedPageDto {
+    private final int count;
+    private final Integer total;
+    private final Integer offset;
+    private final Integer limit;
+}
@@ -0,0 +1,42 @@
+package com.reader_hub.application.dto;
+
+import com.reader_hub.domain.model.SyncState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncStateDto {
+
+    private String stream;
+    private OffsetDateTime cursorAt;
+    private String cursorId;
+    private int boundaryOffset;
+    private Instant lastRunAt;
+    private Instant caughtUpAt;
+    private int lastPages;
+    private int lastChanged;
+    private long totalChanged;
+    private String lastError;
+
+    public static SyncStateDto fromEntity(SyncState state) {
+        if (state == null) {
+            return null;
+        }
+
+        return new SyncStateDto(state.getStream(), state.getCursorAt(), state.getCursorId(),
+                state.getBoundaryOffset(), state.getLastRunAt(), state.getCaughtUpAt(), state.getLastPages(),
+                state.getLastChanged(), state.getTotalChanged(), state.getLastError());
+    }
+
+    public static List<SyncStateDto> fromEntityList(List<SyncState> states) {
+        return states.stream().map(SyncStateDto::fromEntity).collect(Collectors.toList());
+    }
+}
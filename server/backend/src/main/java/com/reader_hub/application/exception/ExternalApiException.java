@@ -7,18 +7,35 @@ package com.reader_hub.application.exception;
 public class ExternalApiException extends RuntimeException {
 
     private final String serviceName;
+    private final int statusCode;
 
     public ExternalApiException(String serviceName, String message) {
         super(String.format("Erro ao comunicar com %s: %s", serviceName, message));
         this.serviceName = serviceName;
+        this.statusCode = -1;
     }
 
     public ExternalApiException(String serviceName, String message, Throwable cause) {
         super(String.format("Erro ao comunicar com %s: %s", serviceName, message), cause);
         this.serviceName = serviceName;
+        this.statusCode = -1;
+    }
+
+    public ExternalApiException(String serviceName, String message, int statusCode) {
+        super(String.format("Erro ao comunicar com %s: %s", serviceName, message));
+        this.serviceName = serviceName;
+        this.statusCode = statusCode;
     }
 
     public String getServiceName() {
         return serviceName;
     }
+
+    /**
+     * Status HTTP devolvido pelo serviço externo, ou -1 quando a falha
+     * aconteceu antes de existir resposta (timeout, conexão recusada...).
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
 }
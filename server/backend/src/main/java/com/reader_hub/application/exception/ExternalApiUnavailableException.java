@@ -0,0 +1,34 @@
+package com.reader_hub.application.exception;
+
+/**
+ * Chamada à API externa recusada localmente, sem tocar a rede: circuit breaker
+ * aberto ou bulkhead do endpoint lotado. Resulta em HTTP 503 (Service Unavailable)
+ * com Retry-After.
+ */
+public class ExternalApiUnavailableException extends ExternalApiException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public ExternalApiUnavailableException(String serviceName, Reason reason, String message, long retryAfterSeconds) {
+        super(serviceName, message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Sugestão de espera antes de tentar de novo (segundos).
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -2,6 +2,7 @@ package com.reader_hub.application.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -16,6 +17,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -127,6 +129,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * API externa indisponível: circuit breaker aberto ou bulkhead lotado (503)
+     */
+    @ExceptionHandler(ExternalApiUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleExternalApiUnavailableException(ExternalApiUnavailableException ex) {
+        log.warn("API externa indisponível ({}): {}", ex.getReason(), ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "Serviço externo temporariamente indisponível",
+                "Tente novamente em " + ex.getRetryAfterSeconds() + " segundos.",
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Pool de trabalho em segundo plano lotado (503)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Trabalho em segundo plano recusado: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "Serviço temporariamente sobrecarregado",
+                "Muitos jobs em andamento. Tente novamente em alguns instantes.",
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(error);
+    }
+
     /**
      * Erro de comunicação com API externa (502)
      */
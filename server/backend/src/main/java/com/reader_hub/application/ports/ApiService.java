@@ -3,23 +3,36 @@ package com.reader_hub.application.ports;
 import com.reader_hub.application.dto.*;
 import com.reader_hub.application.dto.ExternalMangaDto;
 
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ApiService {
     // Busca de mangas
     Optional<ExternalMangaDto> getMangaById(String id);
     List<ExternalMangaDto> searchMangas(String query, Integer limit, Integer offset);
     PaginatedDto<ExternalMangaDto> getMangas(Integer limit, Integer offset);
+    // Vários mangás pelo ids[] (até 100 por requisição), com cover_art incluído
+    List<ExternalMangaDto> getMangasByIds(Collection<String> ids);
     
     // Busca de autores
     Optional<AuthorDto> getAuthorById(String id);
     PaginatedDto<AuthorDto> getAuthors(Integer limit, Integer offset);
+    List<AuthorDto> getAuthorsByIds(Collection<String> ids);
 
     // Busca de capítulos
     Optional<ChapterDto> getChapterById(String id);
     List<ChapterDto> getChaptersByMangaId(String mangaId, Integer limit, Integer offset);
+    StreamedPageDto streamChaptersByMangaId(String mangaId, Integer limit, Integer offset, Consumer<ChapterDto> consumer);
+    ChapterFeed openChapterFeed(String mangaId);
     List<String> getChapterPages(String chapterId);
+    Optional<ChapterDto.ChapterPagesDto> getAtHomeServer(String chapterId);
+    
+    // Download de arquivos (páginas, capas) direto para o disco; devolve o Content-Type
+    String downloadFile(String url, Path target);
     
     // Busca de capas
     String getMangaCoverUrl(String mangaId);
@@ -27,4 +40,11 @@ public interface ApiService {
     // Métodos adicionais para busca especializada
     PaginatedDto<ExternalMangaDto> getPopularMangas(Integer limit, Integer offset);
     PaginatedDto<ExternalMangaDto> getRecentMangas(Integer limit, Integer offset);
+
+    // Catálogo em ordem de criação (createdAt crescente) a partir de um instante; base do crawl com cursor
+    PaginatedDto<ExternalMangaDto> getMangasCreatedSince(OffsetDateTime since, Integer limit, Integer offset);
+
+    // Alterações desde um instante (updatedAt crescente); base do delta sync
+    PaginatedDto<ExternalMangaDto> getMangasUpdatedSince(OffsetDateTime since, Integer limit, Integer offset);
+    PaginatedDto<ChapterDto> getChaptersUpdatedSince(OffsetDateTime since, Integer limit, Integer offset);
 }
\ No newline at end of file
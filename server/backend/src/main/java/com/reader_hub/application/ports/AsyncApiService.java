@@ -0,0 +1,48 @@
+package com.reader_hub.application.ports;
+
+import com.reader_hub.application.dto.*;
+import com.reader_hub.application.dto.ExternalMangaDto;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante assíncrona de {@link ApiService}.
+ * Os futures completam na thread de I/O do cliente HTTP, então controllers podem
+ * devolvê-los diretamente (async servlet) sem segurar uma thread do Tomcat.
+ */
+public interface AsyncApiService {
+    // Busca de mangas
+    CompletableFuture<Optional<ExternalMangaDto>> getMangaByIdAsync(String id);
+    CompletableFuture<List<ExternalMangaDto>> searchMangasAsync(String query, Integer limit, Integer offset);
+    CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasAsync(Integer limit, Integer offset);
+    CompletableFuture<List<ExternalMangaDto>> getMangasByIdsAsync(Collection<String> ids);
+
+    // Busca de autores
+    CompletableFuture<Optional<AuthorDto>> getAuthorByIdAsync(String id);
+    CompletableFuture<PaginatedDto<AuthorDto>> getAuthorsAsync(Integer limit, Integer offset);
+    CompletableFuture<List<AuthorDto>> getAuthorsByIdsAsync(Collection<String> ids);
+
+    // Busca de capítulos
+    CompletableFuture<Optional<ChapterDto>> getChapterByIdAsync(String id);
+    CompletableFuture<List<ChapterDto>> getChaptersByMangaIdAsync(String mangaId, Integer limit, Integer offset);
+    CompletableFuture<List<String>> getChapterPagesAsync(String chapterId);
+    CompletableFuture<Optional<ChapterDto.ChapterPagesDto>> getAtHomeServerAsync(String chapterId);
+
+    // Download de arquivos (páginas, capas) direto para o disco; devolve o Content-Type
+    CompletableFuture<String> downloadFileAsync(String url, Path target);
+
+    // Busca de capas
+    CompletableFuture<String> getMangaCoverUrlAsync(String mangaId);
+
+    // Métodos adicionais para busca especializada
+    CompletableFuture<PaginatedDto<ExternalMangaDto>> getPopularMangasAsync(Integer limit, Integer offset);
+    CompletableFuture<PaginatedDto<ExternalMangaDto>> getRecentMangasAsync(Integer limit, Integer offset);
+    CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasCreatedSinceAsync(OffsetDateTime since, Integer limit, Integer offset);
+    CompletableFuture<PaginatedDto<ExternalMangaDto>> getMangasUpdatedSinceAsync(OffsetDateTime since, Integer limit, Integer offset);
+    CompletableFuture<PaginatedDto<ChapterDto>> getChaptersUpdatedSinceAsync(OffsetDateTime since, Integer limit, Integer offset);
+}
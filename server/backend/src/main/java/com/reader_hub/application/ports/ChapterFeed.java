@@ -0,0 +1,45 @@
+package com.reader_hub.application.ports;
+
+import com.reader_hub.application.dto.ChapterDto;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Feed completo de capítulos de um manga, percorrido de forma preguiçosa
+ * página por página. A próxima página é buscada enquanto a atual é consumida.
+ *
+ * Deve ser fechado ao final (try-with-resources) para liberar a busca em andamento.
+ */
+public interface ChapterFeed extends Iterator<ChapterDto>, AutoCloseable {
+
+    /**
+     * Total de capítulos informado pela API, ou -1 enquanto a primeira página não terminou.
+     */
+    int getTotal();
+
+    /**
+     * Quantos capítulos já foram entregues por {@link #next()}.
+     */
+    int getConsumed();
+
+    /**
+     * Quantos capítulos ainda faltam, ou -1 enquanto o total é desconhecido.
+     */
+    default int getRemaining() {
+        int total = getTotal();
+        return total < 0 ? -1 : Math.max(0, total - getConsumed());
+    }
+
+    default Stream<ChapterDto> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,408 @@
+package com.reader_hub.application.sse;
+
+import com.reader_hub.application.config.DaemonThreadFactory;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Distribui progresso de tarefas longas para vários assinantes SSE sem
+ * segurar quem produz.
+ *
+ * Quem publica só troca uma referência em memória: progressos seguidos do
+ * mesmo tópico são agrupados e apenas o último sai a cada
+ * {@code flush-interval-ms}, numa thread própria. Cada evento recebe um ID
+ * crescente por tópico e os últimos {@code history-size} ficam guardados, então
+ * um cliente que reconecta com {@code Last-Event-ID} recebe o que perdeu. Um
+ * tópico finalizado continua disponível por {@code retention-ms} e é descartado
+ * depois disso (ou quando fica esse tempo sem assinantes nem publicações).
+ *
+ * Quem produz pode registrar um {@link #onClose(String, Runnable) gancho de
+ * encerramento} (ex.: cancelar a assinatura do job). Ele roda uma única vez,
+ * quando o último assinante sai ou quando o tópico é descartado ou reaberto;
+ * um tópico em andamento com gancho é fechado junto com o último assinante,
+ * para que o próximo reabra com uma ponte nova.
+ */
+@Slf4j
+public class ProgressBroadcaster {
+
+    public static final String PROGRESS = "progress";
+
+    private final int historySize;
+    private final long retentionMs;
+    private final long emitterTimeoutMs;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService dispatcher;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+
+    public ProgressBroadcaster(long flushIntervalMs, int historySize, long retentionMs, long emitterTimeoutMs) {
+        this(historySize, retentionMs, emitterTimeoutMs, System::currentTimeMillis,
+                Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("sse-progress")));
+        long interval = Math.max(10, flushIntervalMs);
+        dispatcher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    ProgressBroadcaster(int historySize, long retentionMs, long emitterTimeoutMs, LongSupplier clock,
+                        ScheduledExecutorService dispatcher) {
+        this.historySize = Math.max(1, historySize);
+        this.retentionMs = Math.max(0, retentionMs);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.clock = clock;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Para o envio e encerra os assinantes (desligamento da aplicação).
+     */
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        topics.values().forEach(topic -> {
+            topic.sinks.forEach(Sink::complete);
+            topic.close();
+        });
+        topics.clear();
+    }
+
+    /**
+     * Destino de eventos de um assinante (o SseEmitter em produção).
+     */
+    interface Sink {
+        void send(Event event) throws IOException;
+
+        void complete();
+    }
+
+    public record Event(long id, String name, Object data) {
+    }
+
+    // =================== PUBLICAÇÃO ===================
+
+    /**
+     * Abre o tópico se não houver um em andamento.
+     *
+     * @return {@code true} se o tópico foi criado agora (quem chamou deve produzir os eventos)
+     */
+    public boolean open(String topic) {
+        boolean[] created = {false};
+        Topic[] replaced = {null};
+        topics.compute(topic, (key, current) -> {
+            if (current != null && !current.finished) {
+                return current;
+            }
+            created[0] = true;
+            replaced[0] = current;
+            return new Topic(clock.getAsLong());
+        });
+        if (replaced[0] != null) {
+            replaced[0].close();
+        }
+        return created[0];
+    }
+
+    /**
+     * Registra o que liberar quando o tópico deixar de ser usado. Se o tópico já
+     * não existe, roda na hora.
+     */
+    public void onClose(String topic, Runnable hook) {
+        Topic current = topics.get(topic);
+        if (current == null) {
+            runHook(hook);
+            return;
+        }
+        current.onClose.set(hook);
+        // Descartado enquanto registrava: não fica para trás
+        if (topics.get(topic) != current) {
+            current.close();
+        }
+    }
+
+    public boolean isActive(String topic) {
+        Topic current = topics.get(topic);
+        return current != null && !current.finished;
+    }
+
+    /**
+     * Descarta um tópico aberto que não chegou a produzir (ex.: tarefa recusada pelo pool).
+     */
+    public void discard(String topic) {
+        Topic removed = topics.remove(topic);
+        if (removed != null) {
+            removed.sinks.forEach(Sink::complete);
+            removed.close();
+        }
+    }
+
+    /**
+     * Progresso agrupado: só o último valor até o próximo envio é entregue.
+     */
+    public void progress(String topic, Object data) {
+        Topic current = topics.get(topic);
+        if (current != null && !current.finishRequested) {
+            current.pendingProgress.set(data);
+            current.lastActivityAt = clock.getAsLong();
+            published.incrementAndGet();
+        }
+    }
+
+    /**
+     * Evento final: entregue depois do último progresso e encerra os assinantes.
+     */
+    public void finish(String topic, String name, Object data) {
+        Topic current = topics.get(topic);
+        if (current != null && !current.finishRequested) {
+            current.finishRequested = true;
+            current.pendingEvents.add(new Pending(name, data, true));
+            current.lastActivityAt = clock.getAsLong();
+            published.incrementAndGet();
+        }
+    }
+
+    // =================== ASSINATURA ===================
+
+    /**
+     * Assina o tópico. Sem {@code lastEventId} recebe só o último evento (estado
+     * atual); com ele, os eventos guardados posteriores a esse ID.
+     */
+    public SseEmitter subscribe(String topic, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Sink sink = new EmitterSink(emitter);
+        subscribe(topic, parseEventId(lastEventId), sink);
+        emitter.onCompletion(() -> unsubscribe(topic, sink));
+        emitter.onTimeout(() -> unsubscribe(topic, sink));
+        emitter.onError(error -> unsubscribe(topic, sink));
+        return emitter;
+    }
+
+    void subscribe(String topic, Long lastEventId, Sink sink) {
+        Topic current = topics.get(topic);
+        if (current == null) {
+            throw new ResourceNotFoundException("Nenhum progresso disponível para " + topic);
+        }
+        synchronized (current) {
+            List<Event> replay = new ArrayList<>();
+            if (lastEventId == null) {
+                if (!current.history.isEmpty()) {
+                    replay.add(current.history.peekLast());
+                }
+            } else {
+                current.history.stream().filter(event -> event.id() > lastEventId).forEach(replay::add);
+            }
+            try {
+                for (Event event : replay) {
+                    sink.send(event);
+                }
+            } catch (IOException e) {
+                sink.complete();
+                return;
+            }
+            if (current.finished) {
+                sink.complete();
+                return;
+            }
+            current.sinks.add(sink);
+            current.lastActivityAt = clock.getAsLong();
+        }
+    }
+
+    void unsubscribe(String topic, Sink sink) {
+        Topic current = topics.get(topic);
+        if (current != null) {
+            removeSink(topic, current, sink);
+        }
+    }
+
+    private void removeSink(String key, Topic topic, Sink sink) {
+        if (!topic.sinks.remove(sink) || topic.onClose.get() == null) {
+            return;
+        }
+        synchronized (topic) {
+            if (!topic.sinks.isEmpty()) {
+                return;
+            }
+            // Finalizado fica para a retenção; em andamento sai e o próximo assinante reabre
+            if (!topic.finishRequested) {
+                topics.remove(key, topic);
+            }
+        }
+        topic.close();
+    }
+
+    public int subscriberCount() {
+        return topics.values().stream().mapToInt(topic -> topic.sinks.size()).sum();
+    }
+
+    public int topicCount() {
+        return topics.size();
+    }
+
+    public long publishedCount() {
+        return published.get();
+    }
+
+    public long sentCount() {
+        return sent.get();
+    }
+
+    // =================== ENVIO ===================
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao distribuir eventos de progresso: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Entrega o que está pendente em cada tópico e descarta os vencidos.
+     */
+    void flush() {
+        long now = clock.getAsLong();
+        topics.forEach((key, topic) -> {
+            List<Event> events;
+            List<Sink> sinks;
+            boolean completeSinks;
+            synchronized (topic) {
+                events = topic.drain();
+                sinks = List.copyOf(topic.sinks);
+                completeSinks = topic.finished && !events.isEmpty();
+                if (completeSinks) {
+                    topic.sinks.clear();
+                }
+            }
+            // I/O fora do lock: um cliente lento atrasa só esta thread, nunca quem publica
+            for (Sink sink : sinks) {
+                try {
+                    for (Event event : events) {
+                        sink.send(event);
+                        sent.incrementAndGet();
+                    }
+                    if (completeSinks) {
+                        sink.complete();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    removeSink(key, topic, sink);
+                    sink.complete();
+                }
+            }
+
+            boolean expiredFinished = topic.finished && now - topic.finishedAt >= retentionMs;
+            boolean idle = topic.sinks.isEmpty() && now - topic.lastActivityAt >= retentionMs
+                    && topic.pendingProgress.get() == null && topic.pendingEvents.isEmpty();
+            if ((expiredFinished || (idle && !topic.finishRequested)) && topics.remove(key, topic)) {
+                topic.close();
+            }
+        });
+    }
+
+    private static void runHook(Runnable hook) {
+        try {
+            hook.run();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao encerrar um tópico de progresso: {}", e.getMessage());
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private final class Topic {
+        private final AtomicReference<Object> pendingProgress = new AtomicReference<>();
+        private final Queue<Pending> pendingEvents = new ConcurrentLinkedQueue<>();
+        private final Deque<Event> history = new ArrayDeque<>();
+        private final List<Sink> sinks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Runnable> onClose = new AtomicReference<>();
+        private long sequence;
+        private volatile boolean finishRequested;
+        private volatile boolean finished;
+        private volatile long finishedAt;
+        private volatile long lastActivityAt;
+
+        private Topic(long createdAt) {
+            this.lastActivityAt = createdAt;
+        }
+
+        private void close() {
+            Runnable hook = onClose.getAndSet(null);
+            if (hook != null) {
+                runHook(hook);
+            }
+        }
+
+        // Chamado com o lock do tópico: numera e guarda o que vai sair agora
+        private List<Event> drain() {
+            List<Event> events = new ArrayList<>();
+            Object progress = pendingProgress.getAndSet(null);
+            if (progress != null) {
+                events.add(record(PROGRESS, progress));
+            }
+            Pending pending;
+            while ((pending = pendingEvents.poll()) != null) {
+                events.add(record(pending.name(), pending.data()));
+                if (pending.terminal()) {
+                    finished = true;
+                    finishedAt = clock.getAsLong();
+                }
+            }
+            return events;
+        }
+
+        private Event record(String name, Object data) {
+            Event event = new Event(++sequence, name, data);
+            history.addLast(event);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+            return event;
+        }
+    }
+
+    private record Pending(String name, Object data, boolean terminal) {
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements Sink {
+        @Override
+        public void send(Event event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
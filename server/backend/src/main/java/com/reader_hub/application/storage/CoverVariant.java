@@ -0,0 +1,54 @@
+package com.reader_hub.application.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Tamanhos fixos de miniatura de capa gerados pelo backend (largura em px, JPEG).
+ */
+public enum CoverVariant {
+    SMALL(256),
+    MEDIUM(512);
+
+    private final int width;
+
+    CoverVariant(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public static Optional<CoverVariant> fromWidth(int width) {
+        return Arrays.stream(values()).filter(variant -> variant.width == width).findFirst();
+    }
+
+    /**
+     * Caminho da variante para um manga. O parâmetro {@code v} identifica a URL
+     * de origem da capa atual, então a URL da variante muda quando a capa é
+     * trocada no MangaDex.
+     */
+    public String path(String mangaId, String coverUrl) {
+        return "/api/manga/local/" + mangaId + "/cover/" + width + "?v=" + version(coverUrl);
+    }
+
+    /**
+     * Versão da capa derivada da URL de origem (não dos bytes, que ainda podem não
+     * ter sido baixados quando a URL é montada). Arquivos de capa do MangaDex têm
+     * nome único por upload, mas isso não é garantido, então a resposta versionada
+     * usa max-age de um dia em vez de immutable.
+     */
+    public static String version(String coverUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(coverUrl.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
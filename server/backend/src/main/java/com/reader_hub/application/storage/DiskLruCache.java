@@ -0,0 +1,288 @@
+package com.reader_hub.application.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Cache de arquivos em disco limitado por tamanho, com despejo LRU.
+ *
+ * Cada chave vira um arquivo {@code <dir>/<ab>/<sha256>.<ext>}; a ordem de
+ * acesso fica só no índice em memória, e na inicialização é reconstruída pela
+ * data de gravação dos arquivos. Acertos não tocam o arquivo, então mtime e
+ * validadores HTTP derivados dele ficam estáveis. Arquivos são escritos num
+ * temporário e movidos atomicamente, então leitores nunca veem arquivo parcial.
+ * Misses simultâneos da mesma chave disparam um único carregamento.
+ */
+@Slf4j
+public class DiskLruCache {
+
+    /**
+     * Escreve o conteúdo da entrada no arquivo temporário informado.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        void write(Path target) throws IOException;
+    }
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private final String name;
+    private final Path root;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(1024, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> loading = new ConcurrentHashMap<>();
+    private long sizeBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DiskLruCache(String name, Path root, long maxBytes) {
+        this.name = name;
+        this.root = root.toAbsolutePath();
+        this.maxBytes = Math.max(0, maxBytes);
+        try {
+            Files.createDirectories(this.root.resolve(TEMP_DIR));
+            rebuildIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível preparar o cache em disco " + this.root, e);
+        }
+        log.info("Cache em disco '{}' em {}: {} arquivos, {} MB de {} MB", name, this.root,
+                index.size(), sizeBytes / (1024 * 1024), this.maxBytes / (1024 * 1024));
+    }
+
+    /**
+     * Arquivo da chave, se estiver em cache.
+     */
+    public Optional<Path> get(String key, String extension) {
+        String fileName = fileName(key, extension);
+        Entry entry;
+        synchronized (this) {
+            entry = index.get(fileName);
+        }
+        if (entry == null || !Files.exists(entry.path())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.path());
+    }
+
+    /**
+     * Arquivo da chave, carregando via {@code loader} em caso de miss.
+     */
+    public Path getOrLoad(String key, String extension, Loader loader) throws IOException {
+        Optional<Path> cached = get(key, extension);
+        if (cached.isPresent()) {
+            hits.incrementAndGet();
+            return cached.get();
+        }
+
+        String fileName = fileName(key, extension);
+        CompletableFuture<Path> flight = new CompletableFuture<>();
+        CompletableFuture<Path> existing = loading.putIfAbsent(fileName, flight);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        misses.incrementAndGet();
+        try {
+            Path path = load(fileName, loader);
+            flight.complete(path);
+            return path;
+        } catch (IOException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(fileName, flight);
+        }
+    }
+
+    public void invalidate(String key, String extension) {
+        String fileName = fileName(key, extension);
+        Entry entry;
+        synchronized (this) {
+            entry = index.remove(fileName);
+            if (entry != null) {
+                sizeBytes -= entry.size();
+            }
+        }
+        if (entry != null) {
+            deleteQuietly(entry.path());
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public synchronized long sizeBytes() {
+        return sizeBytes;
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized int entryCount() {
+        return index.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    private Path load(String fileName, Loader loader) throws IOException {
+        Path temp = Files.createTempFile(root.resolve(TEMP_DIR), "load-", ".part");
+        try {
+            loader.write(temp);
+            Path target = root.resolve(fileName.substring(0, 2)).resolve(fileName);
+            Files.createDirectories(target.getParent());
+            move(temp, target);
+            long size = Files.size(target);
+            List<Path> evicted = register(fileName, new Entry(target, size));
+            evicted.forEach(DiskLruCache::deleteQuietly);
+            return target;
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private synchronized List<Path> register(String fileName, Entry entry) {
+        Entry previous = index.put(fileName, entry);
+        if (previous != null) {
+            sizeBytes -= previous.size();
+        }
+        sizeBytes += entry.size();
+
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> eldest = index.entrySet().iterator();
+        while (sizeBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> candidate = eldest.next();
+            if (candidate.getKey().equals(fileName)) {
+                continue;
+            }
+            sizeBytes -= candidate.getValue().size();
+            evicted.add(candidate.getValue().path());
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+        return evicted;
+    }
+
+    private void rebuildIndex() throws IOException {
+        record Found(String fileName, Path path, long size, FileTime lastModified) {
+        }
+        List<Found> found = new ArrayList<>();
+        try (Stream<Path> shards = Files.list(root)) {
+            for (Path shard : shards.filter(Files::isDirectory).toList()) {
+                if (shard.getFileName().toString().equals(TEMP_DIR)) {
+                    continue;
+                }
+                try (Stream<Path> files = Files.list(shard)) {
+                    for (Path file : files.toList()) {
+                        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        if (attributes.isRegularFile()) {
+                            found.add(new Found(file.getFileName().toString(), file, attributes.size(),
+                                    attributes.lastModifiedTime()));
+                        }
+                    }
+                }
+            }
+        }
+        // Temporários de downloads interrompidos
+        try (Stream<Path> leftovers = Files.list(root.resolve(TEMP_DIR))) {
+            leftovers.forEach(DiskLruCache::deleteQuietly);
+        }
+
+        found.sort(Comparator.comparing(Found::lastModified));
+        List<Path> evicted = new ArrayList<>();
+        synchronized (this) {
+            for (Found file : found) {
+                index.put(file.fileName(), new Entry(file.path(), file.size()));
+                sizeBytes += file.size();
+            }
+            Iterator<Map.Entry<String, Entry>> eldest = index.entrySet().iterator();
+            while (sizeBytes > maxBytes && eldest.hasNext()) {
+                Entry entry = eldest.next().getValue();
+                sizeBytes -= entry.size();
+                evicted.add(entry.path());
+                eldest.remove();
+            }
+        }
+        evicted.forEach(DiskLruCache::deleteQuietly);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Não foi possível apagar {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static Path join(CompletableFuture<Path> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    static String fileName(String key, String extension) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            String hex = HexFormat.of().formatHex(digest);
+            return extension == null || extension.isBlank() ? hex : hex + "." + extension;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Path path, long size) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * Checkpoint de um crawl do catálogo do MangaDex em ordem de criação.
+ *
+ * O cursor é o {@code createdAt} do último manga visto mais quantos mangas com
+ * esse mesmo instante já foram processados ({@code boundaryOffset}), então a
+ * próxima página nunca depende de offsets profundos. É gravado após cada página.
+ */
+@Entity
+@Table(name = "catalog_crawls", indexes = {
+    @Index(name = "idx_catalog_crawl_name", columnList = "name", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogCrawl {
+
+    public static final String DEFAULT_NAME = "mangadex-catalog";
+
+    public enum Status {
+        RUNNING,
+        PAUSED,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private Status status = Status.PAUSED;
+
+    @Column(name = "cursor_created_at")
+    private OffsetDateTime cursorCreatedAt;
+
+    @Column(name = "cursor_manga_id")
+    private String cursorMangaId;
+
+    @Column(name = "boundary_offset", nullable = false)
+    @Builder.Default
+    private int boundaryOffset = 0;
+
+    @Column(name = "pages_fetched", nullable = false)
+    @Builder.Default
+    private long pagesFetched = 0;
+
+    @Column(name = "mangas_seen", nullable = false)
+    @Builder.Default
+    private long mangasSeen = 0;
+
+    @Column(name = "mangas_saved", nullable = false)
+    @Builder.Default
+    private long mangasSaved = 0;
+
+    @Column(name = "authors_saved", nullable = false)
+    @Builder.Default
+    private long authorsSaved = 0;
+
+    @Column(name = "failed_pages", nullable = false)
+    @Builder.Default
+    private long failedPages = 0;
+
+    @Column(name = "total_remaining")
+    private Long totalRemaining;
+
+    // Orçamento da execução atual (null = até o fim do catálogo)
+    @Column(name = "run_limit")
+    private Integer runLimit;
+
+    @Column(name = "run_seen", nullable = false)
+    @Builder.Default
+    private int runSeen = 0;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = Instant.now();
+        updatedAt = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,73 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * Resultado de uma página do crawl do catálogo: cursor usado e o que foi gravado.
+ */
+@Entity
+@Table(name = "catalog_crawl_pages", indexes = {
+    @Index(name = "idx_catalog_crawl_page_crawl", columnList = "crawl_id, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogCrawlPage {
+
+    public enum Outcome {
+        IMPORTED,
+        // Página buscada, mas parte dos mangás não foi gravada
+        PARTIAL,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "crawl_id", nullable = false)
+    private String crawlId;
+
+    @Column(name = "cursor_created_at")
+    private OffsetDateTime cursorCreatedAt;
+
+    @Column(name = "cursor_offset", nullable = false)
+    private int cursorOffset;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Outcome outcome;
+
+    @Column(nullable = false)
+    private int fetched;
+
+    @Column(name = "mangas_saved", nullable = false)
+    private int mangasSaved;
+
+    @Column(name = "authors_saved", nullable = false)
+    private int authorsSaved;
+
+    @Column(nullable = false)
+    private int failures;
+
+    @Column(length = 2000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = Instant.now();
+    }
+}
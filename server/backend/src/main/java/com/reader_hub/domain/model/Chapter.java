@@ -13,12 +13,15 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "chapters")
+@Table(name = "chapters", indexes = {
+    // Chave natural usada pela gravação em lote (ON CONFLICT DO NOTHING)
+    @Index(name = "idx_chapter_natural_key", columnList = "manga_id, chapter, language", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(exclude = {"manga", "images"})
+@ToString(exclude = {"manga", "images", "pageFiles", "pageUrls"})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Chapter {
     
@@ -49,10 +52,28 @@ public class Chapter {
     private Integer views;
     private Integer comments;
     
+    /**
+     * URLs absolutas gravadas por versões antigas. O baseUrl do at-home expira,
+     * então não são mais gravadas; hoje vale {@link #pageHash} + {@link #pageFiles}.
+     */
     @ElementCollection
     @CollectionTable(name = "chapter_images", joinColumns = @JoinColumn(name = "chapter_id"))
     @Column(name = "image_url")
     private List<String> images;
+
+    @Column(name = "page_hash")
+    private String pageHash;
+
+    @ElementCollection
+    @CollectionTable(name = "chapter_page_files", joinColumns = @JoinColumn(name = "chapter_id"))
+    @OrderColumn(name = "page_index")
+    private List<ChapterPageFile> pageFiles;
+
+    /**
+     * URLs das páginas montadas na leitura (baseUrl atual + hash + arquivo); não persistidas.
+     */
+    @Transient
+    private List<String> pageUrls;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "manga_id")
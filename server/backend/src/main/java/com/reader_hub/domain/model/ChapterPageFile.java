@@ -0,0 +1,24 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Arquivo de uma página no MangaDex: nome no conjunto original e no comprimido
+ * (data-saver). Junto com o hash do capítulo forma a URL, montada na leitura.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChapterPageFile {
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "data_saver_file_name")
+    private String dataSaverFileName;
+}
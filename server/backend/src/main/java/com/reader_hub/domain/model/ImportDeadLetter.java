@@ -0,0 +1,51 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Item de importação que esgotou as tentativas (ou não existe mais no MangaDex).
+ * Fica aqui até ser reenviado à fila ou descartado pelo operador.
+ */
+@Entity
+@Table(name = "import_dead_letters", indexes = {
+    @Index(name = "idx_import_dead_letter_target", columnList = "operation, api_id", unique = true),
+    @Index(name = "idx_import_dead_letter_dead_at", columnList = "dead_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportRetry.Operation operation;
+
+    @Column(name = "api_id", nullable = false)
+    private String apiId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    // Quando a primeira falha foi registrada
+    @Column(name = "first_failed_at", nullable = false)
+    private Instant firstFailedAt;
+
+    @Column(name = "dead_at", nullable = false)
+    private Instant deadAt;
+}
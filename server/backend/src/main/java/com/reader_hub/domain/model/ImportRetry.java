@@ -0,0 +1,77 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Item de importação que falhou e será tentado de novo (backoff exponencial).
+ * Há no máximo um item por operação e apiId; após o limite de tentativas ele
+ * vai para {@link ImportDeadLetter}.
+ */
+@Entity
+@Table(name = "import_retries", indexes = {
+    @Index(name = "idx_import_retry_target", columnList = "operation, api_id", unique = true),
+    @Index(name = "idx_import_retry_next_attempt", columnList = "next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRetry {
+
+    public enum Operation {
+        // Manga inteiro (busca pelo apiId e passa pelo pipeline)
+        MANGA,
+        AUTHOR,
+        // Capítulos de um manga já gravado (apiId do manga)
+        CHAPTERS,
+        // Capa de um manga já gravado (apiId do manga)
+        COVER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Operation operation;
+
+    @Column(name = "api_id", nullable = false)
+    private String apiId;
+
+    // Tentativas de reprocessamento já feitas (a falha original não conta)
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = Instant.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
@@ -58,6 +58,14 @@ public class Manga {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
     
+    // updatedAt do MangaDex na última importação/sincronização (base do delta sync)
+    @Column(name = "source_updated_at")
+    private OffsetDateTime sourceUpdatedAt;
+    
+    // Última importação completa do feed de capítulos (mangas mais antigos que o limite são reimportados)
+    @Column(name = "chapters_synced_at")
+    private OffsetDateTime chaptersSyncedAt;
+    
     @Column(columnDefinition = "integer")
     private Integer views;
     
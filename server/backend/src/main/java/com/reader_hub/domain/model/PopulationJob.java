@@ -0,0 +1,125 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Execução de uma importação em segundo plano: parâmetros, progresso,
+ * contadores e erro ficam gravados para consulta depois do fim da requisição.
+ */
+@Entity
+@Table(name = "population_jobs", indexes = {
+    @Index(name = "idx_population_job_status", columnList = "status"),
+    @Index(name = "idx_population_job_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PopulationJob {
+
+    public static final int MAX_MESSAGE_LENGTH = 500;
+    public static final int MAX_ERROR_LENGTH = 2000;
+
+    public enum Type {
+        POPULAR_MANGAS,
+        COMPLETE_POPULAR,
+        UPDATE_COVER_IMAGES,
+        CHAPTERS,
+        DELTA_SYNC,
+        DUMP_INGEST,
+        IMPORT_RETRY
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    @Builder.Default
+    private Map<String, String> parameters = new HashMap<>();
+
+    @Column(name = "progress_current", nullable = false)
+    @Builder.Default
+    private int progressCurrent = 0;
+
+    @Column(name = "progress_total", nullable = false)
+    @Builder.Default
+    private int progressTotal = 0;
+
+    @Column(name = "mangas_saved", nullable = false)
+    @Builder.Default
+    private int mangasSaved = 0;
+
+    @Column(name = "authors_saved", nullable = false)
+    @Builder.Default
+    private int authorsSaved = 0;
+
+    @Column(name = "chapters_saved", nullable = false)
+    @Builder.Default
+    private int chaptersSaved = 0;
+
+    @Column(name = "total_found")
+    private Long totalFound;
+
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @Column(name = "cancel_requested", nullable = false)
+    @Builder.Default
+    private boolean cancelRequested = false;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = Instant.now();
+    }
+
+    public int getPercentage() {
+        return progressTotal > 0 ? (int) Math.min(100, Math.round((double) progressCurrent / progressTotal * 100)) : 0;
+    }
+}
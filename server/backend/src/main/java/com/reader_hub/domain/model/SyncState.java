@@ -0,0 +1,65 @@
+package com.reader_hub.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * High-water mark do delta sync de um fluxo (mangas ou capítulos): até onde
+ * as alterações do MangaDex já foram aplicadas e como foi a última execução.
+ */
+@Entity
+@Table(name = "sync_states")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncState {
+
+    public static final String MANGAS = "mangas";
+    public static final String CHAPTERS = "chapters";
+
+    @Id
+    @Column(length = 32)
+    private String stream;
+
+    // updatedAt do último item aplicado (precisão de segundos) + empates já vistos nesse instante
+    @Column(name = "cursor_at", nullable = false)
+    private OffsetDateTime cursorAt;
+
+    @Column(name = "cursor_id")
+    private String cursorId;
+
+    @Column(name = "boundary_offset", nullable = false)
+    @Builder.Default
+    private int boundaryOffset = 0;
+
+    @Column(name = "last_run_at")
+    private Instant lastRunAt;
+
+    // Início da última execução que chegou ao fim do feed: tudo antes disso já foi aplicado
+    @Column(name = "caught_up_at")
+    private Instant caughtUpAt;
+
+    @Column(name = "last_pages", nullable = false)
+    @Builder.Default
+    private int lastPages = 0;
+
+    @Column(name = "last_changed", nullable = false)
+    @Builder.Default
+    private int lastChanged = 0;
+
+    @Column(name = "total_changed", nullable = false)
+    @Builder.Default
+    private long totalChanged = 0;
+
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+}
@@ -0,0 +1,22 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.Author;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Gravação de autores pela chave natural (apiId) numa única instrução, sem
+ * consulta prévia: seguro quando várias importações trazem o mesmo autor ao
+ * mesmo tempo.
+ */
+public interface AuthorBulkRepository {
+
+    /**
+     * Insere os autores cujo apiId ainda não existe; os já gravados ficam como
+     * estão. Autores novos recebem um ID gerado aqui (também setado no objeto).
+     *
+     * @return ID local de cada apiId informado, novo ou já existente
+     */
+    Map<String, String> upsertAll(Collection<Author> authors);
+}
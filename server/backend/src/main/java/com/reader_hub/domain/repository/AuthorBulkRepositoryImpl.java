@@ -0,0 +1,161 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.Author;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * No PostgreSQL usa {@code INSERT ... ON CONFLICT (api_id) DO NOTHING RETURNING}
+ * com várias linhas por instrução: o {@code RETURNING} traz só as linhas inseridas,
+ * sem reescrever (nem travar para escrita) as que já existiam, e os IDs delas vêm
+ * de um {@code SELECT ... IN} com os apiIds que faltaram. Nos demais bancos (H2 nos
+ * testes e no perfil local) usa {@code MERGE ... WHEN NOT MATCHED THEN INSERT} em
+ * lote e lê todos os IDs com o mesmo {@code SELECT}.
+ *
+ * As linhas seguem ordenadas por apiId, então transações concorrentes disputam os
+ * registros do índice sempre na mesma ordem e não entram em deadlock.
+ */
+@Slf4j
+public class AuthorBulkRepositoryImpl implements AuthorBulkRepository {
+
+    // 7 parâmetros por linha: bem abaixo do limite de 65535 do protocolo do PostgreSQL
+    static final int CHUNK_SIZE = 500;
+
+    private static final String COLUMNS = "id, api_id, name, biography_en, biography_pt_br, created_at, updated_at";
+    private static final String VALUES = "?, ?, ?, ?, ?, ?, ?";
+    private static final int[] VALUE_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE};
+
+    static final String POSTGRES_UPSERT_PREFIX = "INSERT INTO authors (" + COLUMNS + ") VALUES ";
+    static final String POSTGRES_UPSERT_SUFFIX = " ON CONFLICT (api_id) DO NOTHING RETURNING api_id, id";
+    static final String PORTABLE_MERGE = "MERGE INTO authors t USING (SELECT "
+            + "CAST(? AS VARCHAR) id, CAST(? AS VARCHAR) api_id, CAST(? AS VARCHAR) name, "
+            + "CAST(? AS VARCHAR) biography_en, CAST(? AS VARCHAR) biography_pt_br, "
+            + "CAST(? AS TIMESTAMP WITH TIME ZONE) created_at, CAST(? AS TIMESTAMP WITH TIME ZONE) updated_at) s "
+            + "ON t.api_id = s.api_id "
+            + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES "
+            + "(s.id, s.api_id, s.name, s.biography_en, s.biography_pt_br, s.created_at, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    public AuthorBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, String> upsertAll(Collection<Author> authors) {
+        // Um apiId por instrução: o primeiro vence, como no DO NOTHING
+        Map<String, Author> byApiId = new LinkedHashMap<>();
+        for (Author author : authors) {
+            if (author.getApiId() != null) {
+                byApiId.putIfAbsent(author.getApiId(), author);
+            }
+        }
+        if (byApiId.isEmpty()) {
+            return Map.of();
+        }
+        entityManager.flush();
+
+        boolean onConflict = isPostgres();
+        List<Author> distinct = new ArrayList<>(byApiId.values());
+        distinct.sort(Comparator.comparing(Author::getApiId));
+        Map<String, String> idByApiId = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<Author> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            List<Object[]> rows = chunk.stream().map(AuthorBulkRepositoryImpl::row).toList();
+            if (onConflict) {
+                insertReturning(rows, idByApiId);
+            } else {
+                jdbcTemplate.batchUpdate(PORTABLE_MERGE, rows, VALUE_TYPES);
+            }
+            // Quem já existia não volta no RETURNING (e o MERGE não devolve nada)
+            List<String> unresolved = chunk.stream()
+                    .map(Author::getApiId)
+                    .filter(apiId -> !idByApiId.containsKey(apiId))
+                    .toList();
+            if (!unresolved.isEmpty()) {
+                selectIds(unresolved, idByApiId);
+            }
+        }
+        log.debug("Upsert de {} autores: {} IDs resolvidos", distinct.size(), idByApiId.size());
+        return idByApiId;
+    }
+
+    private void insertReturning(List<Object[]> rows, Map<String, String> idByApiId) {
+        String sql = POSTGRES_UPSERT_PREFIX
+                + String.join(", ", Collections.nCopies(rows.size(), "(" + VALUES + ")"))
+                + POSTGRES_UPSERT_SUFFIX;
+        jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (Object[] row : rows) {
+                index = bind(ps, index, row);
+            }
+        }, (RowCallbackHandler) rs -> idByApiId.put(rs.getString(1), rs.getString(2)));
+    }
+
+    private void selectIds(List<String> apiIds, Map<String, String> idByApiId) {
+        String sql = "SELECT api_id, id FROM authors WHERE api_id IN ("
+                + String.join(", ", Collections.nCopies(apiIds.size(), "?")) + ")";
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> idByApiId.put(rs.getString(1), rs.getString(2)),
+                apiIds.toArray());
+    }
+
+    private static int bind(PreparedStatement ps, int index, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            ps.setObject(index++, row[i], VALUE_TYPES[i]);
+        }
+        return index;
+    }
+
+    private static Object[] row(Author author) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (author.getId() == null) {
+            author.setId(UUID.randomUUID().toString());
+        }
+        // Mesmos padrões do @PrePersist da entidade
+        if (author.getCreatedAt() == null) {
+            author.setCreatedAt(now);
+        }
+        if (author.getUpdatedAt() == null) {
+            author.setUpdatedAt(now);
+        }
+        String biographyEn = author.getBiography() != null ? author.getBiography().getEn() : null;
+        String biographyPtBr = author.getBiography() != null ? author.getBiography().getPt_BR() : null;
+        return new Object[]{author.getId(), author.getApiId(), author.getName(), biographyEn, biographyPtBr,
+                author.getCreatedAt(), author.getUpdatedAt()};
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = cached;
+        }
+        return cached;
+    }
+}
@@ -6,11 +6,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface AuthorRepository extends JpaRepository<Author, String> {
+public interface AuthorRepository extends JpaRepository<Author, String>, AuthorBulkRepository {
     
     Optional<Author> findByName(String name);
     
@@ -23,5 +25,11 @@ public interface AuthorRepository extends JpaRepository<Author, String> {
     @Query("SELECT a FROM Author a WHERE a.apiId = :apiId")
     Optional<Author> findByApiId(@Param("apiId") String apiId);
     
+    @Query("SELECT a.apiId FROM Author a WHERE a.apiId IN :apiIds")
+    Set<String> findExistingApiIds(@Param("apiIds") Collection<String> apiIds);
+
+    @Query("SELECT a FROM Author a WHERE a.apiId IN :apiIds")
+    List<Author> findAllByApiIds(@Param("apiIds") Collection<String> apiIds);
+
     boolean existsByName(String name);
 }
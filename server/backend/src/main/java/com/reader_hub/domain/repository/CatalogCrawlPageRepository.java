@@ -0,0 +1,13 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.CatalogCrawlPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogCrawlPageRepository extends JpaRepository<CatalogCrawlPage, String> {
+
+    List<CatalogCrawlPage> findTop50ByCrawlIdOrderByCreatedAtDesc(String crawlId);
+}
@@ -0,0 +1,13 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.CatalogCrawl;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogCrawlRepository extends JpaRepository<CatalogCrawl, String> {
+
+    Optional<CatalogCrawl> findByName(String name);
+}
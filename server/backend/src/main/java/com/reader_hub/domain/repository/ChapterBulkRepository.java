@@ -0,0 +1,20 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.Chapter;
+
+import java.util.List;
+
+/**
+ * Gravação em lote de capítulos, fora do ciclo de vida do persistence context.
+ */
+public interface ChapterBulkRepository {
+
+    /**
+     * Insere os capítulos em lotes JDBC, ignorando os que já existem pela chave
+     * natural (manga, número, idioma). Os capítulos precisam ter o manga
+     * definido; IDs ausentes são gerados aqui.
+     *
+     * @return quantos capítulos foram de fato inseridos
+     */
+    int insertIgnoringExisting(List<Chapter> chapters);
+}
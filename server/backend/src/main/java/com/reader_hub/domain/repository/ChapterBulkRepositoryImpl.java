@@ -0,0 +1,129 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.Chapter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * No PostgreSQL usa {@code INSERT ... ON CONFLICT DO NOTHING} sobre o índice
+ * único da chave natural; nos demais bancos (H2 nos testes e no perfil local)
+ * usa {@code INSERT ... SELECT ... WHERE NOT EXISTS}. Em ambos, um lote inteiro
+ * vai ao banco numa ida só ({@code hibernate.jdbc.batch_size} não se aplica).
+ */
+@Slf4j
+public class ChapterBulkRepositoryImpl implements ChapterBulkRepository {
+
+    private static final String COLUMNS = "id, api_id, title, volume, chapter, pages, language, published_at, "
+            + "created_at, updated_at, readable_at, views, comments, manga_id";
+    private static final String VALUES = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+    private static final int[] VALUE_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE,
+            Types.TIMESTAMP_WITH_TIMEZONE, Types.INTEGER, Types.INTEGER, Types.VARCHAR};
+
+    static final String POSTGRES_INSERT = "INSERT INTO chapters (" + COLUMNS + ") VALUES (" + VALUES + ") "
+            + "ON CONFLICT (manga_id, chapter, language) DO NOTHING";
+    static final String PORTABLE_INSERT = "INSERT INTO chapters (" + COLUMNS + ") SELECT " + VALUES + " "
+            + "WHERE NOT EXISTS (SELECT 1 FROM chapters WHERE manga_id = ? AND chapter = ? AND language = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    public ChapterBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertIgnoringExisting(List<Chapter> chapters) {
+        if (chapters.isEmpty()) {
+            return 0;
+        }
+        // O manga (FK) e alterações pendentes da mesma transação precisam estar no banco
+        entityManager.flush();
+
+        boolean onConflict = isPostgres();
+        List<Object[]> rows = new ArrayList<>(chapters.size());
+        for (Chapter chapter : chapters) {
+            rows.add(row(chapter, onConflict));
+        }
+        int[] types = onConflict ? VALUE_TYPES : portableTypes();
+        int[] results = jdbcTemplate.batchUpdate(onConflict ? POSTGRES_INSERT : PORTABLE_INSERT, rows, types);
+
+        int inserted = 0;
+        for (int result : results) {
+            // SUCCESS_NO_INFO: o driver reescreveu o lote e não informa por linha
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                inserted++;
+            }
+        }
+        log.debug("Lote de {} capítulos gravado: {} inseridos", chapters.size(), inserted);
+        return inserted;
+    }
+
+    private static Object[] row(Chapter chapter, boolean onConflict) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (chapter.getId() == null) {
+            chapter.setId(UUID.randomUUID().toString());
+        }
+        // Mesmos padrões do @PrePersist da entidade
+        if (chapter.getCreatedAt() == null) {
+            chapter.setCreatedAt(now);
+        }
+        if (chapter.getUpdatedAt() == null) {
+            chapter.setUpdatedAt(now);
+        }
+        if (chapter.getViews() == null) {
+            chapter.setViews(0);
+        }
+        if (chapter.getComments() == null) {
+            chapter.setComments(0);
+        }
+        String mangaId = chapter.getManga().getId();
+        Object[] values = {
+                chapter.getId(), chapter.getApiId(), chapter.getTitle(), chapter.getVolume(), chapter.getChapter(),
+                chapter.getPages(), chapter.getLanguage(), chapter.getPublishedAt(), chapter.getCreatedAt(),
+                chapter.getUpdatedAt(), chapter.getReadableAt(), chapter.getViews(), chapter.getComments(), mangaId};
+        if (onConflict) {
+            return values;
+        }
+        Object[] withKey = new Object[values.length + 3];
+        System.arraycopy(values, 0, withKey, 0, values.length);
+        withKey[values.length] = mangaId;
+        withKey[values.length + 1] = chapter.getChapter();
+        withKey[values.length + 2] = chapter.getLanguage();
+        return withKey;
+    }
+
+    private static int[] portableTypes() {
+        int[] types = new int[VALUE_TYPES.length + 3];
+        System.arraycopy(VALUE_TYPES, 0, types, 0, VALUE_TYPES.length);
+        types[VALUE_TYPES.length] = Types.VARCHAR;
+        types[VALUE_TYPES.length + 1] = Types.VARCHAR;
+        types[VALUE_TYPES.length + 2] = Types.VARCHAR;
+        return types;
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = cached;
+        }
+        return cached;
+    }
+}
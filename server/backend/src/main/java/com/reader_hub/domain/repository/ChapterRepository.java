@@ -9,11 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ChapterRepository extends JpaRepository<Chapter, String> {
+public interface ChapterRepository extends JpaRepository<Chapter, String>, ChapterBulkRepository {
     
     List<Chapter> findByMangaOrderByChapterAsc(Manga manga);
     
@@ -30,12 +31,27 @@ public interface ChapterRepository extends JpaRepository<Chapter, String> {
     @Query("SELECT c FROM Chapter c LEFT JOIN FETCH c.images WHERE c.id = :id")
     Optional<Chapter> findByIdWithImages(@Param("id") String id);
     
+    @Query("SELECT c FROM Chapter c LEFT JOIN FETCH c.pageFiles WHERE c.id = :id")
+    Optional<Chapter> findByIdWithPageFiles(@Param("id") String id);
+    
     @Query("SELECT c FROM Chapter c WHERE c.manga.id = :mangaId AND c.chapter = :chapterNumber")
     Optional<Chapter> findByMangaIdAndChapterNumber(@Param("mangaId") String mangaId, @Param("chapterNumber") String chapterNumber);
+
+    @Query("SELECT c FROM Chapter c WHERE c.manga.id = :mangaId AND c.chapter = :chapterNumber AND c.language = :language")
+    Optional<Chapter> findByNaturalKey(@Param("mangaId") String mangaId, @Param("chapterNumber") String chapterNumber,
+                                       @Param("language") String language);
+
+    /**
+     * Chaves (número, idioma) já gravadas de um manga, para deduplicar importações em memória.
+     */
+    @Query("SELECT c.chapter, c.language FROM Chapter c WHERE c.manga.id = :mangaId")
+    List<Object[]> findChapterKeysByMangaId(@Param("mangaId") String mangaId);
     
     @Query("SELECT c FROM Chapter c ORDER BY c.publishedAt DESC")
     Page<Chapter> findLatestChapters(Pageable pageable);
     
     @Query("SELECT COUNT(c) FROM Chapter c WHERE c.manga.id = :mangaId")
     Long countByMangaId(@Param("mangaId") String mangaId);
+
+    List<Chapter> findByApiIdIn(Collection<String> apiIds);
 }
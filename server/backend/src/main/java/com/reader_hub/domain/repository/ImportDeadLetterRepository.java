@@ -0,0 +1,21 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.ImportDeadLetter;
+import com.reader_hub.domain.model.ImportRetry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportDeadLetterRepository extends JpaRepository<ImportDeadLetter, String> {
+
+    Optional<ImportDeadLetter> findByOperationAndApiId(ImportRetry.Operation operation, String apiId);
+
+    Page<ImportDeadLetter> findByOperation(ImportRetry.Operation operation, Pageable pageable);
+
+    List<ImportDeadLetter> findByOperation(ImportRetry.Operation operation);
+}
@@ -0,0 +1,21 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.ImportRetry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportRetryRepository extends JpaRepository<ImportRetry, String> {
+
+    Optional<ImportRetry> findByOperationAndApiId(ImportRetry.Operation operation, String apiId);
+
+    List<ImportRetry> findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(Instant now, Pageable pageable);
+
+    Page<ImportRetry> findByOperation(ImportRetry.Operation operation, Pageable pageable);
+}
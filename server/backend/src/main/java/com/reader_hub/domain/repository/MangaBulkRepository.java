@@ -0,0 +1,16 @@
+package com.reader_hub.domain.repository;
+
+import java.util.Map;
+
+/**
+ * Atualizações em lote de mangas, fora do ciclo de vida do persistence context.
+ */
+public interface MangaBulkRepository {
+
+    /**
+     * Grava a nova capa de cada manga (ID local → URL) num único lote JDBC.
+     *
+     * @return quantos mangas foram atualizados
+     */
+    int updateCoverImages(Map<String, String> coverImageById);
+}
@@ -0,0 +1,48 @@
+package com.reader_hub.domain.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um {@code UPDATE} por manga, todos enviados ao banco numa ida só.
+ */
+@Slf4j
+public class MangaBulkRepositoryImpl implements MangaBulkRepository {
+
+    static final String UPDATE_COVER = "UPDATE mangas SET cover_image = ?, updated_at = ? WHERE id = ?";
+    private static final int[] UPDATE_COVER_TYPES = {Types.VARCHAR, Types.TIMESTAMP_WITH_TIMEZONE, Types.VARCHAR};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MangaBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int updateCoverImages(Map<String, String> coverImageById) {
+        if (coverImageById.isEmpty()) {
+            return 0;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Object[]> rows = new ArrayList<>(coverImageById.size());
+        coverImageById.forEach((id, coverImage) -> rows.add(new Object[]{coverImage, now, id}));
+        int[] results = jdbcTemplate.batchUpdate(UPDATE_COVER, rows, UPDATE_COVER_TYPES);
+
+        int updated = 0;
+        for (int result : results) {
+            // SUCCESS_NO_INFO: o driver reescreveu o lote e não informa por linha
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                updated++;
+            }
+        }
+        log.debug("Lote de {} capas gravado: {} mangas atualizados", coverImageById.size(), updated);
+        return updated;
+    }
+}
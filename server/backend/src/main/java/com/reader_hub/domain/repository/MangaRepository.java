@@ -5,15 +5,19 @@ import com.reader_hub.domain.model.Author;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface MangaRepository extends JpaRepository<Manga, String> {
+public interface MangaRepository extends JpaRepository<Manga, String>, MangaBulkRepository {
     
     // =====================================
     // QUERIES BÁSICAS
@@ -29,6 +33,31 @@ public interface MangaRepository extends JpaRepository<Manga, String> {
     @Query("SELECT COUNT(m) > 0 FROM Manga m WHERE m.apiId = :apiId")
     boolean existsByApiId(@Param("apiId") String apiId);
     
+    @Query("SELECT m.apiId FROM Manga m WHERE m.apiId IN :apiIds")
+    Set<String> findExistingApiIds(@Param("apiIds") Collection<String> apiIds);
+
+    @Query("SELECT m.id FROM Manga m WHERE m.apiId IN :apiIds " +
+           "AND (m.chaptersSyncedAt IS NULL OR m.chaptersSyncedAt < :staleBefore)")
+    List<String> findChapterSyncTargets(@Param("apiIds") Collection<String> apiIds,
+                                        @Param("staleBefore") OffsetDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE Manga m SET m.chaptersSyncedAt = :syncedAt WHERE m.id = :id")
+    int markChaptersSynced(@Param("id") String id, @Param("syncedAt") OffsetDateTime syncedAt);
+
+    List<Manga> findByApiIdIn(Collection<String> apiIds);
+
+    /**
+     * Próximo trecho (id, apiId, coverImage) dos mangas vindos do MangaDex, em
+     * ordem de ID a partir de {@code afterId} (paginação por chave, sem OFFSET).
+     */
+    @Query("SELECT m.id, m.apiId, m.coverImage FROM Manga m " +
+           "WHERE m.id > :afterId AND m.apiId IS NOT NULL AND m.apiId NOT LIKE 'manual-%' ORDER BY m.id")
+    List<Object[]> findCoverRefreshChunk(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(m) FROM Manga m WHERE m.apiId IS NOT NULL AND m.apiId NOT LIKE 'manual-%'")
+    long countCoverRefreshTargets();
+    
     @Query("SELECT m FROM Manga m WHERE m.author.id = :authorId")
     List<Manga> findByAuthorId(@Param("authorId") String authorId);
     
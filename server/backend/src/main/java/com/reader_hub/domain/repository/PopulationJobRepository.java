@@ -0,0 +1,29 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.PopulationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface PopulationJobRepository extends JpaRepository<PopulationJob, String> {
+
+    List<PopulationJob> findTop20ByOrderByCreatedAtDesc();
+
+    List<PopulationJob> findTop20ByStatusOrderByCreatedAtDesc(PopulationJob.Status status);
+
+    /**
+     * Jobs que estavam na fila ou rodando quando a aplicação parou não têm mais thread.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PopulationJob j SET j.status = com.reader_hub.domain.model.PopulationJob.Status.FAILED, " +
+           "j.error = :error, j.finishedAt = :now " +
+           "WHERE j.status IN (com.reader_hub.domain.model.PopulationJob.Status.QUEUED, " +
+           "com.reader_hub.domain.model.PopulationJob.Status.RUNNING)")
+    int failUnfinished(@Param("error") String error, @Param("now") Instant now);
+}
@@ -0,0 +1,9 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.SyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncStateRepository extends JpaRepository<SyncState, String> {
+}
@@ -5,38 +5,70 @@ import com.reader_hub.application.exception.ResourceNotFoundException;
 import com.reader_hub.domain.model.Author;
 import com.reader_hub.domain.model.Language;
 import com.reader_hub.domain.repository.AuthorRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class AuthorService {
     
     private final AuthorRepository authorRepository;
+
+    /**
+     * apiId → ID local dos autores já gravados, para que importações não
+     * consultem de novo o mesmo autor. Só recebe IDs de transações confirmadas;
+     * ao atingir o limite é esvaziado.
+     */
+    private final Map<String, String> idByApiId = new ConcurrentHashMap<>();
+    private final int idCacheSize;
+
+    public AuthorService(AuthorRepository authorRepository,
+                         @Value("${app.population.authors.id-cache-size:50000}") int idCacheSize) {
+        this.authorRepository = authorRepository;
+        this.idCacheSize = Math.max(0, idCacheSize);
+    }
     
     /**
-     * Salva um novo autor no banco de dados
+     * Salva um novo autor no banco de dados. Com apiId, grava por upsert: se
+     * outro autor com o mesmo apiId já existe (ou é gravado ao mesmo tempo por
+     * outra importação), devolve o existente sem alterá-lo.
      */
     public Author saveAuthor(Author author) {
         log.info("Salvando autor: {}", author.getName());
         
-        if (author.getApiId() != null) {
-            Optional<Author> existing = authorRepository.findByApiId(author.getApiId());
-            if (existing.isPresent()) {
+        if (author.getApiId() == null) {
+            return authorRepository.save(author);
+        }
+
+        String cachedId = idByApiId.get(author.getApiId());
+        if (cachedId != null) {
+            Optional<Author> cached = authorRepository.findById(cachedId);
+            if (cached.isPresent()) {
                 log.info("Autor já existe com apiId: {}", author.getApiId());
-                return existing.get();
+                return cached.get();
             }
+            idByApiId.remove(author.getApiId(), cachedId);
         }
-        
-        return authorRepository.save(author);
+
+        String id = upsert(List.of(author)).get(author.getApiId());
+        return authorRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Autor", "apiId", author.getApiId()));
     }
     
     /**
@@ -44,13 +76,42 @@ public class AuthorService {
      */
     public Author createAuthor(AuthorDto authorDto) {
         log.info("Criando novo autor - Nome: {}", authorDto.getAttributes().getName());
-        
-        Optional<Author> existingAuthor = authorRepository.findByApiId(authorDto.getId());
-        if (existingAuthor.isPresent()) {
-            log.info("Autor já existe com apiId: {}", authorDto.getId());
-            return existingAuthor.get();
+        return saveAuthor(toAuthor(authorDto));
+    }
+
+    /**
+     * Grava de uma vez os autores vindos da API externa (uma instrução por
+     * até 500 autores); os que já existem ficam como estão.
+     *
+     * @return quantos autores foram criados
+     */
+    public int upsertAuthors(Collection<AuthorDto> authorDtos) {
+        List<Author> authors = authorDtos.stream()
+                .filter(authorDto -> authorDto.getId() != null && !idByApiId.containsKey(authorDto.getId()))
+                .map(AuthorService::toAuthor)
+                .toList();
+        if (authors.isEmpty()) {
+            return 0;
         }
-        
+        Map<String, String> ids = upsert(authors);
+        // Novo é quem ficou com o ID gerado para ele; os demais já existiam
+        Set<String> created = new HashSet<>();
+        for (Author author : authors) {
+            if (author.getId() != null && author.getId().equals(ids.get(author.getApiId()))) {
+                created.add(author.getApiId());
+            }
+        }
+        log.debug("Upsert de {} autores: {} criados", authors.size(), created.size());
+        return created.size();
+    }
+
+    private Map<String, String> upsert(Collection<Author> authors) {
+        Map<String, String> ids = authorRepository.upsertAll(authors);
+        remember(ids);
+        return ids;
+    }
+
+    private static Author toAuthor(AuthorDto authorDto) {
         var author = new Author();
         author.setApiId(authorDto.getId());
         author.setName(authorDto.getAttributes().getName());
@@ -62,8 +123,33 @@ public class AuthorService {
             biography.setPt_BR(bioMap.get("pt-br"));
             author.setBiography(biography);
         }
-        
-        return saveAuthor(author);
+        return author;
+    }
+
+    // Dentro de uma transação, só depois do commit: num rollback o ID não existiria
+    private void remember(Map<String, String> ids) {
+        if (ids.isEmpty() || idCacheSize == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheIds(ids);
+                }
+            });
+        } else {
+            cacheIds(ids);
+        }
+    }
+
+    private void cacheIds(Map<String, String> ids) {
+        if (idByApiId.size() + ids.size() > idCacheSize) {
+            idByApiId.clear();
+        }
+        if (ids.size() <= idCacheSize) {
+            idByApiId.putAll(ids);
+        }
     }
     
     /**
@@ -76,6 +162,7 @@ public class AuthorService {
             throw new ResourceNotFoundException("Autor", "ID", author.getId());
         }
         
+        idByApiId.values().remove(author.getId());
         return authorRepository.save(author);
     }
     
@@ -92,6 +179,46 @@ public class AuthorService {
         return authorRepository.findByApiId(apiId);
     }
 
+    /**
+     * Dentre os apiIds informados, devolve os que já existem no banco (uma única consulta IN)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findExistingApiIds(Collection<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return Set.of();
+        }
+        // Os que já estão no cache de IDs não vão ao banco
+        Set<String> existing = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String apiId : apiIds) {
+            if (idByApiId.containsKey(apiId)) {
+                existing.add(apiId);
+            } else {
+                misses.add(apiId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            existing.addAll(authorRepository.findExistingApiIds(misses));
+        }
+        return existing;
+    }
+
+    /**
+     * Autores já gravados dentre os apiIds informados, indexados por apiId (uma consulta IN)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Author> findByApiIds(Collection<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Author> authors = authorRepository.findAllByApiIds(apiIds).stream()
+                .collect(Collectors.toMap(Author::getApiId, author -> author, (first, second) -> first));
+        Map<String, String> ids = new HashMap<>(authors.size() * 2);
+        authors.forEach((apiId, author) -> ids.put(apiId, author.getId()));
+        remember(ids);
+        return authors;
+    }
+
     /**
      * Busca autor por ID com os mangás relacionados
      */
@@ -134,6 +261,7 @@ public class AuthorService {
             throw new ResourceNotFoundException("Autor", "ID", id);
         }
         
+        idByApiId.values().remove(id);
         authorRepository.deleteById(id);
     }
     
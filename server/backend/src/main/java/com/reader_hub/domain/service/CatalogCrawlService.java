@@ -0,0 +1,324 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ExternalApiUnavailableException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.CatalogCrawl;
+import com.reader_hub.domain.model.CatalogCrawlPage;
+import com.reader_hub.domain.repository.CatalogCrawlPageRepository;
+import com.reader_hub.domain.repository.CatalogCrawlRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Espelha o catálogo do MangaDex em segundo plano, em ordem de criação.
+ *
+ * Cada página é pedida com {@code createdAtSince} = cursor e um offset que só
+ * cobre mangas com o mesmo instante do cursor, nunca um offset profundo. Depois
+ * de cada página o cursor e o resultado da página são gravados; um crawl que
+ * estava RUNNING quando a aplicação parou é retomado no startup. As chamadas
+ * passam pelo rate limit compartilhado do cliente MangaDex e o crawl ainda
+ * espera {@code page-interval-ms} entre páginas para deixar orçamento às
+ * requisições interativas.
+ */
+@Service
+@Slf4j
+public class CatalogCrawlService {
+
+    private static final String OPERATION = "crawl do catálogo";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ApiService apiService;
+    private final MangaImportPipeline importPipeline;
+    private final CatalogCrawlRepository crawlRepository;
+    private final CatalogCrawlPageRepository pageRepository;
+    private final ExecutorService executor;
+    private final int pageSize;
+    private final long pageIntervalMs;
+    private final int maxConsecutiveFailures;
+    private final long retryBackoffMs;
+    private final boolean autoResume;
+    private final Pause pause;
+
+    private final AtomicBoolean active = new AtomicBoolean();
+    private volatile boolean pauseRequested;
+
+    @Autowired
+    public CatalogCrawlService(ApiService apiService, MangaImportPipeline importPipeline,
+                               CatalogCrawlRepository crawlRepository, CatalogCrawlPageRepository pageRepository,
+                               @Qualifier("catalogCrawlExecutor") ExecutorService executor,
+                               @Value("${app.population.crawl.page-size:100}") int pageSize,
+                               @Value("${app.population.crawl.page-interval-ms:1000}") long pageIntervalMs,
+                               @Value("${app.population.crawl.max-consecutive-failures:5}") int maxConsecutiveFailures,
+                               @Value("${app.population.crawl.retry-backoff-ms:5000}") long retryBackoffMs,
+                               @Value("${app.population.crawl.auto-resume:true}") boolean autoResume) {
+        this(apiService, importPipeline, crawlRepository, pageRepository, executor, pageSize, pageIntervalMs,
+                maxConsecutiveFailures, retryBackoffMs, autoResume, Thread::sleep);
+    }
+
+    CatalogCrawlService(ApiService apiService, MangaImportPipeline importPipeline,
+                        CatalogCrawlRepository crawlRepository, CatalogCrawlPageRepository pageRepository,
+                        ExecutorService executor, int pageSize, long pageIntervalMs, int maxConsecutiveFailures,
+                        long retryBackoffMs, boolean autoResume, Pause pause) {
+        this.apiService = apiService;
+        this.importPipeline = importPipeline;
+        this.crawlRepository = crawlRepository;
+        this.pageRepository = pageRepository;
+        this.executor = executor;
+        this.pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        this.pageIntervalMs = Math.max(0, pageIntervalMs);
+        this.maxConsecutiveFailures = Math.max(1, maxConsecutiveFailures);
+        this.retryBackoffMs = Math.max(0, retryBackoffMs);
+        this.autoResume = autoResume;
+        this.pause = pause;
+    }
+
+    @FunctionalInterface
+    interface Pause {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private static SinceCursor cursorOf(CatalogCrawl crawl) {
+        return new SinceCursor(crawl.getCursorCreatedAt(), crawl.getCursorMangaId(), crawl.getBoundaryOffset());
+    }
+
+    static SinceCursor advance(SinceCursor cursor, List<ExternalMangaDto> page) {
+        return cursor.advance(page,
+                manga -> manga.getAttributes() != null ? manga.getAttributes().getCreatedAt() : null,
+                ExternalMangaDto::getId);
+    }
+
+    // =================== CONTROLE ===================
+
+    /**
+     * Inicia (ou retoma do último checkpoint) o crawl em segundo plano.
+     *
+     * @param limit máximo de mangas nesta execução; null segue até o fim do catálogo
+     */
+    public CatalogCrawl start(Integer limit) {
+        if (!active.compareAndSet(false, true)) {
+            throw new BusinessException("Crawl já em andamento",
+                    "Pause o crawl atual antes de iniciar outro.");
+        }
+        try {
+            CatalogCrawl crawl = crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)
+                    .orElseGet(() -> CatalogCrawl.builder().name(CatalogCrawl.DEFAULT_NAME).build());
+            crawl.setStatus(CatalogCrawl.Status.RUNNING);
+            crawl.setRunLimit(limit);
+            crawl.setRunSeen(0);
+            crawl.setLastError(null);
+            crawl.setFinishedAt(null);
+            crawl = crawlRepository.save(crawl);
+            launch(crawl);
+            return crawl;
+        } catch (RuntimeException e) {
+            active.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Pede a pausa; o crawl para depois de gravar a página em andamento.
+     */
+    public CatalogCrawl pause() {
+        if (!active.get()) {
+            throw new BusinessException("Nenhum crawl em andamento");
+        }
+        pauseRequested = true;
+        log.info("Pausa do crawl do catálogo solicitada");
+        return crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME).orElse(null);
+    }
+
+    public Optional<CatalogCrawl> getCrawl() {
+        return crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME);
+    }
+
+    public List<CatalogCrawlPage> recentPages(String crawlId) {
+        return pageRepository.findTop50ByCrawlIdOrderByCreatedAtDesc(crawlId);
+    }
+
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /**
+     * Crawl gravado como RUNNING perdeu a thread num crash/redeploy: continua do checkpoint.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeAfterRestart() {
+        if (!autoResume) {
+            return;
+        }
+        crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)
+                .filter(crawl -> crawl.getStatus() == CatalogCrawl.Status.RUNNING)
+                .ifPresent(crawl -> {
+                    if (active.compareAndSet(false, true)) {
+                        log.info("Retomando crawl do catálogo a partir de {} (+{})",
+                                crawl.getCursorCreatedAt(), crawl.getBoundaryOffset());
+                        try {
+                            launch(crawl);
+                        } catch (RejectedExecutionException e) {
+                            active.set(false);
+                            log.warn("Não foi possível retomar o crawl do catálogo: {}", e.getMessage());
+                        }
+                    }
+                });
+    }
+
+    private void launch(CatalogCrawl crawl) {
+        pauseRequested = false;
+        executor.submit(() -> crawlLoop(crawl));
+    }
+
+    // =================== EXECUÇÃO ===================
+
+    void crawlLoop(CatalogCrawl crawl) {
+        int consecutiveFailures = 0;
+        try {
+            while (true) {
+                if (pauseRequested) {
+                    stop(crawl, CatalogCrawl.Status.PAUSED);
+                    log.info("Crawl do catálogo pausado em {} (+{})",
+                            crawl.getCursorCreatedAt(), crawl.getBoundaryOffset());
+                    return;
+                }
+                int limit = pageSize;
+                if (crawl.getRunLimit() != null) {
+                    int remaining = crawl.getRunLimit() - crawl.getRunSeen();
+                    if (remaining <= 0) {
+                        stop(crawl, CatalogCrawl.Status.PAUSED);
+                        log.info("Crawl do catálogo pausado: limite de {} mangas da execução atingido",
+                                crawl.getRunLimit());
+                        return;
+                    }
+                    limit = Math.min(limit, remaining);
+                }
+
+                SinceCursor cursor = cursorOf(crawl);
+                PaginatedDto<ExternalMangaDto> page;
+                try {
+                    page = apiService.getMangasCreatedSince(cursor.at(), limit, cursor.offset());
+                } catch (RuntimeException e) {
+                    consecutiveFailures++;
+                    recordFailure(crawl, cursor, e);
+                    if (consecutiveFailures >= maxConsecutiveFailures) {
+                        stop(crawl, CatalogCrawl.Status.FAILED);
+                        log.error("Crawl do catálogo interrompido após {} falhas seguidas", consecutiveFailures);
+                        return;
+                    }
+                    pause.sleep(backoff(e, consecutiveFailures));
+                    continue;
+                }
+                consecutiveFailures = 0;
+
+                List<ExternalMangaDto> data = page.getData() != null ? page.getData() : List.of();
+                if (data.isEmpty()) {
+                    crawl.setTotalRemaining(0L);
+                    stop(crawl, CatalogCrawl.Status.COMPLETED);
+                    log.info("Crawl do catálogo chegou ao fim - {} mangas vistos", crawl.getMangasSeen());
+                    return;
+                }
+
+                MangaImportPipeline.Result result = importPipeline.run(OPERATION, page);
+                checkpoint(crawl, cursor, advance(cursor, data), data.size(), page.getTotal(), result);
+
+                if (data.size() < limit) {
+                    stop(crawl, CatalogCrawl.Status.COMPLETED);
+                    log.info("Crawl do catálogo chegou ao fim - {} mangas vistos", crawl.getMangasSeen());
+                    return;
+                }
+                pause.sleep(pageIntervalMs);
+            }
+        } catch (InterruptedException e) {
+            // Desligamento: continua RUNNING no banco para ser retomado no próximo startup
+            Thread.currentThread().interrupt();
+            log.info("Crawl do catálogo interrompido; será retomado no próximo startup");
+        } catch (RuntimeException e) {
+            log.error("Erro no crawl do catálogo", e);
+            crawl.setLastError(truncate(e.getMessage()));
+            stop(crawl, CatalogCrawl.Status.FAILED);
+        } finally {
+            pauseRequested = false;
+            active.set(false);
+        }
+    }
+
+    private void checkpoint(CatalogCrawl crawl, SinceCursor used, SinceCursor next, int fetched, Integer total,
+                            MangaImportPipeline.Result result) {
+        pageRepository.save(CatalogCrawlPage.builder()
+                .crawlId(crawl.getId())
+                .cursorCreatedAt(used.at())
+                .cursorOffset(used.offset())
+                .outcome(result.failures() > 0 ? CatalogCrawlPage.Outcome.PARTIAL : CatalogCrawlPage.Outcome.IMPORTED)
+                .fetched(fetched)
+                .mangasSaved(result.mangasSaved())
+                .authorsSaved(result.authorsSaved())
+                .failures(result.failures())
+                .build());
+
+        crawl.setCursorCreatedAt(next.at());
+        crawl.setCursorMangaId(next.lastId());
+        crawl.setBoundaryOffset(next.offset());
+        crawl.setPagesFetched(crawl.getPagesFetched() + 1);
+        crawl.setMangasSeen(crawl.getMangasSeen() + fetched);
+        crawl.setMangasSaved(crawl.getMangasSaved() + result.mangasSaved());
+        crawl.setAuthorsSaved(crawl.getAuthorsSaved() + result.authorsSaved());
+        crawl.setRunSeen(crawl.getRunSeen() + fetched);
+        if (total != null) {
+            crawl.setTotalRemaining((long) Math.max(0, total - used.offset() - fetched));
+        }
+        crawl.setLastError(null);
+        crawlRepository.save(crawl);
+    }
+
+    private void recordFailure(CatalogCrawl crawl, SinceCursor cursor, RuntimeException e) {
+        log.warn("Falha ao buscar página do crawl ({} +{}): {}", cursor.at(), cursor.offset(), e.getMessage());
+        pageRepository.save(CatalogCrawlPage.builder()
+                .crawlId(crawl.getId())
+                .cursorCreatedAt(cursor.at())
+                .cursorOffset(cursor.offset())
+                .outcome(CatalogCrawlPage.Outcome.FAILED)
+                .error(truncate(e.getMessage()))
+                .build());
+        crawl.setFailedPages(crawl.getFailedPages() + 1);
+        crawl.setLastError(truncate(e.getMessage()));
+        crawlRepository.save(crawl);
+    }
+
+    private void stop(CatalogCrawl crawl, CatalogCrawl.Status status) {
+        crawl.setStatus(status);
+        if (status != CatalogCrawl.Status.PAUSED) {
+            crawl.setFinishedAt(Instant.now());
+        }
+        crawlRepository.save(crawl);
+    }
+
+    private long backoff(RuntimeException e, int failures) {
+        if (e instanceof ExternalApiUnavailableException unavailable) {
+            return Math.max(retryBackoffMs, unavailable.getRetryAfterSeconds() * 1000);
+        }
+        return retryBackoffMs * (1L << Math.min(failures - 1, 6));
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
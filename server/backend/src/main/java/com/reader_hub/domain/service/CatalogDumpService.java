@@ -0,0 +1,432 @@
+package com.reader_hub.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reader_hub.application.config.DaemonThreadFactory;
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.Author;
+import com.reader_hub.domain.model.Manga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Carga do catálogo a partir de um dump NDJSON local, sem chamar o MangaDex.
+ * Cada linha é um registro no formato da API ({@link AuthorDto},
+ * {@link ExternalMangaDto} ou {@link ChapterDto}) identificado pelo campo
+ * {@code type}: "author", "manga" ou "chapter". O arquivo pode estar compactado
+ * com gzip ou zstd, detectado pelos bytes iniciais (zstd usa o binário
+ * {@code zstd-command} do sistema).
+ *
+ * A leitura é incremental: os registros se acumulam até {@code batch-size} e
+ * são gravados em ordem de dependência (autores por upsert, mangás, capítulos
+ * num insert em lote), cada grupo numa transação curta própria. Um capítulo
+ * cujo manga não veio antes no arquivo (ou no mesmo lote) é ignorado, então o
+ * dump deve trazer autores e mangás antes dos capítulos.
+ */
+@Service
+@Slf4j
+public class CatalogDumpService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final byte[] ZSTD_MAGIC = {(byte) 0x28, (byte) 0xb5, (byte) 0x2f, (byte) 0xfd};
+    private static final DaemonThreadFactory ZSTD_PUMP_THREADS = DaemonThreadFactory.named("dump-zstd");
+
+    private final ObjectMapper objectMapper;
+    private final MangaService mangaService;
+    private final AuthorService authorService;
+    private final ChapterService chapterService;
+    private final Path dumpDir;
+    private final int batchSize;
+    private final String zstdCommand;
+    private final long logIntervalMs;
+
+    public CatalogDumpService(ObjectMapper objectMapper, MangaService mangaService, AuthorService authorService,
+                              ChapterService chapterService,
+                              @Value("${app.population.dump.dir:./data/dumps}") String dumpDir,
+                              @Value("${app.population.dump.batch-size:1000}") int batchSize,
+                              @Value("${app.population.dump.zstd-command:zstd}") String zstdCommand,
+                              @Value("${app.population.dump.log-interval-ms:10000}") long logIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.mangaService = mangaService;
+        this.authorService = authorService;
+        this.chapterService = chapterService;
+        this.dumpDir = Paths.get(dumpDir).toAbsolutePath().normalize();
+        this.batchSize = Math.max(1, batchSize);
+        this.zstdCommand = zstdCommand;
+        this.logIntervalMs = Math.max(0, logIntervalMs);
+    }
+
+    /**
+     * Resultado de uma carga.
+     */
+    public record Result(long lines, int authorsSaved, int mangasSaved, int chaptersSaved, int chaptersUpdated,
+                         int skipped, int failed, long elapsedMs) {
+
+        public long recordsPerSecond() {
+            return lines * 1000 / Math.max(1, elapsedMs);
+        }
+    }
+
+    /**
+     * Arquivo do dump dentro de {@code app.population.dump.dir}; nomes que
+     * apontam para fora do diretório são recusados. A comparação usa os caminhos
+     * reais, então um link simbólico no diretório não serve de saída para fora dele.
+     */
+    public Path resolve(String fileName) {
+        Path file = dumpDir.resolve(fileName).normalize();
+        if (!file.startsWith(dumpDir)) {
+            throw outsideDumpDir();
+        }
+        Path realFile;
+        try {
+            realFile = file.toRealPath();
+            if (!realFile.startsWith(dumpDir.toRealPath())) {
+                throw outsideDumpDir();
+            }
+        } catch (IOException e) {
+            throw new ResourceNotFoundException("Dump", "arquivo", fileName);
+        }
+        if (!Files.isRegularFile(realFile)) {
+            throw new ResourceNotFoundException("Dump", "arquivo", fileName);
+        }
+        return realFile;
+    }
+
+    private BusinessException outsideDumpDir() {
+        return new BusinessException("Arquivo de dump inválido", "O dump precisa estar em " + dumpDir);
+    }
+
+    /**
+     * Carrega o dump informando {@code (KiB lidos, KiB do arquivo)} a cada lote
+     * gravado. Se o callback lançar {@link java.util.concurrent.CancellationException}
+     * a carga para e o que já foi gravado fica.
+     */
+    public Result ingest(Path file, BiConsumer<Integer, Integer> progress) {
+        Run run = new Run(file.getFileName().toString());
+        try (CountingInputStream raw = new CountingInputStream(Files.newInputStream(file));
+             InputStream input = decompress(new BufferedInputStream(raw, BUFFER_SIZE));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+                     BUFFER_SIZE)) {
+            long size = Files.size(file);
+            int totalKb = kibibytes(size);
+            progress.accept(0, totalKb);
+            Batch batch = new Batch();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                run.lines++;
+                if (!line.isBlank()) {
+                    accept(line, run, batch);
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, run);
+                    batch = new Batch();
+                    progress.accept(Math.min(totalKb, kibibytes(raw.count())), totalKb);
+                    run.logThroughput(raw.count(), size, false);
+                }
+            }
+            flush(batch, run);
+            progress.accept(totalKb, totalKb);
+            run.logThroughput(raw.count(), size, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o dump " + file.getFileName(), e);
+        }
+        return run.result();
+    }
+
+    // =================== LEITURA ===================
+
+    private void accept(String line, Run run, Batch batch) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            switch (node.path("type").asText("")) {
+                case "author" -> {
+                    AuthorDto authorDto = objectMapper.treeToValue(node, AuthorDto.class);
+                    if (authorDto.getId() == null || authorDto.getAttributes() == null
+                            || authorDto.getAttributes().getName() == null) {
+                        run.skip("autor sem id ou nome");
+                        return;
+                    }
+                    batch.authors.putIfAbsent(authorDto.getId(), authorDto);
+                }
+                case "manga" -> {
+                    ExternalMangaDto mangaDto = objectMapper.treeToValue(node, ExternalMangaDto.class);
+                    if (mangaDto.getId() == null) {
+                        run.skip("manga sem id");
+                        return;
+                    }
+                    batch.mangas.add(mangaDto);
+                    // Autores incluídos na relação (includes[]=author) dispensam registro próprio
+                    mangaDto.findRelationships("author").forEach(relationship -> relationship.toIncludedAuthor()
+                            .ifPresent(authorDto -> batch.authors.putIfAbsent(authorDto.getId(), authorDto)));
+                }
+                case "chapter" -> batch.chapters.add(objectMapper.treeToValue(node, ChapterDto.class));
+                default -> run.skip("tipo desconhecido");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            run.skip("JSON inválido");
+            log.debug("Linha {} do dump ignorada: {}", run.lines, e.getMessage());
+        }
+    }
+
+    private InputStream decompress(BufferedInputStream input) throws IOException {
+        input.mark(ZSTD_MAGIC.length);
+        byte[] head = input.readNBytes(ZSTD_MAGIC.length);
+        input.reset();
+        if (startsWith(head, GZIP_MAGIC)) {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+        if (startsWith(head, ZSTD_MAGIC)) {
+            return zstd(input);
+        }
+        return input;
+    }
+
+    // Sem descompressor zstd no classpath: o binário do sistema lê do pipe, e o progresso segue contando bytes
+    private InputStream zstd(InputStream compressed) throws IOException {
+        Process process;
+        try {
+            process = new ProcessBuilder(zstdCommand, "-dcq")
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            compressed.close();
+            throw new BusinessException("Dump zstd não suportado",
+                    "Não foi possível executar '" + zstdCommand + "': descompacte o arquivo ou use gzip");
+        }
+        ZSTD_PUMP_THREADS.newThread(() -> {
+            try (InputStream source = compressed; OutputStream sink = process.getOutputStream()) {
+                source.transferTo(sink);
+            } catch (IOException e) {
+                // O processo foi encerrado antes do fim (leitura cancelada ou falha no zstd)
+                log.debug("Envio do dump ao zstd interrompido: {}", e.getMessage());
+            }
+        }).start();
+        return new FilterInputStream(process.getInputStream()) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                try {
+                    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    } else if (process.exitValue() != 0) {
+                        throw new IOException("zstd terminou com código " + process.exitValue());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    process.destroyForcibly();
+                }
+            }
+        };
+    }
+
+    // =================== GRAVAÇÃO ===================
+
+    private void flush(Batch batch, Run run) {
+        if (!batch.authors.isEmpty()) {
+            try {
+                run.authorsSaved += authorService.upsertAuthors(batch.authors.values());
+            } catch (RuntimeException e) {
+                run.fail(batch.authors.size(), "autores", e);
+            }
+        }
+        if (!batch.mangas.isEmpty()) {
+            run.mangasSaved += saveMangas(batch.mangas, run);
+        }
+        if (!batch.chapters.isEmpty()) {
+            try {
+                ChapterService.ChapterSyncCounts counts = chapterService.applyExternalUpdates(batch.chapters);
+                run.chaptersSaved += counts.created();
+                run.chaptersUpdated += counts.updated();
+                run.skipped += counts.ignored();
+            } catch (RuntimeException e) {
+                run.fail(batch.chapters.size(), "capítulos", e);
+            }
+        }
+    }
+
+    private int saveMangas(List<ExternalMangaDto> mangaDtos, Run run) {
+        Map<String, Author> authors = authorService.findByApiIds(mangaDtos.stream()
+                .map(CatalogDumpService::authorApiId).filter(Objects::nonNull).distinct().toList());
+        List<Manga> mangas = new ArrayList<>(mangaDtos.size());
+        for (ExternalMangaDto mangaDto : mangaDtos) {
+            Manga manga = MangaService.fromExternal(mangaDto);
+            manga.setCoverImage(mangaDto.findCoverUrl().orElse(null));
+            String authorApiId = authorApiId(mangaDto);
+            if (authorApiId != null) {
+                manga.setAuthor(authors.get(authorApiId));
+            }
+            mangas.add(manga);
+        }
+        try {
+            return mangaService.saveNewMangas(mangas);
+        } catch (RuntimeException e) {
+            // Um registro ruim não deve descartar o lote inteiro: grava um a um
+            log.warn("Falha ao gravar lote de {} mangás do dump, gravando individualmente: {}", mangas.size(),
+                    e.getMessage());
+            int saved = 0;
+            for (Manga manga : mangas) {
+                try {
+                    saved += mangaService.saveNewMangas(List.of(manga));
+                } catch (RuntimeException single) {
+                    run.fail(1, "manga " + manga.getApiId(), single);
+                }
+            }
+            return saved;
+        }
+    }
+
+    private static String authorApiId(ExternalMangaDto mangaDto) {
+        return mangaDto.findRelationships("author").stream()
+                .map(ExternalMangaDto.SimpleRelationship::getId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        if (head.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int kibibytes(long bytes) {
+        return (int) Math.min(Integer.MAX_VALUE, (bytes + 1023) / 1024);
+    }
+
+    /**
+     * Registros lidos e ainda não gravados; autores sem repetição de apiId.
+     */
+    private static final class Batch {
+        private final Map<String, AuthorDto> authors = new LinkedHashMap<>();
+        private final List<ExternalMangaDto> mangas = new ArrayList<>();
+        private final List<ChapterDto> chapters = new ArrayList<>();
+
+        private int size() {
+            return authors.size() + mangas.size() + chapters.size();
+        }
+    }
+
+    /**
+     * Contadores e vazão de uma carga.
+     */
+    private final class Run {
+        private final String name;
+        private final long startedAt = System.nanoTime();
+        private long lastLoggedAt = startedAt;
+        private long lines;
+        private int authorsSaved;
+        private int mangasSaved;
+        private int chaptersSaved;
+        private int chaptersUpdated;
+        private int skipped;
+        private int failed;
+
+        private Run(String name) {
+            this.name = name;
+        }
+
+        private void skip(String reason) {
+            skipped++;
+            log.debug("Linha {} do dump ignorada: {}", lines, reason);
+        }
+
+        private void fail(int count, String what, RuntimeException e) {
+            failed += count;
+            log.warn("Dump {}: erro ao gravar {} ({} registros): {}", name, what, count, e.getMessage());
+        }
+
+        private long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+
+        private void logThroughput(long bytesRead, long totalBytes, boolean finished) {
+            long now = System.nanoTime();
+            if (!finished && TimeUnit.NANOSECONDS.toMillis(now - lastLoggedAt) < logIntervalMs) {
+                return;
+            }
+            lastLoggedAt = now;
+            log.info("Dump {}{}: {} linhas ({} registros/s), {}/{} MiB lidos - {} autores, {} mangás, "
+                            + "{} capítulos novos, {} ignorados, {} com falha",
+                    name, finished ? " concluído" : "", lines, result().recordsPerSecond(),
+                    bytesRead >> 20, totalBytes >> 20, authorsSaved, mangasSaved, chaptersSaved, skipped, failed);
+        }
+
+        private Result result() {
+            return new Result(lines, authorsSaved, mangasSaved, chaptersSaved, chaptersUpdated, skipped, failed,
+                    elapsedMs());
+        }
+    }
+
+    /**
+     * Bytes lidos do arquivo (compactado), para o progresso.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private volatile long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        private long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.storage.DiskLruCache;
+import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.ChapterPageFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Imagens das páginas servidas pelo próprio backend.
+ *
+ * Cada página é baixada do MangaDex uma única vez (pelo adapter, com rate
+ * limit/circuit breaker) e guardada no cache LRU em disco. A chave é o caminho
+ * {@code data|data-saver/<hash>/<arquivo>}, independente do nó at-home que
+ * serviu a imagem, então capítulos populares passam a sair só do disco local.
+ * Num acerto a chave sai do hash/arquivo gravados no banco (leitura simples);
+ * o nó at-home só é resolvido quando a página ainda precisa ser baixada.
+ */
+@Service
+@Slf4j
+public class ChapterPageService {
+
+    private final ChapterService chapterService;
+    private final ApiService apiService;
+    private final DiskLruCache pageCache;
+
+    public ChapterPageService(ChapterService chapterService, ApiService apiService,
+                              @Qualifier("chapterPageCache") DiskLruCache pageCache) {
+        this.chapterService = chapterService;
+        this.apiService = apiService;
+        this.pageCache = pageCache;
+    }
+
+    /**
+     * Página {@code pageNumber} (a partir de 1) do capítulo, em disco.
+     */
+    public PageImage getPage(String chapterId, int pageNumber, boolean dataSaver) throws IOException {
+        Chapter stored = chapterService.findByIdWithPageFiles(chapterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Capítulo", "ID", chapterId));
+        String storedKey = storedCacheKey(stored, pageNumber, dataSaver);
+        if (storedKey != null) {
+            String extension = extension(storedKey);
+            Optional<Path> cached = pageCache.get(storedKey, extension);
+            if (cached.isPresent()) {
+                return new PageImage(cached.get(), contentType(extension), stored.getPageHash());
+            }
+        }
+
+        // Miss (ou capítulo sem hash gravado): só agora precisa de um baseUrl para baixar
+        Chapter chapter = chapterService.loadPages(chapterId, dataSaver);
+        List<String> urls = chapter.getPageUrls();
+        if (urls == null || pageNumber < 1 || pageNumber > urls.size()) {
+            throw new ResourceNotFoundException("Página", "número", String.valueOf(pageNumber));
+        }
+
+        String url = urls.get(pageNumber - 1);
+        String extension = extension(url);
+        return new PageImage(fetch(url), contentType(extension), chapter.getPageHash());
+    }
+
+    /**
+     * Baixa para o cache até {@code maxPages} páginas de um capítulo já resolvido
+     * (ver {@link ChapterService#loadPages}). Páginas já em disco não são baixadas.
+     *
+     * @return quantas páginas estão no cache ao final
+     */
+    public int warm(Chapter chapter, int maxPages) {
+        List<String> urls = chapter.getPageUrls();
+        if (urls == null) {
+            return 0;
+        }
+        int warmed = 0;
+        for (String url : urls.subList(0, Math.min(maxPages, urls.size()))) {
+            try {
+                fetch(url);
+                warmed++;
+            } catch (IOException | RuntimeException e) {
+                log.debug("Falha ao pré-carregar página do capítulo {}: {}", chapter.getId(), e.getMessage());
+                break;
+            }
+        }
+        return warmed;
+    }
+
+    private Path fetch(String url) throws IOException {
+        return pageCache.getOrLoad(cacheKey(url), extension(url), target -> apiService.downloadFile(url, target));
+    }
+
+    /**
+     * Chave da página a partir do hash e do arquivo gravados, a mesma que
+     * {@link #cacheKey} extrai da URL montada por {@link ChapterService#loadPages}.
+     */
+    static String storedCacheKey(Chapter chapter, int pageNumber, boolean dataSaver) {
+        List<ChapterPageFile> files = chapter.getPageFiles();
+        if (chapter.getPageHash() == null || files == null || pageNumber < 1 || pageNumber > files.size()) {
+            return null;
+        }
+        ChapterPageFile file = files.get(pageNumber - 1);
+        boolean saver = dataSaver && file.getDataSaverFileName() != null;
+        return cacheKey(ChapterDto.ChapterPagesDto.pageUrl("", chapter.getPageHash(),
+                saver ? file.getDataSaverFileName() : file.getFileName(), saver));
+    }
+
+    /**
+     * Parte estável da URL: a base do at-home muda (e pode ter token no caminho).
+     */
+    static String cacheKey(String url) {
+        int saver = url.lastIndexOf("/data-saver/");
+        int data = url.lastIndexOf("/data/");
+        int start = Math.max(saver, data);
+        return start >= 0 ? url.substring(start + 1) : url;
+    }
+
+    static String extension(String url) {
+        int dot = url.lastIndexOf('.');
+        int slash = url.lastIndexOf('/');
+        return dot > slash ? url.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    static String contentType(String extension) {
+        return switch (extension) {
+            case "png" -> "image/png";
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "application/octet-stream";
+        };
+    }
+
+    /**
+     * @param version hash das páginas do capítulo; muda quando o capítulo é reenviado
+     *                ({@code null} em capítulos antigos sem hash)
+     */
+    public record PageImage(Path file, String contentType, String version) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.domain.model.Chapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Pré-carrega os próximos capítulos quando um capítulo é aberto.
+ *
+ * Leitura sequencial é o padrão mais comum: ao abrir o capítulo N, os próximos
+ * {@code chapters} capítulos do mesmo manga e idioma são resolvidos em segundo
+ * plano (at-home + hash/arquivos gravados) e, opcionalmente, as primeiras
+ * páginas vão para o cache em disco. Tudo roda num pool limitado, inclusive a
+ * consulta dos próximos capítulos (fila cheia = prefetch descartado), e cada
+ * capítulo é pré-carregado no máximo uma vez por {@code dedupe-window}, não
+ * importa quantos leitores abram o anterior.
+ */
+@Service
+@Slf4j
+public class ChapterPrefetchService {
+
+    private static final int MAX_TRACKED = 10_000;
+
+    private final ChapterService chapterService;
+    private final ChapterPageService chapterPageService;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final int chapters;
+    private final boolean warmImages;
+    private final int maxPages;
+    private final long dedupeWindowMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Autowired
+    public ChapterPrefetchService(ChapterService chapterService, ChapterPageService chapterPageService,
+                                  @Qualifier("chapterPrefetchExecutor") ExecutorService executor,
+                                  @Value("${app.reader.prefetch.enabled:true}") boolean enabled,
+                                  @Value("${app.reader.prefetch.chapters:2}") int chapters,
+                                  @Value("${app.reader.prefetch.warm-images:false}") boolean warmImages,
+                                  @Value("${app.reader.prefetch.max-pages:10}") int maxPages,
+                                  @Value("${app.reader.prefetch.dedupe-window-ms:300000}") long dedupeWindowMs) {
+        this(chapterService, chapterPageService, executor, enabled, chapters, warmImages, maxPages,
+                dedupeWindowMs, System::currentTimeMillis);
+    }
+
+    ChapterPrefetchService(ChapterService chapterService, ChapterPageService chapterPageService,
+                           ExecutorService executor, boolean enabled, int chapters, boolean warmImages,
+                           int maxPages, long dedupeWindowMs, LongSupplier clock) {
+        this.chapterService = chapterService;
+        this.chapterPageService = chapterPageService;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.chapters = Math.max(0, Math.min(chapters, 2));
+        this.warmImages = warmImages;
+        this.maxPages = Math.max(0, maxPages);
+        this.dedupeWindowMs = dedupeWindowMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Agenda o pré-carregamento dos capítulos seguintes a {@code current}.
+     * Nunca bloqueia nem lança: é chamado no caminho da leitura, então até a
+     * consulta dos próximos capítulos vai para o pool de prefetch.
+     */
+    public void prefetchAfter(Chapter current, boolean dataSaver) {
+        if (!enabled || chapters == 0 || current.getManga() == null || current.getLanguage() == null
+                || number(current) == null) {
+            return;
+        }
+        String mangaId = current.getManga().getId();
+        String language = current.getLanguage();
+        String key = "after:" + current.getId() + (dataSaver ? ":saver" : "");
+        long now = clock.getAsLong();
+        if (!claim(key, now)) {
+            return;
+        }
+        try {
+            executor.execute(() -> scheduleNext(mangaId, language, current, dataSaver));
+        } catch (RejectedExecutionException e) {
+            recent.remove(key, now);
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long scheduledCount() {
+        return scheduled.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void scheduleNext(String mangaId, String language, Chapter current, boolean dataSaver) {
+        try {
+            List<Chapter> candidates = chapterService.findByMangaIdAndLanguage(mangaId, language);
+            for (Chapter next : nextInReadingOrder(candidates, current, chapters)) {
+                schedule(next.getId(), dataSaver);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Prefetch ignorado para capítulo {}: {}", current.getId(), e.getMessage());
+        }
+    }
+
+    private void schedule(String chapterId, boolean dataSaver) {
+        String key = chapterId + (dataSaver ? ":saver" : "");
+        long now = clock.getAsLong();
+        if (!claim(key, now)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> prefetch(chapterId, dataSaver));
+            scheduled.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            // Orçamento esgotado: libera a chave para uma próxima tentativa
+            recent.remove(key, now);
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Reserva a chave para a janela atual. Só quem troca o valor segue;
+     * leitores simultâneos do mesmo capítulo desistem aqui.
+     */
+    private boolean claim(String key, long now) {
+        Long previous = recent.get(key);
+        if (previous != null && now - previous < dedupeWindowMs) {
+            return false;
+        }
+        boolean claimed = previous == null ? recent.putIfAbsent(key, now) == null : recent.replace(key, previous, now);
+        if (claimed) {
+            prune(now);
+        }
+        return claimed;
+    }
+
+    private void prefetch(String chapterId, boolean dataSaver) {
+        try {
+            Chapter chapter = chapterService.loadPages(chapterId, dataSaver);
+            int warmed = warmImages ? chapterPageService.warm(chapter, maxPages) : 0;
+            log.debug("Capítulo {} pré-carregado ({} páginas em cache)", chapterId, warmed);
+        } catch (Exception e) {
+            log.debug("Falha no prefetch do capítulo {}: {}", chapterId, e.getMessage());
+        }
+    }
+
+    private void prune(long now) {
+        if (recent.size() > MAX_TRACKED) {
+            recent.entrySet().removeIf(entry -> now - entry.getValue() >= dedupeWindowMs);
+        }
+    }
+
+    /**
+     * Até {@code limit} capítulos com número maior que o atual, um por número
+     * (vários grupos podem traduzir o mesmo capítulo), em ordem numérica.
+     */
+    static List<Chapter> nextInReadingOrder(List<Chapter> chapters, Chapter current, int limit) {
+        BigDecimal currentNumber = number(current);
+        if (currentNumber == null) {
+            return List.of();
+        }
+        List<Chapter> ahead = new ArrayList<>();
+        for (Chapter chapter : chapters) {
+            BigDecimal number = number(chapter);
+            if (number != null && number.compareTo(currentNumber) > 0 && !Objects.equals(chapter.getId(), current.getId())) {
+                ahead.add(chapter);
+            }
+        }
+        ahead.sort(Comparator.comparing(ChapterPrefetchService::number));
+
+        List<Chapter> next = new ArrayList<>(limit);
+        BigDecimal last = null;
+        for (Chapter chapter : ahead) {
+            if (next.size() == limit) {
+                break;
+            }
+            BigDecimal number = number(chapter);
+            if (last == null || number.compareTo(last) != 0) {
+                next.add(chapter);
+                last = number;
+            }
+        }
+        return next;
+    }
+
+    private static BigDecimal number(Chapter chapter) {
+        try {
+            return chapter.getChapter() != null ? new BigDecimal(chapter.getChapter().trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
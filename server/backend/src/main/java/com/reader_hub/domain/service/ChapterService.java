@@ -3,21 +3,32 @@ package com.reader_hub.domain.service;
 import com.reader_hub.application.dto.ChapterDto;
 import com.reader_hub.application.exception.ResourceNotFoundException;
 import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.ChapterFeed;
 import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.ChapterPageFile;
 import com.reader_hub.domain.model.Manga;
 import com.reader_hub.domain.repository.ChapterRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,11 +39,15 @@ public class ChapterService {
     private final ChapterRepository chapterRepository;
     private final ApiService apiService;
     private final MangaService mangaService;
+    private final TransactionTemplate transactionTemplate;
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Value("${mangadex.at-home.fallback-base-url:https://uploads.mangadex.org}")
+    private String fallbackBaseUrl;
 
-    private static final int FLUSH_BATCH_SIZE = 50;
+    private static final int INSERT_BATCH_SIZE = 100;
+
+    private record ChapterKey(String chapter, String language) {
+    }
     
     /**
      * Salva um novo capítulo no banco de dados
@@ -56,14 +71,21 @@ public class ChapterService {
      * quando o usuário abre o capítulo para leitura (lazy loading).
      */
     public Chapter createChapter(ChapterDto dto, Manga manga) {
-        // Verificar se o capítulo já existe
-        var existing = chapterRepository.findByMangaIdAndChapterNumber(
-            manga.getId(), dto.getAttributes().getChapter());
+        // Verificar se o capítulo já existe (mesmo número e idioma)
+        var existing = chapterRepository.findByNaturalKey(
+            manga.getId(), dto.getAttributes().getChapter(), dto.getAttributes().getTranslatedLanguage());
         if (existing.isPresent()) {
             log.debug("Capítulo já existe, pulando: {}", dto.getId());
             return existing.get();
         }
-        
+
+        // O manga veio do chamador já carregado: não precisa de existsById como em saveChapter
+        Chapter saved = chapterRepository.save(toChapter(dto, manga));
+        log.debug("Capítulo salvo: {} (apiId: {})", saved.getId(), saved.getApiId());
+        return saved;
+    }
+
+    private static Chapter toChapter(ChapterDto dto, Manga manga) {
         Chapter chapter = new Chapter();
         chapter.setApiId(dto.getId());
         chapter.setTitle(dto.getAttributes().getTitle());
@@ -76,10 +98,9 @@ public class ChapterService {
         chapter.setUpdatedAt(dto.getAttributes().getUpdatedAt());
         chapter.setReadableAt(dto.getAttributes().getReadableAt());
         chapter.setManga(manga);
-        
-        return saveChapter(chapter);
+        return chapter;
     }
-    
+
     /**
      * Busca capítulo por ID
      */
@@ -95,6 +116,14 @@ public class ChapterService {
     public Optional<Chapter> findByIdWithImages(String id) {
         return chapterRepository.findByIdWithImages(id);
     }
+
+    /**
+     * Capítulo com hash e arquivos das páginas gravados, sem resolver o at-home.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Chapter> findByIdWithPageFiles(String id) {
+        return chapterRepository.findByIdWithPageFiles(id);
+    }
     
     /**
      * Busca capítulos por manga
@@ -179,7 +208,7 @@ public class ChapterService {
      * Busca e salva capítulos de um manga da API.
      * Páginas são carregadas sob demanda (lazy loading) — não durante a importação.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int populateChaptersForManga(String mangaId) {
         return populateChaptersForManga(mangaId, null);
     }
@@ -189,79 +218,283 @@ public class ChapterService {
      * 
      * Otimizações de performance:
      * - Páginas NÃO são buscadas aqui (lazy loading ao ler o capítulo)
-     * - Sem sleep entre capítulos (não há chamada HTTP por capítulo)
-     * - Flush/clear do EntityManager a cada FLUSH_BATCH_SIZE capítulos para liberar memória
-     * - Retorna apenas o count, sem acumular entidades em lista
+     * - Percorre todas as páginas do feed (séries com mais de 500 capítulos não são truncadas)
+     * - A página seguinte é baixada/lida em streaming enquanto a atual é persistida
+     * - As chaves (número, idioma) já gravadas vêm numa consulta só e a deduplicação é em memória
+     * - Os novos capítulos são inseridos em lotes de INSERT_BATCH_SIZE, sem passar pelo persistence context
+     *
+     * O método não roda numa transação: o feed (rede, rate limit, pré-carga) é percorrido
+     * sem conexão do pool, e só a leitura das chaves, cada lote e a marcação de sincronia
+     * abrem transações curtas. Um lote gravado fica mesmo que o feed falhe depois; a
+     * próxima importação pula o que já existe.
+     *
+     * O callback recebe (atual, total); o total fica 0 enquanto a API ainda não
+     * o informou (chega no fim da primeira página). O retorno é o número de
+     * capítulos inseridos (os que já existiam não contam).
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int populateChaptersForManga(String mangaId, BiConsumer<Integer, Integer> progressCallback) {
         Manga manga = mangaService.findById(mangaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Manga", "ID", mangaId));
         
-        List<ChapterDto> chaptersDto = apiService.getChaptersByMangaId(manga.getApiId(), 500, 0);
-        int total = chaptersDto.size();
-        
-        log.info("Encontrados {} capítulos para o manga {}", total, manga.getTitle());
-        
         if (progressCallback != null) {
-            progressCallback.accept(0, total);
+            progressCallback.accept(0, 0);
         }
-        
-        int savedCount = 0;
-        for (int i = 0; i < total; i++) {
-            // Verificar se a thread foi interrompida (ex.: SSE desconectou)
-            if (Thread.currentThread().isInterrupted()) {
-                log.warn("Thread interrompida durante importação de capítulos — parando no capítulo {}/{}", i, total);
-                break;
-            }
-            
-            createChapter(chaptersDto.get(i), manga);
-            savedCount++;
-            
-            if (progressCallback != null) {
-                progressCallback.accept(i + 1, total);
+
+        Set<ChapterKey> known = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Object[] key : chapterRepository.findChapterKeysByMangaId(manga.getId())) {
+                known.add(new ChapterKey((String) key[0], (String) key[1]));
             }
-            
-            // Batch flush/clear para liberar memória do persistence context
-            if ((i + 1) % FLUSH_BATCH_SIZE == 0) {
-                entityManager.flush();
-                entityManager.clear();
-                // Re-attach manga pois foi desanexado pelo clear()
-                manga = entityManager.merge(manga);
-                log.debug("Batch flush/clear após {} capítulos", i + 1);
+        });
+
+        int processed = 0;
+        int savedCount = 0;
+        boolean complete = true;
+        List<Chapter> pending = new ArrayList<>(INSERT_BATCH_SIZE);
+        try (ChapterFeed feed = apiService.openChapterFeed(manga.getApiId())) {
+            while (feed.hasNext()) {
+                // Verificar se a thread foi interrompida (ex.: SSE desconectou)
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("Thread interrompida durante importação de capítulos — parando no capítulo {}/{}",
+                            processed, feed.getTotal());
+                    complete = false;
+                    break;
+                }
+
+                ChapterDto dto = feed.next();
+                processed++;
+                ChapterKey key = new ChapterKey(dto.getAttributes().getChapter(),
+                        dto.getAttributes().getTranslatedLanguage());
+                // Sem número (oneshot) ou sem idioma não há chave natural: o índice também não deduplica
+                if (key.chapter() == null || key.language() == null || known.add(key)) {
+                    pending.add(toChapter(dto, manga));
+                }
+
+                if (pending.size() >= INSERT_BATCH_SIZE) {
+                    savedCount += insertBatch(pending);
+                    pending.clear();
+                }
+
+                if (progressCallback != null) {
+                    progressCallback.accept(processed, Math.max(feed.getTotal(), 0));
+                }
             }
+            savedCount += insertBatch(pending);
+            log.info("Importados {} novos de {} capítulos para o manga {}", savedCount, feed.getTotal(), manga.getTitle());
         }
-        
+        if (complete) {
+            mangaService.markChaptersSynced(manga.getId(), OffsetDateTime.now());
+        }
+
         return savedCount;
     }
 
+    private int insertBatch(List<Chapter> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> chapterRepository.insertIgnoringExisting(batch));
+        return inserted != null ? inserted : 0;
+    }
+
     /**
-     * Carrega as páginas (imagens) de um capítulo sob demanda.
-     * Se já existem no banco, retorna direto.
-     * Se não, busca da API do MangaDex, salva no banco e retorna.
+     * Carrega as páginas (imagens) de um capítulo sob demanda, no conjunto original.
      */
     @Transactional
     public Chapter loadPagesIfNeeded(String chapterId) {
-        Chapter chapter = chapterRepository.findByIdWithImages(chapterId)
+        return loadPages(chapterId, false);
+    }
+
+    /**
+     * Monta as URLs das páginas do capítulo para leitura.
+     *
+     * Hash e nomes dos arquivos ficam no banco (são estáveis); o baseUrl do nó
+     * at-home é de curta duração e vem do cache de resoluções do adapter, então
+     * abrir um capítulo normalmente não custa nenhuma chamada ao MangaDex. Se o
+     * at-home estiver indisponível, usa o servidor de origem
+     * ({@code mangadex.at-home.fallback-base-url}) com os arquivos já gravados.
+     * Com {@code dataSaver} as URLs apontam para as imagens comprimidas.
+     */
+    @Transactional
+    public Chapter loadPages(String chapterId, boolean dataSaver) {
+        Chapter chapter = chapterRepository.findByIdWithPageFiles(chapterId)
                 .orElseThrow(() -> new ResourceNotFoundException("Capítulo", "ID", chapterId));
-        
-        if (chapter.getImages() == null || chapter.getImages().isEmpty()) {
-            if (chapter.getApiId() != null) {
-                try {
-                    List<String> pages = apiService.getChapterPages(chapter.getApiId());
-                    chapter.setImages(pages);
-                    chapter.setPages(pages.size());
-                    chapterRepository.save(chapter);
-                    log.info("Páginas carregadas sob demanda para capítulo {} — {} páginas", chapterId, pages.size());
-                } catch (Exception e) {
-                    log.warn("Erro ao carregar páginas do capítulo {}: {}", chapterId, e.getMessage());
+
+        String baseUrl = null;
+        if (chapter.getApiId() != null) {
+            try {
+                Optional<ChapterDto.ChapterPagesDto> server = apiService.getAtHomeServer(chapter.getApiId());
+                if (server.isPresent()) {
+                    baseUrl = server.get().getBaseUrl();
+                    updatePageFiles(chapter, server.get().getChapter());
                 }
+            } catch (Exception e) {
+                log.warn("Erro ao resolver páginas do capítulo {}: {}", chapterId, e.getMessage());
             }
         }
-        
+
+        if (chapter.getPageHash() != null && chapter.getPageFiles() != null && !chapter.getPageFiles().isEmpty()) {
+            String base = baseUrl != null ? baseUrl : fallbackBaseUrl;
+            chapter.setPageUrls(chapter.getPageFiles().stream()
+                    .map(file -> ChapterDto.ChapterPagesDto.pageUrl(base, chapter.getPageHash(),
+                            dataSaver && file.getDataSaverFileName() != null
+                                    ? file.getDataSaverFileName() : file.getFileName(),
+                            dataSaver && file.getDataSaverFileName() != null))
+                    .toList());
+        } else {
+            // Capítulo antigo sem hash e sem at-home disponível: URLs absolutas gravadas antes
+            chapter.setPageUrls(chapter.getImages() != null ? List.copyOf(chapter.getImages()) : List.of());
+        }
         return chapter;
     }
 
+    /**
+     * Grava hash e arquivos quando ainda não existem ou mudaram (capítulo reenviado).
+     */
+    private void updatePageFiles(Chapter chapter, ChapterDto.ChapterPagesDto.ChapterData data) {
+        if (data == null || data.getHash() == null || data.getData() == null) {
+            return;
+        }
+        boolean unchanged = data.getHash().equals(chapter.getPageHash())
+                && chapter.getPageFiles() != null && chapter.getPageFiles().size() == data.getData().size();
+        if (unchanged) {
+            return;
+        }
+
+        List<String> saverFiles = data.getDataSaver() != null ? data.getDataSaver() : List.of();
+        List<ChapterPageFile> files = new ArrayList<>(data.getData().size());
+        for (int i = 0; i < data.getData().size(); i++) {
+            files.add(new ChapterPageFile(data.getData().get(i), i < saverFiles.size() ? saverFiles.get(i) : null));
+        }
+        chapter.setPageHash(data.getHash());
+        if (chapter.getPageFiles() == null) {
+            chapter.setPageFiles(files);
+        } else {
+            chapter.getPageFiles().clear();
+            chapter.getPageFiles().addAll(files);
+        }
+        chapter.setPages(files.size());
+        if (chapter.getImages() != null) {
+            chapter.getImages().clear();
+        }
+        chapterRepository.save(chapter);
+        log.info("Páginas resolvidas para capítulo {} — {} páginas", chapter.getId(), files.size());
+    }
+
+    /**
+     * Aplica um lote do delta sync: atualiza capítulos conhecidos cuja versão
+     * remota é mais nova e cria os novos de mangás já importados. Capítulos de
+     * mangás que não existem localmente são ignorados, assim como renumerações
+     * para um (número, idioma) já ocupado por outro capítulo: violariam o índice
+     * único e derrubariam o lote inteiro no flush.
+     */
+    @Transactional
+    public ChapterSyncCounts applyExternalUpdates(List<ChapterDto> updates) {
+        if (updates.isEmpty()) {
+            return new ChapterSyncCounts(0, 0, 0, 0);
+        }
+        Map<String, Manga> mangas = mangaService.findByApiIds(updates.stream()
+                .map(ChapterService::mangaApiId).filter(Objects::nonNull).collect(Collectors.toSet()));
+        Map<String, Chapter> existing = new HashMap<>();
+        for (Chapter chapter : chapterRepository.findByApiIdIn(
+                updates.stream().map(ChapterDto::getId).filter(Objects::nonNull).toList())) {
+            existing.put(chapter.getApiId(), chapter);
+        }
+
+        List<Chapter> newChapters = new ArrayList<>();
+        int updated = 0;
+        int unchanged = 0;
+        int ignored = 0;
+        for (ChapterDto dto : updates) {
+            Manga manga = mangas.get(mangaApiId(dto));
+            if (manga == null || dto.getAttributes() == null) {
+                ignored++;
+                continue;
+            }
+            Chapter chapter = existing.get(dto.getId());
+            if (chapter == null) {
+                newChapters.add(toChapter(dto, manga));
+            } else if (isNewer(chapter, dto) && takesOccupiedKey(chapter, manga, dto)) {
+                ignored++;
+            } else if (applyExternal(chapter, dto)) {
+                chapterRepository.save(chapter);
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+        // Número/idioma já gravados com outro apiId (outro grupo) são descartados pelo índice único
+        int created = chapterRepository.insertIgnoringExisting(newChapters);
+        unchanged += newChapters.size() - created;
+        return new ChapterSyncCounts(created, updated, unchanged, ignored);
+    }
+
+    /**
+     * Se a atualização muda o (número, idioma) do capítulo para uma chave que
+     * outro capítulo do manga já usa. Consultado antes de alterar a entidade;
+     * a consulta descarrega as renumerações anteriores do lote, então duas
+     * atualizações para a mesma chave também são detectadas.
+     */
+    private boolean takesOccupiedKey(Chapter chapter, Manga manga, ChapterDto dto) {
+        String number = dto.getAttributes().getChapter();
+        String language = dto.getAttributes().getTranslatedLanguage();
+        if (number == null || (number.equals(chapter.getChapter()) && Objects.equals(language, chapter.getLanguage()))) {
+            return false;
+        }
+        Optional<Chapter> holder = chapterRepository.findByNaturalKey(manga.getId(), number, language);
+        if (holder.isEmpty() || holder.get().getId().equals(chapter.getId())) {
+            return false;
+        }
+        log.warn("Capítulo {} não renumerado para {} ({}): chave já usada pelo capítulo {}",
+                chapter.getApiId(), number, language, holder.get().getApiId());
+        return true;
+    }
+
+    /**
+     * Copia os metadados do MangaDex quando a versão remota é mais nova. As
+     * páginas não são tocadas: hash e arquivos são revalidados na leitura.
+     *
+     * @return se o capítulo foi alterado
+     */
+    static boolean applyExternal(Chapter chapter, ChapterDto dto) {
+        if (!isNewer(chapter, dto)) {
+            return false;
+        }
+        ChapterDto.ApiChapterAttributes attributes = dto.getAttributes();
+        chapter.setTitle(attributes.getTitle());
+        chapter.setVolume(attributes.getVolume());
+        chapter.setChapter(attributes.getChapter());
+        chapter.setPages(attributes.getPages());
+        chapter.setLanguage(attributes.getTranslatedLanguage());
+        chapter.setPublishedAt(attributes.getPublishAt());
+        chapter.setReadableAt(attributes.getReadableAt());
+        chapter.setUpdatedAt(attributes.getUpdatedAt());
+        return true;
+    }
+
+    private static boolean isNewer(Chapter chapter, ChapterDto dto) {
+        OffsetDateTime remote = dto.getAttributes().getUpdatedAt();
+        return chapter.getUpdatedAt() == null || remote == null || remote.isAfter(chapter.getUpdatedAt());
+    }
+
+    private static String mangaApiId(ChapterDto dto) {
+        if (dto.getRelationships() == null) {
+            return null;
+        }
+        return dto.getRelationships().stream()
+                .filter(relationship -> "manga".equals(relationship.getType()))
+                .map(ChapterDto.SimpleRelationship::getId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Resultado de um lote do delta sync de capítulos.
+     */
+    public record ChapterSyncCounts(int created, int updated, int unchanged, int ignored) {
+    }
+
     /**
      * Conta total de capítulos
      */
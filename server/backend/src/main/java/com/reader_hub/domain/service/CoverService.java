@@ -0,0 +1,149 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.storage.CoverVariant;
+import com.reader_hub.application.storage.DiskLruCache;
+import com.reader_hub.application.storage.ImageThumbnails;
+import com.reader_hub.domain.model.Manga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Miniaturas de capa servidas pelo próprio backend.
+ *
+ * Cada capa é baixada uma única vez e reduzida para todos os
+ * {@link CoverVariant}s num pool de workers dedicado; as variantes ficam no
+ * cache LRU em disco, endereçadas pelo conteúdo (URL original + largura).
+ * Enquanto a variante não existe, a requisição é redirecionada para a
+ * miniatura equivalente do MangaDex em vez de esperar a geração.
+ */
+@Service
+@Slf4j
+public class CoverService {
+
+    private static final String EXTENSION = "jpg";
+
+    private final MangaService mangaService;
+    private final ApiService apiService;
+    private final DiskLruCache coverCache;
+    private final ExecutorService executor;
+    private final float jpegQuality;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> generating = new ConcurrentHashMap<>();
+
+    public CoverService(MangaService mangaService, ApiService apiService,
+                        @Qualifier("coverCache") DiskLruCache coverCache,
+                        @Qualifier("coverThumbnailExecutor") ExecutorService executor,
+                        @Value("${app.storage.cover-cache.jpeg-quality:0.85}") float jpegQuality) {
+        this.mangaService = mangaService;
+        this.apiService = apiService;
+        this.coverCache = coverCache;
+        this.executor = executor;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * Variante da capa atual do manga: o arquivo, se já gerado, ou a URL de
+     * fallback no MangaDex (a geração é agendada em segundo plano).
+     */
+    public CoverImage getVariant(String mangaId, CoverVariant variant) {
+        Manga manga = mangaService.findById(mangaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Manga", "id", mangaId));
+        String coverUrl = manga.getCoverImage();
+        if (coverUrl == null || coverUrl.isBlank()) {
+            throw new ResourceNotFoundException("Capa", "manga", mangaId);
+        }
+
+        String version = CoverVariant.version(coverUrl);
+        Optional<Path> file = coverCache.get(cacheKey(coverUrl, variant), EXTENSION);
+        if (file.isEmpty()) {
+            generate(coverUrl);
+        }
+        return new CoverImage(file.orElse(null), "image/jpeg", version, fallbackUrl(coverUrl, variant));
+    }
+
+    /**
+     * Agenda a geração das variantes de uma capa; pedidos repetidos enquanto a
+     * geração está em andamento compartilham o mesmo trabalho.
+     */
+    public CompletableFuture<Void> generate(String coverUrl) {
+        CompletableFuture<Void> scheduled = new CompletableFuture<>();
+        CompletableFuture<Void> existing = generating.putIfAbsent(coverUrl, scheduled);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    createVariants(coverUrl);
+                    scheduled.complete(null);
+                } catch (Exception e) {
+                    log.warn("Falha ao gerar miniaturas da capa {}: {}", coverUrl, e.getMessage());
+                    scheduled.completeExceptionally(e);
+                } finally {
+                    generating.remove(coverUrl, scheduled);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Fila cheia: a próxima requisição da capa tenta de novo
+            generating.remove(coverUrl, scheduled);
+            scheduled.completeExceptionally(e);
+        }
+        return scheduled;
+    }
+
+    void createVariants(String coverUrl) throws IOException {
+        boolean complete = true;
+        for (CoverVariant variant : CoverVariant.values()) {
+            complete &= coverCache.get(cacheKey(coverUrl, variant), EXTENSION).isPresent();
+        }
+        if (complete) {
+            return;
+        }
+
+        Path original = Files.createTempFile("cover-", ".img");
+        try {
+            apiService.downloadFile(coverUrl, original);
+            BufferedImage image = ImageThumbnails.read(original);
+            for (CoverVariant variant : CoverVariant.values()) {
+                coverCache.getOrLoad(cacheKey(coverUrl, variant), EXTENSION, target ->
+                        ImageThumbnails.writeJpeg(ImageThumbnails.resize(image, variant.width()), jpegQuality, target));
+            }
+            log.debug("Miniaturas geradas para a capa {}", coverUrl);
+        } finally {
+            Files.deleteIfExists(original);
+        }
+    }
+
+    static String cacheKey(String coverUrl, CoverVariant variant) {
+        return coverUrl + "#" + variant.width();
+    }
+
+    /**
+     * O MangaDex publica as mesmas larguras como {@code <arquivo>.256.jpg} e {@code .512.jpg}.
+     */
+    static String fallbackUrl(String coverUrl, CoverVariant variant) {
+        return coverUrl.contains("uploads.mangadex.org/covers/")
+                ? coverUrl + "." + variant.width() + ".jpg"
+                : coverUrl;
+    }
+
+    /**
+     * {@code file} é null enquanto a variante ainda não foi gerada.
+     */
+    public record CoverImage(Path file, String contentType, String version, String fallbackUrl) {
+    }
+}
@@ -4,32 +4,64 @@ import com.reader_hub.application.dto.AuthorDto;
 import com.reader_hub.application.dto.ExternalMangaDto;
 import com.reader_hub.application.dto.PaginatedDto;
 import com.reader_hub.application.ports.ApiService;
-import com.reader_hub.domain.model.Manga;
+import com.reader_hub.domain.model.ImportRetry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class DataPopulationService {
 
     private final ApiService apiService;
     private final MangaService mangaService;
     private final AuthorService authorService;
     private final ChapterService chapterService;
+    private final CoverService coverService;
+    private final MangaImportPipeline importPipeline;
+    private final ImportRetryQueue retryQueue;
+    private final ExecutorService chapterImportExecutor;
+    private final int chapterConcurrency;
+    private final Duration chaptersStaleAfter;
 
-    private static final int BATCH_SIZE = 50;
-    private static final long API_DELAY_MS = 500;
+    // Máximo de IDs por requisição do MangaDex (ids[])
+    private static final int COVER_CHUNK_SIZE = 100;
+
+    public DataPopulationService(ApiService apiService, MangaService mangaService, AuthorService authorService,
+                                 ChapterService chapterService, CoverService coverService,
+                                 MangaImportPipeline importPipeline, ImportRetryQueue retryQueue,
+                                 @Qualifier("chapterImportExecutor") ExecutorService chapterImportExecutor,
+                                 @Value("${app.population.chapters.max-concurrent:3}") int chapterConcurrency,
+                                 @Value("${app.population.chapters.stale-after:24h}") Duration chaptersStaleAfter) {
+        this.apiService = apiService;
+        this.mangaService = mangaService;
+        this.authorService = authorService;
+        this.chapterService = chapterService;
+        this.coverService = coverService;
+        this.importPipeline = importPipeline;
+        this.retryQueue = retryQueue;
+        this.chapterImportExecutor = chapterImportExecutor;
+        this.chapterConcurrency = Math.max(1, chapterConcurrency);
+        this.chaptersStaleAfter = chaptersStaleAfter;
+    }
 
     /**
      * Resultado da população de dados
@@ -55,77 +87,56 @@ public class DataPopulationService {
     }
 
     /**
-     * Método genérico para popular mangás com rate limiting
+     * Importa uma página de mangás já buscada pelo pipeline em estágios.
      */
     public PopulationResult populateMangas(PaginatedDto<ExternalMangaDto> mangaDtoPage, String operationType) {
         log.info("Iniciando {} - {} mangás encontrados", operationType, mangaDtoPage.getTotal());
-
-        int savedCount = 0;
-        int authorsSavedCount = 0;
-
-        for (ExternalMangaDto mangaDto : mangaDtoPage.getData()) {
-            try {
-                // Rate limiting para respeitar a API externa
-                rateLimitDelay();
-
-                // Primeiro, salvar autores relacionados
-                authorsSavedCount += processRelatedAuthors(mangaDto);
-
-                // Então salvar o manga
-                mangaService.createManga(mangaDto);
-                savedCount++;
-
-            } catch (Exception e) {
-                log.warn("Erro ao salvar manga {}: {}", mangaDto.getId(), e.getMessage());
-            }
-        }
-
-        String message = String.format("%s concluída - %d mangás e %d autores salvos", 
-                                       operationType, savedCount, authorsSavedCount);
-        
-        return new PopulationResult(savedCount, authorsSavedCount, mangaDtoPage.getTotal(), message);
+        MangaImportPipeline.Result result = importPipeline.run(operationType, mangaDtoPage);
+        return toPopulationResult(operationType, result, mangaDtoPage.getTotal());
     }
 
     /**
-     * Processa autores relacionados a um manga
+     * Busca as páginas e importa os mangás pelo pipeline em estágios
+     * (páginas, autores/capas, mapeamento e gravação em lotes em paralelo).
      */
-    private int processRelatedAuthors(ExternalMangaDto mangaDto) {
-        int count = 0;
-        
-        if (mangaDto.getRelationships() != null) {
-            for (ExternalMangaDto.SimpleRelationship relationship : mangaDto.getRelationships()) {
-                if ("author".equals(relationship.getType())) {
-                    try {
-                        rateLimitDelay();
-                        Optional<AuthorDto> authorDto = apiService.getAuthorById(relationship.getId());
-                        if (authorDto.isPresent()) {
-                            authorService.createAuthor(authorDto.get());
-                            count++;
-                        }
-                    } catch (Exception e) {
-                        log.warn("Erro ao salvar autor {}: {}", relationship.getId(), e.getMessage());
-                    }
-                }
-            }
-        }
-        
-        return count;
+    private PopulationResult importMangas(String operationType, Integer limit, Integer offset,
+                                          BiFunction<Integer, Integer, PaginatedDto<ExternalMangaDto>> fetcher,
+                                          BiConsumer<Integer, Integer> progressCallback) {
+        log.info("Iniciando {} - limit: {}, offset: {}", operationType, limit, offset);
+        MangaImportPipeline.Result result = importPipeline.run(operationType,
+                limit != null ? limit : 20, offset != null ? offset : 0, fetcher, progressCallback);
+        return toPopulationResult(operationType, result, result.totalFound());
+    }
+
+    private static PopulationResult toPopulationResult(String operationType, MangaImportPipeline.Result result,
+                                                       long totalFound) {
+        String message = String.format("%s concluída - %d mangás e %d autores salvos",
+                                       operationType, result.mangasSaved(), result.authorsSaved());
+        return new PopulationResult(result.mangasSaved(), result.authorsSaved(), totalFound, message);
     }
 
     /**
      * Popular mangás populares
      */
     public PopulationResult populatePopularMangas(Integer limit, Integer offset) {
-        PaginatedDto<ExternalMangaDto> popularMangas = apiService.getPopularMangas(limit, offset);
-        return populateMangas(popularMangas, "População de mangás populares");
+        return populatePopularMangas(limit, offset, (current, total) -> { });
+    }
+
+    /**
+     * Popular mangás populares com callback de progresso (mangás processados, limite).
+     */
+    public PopulationResult populatePopularMangas(Integer limit, Integer offset,
+                                                  BiConsumer<Integer, Integer> progressCallback) {
+        return importMangas("População de mangás populares", limit, offset, apiService::getPopularMangas,
+                progressCallback);
     }
 
     /**
      * Popular mangás recentes
      */
     public PopulationResult populateRecentMangas(Integer limit, Integer offset) {
-        PaginatedDto<ExternalMangaDto> recentMangas = apiService.getRecentMangas(limit, offset);
-        return populateMangas(recentMangas, "População de mangás recentes");
+        return importMangas("População de mangás recentes", limit, offset, apiService::getRecentMangas,
+                (current, total) -> { });
     }
 
     /**
@@ -177,6 +188,7 @@ public class DataPopulationService {
                 savedCount++;
             } catch (Exception e) {
                 log.warn("Erro ao salvar autor {}: {}", authorDto.getId(), e.getMessage());
+                retryQueue.record(ImportRetry.Operation.AUTHOR, authorDto.getId(), e);
             }
         }
         
@@ -186,88 +198,159 @@ public class DataPopulationService {
 
     /**
      * Operação completa: mangás + capítulos.
-     * Usa batching ao invés de carregar todos os mangás de uma vez.
+     * Só os mangás desta importação cujos capítulos nunca foram importados ou
+     * estão desatualizados recebem capítulos; cada manga grava na própria transação.
      */
-    @Transactional
     public PopulationCompleteResult populateComplete(Integer mangaLimit, Integer offset, Boolean includeChapters) {
+        return populateComplete(mangaLimit, offset, includeChapters, (current, total) -> { });
+    }
+
+    /**
+     * Operação completa com callback de progresso: primeiro (mangás processados,
+     * limite), depois (mangás com capítulos processados, mangás selecionados).
+     */
+    public PopulationCompleteResult populateComplete(Integer mangaLimit, Integer offset, Boolean includeChapters,
+                                                     BiConsumer<Integer, Integer> progressCallback) {
         log.info("Iniciando população completa - mangaLimit: {}, includeChapters: {}", 
                  mangaLimit, includeChapters);
 
-        // Popular mangás
-        PopulationResult mangaResult = populatePopularMangas(mangaLimit, offset);
+        String operationType = "População de mangás populares";
+        MangaImportPipeline.Result imported = importPipeline.run(operationType,
+                mangaLimit != null ? mangaLimit : 20, offset != null ? offset : 0, apiService::getPopularMangas,
+                progressCallback);
+        PopulationResult mangaResult = toPopulationResult(operationType, imported, imported.totalFound());
         
         int totalChaptersSaved = 0;
-        
         if (Boolean.TRUE.equals(includeChapters)) {
-            // Usar paginação em batches ao invés de carregar tudo em memória
-            int page = 0;
-            Page<Manga> mangaPage;
-            
-            do {
-                mangaPage = mangaService.findAll(PageRequest.of(page, BATCH_SIZE));
-                
-                for (Manga manga : mangaPage.getContent()) {
-                    try {
-                        totalChaptersSaved += populateChaptersForManga(manga.getId());
-                    } catch (Exception e) {
-                        log.warn("Erro ao popular capítulos do manga {}: {}", manga.getId(), e.getMessage());
-                    }
-                }
-                
-                page++;
-            } while (mangaPage.hasNext());
+            totalChaptersSaved = populateChaptersConcurrently(imported.apiIds(), progressCallback);
         }
         
         return new PopulationCompleteResult(mangaResult, totalChaptersSaved, includeChapters);
     }
 
     /**
-     * Atualiza as imagens das capas dos mangas existentes.
-     * Usa batching para evitar carregar todos os registros em memória.
+     * Importa os capítulos dos mangás selecionados com até {@code max-concurrent}
+     * mangás em paralelo. Cada manga roda na própria transação (e conexão) só
+     * enquanto importa; uma falha vai para a fila de retry e não afeta os demais.
      */
-    @Transactional
-    public void updateCoverImages() {
-        log.info("Iniciando atualização das imagens das capas...");
-        
-        int updatedCount = 0;
-        int page = 0;
-        Page<Manga> mangaPage;
-        
-        do {
-            mangaPage = mangaService.findAll(PageRequest.of(page, BATCH_SIZE));
-            
-            for (Manga manga : mangaPage.getContent()) {
+    int populateChaptersConcurrently(Set<String> apiIds, BiConsumer<Integer, Integer> progressCallback) {
+        List<String> mangaIds = mangaService.findChapterSyncTargets(apiIds,
+                OffsetDateTime.now().minus(chaptersStaleAfter));
+        log.info("Capítulos: {} de {} mangás da importação precisam de atualização", mangaIds.size(), apiIds.size());
+        progressCallback.accept(0, mangaIds.size());
+
+        CompletionService<Integer> completion = new ExecutorCompletionService<>(chapterImportExecutor);
+        Map<Future<Integer>, String> inFlight = new HashMap<>();
+        Iterator<String> pending = mangaIds.iterator();
+        int processed = 0;
+        int saved = 0;
+        int failures = 0;
+        try {
+            while (pending.hasNext() || !inFlight.isEmpty()) {
+                // Janela de no máximo chapterConcurrency mangás em andamento por execução
+                while (pending.hasNext() && inFlight.size() < chapterConcurrency) {
+                    String mangaId = pending.next();
+                    inFlight.put(completion.submit(() -> chapterService.populateChaptersForManga(mangaId)), mangaId);
+                }
+
+                Future<Integer> done = completion.take();
+                String mangaId = inFlight.remove(done);
                 try {
-                    if (manga.getApiId() != null && !manga.getApiId().startsWith("manual-")) {
-                        rateLimitDelay();
-                        String coverImageUrl = apiService.getMangaCoverUrl(manga.getApiId());
-                        if (coverImageUrl != null) {
-                            manga.setCoverImage(coverImageUrl);
-                            mangaService.save(manga);
-                            updatedCount++;
-                            log.debug("Imagem da capa atualizada para manga: {}", manga.getApiId());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("Erro ao atualizar imagem da capa para manga {}: {}", manga.getApiId(), e.getMessage());
+                    saved += done.get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    log.warn("Erro ao popular capítulos do manga {}: {}", mangaId, e.getCause().getMessage());
+                    recordChaptersRetry(mangaId, e.getCause());
                 }
+                progressCallback.accept(++processed, mangaIds.size());
             }
-            
-            page++;
-        } while (mangaPage.hasNext());
-        
-        log.info("Atualização concluída. {} mangas atualizados.", updatedCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("População de capítulos interrompida após {} de {} mangás", processed, mangaIds.size());
+        } finally {
+            // Cancelamento do job ou interrupção: os mangás em andamento param na próxima verificação
+            inFlight.keySet().forEach(future -> future.cancel(true));
+        }
+
+        log.info("População de capítulos concluída - {} capítulos salvos em {} mangás ({} falhas)",
+                saved, processed - failures, failures);
+        return saved;
     }
 
-    /**
-     * Rate limiting simples para respeitar limites da API externa.
-     */
-    private void rateLimitDelay() {
+    // A fila usa o apiId do MangaDex; aqui só há o ID local do manga
+    private void recordChaptersRetry(String mangaId, Throwable cause) {
         try {
-            Thread.sleep(API_DELAY_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Thread interrompida durante rate limit delay");
+            mangaService.findById(mangaId).ifPresent(manga ->
+                    retryQueue.record(ImportRetry.Operation.CHAPTERS, manga.getApiId(), cause));
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível agendar retry dos capítulos do manga {}: {}", mangaId, e.getMessage());
         }
     }
+
+    /**
+     * Atualiza as imagens das capas dos mangas existentes.
+     */
+    public void updateCoverImages() {
+        updateCoverImages((current, total) -> { });
+    }
+
+    /**
+     * Atualiza as capas com callback de progresso (mangás processados, total).
+     *
+     * Percorre os mangas em trechos de até 100 (paginação por ID), busca cada
+     * trecho numa requisição só ({@code /manga?ids[]=…&includes[]=cover_art})
+     * e grava, num lote por trecho, só as capas que mudaram. Um trecho que
+     * falha vai para a fila de retry e não interrompe os demais.
+     *
+     * @return quantos mangas tiveram a capa atualizada
+     */
+    public int updateCoverImages(BiConsumer<Integer, Integer> progressCallback) {
+        long total = mangaService.countCoverRefreshTargets();
+        log.info("Iniciando atualização das capas de {} mangas...", total);
+
+        int updatedCount = 0;
+        int missing = 0;
+        int processed = 0;
+        String afterId = "";
+        List<MangaService.CoverRow> chunk;
+        do {
+            chunk = mangaService.findCoverRefreshChunk(afterId, COVER_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+
+            List<String> apiIds = chunk.stream().map(MangaService.CoverRow::apiId).toList();
+            Map<String, String> coverByApiId = new HashMap<>();
+            try {
+                for (ExternalMangaDto mangaDto : apiService.getMangasByIds(apiIds)) {
+                    mangaDto.findCoverUrl().ifPresent(url -> coverByApiId.put(mangaDto.getId(), url));
+                }
+            } catch (Exception e) {
+                log.error("Erro ao buscar capas de {} mangas em lote: {}", apiIds.size(), e.getMessage());
+                apiIds.forEach(apiId -> retryQueue.record(ImportRetry.Operation.COVER, apiId, e));
+            }
+
+            Map<String, String> changed = new HashMap<>();
+            for (MangaService.CoverRow row : chunk) {
+                String coverUrl = coverByApiId.get(row.apiId());
+                if (coverUrl == null) {
+                    missing++;
+                } else if (!coverUrl.equals(row.coverImage())) {
+                    changed.put(row.id(), coverUrl);
+                }
+            }
+            if (!changed.isEmpty()) {
+                updatedCount += mangaService.updateCoverImages(changed);
+                changed.values().forEach(coverService::generate);
+            }
+
+            processed += chunk.size();
+            progressCallback.accept(processed, (int) total);
+        } while (chunk.size() == COVER_CHUNK_SIZE);
+
+        log.info("Atualização concluída. {} de {} mangas com capa nova ({} sem capa na resposta).",
+                updatedCount, processed, missing);
+        return updatedCount;
+    }
 }
@@ -0,0 +1,256 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.SyncState;
+import com.reader_hub.domain.repository.SyncStateRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Mantém o catálogo já importado atualizado com poucas requisições.
+ *
+ * Em vez de repetir a população, pergunta ao MangaDex só o que mudou desde o
+ * high-water mark gravado ({@code updatedAtSince}, em ordem crescente de
+ * updatedAt) e aplica as mudanças aos mangas e capítulos que existem localmente.
+ * O cursor ({@link SinceCursor}) é gravado a cada página, então uma execução
+ * interrompida continua de onde parou. Cada execução busca no máximo
+ * {@code max-pages-per-run} páginas por fluxo; o atraso fica visível em
+ * {@code reader_hub.sync.lag}.
+ */
+@Service
+@Slf4j
+public class DeltaSyncService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ApiService apiService;
+    private final MangaService mangaService;
+    private final ChapterService chapterService;
+    private final SyncStateRepository repository;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final Duration initialLookback;
+    private final LongSupplier clock;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<String, SyncState> states = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requests = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> changes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DeltaSyncService(ApiService apiService, MangaService mangaService, ChapterService chapterService,
+                            SyncStateRepository repository,
+                            @Value("${app.sync.delta.enabled:true}") boolean enabled,
+                            @Value("${app.sync.delta.page-size:100}") int pageSize,
+                            @Value("${app.sync.delta.max-pages-per-run:10}") int maxPagesPerRun,
+                            @Value("${app.sync.delta.initial-lookback:24h}") Duration initialLookback,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(apiService, mangaService, chapterService, repository, enabled, pageSize, maxPagesPerRun,
+                initialLookback, System::currentTimeMillis);
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    DeltaSyncService(ApiService apiService, MangaService mangaService, ChapterService chapterService,
+                     SyncStateRepository repository, boolean enabled, int pageSize, int maxPagesPerRun,
+                     Duration initialLookback, LongSupplier clock) {
+        this.apiService = apiService;
+        this.mangaService = mangaService;
+        this.chapterService = chapterService;
+        this.repository = repository;
+        this.enabled = enabled;
+        this.pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        this.maxPagesPerRun = Math.max(1, maxPagesPerRun);
+        this.initialLookback = initialLookback;
+        this.clock = clock;
+        for (String stream : List.of(SyncState.MANGAS, SyncState.CHAPTERS)) {
+            requests.put(stream, new AtomicLong());
+            changes.put(stream, new AtomicLong());
+        }
+    }
+
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        PaginatedDto<T> fetch(OffsetDateTime since, int limit, int offset);
+    }
+
+    /**
+     * Resultado de um fluxo numa execução.
+     */
+    public record StreamResult(String stream, int pages, int changed, boolean caughtUp, String error) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.delta.interval-ms:900000}",
+               initialDelayString = "${app.sync.delta.initial-delay-ms:120000}")
+    public void scheduledSync() {
+        if (!enabled || running.get()) {
+            return;
+        }
+        try {
+            syncAll((current, total) -> { });
+        } catch (BusinessException e) {
+            log.debug("Delta sync agendado pulado: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sincroniza mangas e depois capítulos; o callback recebe (fluxos concluídos, total).
+     */
+    public List<StreamResult> syncAll(BiConsumer<Integer, Integer> progressCallback) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("Delta sync já em andamento");
+        }
+        try {
+            List<StreamResult> results = new ArrayList<>(2);
+            progressCallback.accept(0, 2);
+            results.add(syncStream(SyncState.MANGAS, apiService::getMangasUpdatedSince,
+                    manga -> manga.getAttributes() != null ? manga.getAttributes().getUpdatedAt() : null,
+                    ExternalMangaDto::getId,
+                    batch -> mangaService.applyExternalUpdates(batch).updated()));
+            progressCallback.accept(1, 2);
+            results.add(syncStream(SyncState.CHAPTERS, apiService::getChaptersUpdatedSince,
+                    chapter -> chapter.getAttributes() != null ? chapter.getAttributes().getUpdatedAt() : null,
+                    ChapterDto::getId,
+                    batch -> {
+                        ChapterService.ChapterSyncCounts counts = chapterService.applyExternalUpdates(batch);
+                        return counts.created() + counts.updated();
+                    }));
+            progressCallback.accept(2, 2);
+            log.info("Delta sync concluído: {}", results);
+            return results;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Estado gravado de cada fluxo (também atualiza o que as métricas exibem).
+     */
+    public List<SyncState> getStates() {
+        List<SyncState> all = repository.findAll();
+        all.forEach(state -> states.put(state.getStream(), state));
+        return all;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    <T> StreamResult syncStream(String stream, PageFetcher<T> fetcher, Function<T, OffsetDateTime> updatedAt,
+                                Function<T, String> id, Function<List<T>, Integer> apply) {
+        Instant runStartedAt = Instant.ofEpochMilli(clock.getAsLong());
+        SyncState state = repository.findById(stream).orElseGet(() -> SyncState.builder()
+                .stream(stream)
+                .cursorAt(runStartedAt.minus(initialLookback).atOffset(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS))
+                .build());
+        state.setLastRunAt(runStartedAt);
+
+        int pages = 0;
+        int changed = 0;
+        boolean caughtUp = false;
+        String error = null;
+        try {
+            while (pages < maxPagesPerRun) {
+                SinceCursor cursor = new SinceCursor(state.getCursorAt(), state.getCursorId(), state.getBoundaryOffset());
+                PaginatedDto<T> page = fetcher.fetch(cursor.at(), pageSize, cursor.offset());
+                pages++;
+                requests.get(stream).incrementAndGet();
+
+                List<T> data = page.getData() != null ? page.getData() : List.of();
+                if (!data.isEmpty()) {
+                    int applied = apply.apply(data);
+                    changed += applied;
+                    changes.get(stream).addAndGet(applied);
+                    SinceCursor next = cursor.advance(data, updatedAt, id);
+                    state.setCursorAt(next.at());
+                    state.setCursorId(next.lastId());
+                    state.setBoundaryOffset(next.offset());
+                }
+                if (data.size() < pageSize) {
+                    caughtUp = true;
+                    state.setCaughtUpAt(runStartedAt);
+                    break;
+                }
+                // Checkpoint por página: uma execução interrompida não reaplica o que já passou
+                repository.save(state);
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage() != null && e.getMessage().length() > MAX_ERROR_LENGTH
+                    ? e.getMessage().substring(0, MAX_ERROR_LENGTH) : e.getMessage();
+            log.warn("Delta sync de {} interrompido na página {}: {}", stream, pages, e.getMessage());
+        }
+
+        state.setLastPages(pages);
+        state.setLastChanged(changed);
+        state.setTotalChanged(state.getTotalChanged() + changed);
+        state.setLastError(error);
+        states.put(stream, repository.save(state));
+        if (!caughtUp && error == null) {
+            log.info("Delta sync de {} atingiu o limite de {} páginas; continua na próxima execução",
+                    stream, maxPagesPerRun);
+        }
+        return new StreamResult(stream, pages, changed, caughtUp, error);
+    }
+
+    /**
+     * Segundos desde o início da última execução que chegou ao fim do feed.
+     */
+    double lagSeconds(String stream) {
+        SyncState state = states.get(stream);
+        if (state == null || state.getCaughtUpAt() == null) {
+            return Double.NaN;
+        }
+        return Math.max(0, (clock.getAsLong() - state.getCaughtUpAt().toEpochMilli()) / 1000.0);
+    }
+
+    /**
+     * Idade do high-water mark: tempo desde a última alteração aplicada.
+     */
+    double highWaterAgeSeconds(String stream) {
+        SyncState state = states.get(stream);
+        if (state == null || state.getCursorAt() == null) {
+            return Double.NaN;
+        }
+        return Math.max(0, (clock.getAsLong() - state.getCursorAt().toInstant().toEpochMilli()) / 1000.0);
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        for (String stream : List.of(SyncState.MANGAS, SyncState.CHAPTERS)) {
+            Gauge.builder("reader_hub.sync.lag", this, service -> service.lagSeconds(stream))
+                    .baseUnit("seconds").tag("stream", stream).register(registry);
+            Gauge.builder("reader_hub.sync.high.water.age", this, service -> service.highWaterAgeSeconds(stream))
+                    .baseUnit("seconds").tag("stream", stream).register(registry);
+            FunctionCounter.builder("reader_hub.sync.requests", requests.get(stream), AtomicLong::get)
+                    .tag("stream", stream).register(registry);
+            FunctionCounter.builder("reader_hub.sync.changes", changes.get(stream), AtomicLong::get)
+                    .tag("stream", stream).register(registry);
+        }
+    }
+}
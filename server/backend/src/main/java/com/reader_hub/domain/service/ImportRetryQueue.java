@@ -0,0 +1,254 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.ImportDeadLetter;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.repository.ImportDeadLetterRepository;
+import com.reader_hub.domain.repository.ImportRetryRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Fila persistente de itens de importação que falharam ({@code import_retries})
+ * e a tabela de itens desistidos ({@code import_dead_letters}).
+ *
+ * Quem importa só chama {@link #record}; o {@link ImportRetryWorker} tenta de
+ * novo cada item com backoff exponencial ({@code base-delay} dobrando até
+ * {@code max-delay}) e, depois de {@code max-attempts}, move o item para a
+ * dead-letter, de onde o operador pode reenviá-lo à fila.
+ */
+@Service
+@Slf4j
+public class ImportRetryQueue {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ImportRetryRepository retryRepository;
+    private final ImportDeadLetterRepository deadLetterRepository;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int maxAttempts;
+    private final LongSupplier clock;
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong rescheduled = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @Autowired
+    public ImportRetryQueue(ImportRetryRepository retryRepository, ImportDeadLetterRepository deadLetterRepository,
+                            @Value("${app.population.retry.base-delay:1m}") Duration baseDelay,
+                            @Value("${app.population.retry.max-delay:6h}") Duration maxDelay,
+                            @Value("${app.population.retry.max-attempts:8}") int maxAttempts,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(retryRepository, deadLetterRepository, baseDelay, maxDelay, maxAttempts, System::currentTimeMillis);
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    ImportRetryQueue(ImportRetryRepository retryRepository, ImportDeadLetterRepository deadLetterRepository,
+                     Duration baseDelay, Duration maxDelay, int maxAttempts, LongSupplier clock) {
+        this.retryRepository = retryRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay.compareTo(baseDelay) < 0 ? baseDelay : maxDelay;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.clock = clock;
+    }
+
+    // =================== REGISTRO ===================
+
+    /**
+     * Agenda uma nova tentativa para o item. Se ele já está na fila só o erro é
+     * atualizado (o backoff continua o mesmo); se já está na dead-letter nada
+     * muda. Nunca lança: uma falha aqui não pode interromper a importação.
+     */
+    public void record(ImportRetry.Operation operation, String apiId, Throwable error) {
+        record(operation, apiId, error != null ? error.getMessage() : null);
+    }
+
+    public void record(ImportRetry.Operation operation, String apiId, String error) {
+        if (apiId == null) {
+            return;
+        }
+        try {
+            ImportRetry existing = retryRepository.findByOperationAndApiId(operation, apiId).orElse(null);
+            if (existing != null) {
+                existing.setLastError(truncate(error));
+                retryRepository.save(existing);
+                return;
+            }
+            if (deadLetterRepository.findByOperationAndApiId(operation, apiId).isPresent()) {
+                log.debug("{} {} já está na dead-letter; falha não reagendada", operation, apiId);
+                return;
+            }
+            Instant now = now();
+            retryRepository.save(ImportRetry.builder()
+                    .operation(operation)
+                    .apiId(apiId)
+                    .nextAttemptAt(now.plus(baseDelay))
+                    .lastError(truncate(error))
+                    .createdAt(now)
+                    .build());
+            recorded.incrementAndGet();
+            log.info("{} {} agendado para nova tentativa: {}", operation, apiId, error);
+        } catch (DataIntegrityViolationException e) {
+            // Outra thread registrou o mesmo item ao mesmo tempo
+            log.debug("{} {} já registrado na fila de retry", operation, apiId);
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível registrar {} {} na fila de retry: {}", operation, apiId, e.getMessage());
+        }
+    }
+
+    // =================== PROCESSAMENTO ===================
+
+    /**
+     * Itens cuja próxima tentativa já venceu, os mais antigos primeiro.
+     */
+    public List<ImportRetry> due(int limit) {
+        return retryRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(now(),
+                PageRequest.of(0, Math.max(1, limit)));
+    }
+
+    public void succeeded(ImportRetry retry) {
+        retryRepository.delete(retry);
+        succeeded.incrementAndGet();
+        log.info("{} {} reprocessado após {} tentativa(s)", retry.getOperation(), retry.getApiId(),
+                retry.getAttempts() + 1);
+    }
+
+    /**
+     * Conta a tentativa e reagenda com backoff, ou move para a dead-letter ao
+     * atingir o limite (ou na hora, se {@code permanent}).
+     *
+     * @return true se o item foi para a dead-letter
+     */
+    @Transactional
+    public boolean failed(ImportRetry retry, String error, boolean permanent) {
+        retry.setAttempts(retry.getAttempts() + 1);
+        retry.setLastError(truncate(error));
+        if (permanent || retry.getAttempts() >= maxAttempts) {
+            deadLetterRepository.save(ImportDeadLetter.builder()
+                    .operation(retry.getOperation())
+                    .apiId(retry.getApiId())
+                    .attempts(retry.getAttempts())
+                    .lastError(retry.getLastError())
+                    .firstFailedAt(retry.getCreatedAt() != null ? retry.getCreatedAt() : now())
+                    .deadAt(now())
+                    .build());
+            retryRepository.delete(retry);
+            deadLettered.incrementAndGet();
+            log.warn("{} {} movido para a dead-letter após {} tentativa(s): {}", retry.getOperation(),
+                    retry.getApiId(), retry.getAttempts(), error);
+            return true;
+        }
+        retry.setNextAttemptAt(now().plus(backoff(retry.getAttempts())));
+        retryRepository.save(retry);
+        rescheduled.incrementAndGet();
+        log.debug("{} {} falhou na tentativa {}; próxima em {}", retry.getOperation(), retry.getApiId(),
+                retry.getAttempts(), retry.getNextAttemptAt());
+        return false;
+    }
+
+    /**
+     * Espera antes da próxima tentativa: base × 2^tentativas, limitado a {@code max-delay}.
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(0, attempts), 30);
+        Duration delay = baseDelay.multipliedBy(1L << shift);
+        return delay.compareTo(maxDelay) > 0 || delay.isNegative() ? maxDelay : delay;
+    }
+
+    // =================== CONSULTA E REENVIO ===================
+
+    public Page<ImportRetry> findPending(ImportRetry.Operation operation, Pageable pageable) {
+        return operation != null
+                ? retryRepository.findByOperation(operation, pageable)
+                : retryRepository.findAll(pageable);
+    }
+
+    public Page<ImportDeadLetter> findDeadLetters(ImportRetry.Operation operation, Pageable pageable) {
+        return operation != null
+                ? deadLetterRepository.findByOperation(operation, pageable)
+                : deadLetterRepository.findAll(pageable);
+    }
+
+    /**
+     * Devolve o item da dead-letter à fila, com tentativas zeradas e vencido agora.
+     */
+    @Transactional
+    public ImportRetry replay(String deadLetterId) {
+        ImportDeadLetter deadLetter = deadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dead-letter", "ID", deadLetterId));
+        return requeue(deadLetter);
+    }
+
+    /**
+     * Reenvia à fila todos os itens da dead-letter (ou só os da operação).
+     */
+    @Transactional
+    public int replayAll(ImportRetry.Operation operation) {
+        List<ImportDeadLetter> deadLetters = operation != null
+                ? deadLetterRepository.findByOperation(operation)
+                : deadLetterRepository.findAll();
+        deadLetters.forEach(this::requeue);
+        log.info("{} itens da dead-letter reenviados à fila de retry", deadLetters.size());
+        return deadLetters.size();
+    }
+
+    @Transactional
+    public void discard(String deadLetterId) {
+        ImportDeadLetter deadLetter = deadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dead-letter", "ID", deadLetterId));
+        deadLetterRepository.delete(deadLetter);
+    }
+
+    private ImportRetry requeue(ImportDeadLetter deadLetter) {
+        deadLetterRepository.delete(deadLetter);
+        Instant now = now();
+        ImportRetry retry = retryRepository.findByOperationAndApiId(deadLetter.getOperation(), deadLetter.getApiId())
+                .orElseGet(() -> ImportRetry.builder()
+                        .operation(deadLetter.getOperation())
+                        .apiId(deadLetter.getApiId())
+                        .createdAt(now)
+                        .build());
+        retry.setAttempts(0);
+        retry.setNextAttemptAt(now);
+        retry.setLastError(deadLetter.getLastError());
+        return retryRepository.save(retry);
+    }
+
+    private Instant now() {
+        return Instant.ofEpochMilli(clock.getAsLong());
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("reader_hub.import.retry.recorded", recorded, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("reader_hub.import.retry.attempts", succeeded, AtomicLong::get)
+                .tag("outcome", "succeeded").register(registry);
+        FunctionCounter.builder("reader_hub.import.retry.attempts", rescheduled, AtomicLong::get)
+                .tag("outcome", "rescheduled").register(registry);
+        FunctionCounter.builder("reader_hub.import.retry.attempts", deadLettered, AtomicLong::get)
+                .tag("outcome", "dead_lettered").register(registry);
+    }
+}
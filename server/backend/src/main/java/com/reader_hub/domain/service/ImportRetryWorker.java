@@ -0,0 +1,179 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.exception.ExternalApiUnavailableException;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.Manga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Reprocessa os itens vencidos da {@link ImportRetryQueue}, um por vez e só o
+ * que falhou: o manga pelo apiId, o autor, os capítulos ou a capa de um manga.
+ * Cada execução trata no máximo {@code batch-size} itens; se o MangaDex estiver
+ * indisponível (circuit breaker aberto) a execução para sem gastar tentativas.
+ */
+@Service
+@Slf4j
+public class ImportRetryWorker {
+
+    private final ImportRetryQueue queue;
+    private final ApiService apiService;
+    private final MangaService mangaService;
+    private final AuthorService authorService;
+    private final ChapterService chapterService;
+    private final CoverService coverService;
+    private final MangaImportPipeline importPipeline;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ImportRetryWorker(ImportRetryQueue queue, ApiService apiService, MangaService mangaService,
+                             AuthorService authorService, ChapterService chapterService, CoverService coverService,
+                             MangaImportPipeline importPipeline,
+                             @Value("${app.population.retry.enabled:true}") boolean enabled,
+                             @Value("${app.population.retry.batch-size:20}") int batchSize) {
+        this.queue = queue;
+        this.apiService = apiService;
+        this.mangaService = mangaService;
+        this.authorService = authorService;
+        this.chapterService = chapterService;
+        this.coverService = coverService;
+        this.importPipeline = importPipeline;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Resultado de uma execução.
+     */
+    public record RunResult(int succeeded, int rescheduled, int deadLettered, boolean interrupted) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.population.retry.interval-ms:60000}",
+               initialDelayString = "${app.population.retry.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (enabled) {
+            processDue();
+        }
+    }
+
+    /**
+     * Tenta de novo os itens vencidos; não faz nada se outra execução estiver em andamento.
+     */
+    public RunResult processDue() {
+        return processDue((current, total) -> { });
+    }
+
+    /**
+     * Igual a {@link #processDue()}, avisando o progresso (itens tratados, total vencido)
+     * a cada item; o callback pode interromper a execução lançando uma exceção.
+     */
+    public RunResult processDue(BiConsumer<Integer, Integer> progress) {
+        if (!running.compareAndSet(false, true)) {
+            return new RunResult(0, 0, 0, false);
+        }
+        try {
+            int succeeded = 0;
+            int rescheduled = 0;
+            int deadLettered = 0;
+            List<ImportRetry> due = queue.due(batchSize);
+            progress.accept(0, due.size());
+            for (ImportRetry retry : due) {
+                try {
+                    execute(retry);
+                    queue.succeeded(retry);
+                    succeeded++;
+                } catch (ExternalApiUnavailableException e) {
+                    // Item continua vencido: é retomado na próxima execução, sem contar tentativa
+                    log.info("MangaDex indisponível ({}); retry interrompido após {} de {} itens",
+                            e.getReason(), succeeded + rescheduled + deadLettered, due.size());
+                    return new RunResult(succeeded, rescheduled, deadLettered, true);
+                } catch (RuntimeException e) {
+                    if (queue.failed(retry, e.getMessage(), isPermanent(e))) {
+                        deadLettered++;
+                    } else {
+                        rescheduled++;
+                    }
+                }
+                // Fora do try: um cancelamento não pode contar como falha do item
+                progress.accept(succeeded + rescheduled + deadLettered, due.size());
+            }
+            if (!due.isEmpty()) {
+                log.info("Retry de importação: {} reprocessados, {} reagendados, {} para a dead-letter",
+                        succeeded, rescheduled, deadLettered);
+            }
+            return new RunResult(succeeded, rescheduled, deadLettered, false);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    void execute(ImportRetry retry) {
+        String apiId = retry.getApiId();
+        switch (retry.getOperation()) {
+            case MANGA -> retryManga(apiId);
+            case AUTHOR -> retryAuthor(apiId);
+            case CHAPTERS -> chapterService.populateChaptersForManga(findManga(apiId).getId());
+            case COVER -> retryCover(apiId);
+        }
+    }
+
+    private void retryManga(String apiId) {
+        if (!mangaService.findExistingApiIds(List.of(apiId)).isEmpty()) {
+            return;
+        }
+        ExternalMangaDto mangaDto = apiService.getMangaById(apiId)
+                .orElseThrow(() -> new ResourceNotFoundException("Manga", "apiId", apiId));
+        importPipeline.run("Retry do manga " + apiId, new PaginatedDto<>(List.of(mangaDto), 1, 0, 1));
+        if (mangaService.findExistingApiIds(List.of(apiId)).isEmpty()) {
+            throw new IllegalStateException("Manga " + apiId + " não foi gravado");
+        }
+    }
+
+    private void retryAuthor(String apiId) {
+        if (!authorService.findExistingApiIds(List.of(apiId)).isEmpty()) {
+            return;
+        }
+        AuthorDto authorDto = apiService.getAuthorById(apiId)
+                .orElseThrow(() -> new ResourceNotFoundException("Autor", "apiId", apiId));
+        authorService.createAuthor(authorDto);
+    }
+
+    private void retryCover(String apiId) {
+        Manga manga = findManga(apiId);
+        String coverUrl = apiService.getMangaCoverUrl(apiId);
+        if (coverUrl == null) {
+            throw new IllegalStateException("Capa do manga " + apiId + " não encontrada");
+        }
+        manga.setCoverImage(coverUrl);
+        mangaService.save(manga);
+        coverService.generate(coverUrl);
+    }
+
+    private Manga findManga(String apiId) {
+        Manga manga = mangaService.findByApiIds(List.of(apiId)).get(apiId);
+        if (manga == null) {
+            throw new ResourceNotFoundException("Manga", "apiId", apiId);
+        }
+        return manga;
+    }
+
+    // Não adianta tentar de novo o que não existe mais (localmente ou no MangaDex)
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof ResourceNotFoundException
+                || (e instanceof ExternalApiException external && external.getStatusCode() == 404);
+    }
+}
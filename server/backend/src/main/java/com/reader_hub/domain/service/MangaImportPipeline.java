@@ -0,0 +1,494 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.Author;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.Manga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Importação de mangás em estágios paralelos ligados por filas limitadas:
+ *
+ * <pre>
+ * páginas (fetch) → autores/capas (resolve) → entidades (map) → lotes (persist)
+ * </pre>
+ *
+ * Cada estágio tem seu próprio número de workers; filas cheias seguram o
+ * estágio anterior, então a memória fica limitada mesmo em importações longas.
+ * O ritmo de chamadas ao MangaDex continua a cargo do adapter (rate limit e
+ * bulkheads), e cada lote é gravado numa transação curta própria. Mangás,
+ * autores e capas que falham vão para a {@link ImportRetryQueue} em vez de
+ * serem só descartados.
+ */
+@Service
+@Slf4j
+public class MangaImportPipeline {
+
+    private static final long PERSIST_LINGER_MS = 100;
+
+    private final ApiService apiService;
+    private final MangaService mangaService;
+    private final AuthorService authorService;
+    private final ImportRetryQueue retryQueue;
+    private final ExecutorService executor;
+    private final Settings settings;
+
+    @Autowired
+    public MangaImportPipeline(ApiService apiService, MangaService mangaService, AuthorService authorService,
+                               ImportRetryQueue retryQueue,
+                               @Qualifier("mangaImportExecutor") ExecutorService executor,
+                               @Value("${app.population.pipeline.page-size:100}") int pageSize,
+                               @Value("${app.population.pipeline.fetch-parallelism:2}") int fetchParallelism,
+                               @Value("${app.population.pipeline.resolve-parallelism:4}") int resolveParallelism,
+                               @Value("${app.population.pipeline.map-parallelism:1}") int mapParallelism,
+                               @Value("${app.population.pipeline.persist-parallelism:1}") int persistParallelism,
+                               @Value("${app.population.pipeline.batch-size:50}") int batchSize,
+                               @Value("${app.population.pipeline.queue-capacity:4}") int queueCapacity) {
+        this(apiService, mangaService, authorService, retryQueue, executor, new Settings(pageSize, fetchParallelism,
+                resolveParallelism, mapParallelism, persistParallelism, batchSize, queueCapacity));
+    }
+
+    MangaImportPipeline(ApiService apiService, MangaService mangaService, AuthorService authorService,
+                        ImportRetryQueue retryQueue, ExecutorService executor, Settings settings) {
+        this.apiService = apiService;
+        this.mangaService = mangaService;
+        this.authorService = authorService;
+        this.retryQueue = retryQueue;
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    /**
+     * Importa até {@code limit} mangás a partir de {@code offset}, buscando as
+     * páginas com {@code fetcher(limit, offset)}.
+     */
+    public Result run(String operation, int limit, int offset,
+                      BiFunction<Integer, Integer, PaginatedDto<ExternalMangaDto>> fetcher) {
+        return run(operation, limit, offset, fetcher, (processed, total) -> { });
+    }
+
+    /**
+     * Como {@link #run(String, int, int, BiFunction)}, informando a cada lote
+     * gravado {@code (mangás processados, limit)}. Se o callback lançar
+     * {@link CancellationException} o pipeline para de buscar e gravar e a
+     * exceção é repassada a quem chamou.
+     */
+    public Result run(String operation, int limit, int offset,
+                      BiFunction<Integer, Integer, PaginatedDto<ExternalMangaDto>> fetcher,
+                      BiConsumer<Integer, Integer> progressCallback) {
+        BlockingQueue<Envelope<int[]>> offsets = new LinkedBlockingQueue<>();
+        for (int pageOffset = offset; pageOffset < offset + limit; pageOffset += settings.pageSize()) {
+            offsets.add(Envelope.of(new int[]{pageOffset, Math.min(settings.pageSize(), offset + limit - pageOffset)}));
+        }
+        offsets.add(Envelope.end());
+        return execute(operation, offsets, fetcher, processed -> progressCallback.accept(processed, limit));
+    }
+
+    /**
+     * Importa uma página já buscada (ex.: resultado de busca por título).
+     */
+    public Result run(String operation, PaginatedDto<ExternalMangaDto> page) {
+        BlockingQueue<Envelope<int[]>> offsets = new LinkedBlockingQueue<>();
+        offsets.add(Envelope.of(new int[]{0, Math.max(1, page.getData().size())}));
+        offsets.add(Envelope.end());
+        return execute(operation, offsets, (limit, offset) -> page, processed -> { });
+    }
+
+    private Result execute(String operation, BlockingQueue<Envelope<int[]>> offsets,
+                           BiFunction<Integer, Integer, PaginatedDto<ExternalMangaDto>> fetcher,
+                           IntConsumer progress) {
+        long startedAt = System.nanoTime();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicInteger processed = new AtomicInteger();
+        AtomicLong totalFound = new AtomicLong(-1);
+        AtomicInteger authorsSaved = new AtomicInteger();
+        AtomicInteger mangasSaved = new AtomicInteger();
+        Set<String> seenApiIds = ConcurrentHashMap.newKeySet();
+
+        int itemCapacity = Math.max(1, settings.queueCapacity() * settings.pageSize());
+        BlockingQueue<Envelope<List<ExternalMangaDto>>> pages = new ArrayBlockingQueue<>(Math.max(1, settings.queueCapacity()));
+        BlockingQueue<Envelope<Resolved>> resolved = new ArrayBlockingQueue<>(itemCapacity);
+        BlockingQueue<Envelope<Mapped>> mapped = new ArrayBlockingQueue<>(itemCapacity);
+
+        List<Stage<?, ?>> stages = List.of(
+                new Stage<>("fetch", settings.fetchParallelism(), 1, offsets, pages, cancelled,
+                        batch -> fetchPage(batch.get(0), fetcher, totalFound)),
+                new Stage<>("resolve", settings.resolveParallelism(), 1, pages, resolved, cancelled,
+                        batch -> resolvePage(batch.get(0), authorsSaved, seenApiIds)),
+                new Stage<>("map", settings.mapParallelism(), 1, resolved, mapped, cancelled,
+                        batch -> List.of(map(batch.get(0)))),
+                new Stage<Mapped, Void>("persist", settings.persistParallelism(), settings.batchSize(), mapped, null,
+                        cancelled, batch -> {
+                            mangasSaved.addAndGet(persist(batch));
+                            progress.accept(processed.addAndGet(batch.size()));
+                            return List.of();
+                        }));
+
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            stages.forEach(stage -> stage.start(executor, workers));
+        } catch (RejectedExecutionException e) {
+            // Pool no teto: desfaz os workers já iniciados em vez de deixá-los esperando
+            workers.forEach(worker -> worker.cancel(true));
+            log.warn("{}: recusada, pool de importação no limite", operation);
+            throw e;
+        }
+        try {
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.forEach(worker -> worker.cancel(true));
+            throw new IllegalStateException("Importação interrompida", e);
+        } catch (ExecutionException e) {
+            workers.forEach(worker -> worker.cancel(true));
+            throw new IllegalStateException("Falha no pipeline de importação", e.getCause());
+        }
+
+        if (cancelled.get()) {
+            log.info("{}: cancelada após {} mangás salvos", operation, mangasSaved.get());
+            throw new CancellationException(operation + " cancelada");
+        }
+
+        int failures = stages.stream().mapToInt(Stage::failures).sum();
+        log.info("{}: {} mangás e {} autores salvos em {} ms ({} falhas)", operation, mangasSaved.get(),
+                authorsSaved.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), failures);
+        return new Result(mangasSaved.get(), authorsSaved.get(), Math.max(0, totalFound.get()), failures,
+                Set.copyOf(seenApiIds));
+    }
+
+    // ================== ESTÁGIOS ==================
+
+    private List<List<ExternalMangaDto>> fetchPage(int[] range, BiFunction<Integer, Integer, PaginatedDto<ExternalMangaDto>> fetcher,
+                                                   AtomicLong totalFound) {
+        long known = totalFound.get();
+        if (known >= 0 && range[0] >= known) {
+            return List.of();
+        }
+        PaginatedDto<ExternalMangaDto> page = fetcher.apply(range[1], range[0]);
+        if (page == null) {
+            return List.of();
+        }
+        if (page.getTotal() != null) {
+            totalFound.compareAndSet(-1, page.getTotal());
+        }
+        return page.getData() == null || page.getData().isEmpty() ? List.of() : List.of(page.getData());
+    }
+
+    private List<Resolved> resolvePage(List<ExternalMangaDto> page, AtomicInteger authorsSaved,
+                                       Set<String> seenApiIds) {
+        List<String> apiIds = page.stream().map(ExternalMangaDto::getId).filter(Objects::nonNull).toList();
+        seenApiIds.addAll(apiIds);
+        Set<String> existing;
+        try {
+            authorsSaved.addAndGet(saveRelatedAuthors(page));
+            existing = mangaService.findExistingApiIds(apiIds);
+        } catch (RuntimeException e) {
+            // A página inteira se perde neste estágio: cada manga vai para a fila de retry
+            apiIds.forEach(apiId -> retryQueue.record(ImportRetry.Operation.MANGA, apiId, e));
+            throw e;
+        }
+        List<Resolved> result = new ArrayList<>();
+        for (ExternalMangaDto mangaDto : page) {
+            if (mangaDto.getId() != null && existing.contains(mangaDto.getId())) {
+                continue;
+            }
+            result.add(new Resolved(mangaDto, resolveCover(mangaDto)));
+        }
+        return result;
+    }
+
+    private Mapped map(Resolved resolved) {
+        Manga manga = MangaService.fromExternal(resolved.mangaDto());
+        manga.setCoverImage(resolved.coverUrl());
+        String authorApiId = resolved.mangaDto().findRelationships("author").stream()
+                .map(ExternalMangaDto.SimpleRelationship::getId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        return new Mapped(manga, authorApiId);
+    }
+
+    private int persist(List<Mapped> batch) {
+        Map<String, Author> authors = authorService.findByApiIds(batch.stream()
+                .map(Mapped::authorApiId).filter(Objects::nonNull).distinct().toList());
+        List<Manga> mangas = new ArrayList<>(batch.size());
+        for (Mapped item : batch) {
+            if (item.authorApiId() != null) {
+                item.manga().setAuthor(authors.get(item.authorApiId()));
+            }
+            mangas.add(item.manga());
+        }
+        try {
+            return mangaService.saveNewMangas(mangas);
+        } catch (RuntimeException e) {
+            // Um registro ruim não deve descartar o lote inteiro: grava um a um
+            log.warn("Falha ao gravar lote de {} mangás, gravando individualmente: {}", mangas.size(), e.getMessage());
+            int saved = 0;
+            for (Manga manga : mangas) {
+                try {
+                    saved += mangaService.saveNewMangas(List.of(manga));
+                } catch (RuntimeException single) {
+                    log.warn("Erro ao salvar manga {}: {}", manga.getApiId(), single.getMessage());
+                    retryQueue.record(ImportRetry.Operation.MANGA, manga.getApiId(), single);
+                }
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * Autores da página que ainda não estão no banco. Junta todos os IDs,
+     * descarta os existentes (uma consulta IN), aproveita os atributos incluídos
+     * na listagem (includes[]=author) e só busca o restante pelo endpoint de
+     * múltiplos IDs (ids[]).
+     */
+    int saveRelatedAuthors(List<ExternalMangaDto> mangaDtos) {
+        Map<String, ExternalMangaDto.SimpleRelationship> relationsById = new LinkedHashMap<>();
+        mangaDtos.stream()
+                .flatMap(mangaDto -> mangaDto.findRelationships("author").stream())
+                .filter(relationship -> relationship.getId() != null)
+                .forEach(relationship -> relationsById.putIfAbsent(relationship.getId(), relationship));
+        if (relationsById.isEmpty()) {
+            return 0;
+        }
+
+        relationsById.keySet().removeAll(authorService.findExistingApiIds(relationsById.keySet()));
+        if (relationsById.isEmpty()) {
+            return 0;
+        }
+
+        List<AuthorDto> authorDtos = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+        relationsById.forEach((authorId, relationship) -> relationship.toIncludedAuthor()
+                .ifPresentOrElse(authorDtos::add, () -> missingIds.add(authorId)));
+
+        if (!missingIds.isEmpty()) {
+            try {
+                List<AuthorDto> fetched = apiService.getAuthorsByIds(missingIds);
+                authorDtos.addAll(fetched);
+                recordUnreturnedAuthors(missingIds, fetched);
+            } catch (Exception e) {
+                log.warn("Erro ao buscar {} autores em lote: {}", missingIds.size(), e.getMessage());
+                missingIds.forEach(authorId -> retryQueue.record(ImportRetry.Operation.AUTHOR, authorId, e));
+            }
+        }
+
+        // Upsert pelo apiId: páginas em paralelo podem trazer o mesmo autor sem duplicá-lo
+        int count = 0;
+        try {
+            count = authorService.upsertAuthors(authorDtos);
+        } catch (Exception e) {
+            log.warn("Erro ao salvar {} autores: {}", authorDtos.size(), e.getMessage());
+            authorDtos.forEach(authorDto -> retryQueue.record(ImportRetry.Operation.AUTHOR, authorDto.getId(), e));
+        }
+        log.debug("{} autores novos ({} buscados na API)", count, missingIds.size());
+        return count;
+    }
+
+    // IDs que a API não devolveu (lote e busca individual falharam) voltam pela fila de retry
+    private void recordUnreturnedAuthors(List<String> requestedIds, List<AuthorDto> fetched) {
+        Set<String> returnedIds = fetched.stream().map(AuthorDto::getId).collect(Collectors.toSet());
+        requestedIds.stream()
+                .filter(authorId -> !returnedIds.contains(authorId))
+                .forEach(authorId -> retryQueue.record(ImportRetry.Operation.AUTHOR, authorId,
+                        "Autor não retornado pela busca em lote"));
+    }
+
+    // Usa o cover_art incluído na listagem; só vai à API se não veio
+    private String resolveCover(ExternalMangaDto mangaDto) {
+        return mangaDto.findCoverUrl().orElseGet(() -> {
+            try {
+                return apiService.getMangaCoverUrl(mangaDto.getId());
+            } catch (Exception e) {
+                log.warn("Não foi possível obter a capa do manga {}: {}", mangaDto.getId(), e.getMessage());
+                retryQueue.record(ImportRetry.Operation.COVER, mangaDto.getId(), e);
+                return null;
+            }
+        });
+    }
+
+    // ================== INFRAESTRUTURA ==================
+
+    /**
+     * Parâmetros do pipeline: tamanho da página, workers por estágio, tamanho
+     * do lote gravado por transação e capacidade das filas (em páginas).
+     */
+    record Settings(int pageSize, int fetchParallelism, int resolveParallelism, int mapParallelism,
+                    int persistParallelism, int batchSize, int queueCapacity) {
+        Settings {
+            pageSize = Math.max(1, Math.min(pageSize, 100));
+            fetchParallelism = Math.max(1, fetchParallelism);
+            resolveParallelism = Math.max(1, resolveParallelism);
+            mapParallelism = Math.max(1, mapParallelism);
+            persistParallelism = Math.max(1, persistParallelism);
+            batchSize = Math.max(1, batchSize);
+            queueCapacity = Math.max(1, queueCapacity);
+        }
+    }
+
+    /**
+     * Contadores da importação; {@code apiIds} são todos os mangás das páginas
+     * buscadas, novos ou já existentes.
+     */
+    public record Result(int mangasSaved, int authorsSaved, long totalFound, int failures, Set<String> apiIds) {
+        public Result(int mangasSaved, int authorsSaved, long totalFound, int failures) {
+            this(mangasSaved, authorsSaved, totalFound, failures, Set.of());
+        }
+    }
+
+    private record Resolved(ExternalMangaDto mangaDto, String coverUrl) {
+    }
+
+    private record Mapped(Manga manga, String authorApiId) {
+    }
+
+    /**
+     * Item de uma fila entre estágios; {@link #end()} marca o fim do fluxo.
+     */
+    private record Envelope<T>(T value, boolean last) {
+        static <T> Envelope<T> of(T value) {
+            return new Envelope<>(value, false);
+        }
+
+        static <T> Envelope<T> end() {
+            return new Envelope<>(null, true);
+        }
+    }
+
+    /**
+     * Estágio com N workers lendo da fila de entrada. O marcador de fim é
+     * devolvido à fila para os demais workers; o último a sair repassa o fim
+     * ao próximo estágio. Falha num item é contada e não derruba o pipeline;
+     * {@link CancellationException} cancela todos os estágios.
+     */
+    private static final class Stage<I, O> {
+        private final String name;
+        private final int workers;
+        private final int batchSize;
+        private final BlockingQueue<Envelope<I>> input;
+        private final BlockingQueue<Envelope<O>> output;
+        private final Function<List<I>, List<O>> work;
+        private final AtomicBoolean cancelled;
+        private final AtomicInteger running;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        Stage(String name, int workers, int batchSize, BlockingQueue<Envelope<I>> input,
+              BlockingQueue<Envelope<O>> output, AtomicBoolean cancelled, Function<List<I>, List<O>> work) {
+            this.name = name;
+            this.workers = workers;
+            this.batchSize = batchSize;
+            this.input = input;
+            this.output = output;
+            this.work = work;
+            this.cancelled = cancelled;
+            this.running = new AtomicInteger(workers);
+        }
+
+        void start(ExecutorService executor, List<Future<?>> futures) {
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    drain();
+                    return null;
+                }));
+            }
+        }
+
+        int failures() {
+            return failures.get();
+        }
+
+        private void drain() throws InterruptedException {
+            try {
+                boolean end = false;
+                while (!end) {
+                    List<I> batch = new ArrayList<>(batchSize);
+                    end = collect(batch);
+                    if (end) {
+                        input.put(Envelope.end());
+                    }
+                    // Cancelado: só escoa a fila até o marcador de fim
+                    if (!batch.isEmpty() && !cancelled.get()) {
+                        process(batch);
+                    }
+                }
+            } finally {
+                if (running.decrementAndGet() == 0 && output != null) {
+                    output.put(Envelope.end());
+                }
+            }
+        }
+
+        // Bloqueia pelo primeiro item e espera um pouco para completar o lote
+        private boolean collect(List<I> batch) throws InterruptedException {
+            Envelope<I> next = input.take();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PERSIST_LINGER_MS);
+            while (true) {
+                if (next.last()) {
+                    return true;
+                }
+                batch.add(next.value());
+                if (batch.size() >= batchSize) {
+                    return false;
+                }
+                long remaining = deadline - System.nanoTime();
+                next = remaining > 0 ? input.poll(remaining, TimeUnit.NANOSECONDS) : input.poll();
+                if (next == null) {
+                    return false;
+                }
+            }
+        }
+
+        private void process(List<I> batch) throws InterruptedException {
+            List<O> results;
+            try {
+                results = work.apply(batch);
+            } catch (CancellationException e) {
+                cancelled.set(true);
+                return;
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                log.warn("Erro no estágio {} do pipeline de importação: {}", name, e.getMessage());
+                return;
+            }
+            if (output != null) {
+                for (O result : results) {
+                    output.put(Envelope.of(result));
+                }
+            }
+        }
+    }
+}
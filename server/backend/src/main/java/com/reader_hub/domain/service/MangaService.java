@@ -18,14 +18,20 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -166,6 +172,53 @@ public class MangaService {
         return mangaRepository.existsById(id);
     }
 
+    /**
+     * IDs locais, entre os {@code apiIds} informados, cujos capítulos nunca foram
+     * importados ou foram importados antes de {@code staleBefore}.
+     */
+    @Transactional(readOnly = true)
+    public List<String> findChapterSyncTargets(Collection<String> apiIds, OffsetDateTime staleBefore) {
+        if (apiIds.isEmpty()) {
+            return List.of();
+        }
+        return mangaRepository.findChapterSyncTargets(apiIds, staleBefore);
+    }
+
+    @Transactional
+    public void markChaptersSynced(String id, OffsetDateTime syncedAt) {
+        mangaRepository.markChaptersSynced(id, syncedAt);
+    }
+
+    /**
+     * Próximo trecho da atualização de capas, em ordem de ID a partir de {@code afterId}.
+     */
+    @Transactional(readOnly = true)
+    public List<CoverRow> findCoverRefreshChunk(String afterId, int size) {
+        return mangaRepository.findCoverRefreshChunk(afterId, PageRequest.of(0, size)).stream()
+                .map(row -> new CoverRow((String) row[0], (String) row[1], (String) row[2]))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public long countCoverRefreshTargets() {
+        return mangaRepository.countCoverRefreshTargets();
+    }
+
+    /**
+     * Grava as capas alteradas (ID local → URL) numa transação e num lote só.
+     */
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = "mangas", allEntries = true),
+        @CacheEvict(value = "manga-lists", allEntries = true)
+    })
+    public int updateCoverImages(Map<String, String> coverImageById) {
+        return mangaRepository.updateCoverImages(coverImageById);
+    }
+
+    public record CoverRow(String id, String apiId, String coverImage) {
+    }
+
     // =====================================
     // QUERIES FILTRADAS
     // =====================================
@@ -286,8 +339,11 @@ public class MangaService {
         
         Manga manga = convertDtoToEntity(mangaDto);
         
-        // Buscar e salvar a imagem da capa
-        if (manga.getApiId() != null) {
+        // Capa: usa o cover_art incluído na resposta; só busca na API se não veio
+        Optional<String> includedCover = mangaDto.findCoverUrl();
+        if (includedCover.isPresent()) {
+            manga.setCoverImage(includedCover.get());
+        } else if (manga.getApiId() != null) {
             try {
                 String coverImageUrl = apiService.getMangaCoverUrl(manga.getApiId());
                 manga.setCoverImage(coverImageUrl);
@@ -299,6 +355,155 @@ public class MangaService {
         return mangaRepository.save(manga);
     }
 
+    /**
+     * Grava um lote de mangás importados numa única transação curta.
+     * Os que já existem (mesmo apiId, ex.: importados em paralelo por outra
+     * requisição) são descartados com uma consulta IN.
+     *
+     * @return quantos mangás foram gravados
+     */
+    @Caching(evict = {
+        @CacheEvict(value = "manga-lists", allEntries = true),
+        @CacheEvict(value = "statistics", allEntries = true)
+    })
+    public int saveNewMangas(List<Manga> mangas) {
+        if (mangas.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = mangaRepository.findExistingApiIds(
+                mangas.stream().map(Manga::getApiId).filter(Objects::nonNull).toList());
+        Set<String> seen = new HashSet<>();
+        List<Manga> fresh = mangas.stream()
+                .filter(manga -> manga.getApiId() == null
+                        || (!existing.contains(manga.getApiId()) && seen.add(manga.getApiId())))
+                .toList();
+        mangaRepository.saveAll(fresh);
+        return fresh.size();
+    }
+
+    /**
+     * apiIds já gravados dentre os informados (uma consulta IN)
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findExistingApiIds(Collection<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return Set.of();
+        }
+        return mangaRepository.findExistingApiIds(apiIds);
+    }
+
+    /**
+     * Converte o DTO da API num manga novo, sem autor e sem capa
+     * (resolvidos à parte por quem chama).
+     */
+    public static Manga fromExternal(ExternalMangaDto mangaDto) {
+        Manga manga = new Manga();
+        manga.setApiId(mangaDto.getId());
+        manga.setTitle(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getTitle() : null);
+        manga.setDescription(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getDescription() : null);
+        manga.setStatus(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getStatus() : "unknown");
+        manga.setYear(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getYear() : null);
+        manga.setSourceUpdatedAt(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getUpdatedAt() : null);
+        return manga;
+    }
+
+    /**
+     * Mangás locais por apiId (uma consulta IN)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Manga> findByApiIds(Collection<String> apiIds) {
+        if (apiIds == null || apiIds.isEmpty()) {
+            return Map.of();
+        }
+        return mangaRepository.findByApiIdIn(apiIds).stream()
+                .collect(Collectors.toMap(Manga::getApiId, manga -> manga, (first, second) -> first));
+    }
+
+    /**
+     * Aplica as mudanças do delta sync aos mangás já importados (uma consulta IN
+     * e só grava os que mudaram). Mangás que não existem localmente são ignorados.
+     */
+    @Caching(evict = {
+        @CacheEvict(value = "mangas", allEntries = true),
+        @CacheEvict(value = "manga-lists", allEntries = true)
+    })
+    @Transactional
+    public SyncCounts applyExternalUpdates(List<ExternalMangaDto> updates) {
+        if (updates.isEmpty()) {
+            return new SyncCounts(0, 0, 0);
+        }
+        Map<String, Manga> local = new HashMap<>();
+        for (Manga manga : mangaRepository.findByApiIdIn(
+                updates.stream().map(ExternalMangaDto::getId).filter(Objects::nonNull).toList())) {
+            local.put(manga.getApiId(), manga);
+        }
+
+        int updated = 0;
+        int unchanged = 0;
+        for (ExternalMangaDto dto : updates) {
+            Manga manga = local.get(dto.getId());
+            if (manga == null) {
+                continue;
+            }
+            if (applyExternal(manga, dto)) {
+                mangaRepository.save(manga);
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+        return new SyncCounts(updated, unchanged, updates.size() - updated - unchanged);
+    }
+
+    /**
+     * Copia os campos vindos do MangaDex quando a versão remota é mais nova.
+     *
+     * @return se algo mudou
+     */
+    static boolean applyExternal(Manga manga, ExternalMangaDto dto) {
+        ExternalMangaDto.ApiMangaAttributes attributes = dto.getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        if (manga.getSourceUpdatedAt() != null && attributes.getUpdatedAt() != null
+                && !attributes.getUpdatedAt().isAfter(manga.getSourceUpdatedAt())) {
+            return false;
+        }
+        boolean changed = false;
+        if (attributes.getTitle() != null && !attributes.getTitle().equals(manga.getTitle())) {
+            manga.setTitle(new HashMap<>(attributes.getTitle()));
+            changed = true;
+        }
+        if (attributes.getDescription() != null && !attributes.getDescription().equals(manga.getDescription())) {
+            manga.setDescription(new HashMap<>(attributes.getDescription()));
+            changed = true;
+        }
+        if (attributes.getStatus() != null && !attributes.getStatus().equals(manga.getStatus())) {
+            manga.setStatus(attributes.getStatus());
+            changed = true;
+        }
+        if (attributes.getYear() != null && !attributes.getYear().equals(manga.getYear())) {
+            manga.setYear(attributes.getYear());
+            changed = true;
+        }
+        String coverUrl = dto.findCoverUrl().orElse(null);
+        if (coverUrl != null && !coverUrl.equals(manga.getCoverImage())) {
+            manga.setCoverImage(coverUrl);
+            changed = true;
+        }
+        if (attributes.getUpdatedAt() != null && !attributes.getUpdatedAt().equals(manga.getSourceUpdatedAt())) {
+            manga.setSourceUpdatedAt(attributes.getUpdatedAt());
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Resultado de um lote do delta sync: gravados, iguais e sem correspondente local.
+     */
+    public record SyncCounts(int updated, int unchanged, int ignored) {
+    }
+
     /**
      * Cria manga manualmente (sem API externa).
      * Gera um apiId sintético para manter consistência.
@@ -399,12 +604,7 @@ public class MangaService {
      * Converte DTO externo para entidade
      */
     private Manga convertDtoToEntity(ExternalMangaDto mangaDto) {
-        Manga manga = new Manga();
-        manga.setApiId(mangaDto.getId());
-        manga.setTitle(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getTitle() : null);
-        manga.setDescription(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getDescription() : null);
-        manga.setStatus(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getStatus() : "unknown");
-        manga.setYear(mangaDto.getAttributes() != null ? mangaDto.getAttributes().getYear() : null);
+        Manga manga = fromExternal(mangaDto);
         
         // Processar relacionamentos de autor
         if (mangaDto.getRelationships() != null && !mangaDto.getRelationships().isEmpty()) {
@@ -432,9 +632,10 @@ public class MangaService {
                 manga.setAuthor(localAuthor.get());
                 log.debug("Autor local encontrado: {}", localAuthor.get().getName());
             } else {
-                // Busca na API externa e cria
+                // Usa os atributos incluídos (includes[]=author); só vai à API se não vieram
                 try {
-                    Optional<AuthorDto> authorDto = apiService.getAuthorById(authorApiId);
+                    Optional<AuthorDto> authorDto = authorRelation.get().toIncludedAuthor()
+                            .or(() -> apiService.getAuthorById(authorApiId));
                     if (authorDto.isPresent()) {
                         Author newAuthor = authorService.createAuthor(authorDto.get());
                         manga.setAuthor(newAuthor);
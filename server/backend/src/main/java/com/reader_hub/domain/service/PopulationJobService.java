@@ -0,0 +1,443 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.PopulationJob;
+import com.reader_hub.domain.model.SyncState;
+import com.reader_hub.domain.repository.PopulationJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Importações em segundo plano com estado persistido em {@code population_jobs}.
+ *
+ * O POST só cria o job e devolve o ID; o trabalho roda num pool limitado e
+ * grava progresso (no máximo a cada {@code progress-interval-ms}), contadores e
+ * erro. O cancelamento é cooperativo: o próximo callback de progresso do job
+ * lança {@link CancellationException}, que interrompe a importação entre lotes.
+ * Interessados (SSE) assinam as mudanças de um job sem depender da camada web.
+ */
+@Service
+@Slf4j
+public class PopulationJobService {
+
+    static final String INTERRUPTED_MESSAGE = "Aplicação reiniciada antes do fim do job";
+
+    private final PopulationJobRepository repository;
+    private final DataPopulationService dataPopulationService;
+    private final DeltaSyncService deltaSyncService;
+    private final CatalogDumpService catalogDumpService;
+    private final ImportRetryWorker retryWorker;
+    private final ExecutorService executor;
+    private final long progressIntervalMs;
+    private final LongSupplier clock;
+
+    private final Map<String, RunningJob> running = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<PopulationJob>>> listeners = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PopulationJobService(PopulationJobRepository repository, DataPopulationService dataPopulationService,
+                                DeltaSyncService deltaSyncService, CatalogDumpService catalogDumpService,
+                                ImportRetryWorker retryWorker,
+                                @Qualifier("populationJobExecutor") ExecutorService executor,
+                                @Value("${app.population.jobs.progress-interval-ms:1000}") long progressIntervalMs) {
+        this(repository, dataPopulationService, deltaSyncService, catalogDumpService, retryWorker, executor,
+                progressIntervalMs, System::currentTimeMillis);
+    }
+
+    PopulationJobService(PopulationJobRepository repository, DataPopulationService dataPopulationService,
+                         DeltaSyncService deltaSyncService, CatalogDumpService catalogDumpService,
+                         ImportRetryWorker retryWorker, ExecutorService executor, long progressIntervalMs, LongSupplier clock) {
+        this.repository = repository;
+        this.dataPopulationService = dataPopulationService;
+        this.deltaSyncService = deltaSyncService;
+        this.catalogDumpService = catalogDumpService;
+        this.retryWorker = retryWorker;
+        this.executor = executor;
+        this.progressIntervalMs = Math.max(0, progressIntervalMs);
+        this.clock = clock;
+    }
+
+    /**
+     * Trabalho de um job: recebe o callback de progresso e devolve como gravar o resultado.
+     */
+    @FunctionalInterface
+    interface JobWork {
+        Consumer<PopulationJob> execute(BiConsumer<Integer, Integer> progress);
+    }
+
+    // =================== SUBMISSÃO ===================
+
+    public PopulationJob submitPopularMangas(int limit, int offset) {
+        return submit(PopulationJob.Type.POPULAR_MANGAS,
+                Map.of("limit", String.valueOf(limit), "offset", String.valueOf(offset)),
+                progress -> {
+                    DataPopulationService.PopulationResult result =
+                            dataPopulationService.populatePopularMangas(limit, offset, progress);
+                    return job -> applyMangaResult(job, result);
+                });
+    }
+
+    public PopulationJob submitCompletePopular(int mangaLimit, int offset, boolean includeChapters) {
+        return submit(PopulationJob.Type.COMPLETE_POPULAR,
+                Map.of("mangaLimit", String.valueOf(mangaLimit), "offset", String.valueOf(offset),
+                        "includeChapters", String.valueOf(includeChapters)),
+                progress -> {
+                    DataPopulationService.PopulationCompleteResult result =
+                            dataPopulationService.populateComplete(mangaLimit, offset, includeChapters, progress);
+                    return job -> {
+                        applyMangaResult(job, result.getMangaResult());
+                        job.setChaptersSaved(result.getTotalChaptersSaved());
+                        job.setMessage("População completa concluída");
+                    };
+                });
+    }
+
+    public PopulationJob submitUpdateCoverImages() {
+        return submit(PopulationJob.Type.UPDATE_COVER_IMAGES, Map.of(), progress -> {
+            int updated = dataPopulationService.updateCoverImages(progress);
+            return job -> job.setMessage(updated + " capas atualizadas");
+        });
+    }
+
+    /**
+     * Atualização de capas agendada (por padrão toda madrugada); não enfileira
+     * outra se ainda houver uma ativa nesta instância.
+     */
+    @Scheduled(cron = "${app.population.covers.refresh-cron:-}")
+    public void scheduledCoverRefresh() {
+        boolean active = running.values().stream()
+                .anyMatch(runningJob -> runningJob.job.getType() == PopulationJob.Type.UPDATE_COVER_IMAGES);
+        if (active) {
+            log.info("Atualização de capas agendada pulada: já há uma em andamento");
+            return;
+        }
+        try {
+            submitUpdateCoverImages();
+        } catch (RejectedExecutionException e) {
+            log.warn("Atualização de capas agendada não enfileirada: {}", e.getMessage());
+        }
+    }
+
+    public PopulationJob submitChapters(String mangaId) {
+        return submit(PopulationJob.Type.CHAPTERS, Map.of("mangaId", mangaId), progress -> {
+            int saved = dataPopulationService.populateChaptersForMangaWithProgress(mangaId, progress);
+            return job -> {
+                job.setChaptersSaved(saved);
+                job.setMessage("População de capítulos concluída");
+            };
+        });
+    }
+
+    public PopulationJob submitDeltaSync() {
+        return submit(PopulationJob.Type.DELTA_SYNC, Map.of(), progress -> {
+            List<DeltaSyncService.StreamResult> results = deltaSyncService.syncAll(progress);
+            return job -> {
+                for (DeltaSyncService.StreamResult result : results) {
+                    if (SyncState.MANGAS.equals(result.stream())) {
+                        job.setMangasSaved(result.changed());
+                    } else {
+                        job.setChaptersSaved(result.changed());
+                    }
+                }
+                job.setMessage("Delta sync concluído: " + results.stream()
+                        .map(result -> result.stream() + "=" + result.changed()
+                                + (result.error() != null ? " (com erro)" : ""))
+                        .collect(Collectors.joining(", ")));
+                // Erros dos streams podem ser longos: vão para error, que tem espaço para eles
+                String errors = results.stream()
+                        .filter(result -> result.error() != null)
+                        .map(result -> result.stream() + ": " + result.error())
+                        .collect(Collectors.joining("; "));
+                job.setError(errors.isEmpty() ? null : errors);
+            };
+        });
+    }
+
+    /**
+     * Carga de um dump NDJSON local (sem rede); o progresso é em KiB lidos do arquivo.
+     */
+    public PopulationJob submitDumpIngest(String fileName) {
+        Path file = catalogDumpService.resolve(fileName);
+        return submit(PopulationJob.Type.DUMP_INGEST, Map.of("file", fileName), progress -> {
+            CatalogDumpService.Result result = catalogDumpService.ingest(file, progress);
+            return job -> {
+                job.setAuthorsSaved(result.authorsSaved());
+                job.setMangasSaved(result.mangasSaved());
+                job.setChaptersSaved(result.chaptersSaved());
+                job.setTotalFound(result.lines());
+                job.setMessage(String.format("Dump carregado: %d linhas em %d s (%d registros/s), "
+                                + "%d capítulos atualizados, %d ignorados, %d com falha",
+                        result.lines(), result.elapsedMs() / 1000, result.recordsPerSecond(),
+                        result.chaptersUpdated(), result.skipped(), result.failed()));
+            };
+        });
+    }
+
+    /**
+     * Reprocessamento manual da fila de retry de importação (os itens vencidos, até {@code batch-size}).
+     */
+    public PopulationJob submitImportRetry() {
+        return submit(PopulationJob.Type.IMPORT_RETRY, Map.of(), progress -> {
+            ImportRetryWorker.RunResult result = retryWorker.processDue(progress);
+            return job -> job.setMessage(String.format(
+                    "Retry de importação: %d reprocessados, %d reagendados, %d para a dead-letter%s",
+                    result.succeeded(), result.rescheduled(), result.deadLettered(),
+                    result.interrupted() ? " (interrompido: MangaDex indisponível)" : ""));
+        });
+    }
+
+    PopulationJob submit(PopulationJob.Type type, Map<String, String> parameters, JobWork work) {
+        PopulationJob job = repository.save(PopulationJob.builder()
+                .type(type)
+                .parameters(new HashMap<>(parameters))
+                .build());
+        RunningJob runningJob = new RunningJob(job, work);
+        running.put(job.getId(), runningJob);
+        try {
+            runningJob.future = executor.submit(() -> execute(runningJob));
+        } catch (RejectedExecutionException e) {
+            running.remove(job.getId());
+            job.setStatus(PopulationJob.Status.FAILED);
+            job.setError("Fila de jobs de população cheia");
+            job.setFinishedAt(Instant.now());
+            repository.save(job);
+            throw e;
+        }
+        log.info("Job de população {} ({}) enfileirado - parâmetros: {}", job.getId(), type, parameters);
+        return job;
+    }
+
+    // =================== CONSULTA E CANCELAMENTO ===================
+
+    /**
+     * Estado atual: o job em memória quando está ativo nesta instância, senão o gravado.
+     */
+    public PopulationJob getJob(String id) {
+        RunningJob runningJob = running.get(id);
+        if (runningJob != null) {
+            return runningJob.job;
+        }
+        return repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job de população", "id", id));
+    }
+
+    public List<PopulationJob> listRecent(PopulationJob.Status status) {
+        return status != null
+                ? repository.findTop20ByStatusOrderByCreatedAtDesc(status)
+                : repository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * Pede o cancelamento. Jobs na fila são cancelados na hora; os que estão
+     * rodando param no próximo ponto de progresso.
+     */
+    public PopulationJob cancel(String id) {
+        RunningJob runningJob = running.get(id);
+        if (runningJob == null) {
+            PopulationJob job = getJob(id);
+            if (job.getStatus().isFinished()) {
+                throw new BusinessException("Job já finalizado",
+                        "O job " + id + " terminou com status " + job.getStatus());
+            }
+            // Sem thread nesta instância: não há o que interromper
+            job.setCancelRequested(true);
+            job.setStatus(PopulationJob.Status.CANCELLED);
+            job.setFinishedAt(Instant.now());
+            return repository.save(job);
+        }
+        synchronized (runningJob) {
+            PopulationJob job = runningJob.job;
+            if (job.getStatus().isFinished()) {
+                throw new BusinessException("Job já finalizado",
+                        "O job " + id + " terminou com status " + job.getStatus());
+            }
+            job.setCancelRequested(true);
+            if (job.getStatus() == PopulationJob.Status.QUEUED
+                    && runningJob.future != null && runningJob.future.cancel(false)) {
+                finish(runningJob, PopulationJob.Status.CANCELLED, "Cancelado antes de iniciar", null);
+            } else {
+                persist(runningJob);
+            }
+            log.info("Cancelamento solicitado para o job de população {}", id);
+            return job;
+        }
+    }
+
+    /**
+     * Recebe o estado atual do job e cada mudança gravada até o fim.
+     * Devolve a ação que cancela a assinatura.
+     */
+    public Runnable subscribe(String id, Consumer<PopulationJob> listener) {
+        RunningJob runningJob = running.get(id);
+        if (runningJob == null) {
+            listener.accept(getJob(id));
+            return () -> { };
+        }
+        synchronized (runningJob) {
+            listener.accept(runningJob.job);
+            if (runningJob.job.getStatus().isFinished()) {
+                return () -> { };
+            }
+            listeners.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+        return () -> listeners.computeIfPresent(id, (key, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * Jobs QUEUED/RUNNING gravados por uma execução anterior perderam a thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        int failed = repository.failUnfinished(INTERRUPTED_MESSAGE, Instant.now());
+        if (failed > 0) {
+            log.warn("{} job(s) de população interrompido(s) marcados como FAILED", failed);
+        }
+    }
+
+    // =================== EXECUÇÃO ===================
+
+    private void execute(RunningJob runningJob) {
+        PopulationJob job = runningJob.job;
+        synchronized (runningJob) {
+            if (job.isCancelRequested()) {
+                finish(runningJob, PopulationJob.Status.CANCELLED, "Cancelado antes de iniciar", null);
+                return;
+            }
+            job.setStatus(PopulationJob.Status.RUNNING);
+            job.setStartedAt(Instant.now());
+            runningJob.lastPersistedAt = clock.getAsLong();
+            persist(runningJob);
+        }
+        log.info("Job de população {} ({}) iniciado", job.getId(), job.getType());
+
+        try {
+            Consumer<PopulationJob> outcome = runningJob.work.execute(
+                    (current, total) -> progress(runningJob, current, total));
+            synchronized (runningJob) {
+                outcome.accept(job);
+                job.setProgressCurrent(Math.max(job.getProgressCurrent(), job.getProgressTotal()));
+                finish(runningJob, PopulationJob.Status.SUCCEEDED, job.getMessage(), job.getError());
+            }
+            log.info("Job de população {} concluído", job.getId());
+        } catch (CancellationException e) {
+            synchronized (runningJob) {
+                finish(runningJob, PopulationJob.Status.CANCELLED, "Cancelado durante a execução", null);
+            }
+            log.info("Job de população {} cancelado", job.getId());
+        } catch (Exception e) {
+            log.error("Job de população {} falhou", job.getId(), e);
+            synchronized (runningJob) {
+                finish(runningJob, PopulationJob.Status.FAILED, null, describe(e));
+            }
+        }
+    }
+
+    private void progress(RunningJob runningJob, int current, int total) {
+        synchronized (runningJob) {
+            PopulationJob job = runningJob.job;
+            if (job.isCancelRequested()) {
+                throw new CancellationException("Job " + job.getId() + " cancelado");
+            }
+            job.setProgressCurrent(current);
+            job.setProgressTotal(total);
+            long now = clock.getAsLong();
+            if (current >= total || now - runningJob.lastPersistedAt >= progressIntervalMs) {
+                runningJob.lastPersistedAt = now;
+                persist(runningJob);
+            }
+        }
+    }
+
+    private void finish(RunningJob runningJob, PopulationJob.Status status, String message, String error) {
+        PopulationJob job = runningJob.job;
+        job.setStatus(status);
+        if (message != null) {
+            job.setMessage(truncate(message, PopulationJob.MAX_MESSAGE_LENGTH));
+        }
+        job.setError(truncate(error, PopulationJob.MAX_ERROR_LENGTH));
+        job.setFinishedAt(Instant.now());
+        persist(runningJob);
+        running.remove(job.getId());
+        listeners.remove(job.getId());
+    }
+
+    private void persist(RunningJob runningJob) {
+        try {
+            repository.save(runningJob.job);
+        } catch (Exception e) {
+            // O progresso em memória segue valendo; a próxima gravação tenta de novo
+            log.warn("Falha ao gravar estado do job de população {}: {}", runningJob.job.getId(), e.getMessage());
+        }
+        List<Consumer<PopulationJob>> subscribers = listeners.get(runningJob.job.getId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Consumer<PopulationJob> subscriber : subscribers) {
+            try {
+                subscriber.accept(runningJob.job);
+            } catch (Exception e) {
+                subscribers.remove(subscriber);
+                log.debug("Assinante do job {} removido: {}", runningJob.job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static void applyMangaResult(PopulationJob job, DataPopulationService.PopulationResult result) {
+        job.setMangasSaved(result.getMangasSaved());
+        job.setAuthorsSaved(result.getAuthorsSaved());
+        job.setTotalFound(result.getTotalFound());
+        job.setMessage(result.getMessage());
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+    }
+
+    // As colunas têm tamanho fixo: um texto maior derrubaria a gravação do estado final
+    private static String truncate(String text, int maxLength) {
+        return text != null && text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+
+    /**
+     * Job ativo nesta instância; o monitor serializa progresso, cancelamento e assinaturas.
+     */
+    private static final class RunningJob {
+        private final PopulationJob job;
+        private final JobWork work;
+        private volatile Future<?> future;
+        private long lastPersistedAt;
+
+        private RunningJob(PopulationJob job, JobWork work) {
+            this.job = job;
+            this.work = work;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reader_hub.domain.service;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor estável para os filtros {@code createdAtSince}/{@code updatedAtSince} do MangaDex.
+ *
+ * Guarda o instante do último item visto (com precisão de segundos, como o
+ * filtro), o ID desse item e quantos itens com esse mesmo instante já passaram.
+ * A próxima página é pedida com {@code *Since = at} e {@code offset}, que só
+ * cobre os empates no instante — nunca um offset profundo.
+ */
+public record SinceCursor(OffsetDateTime at, String lastId, int offset) {
+
+    public static final SinceCursor START = new SinceCursor(null, null, 0);
+
+    /**
+     * Avança sobre uma página devolvida em ordem crescente do instante.
+     */
+    public <T> SinceCursor advance(List<T> page, Function<T, OffsetDateTime> instant, Function<T, String> id) {
+        SinceCursor cursor = this;
+        for (T item : page) {
+            OffsetDateTime value = instant.apply(item);
+            OffsetDateTime truncated = value != null ? value.truncatedTo(ChronoUnit.SECONDS) : null;
+            if (truncated == null || (cursor.at != null && truncated.isEqual(cursor.at))) {
+                cursor = new SinceCursor(cursor.at, id.apply(item), cursor.offset + 1);
+            } else {
+                cursor = new SinceCursor(truncated, id.apply(item), 1);
+            }
+        }
+        return cursor;
+    }
+}
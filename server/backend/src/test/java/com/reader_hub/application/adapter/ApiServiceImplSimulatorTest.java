@@ -0,0 +1,251 @@
+package com.reader_hub.application.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.ports.ChapterFeed;
+import com.reader_hub.simulator.MangaDexSimulator;
+import com.reader_hub.simulator.SimulatedCatalog;
+import com.reader_hub.simulator.SimulatorSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Adapter real (cliente HTTP, rate limit, feed paginado) contra o simulador offline.
+ */
+@DisplayName("ApiServiceImpl contra o simulador do MangaDex")
+class ApiServiceImplSimulatorTest {
+
+    private MangaDexSimulator simulator;
+    private ExecutorService feedExecutor;
+
+    @BeforeEach
+    void setUp() {
+        feedExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.close();
+        }
+        feedExecutor.shutdownNow();
+    }
+
+    private ApiServiceImpl apiService(SimulatorSettings settings, int feedPageSize) {
+        return apiService(settings, feedPageSize, UnaryOperator.identity());
+    }
+
+    private ApiServiceImpl apiService(SimulatorSettings settings, int feedPageSize,
+                                      UnaryOperator<MangaDexHttpClient> decorator) {
+        simulator = MangaDexSimulator.start(settings);
+        MangaDexHttpClient httpClient = decorator.apply(new MangaDexHttpClient(HttpClient.newHttpClient(),
+                new ObjectMapper().findAndRegisterModules(), 5000, 8, "", "ReaderHub/test",
+                simulator.baseUrl(), 1000, 1000, 5, 10, true, 0,
+                MangaDexResponseCache.disabled(), MangaDexResilience.disabled()));
+        ApiServiceImpl apiService = new ApiServiceImpl(httpClient, feedExecutor,
+                new AtHomeServerCache(600_000, 120_000, 100, System::currentTimeMillis));
+        ReflectionTestUtils.setField(apiService, "apiUrl", simulator.baseUrl());
+        ReflectionTestUtils.setField(apiService, "feedPageSize", feedPageSize);
+        ReflectionTestUtils.setField(apiService, "feedItemTimeoutMs", 10_000L);
+        return apiService;
+    }
+
+    @Nested
+    @DisplayName("catálogo")
+    class Catalog {
+        @Test
+        @DisplayName("deve paginar mangas populares com cover_art e autores incluídos")
+        void shouldPagePopularMangasWithIncludes() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(30), 500);
+
+            PaginatedDto<ExternalMangaDto> page = apiService.getPopularMangas(10, 10);
+
+            assertThat(page.getTotal()).isEqualTo(30);
+            assertThat(page.getData()).hasSize(10);
+            ExternalMangaDto manga = page.getData().get(0);
+            assertThat(manga.findCoverUrl()).hasValueSatisfying(url -> assertThat(url).endsWith(".jpg"));
+            assertThat(manga.findRelationships("author").get(0).toIncludedAuthor()).isPresent();
+        }
+
+        @Test
+        @DisplayName("deve buscar autores em lote pelo ids[]")
+        void shouldFetchAuthorsInBulk() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().authors(150), 500);
+            List<String> ids = simulator.catalog().authors().stream().map(SimulatedCatalog.Author::id).toList();
+
+            List<AuthorDto> authors = apiService.getAuthorsByIds(ids);
+
+            assertThat(authors).hasSize(150);
+            assertThat(simulator.requestCount("author-list")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("deve buscar um a um os autores de um lote que falhou")
+        void shouldFallBackToSingleFetchesWhenBatchFails() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().authors(5), 500, client -> {
+                MangaDexHttpClient spy = spy(client);
+                doReturn(CompletableFuture.failedFuture(new ExternalApiException("MangaDex", "HTTP 503", 503)))
+                        .when(spy).getAsync(contains("ids%5B%5D"), any());
+                return spy;
+            });
+            List<String> ids = simulator.catalog().authors().stream().map(SimulatedCatalog.Author::id).toList();
+            List<String> requested = new ArrayList<>(ids);
+            requested.add("autor-inexistente");
+
+            List<AuthorDto> authors = apiService.getAuthorsByIds(requested);
+
+            assertThat(authors).extracting(AuthorDto::getId).containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(simulator.requestCount("author")).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("deve buscar mangas em lote pelo ids[] com cover_art incluído")
+        void shouldFetchMangasByIdsWithCovers() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(150), 500);
+            List<String> ids = simulator.catalog().mangas().stream().map(SimulatedCatalog.Manga::id).toList();
+
+            List<ExternalMangaDto> mangas = apiService.getMangasByIds(ids);
+
+            assertThat(mangas).hasSize(150).allMatch(manga -> manga.findCoverUrl().isPresent());
+            assertThat(simulator.requestCount("manga-list")).isEqualTo(2);
+            assertThat(simulator.requestCount("manga")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("porta assíncrona")
+    class Async {
+        @Test
+        @DisplayName("deve completar o future com o manga buscado pelo id")
+        void shouldCompleteWithMangaById() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(3), 500);
+            SimulatedCatalog.Manga manga = simulator.catalog().mangas().get(1);
+
+            Optional<ExternalMangaDto> found = apiService.getMangaByIdAsync(manga.id()).join();
+
+            assertThat(found).hasValueSatisfying(dto -> assertThat(dto.getId()).isEqualTo(manga.id()));
+            assertThat(simulator.requestCount("manga")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("deve combinar lotes de autores em um único future")
+        void shouldCombineAuthorBatches() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().authors(150), 500);
+            List<String> ids = simulator.catalog().authors().stream().map(SimulatedCatalog.Author::id).toList();
+
+            List<AuthorDto> authors = apiService.getAuthorsByIdsAsync(ids).join();
+
+            assertThat(authors).extracting(AuthorDto::getId).containsExactlyInAnyOrderElementsOf(ids);
+            assertThat(simulator.requestCount("author-list")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("deve listar capítulos e páginas sem bloquear o chamador")
+        void shouldListChaptersAndPages() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(1).chapters(5, 5)
+                    .portugueseRatio(0), 500);
+            SimulatedCatalog.Manga manga = simulator.catalog().mangas().get(0);
+            SimulatedCatalog.Chapter chapter = simulator.catalog().chapters(manga).get(0);
+
+            CompletableFuture<List<ChapterDto>> chapters = apiService.getChaptersByMangaIdAsync(manga.id(), 10, 0);
+            CompletableFuture<List<String>> pages = apiService.getChapterPagesAsync(chapter.id());
+
+            assertThat(chapters.join()).hasSize(5);
+            assertThat(pages.join()).hasSize(chapter.pages());
+        }
+
+        @Test
+        @DisplayName("deve completar com ExternalApiException quando o MangaDex está fora")
+        void shouldFailWithExternalApiExceptionWhenUnreachable() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(1), 500);
+            simulator.close();
+            simulator = null;
+
+            CompletableFuture<PaginatedDto<ExternalMangaDto>> page = apiService.getMangasAsync(10, 0);
+
+            assertThatThrownBy(page::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(ExternalApiException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("at-home")
+    class AtHome {
+        @Test
+        @DisplayName("deve resolver páginas uma vez e servir as próximas aberturas do cache")
+        void shouldCacheAtHomeResolution() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(1).chapters(3, 3), 500);
+            SimulatedCatalog.Chapter chapter = simulator.catalog().chapters(simulator.catalog().mangas().get(0)).get(0);
+
+            List<String> pages = apiService.getChapterPages(chapter.id());
+            List<String> again = apiService.getChapterPages(chapter.id());
+
+            assertThat(pages).hasSize(chapter.pages()).allMatch(url -> url.startsWith(simulator.baseUrl() + "/data/"));
+            assertThat(again).isEqualTo(pages);
+            assertThat(simulator.requestCount("at-home")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("feed de capítulos")
+    class Feed {
+        @Test
+        @DisplayName("deve percorrer o feed inteiro em páginas")
+        void shouldWalkWholeFeed() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(1).chapters(120, 120), 50);
+            SimulatedCatalog.Manga manga = simulator.catalog().mangas().get(0);
+            int expected = simulator.catalog().chapters(manga).size();
+
+            List<ChapterDto> chapters = new ArrayList<>();
+            try (ChapterFeed feed = apiService.openChapterFeed(manga.id())) {
+                feed.forEachRemaining(chapters::add);
+                assertThat(feed.getTotal()).isEqualTo(expected);
+            }
+
+            assertThat(chapters).hasSize(expected);
+            assertThat(chapters.get(0).getAttributes().getChapter()).isEqualTo("1");
+            assertThat(simulator.requestCount("manga-feed")).isEqualTo((expected + 49) / 50);
+        }
+
+        @Test
+        @DisplayName("deve concluir apesar do rate limit do servidor (429 + Retry-After)")
+        void shouldCompleteUnderServerRateLimit() {
+            ApiServiceImpl apiService = apiService(SimulatorSettings.defaults().mangas(1).chapters(40, 40)
+                    .portugueseRatio(0).rateLimit(2), 10);
+            SimulatedCatalog.Manga manga = simulator.catalog().mangas().get(0);
+
+            List<ChapterDto> chapters = new ArrayList<>();
+            try (ChapterFeed feed = apiService.openChapterFeed(manga.id())) {
+                feed.forEachRemaining(chapters::add);
+            }
+
+            assertThat(chapters).hasSize(40);
+        }
+    }
+}
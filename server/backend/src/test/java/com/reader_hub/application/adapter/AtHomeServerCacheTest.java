@@ -0,0 +1,103 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.dto.ChapterDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AtHomeServerCache - Testes Unitários")
+class AtHomeServerCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private AtHomeServerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(0);
+        loads.set(0);
+        cache = new AtHomeServerCache(10_000, 2_000, 100, clock::get);
+    }
+
+    private CompletableFuture<ChapterDto.ChapterPagesDto> loader() {
+        ChapterDto.ChapterPagesDto server = new ChapterDto.ChapterPagesDto();
+        server.setBaseUrl("https://node-" + loads.incrementAndGet() + ".mangadex.network");
+        ChapterDto.ChapterPagesDto.ChapterData data = new ChapterDto.ChapterPagesDto.ChapterData();
+        data.setHash("abc");
+        data.setData(List.of("1.png"));
+        data.setDataSaver(List.of("1.jpg"));
+        server.setChapter(data);
+        return CompletableFuture.completedFuture(server);
+    }
+
+    @Test
+    @DisplayName("deve servir do cache enquanto a resolução é válida")
+    void shouldServeCachedResolution() {
+        cache.get("c1", this::loader).join();
+        clock.set(5_000);
+
+        ChapterDto.ChapterPagesDto server = cache.get("c1", this::loader).join();
+
+        assertThat(server.getBaseUrl()).isEqualTo("https://node-1.mangadex.network");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("deve servir a entrada atual e renovar em segundo plano perto do vencimento")
+    void shouldRefreshAhead() {
+        cache.get("c1", this::loader).join();
+        clock.set(9_000);
+
+        ChapterDto.ChapterPagesDto served = cache.get("c1", this::loader).join();
+        ChapterDto.ChapterPagesDto refreshed = cache.get("c1", this::loader).join();
+
+        assertThat(served.getBaseUrl()).isEqualTo("https://node-1.mangadex.network");
+        assertThat(refreshed.getBaseUrl()).isEqualTo("https://node-2.mangadex.network");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("deve resolver de novo depois do vencimento")
+    void shouldReloadAfterExpiry() {
+        cache.get("c1", this::loader).join();
+        clock.set(10_000);
+
+        ChapterDto.ChapterPagesDto server = cache.get("c1", this::loader).join();
+
+        assertThat(server.getBaseUrl()).isEqualTo("https://node-2.mangadex.network");
+    }
+
+    @Test
+    @DisplayName("não deve guardar falhas")
+    void shouldNotCacheFailures() {
+        CompletableFuture<ChapterDto.ChapterPagesDto> failed =
+                cache.get("c1", () -> CompletableFuture.failedFuture(new IllegalStateException("offline")));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("c1", this::loader).join().getBaseUrl()).isEqualTo("https://node-1.mangadex.network");
+    }
+
+    @Test
+    @DisplayName("deve compartilhar a resolução entre pedidos simultâneos do mesmo capítulo")
+    void shouldCoalesceConcurrentLoads() {
+        CompletableFuture<ChapterDto.ChapterPagesDto> pending = new CompletableFuture<>();
+
+        CompletableFuture<ChapterDto.ChapterPagesDto> first = cache.get("c1", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<ChapterDto.ChapterPagesDto> second = cache.get("c1", this::loader);
+        pending.complete(loader().join());
+
+        assertThat(first.join().getBaseUrl()).isEqualTo(second.join().getBaseUrl());
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,238 @@
+package com.reader_hub.application.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.StreamedPageDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MangaDexHttpClient - Testes Unitários")
+class MangaDexHttpClientTest {
+
+    private HttpServer server;
+    private MangaDexHttpClient client;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new MangaDexHttpClient(HttpClient.newHttpClient(), new ObjectMapper().findAndRegisterModules(),
+                5000, 8, "", "ReaderHub/test", baseUrl, 100, 100, 2, 10, true, 0,
+                MangaDexResponseCache.disabled(), MangaDexResilience.disabled());
+    }
+
+    private MangaDexHttpClient cachingClient(AtomicLong clock) {
+        MangaDexResponseCache cache = new MangaDexResponseCache(true, MangaDexEndpoint.parseTtls("author=1m"),
+                60_000, 1024 * 1024, null, new ObjectMapper(), clock::get);
+        return new MangaDexHttpClient(HttpClient.newHttpClient(), new ObjectMapper(),
+                5000, 8, "", "ReaderHub/test", baseUrl, 100, 100, 2, 10, true, 0, cache,
+                MangaDexResilience.disabled());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            requests.incrementAndGet();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("streamCollection")
+    class StreamCollection {
+        @Test
+        @DisplayName("deve entregar cada item ao consumer e devolver a paginação")
+        void shouldStreamItemsAndPagination() {
+            respond("/manga/m1/feed", 200, """
+                    {"result":"ok","response":"collection","data":[
+                      {"id":"c1","type":"chapter","attributes":{"chapter":"1","translatedLanguage":"en"}},
+                      {"id":"c2","type":"chapter","attributes":{"chapter":"2","translatedLanguage":"pt-br"},"relationships":[]}
+                    ],"limit":500,"offset":0,"total":2}""");
+            List<String> ids = new ArrayList<>();
+
+            StreamedPageDto page = client.streamCollection(baseUrl + "/manga/m1/feed", ChapterDto.class,
+                    chapter -> ids.add(chapter.getId()));
+
+            assertThat(ids).containsExactly("c1", "c2");
+            assertThat(page.getCount()).isEqualTo(2);
+            assertThat(page.getTotal()).isEqualTo(2);
+            assertThat(page.getLimit()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("deve lançar ExternalApiException com o status em respostas de erro")
+        void shouldThrowOnErrorStatus() {
+            respond("/manga/m1/feed", 404, "{\"result\":\"error\"}");
+
+            assertThatThrownBy(() -> client.streamCollection(baseUrl + "/manga/m1/feed", ChapterDto.class, c -> { }))
+                    .isInstanceOf(ExternalApiException.class)
+                    .satisfies(e -> assertThat(((ExternalApiException) e).getStatusCode()).isEqualTo(404));
+        }
+
+        @Test
+        @DisplayName("deve falhar quando o corpo para no meio da leitura")
+        void shouldFailWhenBodyStalls() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            server.createContext("/manga/m1/feed", exchange -> {
+                exchange.sendResponseHeaders(200, 0);
+                OutputStream out = exchange.getResponseBody();
+                out.write("{\"data\":[{\"id\":\"c1\",\"type\":\"chapter\"},".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.close();
+            });
+            MangaDexHttpClient impatient = new MangaDexHttpClient(HttpClient.newHttpClient(), new ObjectMapper(),
+                    300, 8, "", "ReaderHub/test", baseUrl, 100, 100, 2, 10, true, 0,
+                    MangaDexResponseCache.disabled(), MangaDexResilience.disabled());
+            List<String> ids = new ArrayList<>();
+
+            try {
+                assertThatThrownBy(() -> impatient.streamCollection(baseUrl + "/manga/m1/feed", ChapterDto.class,
+                        chapter -> ids.add(chapter.getId())))
+                        .isInstanceOf(ExternalApiException.class)
+                        .hasMessageContaining("Leitura parada");
+                assertThat(ids).containsExactly("c1");
+            } finally {
+                release.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("não deve contar o tempo do consumer no prazo de leitura")
+        void shouldNotCountConsumerTime() {
+            respond("/manga/m1/feed", 200, """
+                    {"data":[{"id":"c1","type":"chapter"},{"id":"c2","type":"chapter"}],"total":2}""");
+            MangaDexHttpClient impatient = new MangaDexHttpClient(HttpClient.newHttpClient(), new ObjectMapper(),
+                    200, 8, "", "ReaderHub/test", baseUrl, 100, 100, 2, 10, true, 0,
+                    MangaDexResponseCache.disabled(), MangaDexResilience.disabled());
+            List<String> ids = new ArrayList<>();
+
+            impatient.streamCollection(baseUrl + "/manga/m1/feed", ChapterDto.class, chapter -> {
+                sleep(500);
+                ids.add(chapter.getId());
+            });
+
+            assertThat(ids).containsExactly("c1", "c2");
+        }
+    }
+
+    @Nested
+    @DisplayName("fetch")
+    class Fetch {
+        @Test
+        @DisplayName("deve repetir a requisição após 429")
+        void shouldRetryAfterTooManyRequests() {
+            server.createContext("/author/a1", exchange -> {
+                int attempt = requests.incrementAndGet();
+                byte[] bytes = (attempt == 1 ? "{}" : "{\"result\":\"ok\"}").getBytes(StandardCharsets.UTF_8);
+                if (attempt == 1) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                exchange.sendResponseHeaders(attempt == 1 ? 429 : 200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+
+            MangaDexResponse response = MangaDexHttpClient.await(client.fetch(baseUrl + "/author/a1"));
+
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat(requests).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("deve servir do cache enquanto a entrada está fresca")
+        void shouldServeFreshEntryFromCache() {
+            respond("/author/a1", 200, "{\"result\":\"ok\"}");
+            MangaDexHttpClient cachingClient = cachingClient(new AtomicLong());
+
+            MangaDexHttpClient.await(cachingClient.fetch(baseUrl + "/author/a1"));
+            MangaDexResponse second = MangaDexHttpClient.await(cachingClient.fetch(baseUrl + "/author/a1"));
+
+            assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"result\":\"ok\"}");
+            assertThat(requests).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve revalidar entrada vencida com If-None-Match e reaproveitar o corpo no 304")
+        void shouldRevalidateWithEtag() {
+            List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+            server.createContext("/author/a1", exchange -> {
+                requests.incrementAndGet();
+                String validator = exchange.getRequestHeaders().getFirst("If-None-Match");
+                ifNoneMatch.add(String.valueOf(validator));
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                if ("\"v1\"".equals(validator)) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] bytes = "{\"result\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            AtomicLong clock = new AtomicLong();
+            MangaDexHttpClient cachingClient = cachingClient(clock);
+
+            MangaDexHttpClient.await(cachingClient.fetch(baseUrl + "/author/a1"));
+            clock.addAndGet(120_000);
+            MangaDexResponse revalidated = MangaDexHttpClient.await(cachingClient.fetch(baseUrl + "/author/a1"));
+
+            assertThat(revalidated.getStatusCode()).isEqualTo(200);
+            assertThat(new String(revalidated.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"result\":\"ok\"}");
+            assertThat(ifNoneMatch).containsExactly("null", "\"v1\"");
+        }
+
+        @Test
+        @DisplayName("deve converter URL inválida em future com falha")
+        void shouldFailFutureOnInvalidUrl() {
+            assertThat(client.fetch(baseUrl + "/manga?title=one piece")).isCompletedExceptionally();
+        }
+    }
+}
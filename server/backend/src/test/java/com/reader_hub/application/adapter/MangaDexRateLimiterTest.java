@@ -0,0 +1,154 @@
+package com.reader_hub.application.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MangaDexRateLimiter - Testes Unitários")
+class MangaDexRateLimiterTest {
+
+    private static final long EPOCH_MILLIS = 1_700_000_000_000L;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private MangaDexRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime.set(0);
+        limiter = new MangaDexRateLimiter(5, 5, nanoTime::get, () -> EPOCH_MILLIS);
+    }
+
+    private static HttpHeaders headers(Map<String, String> values) {
+        return HttpHeaders.of(values.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))),
+                (name, value) -> true);
+    }
+
+    @Nested
+    @DisplayName("reserve")
+    class Reserve {
+        @Test
+        @DisplayName("deve liberar o burst sem espera")
+        void shouldAllowBurstWithoutWaiting() {
+            for (int i = 0; i < 5; i++) {
+                assertThat(limiter.reserve()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("deve enfileirar reservas além do burst na taxa configurada")
+        void shouldQueueBeyondBurst() {
+            for (int i = 0; i < 5; i++) {
+                limiter.reserve();
+            }
+
+            assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+            assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(400));
+        }
+
+        @Test
+        @DisplayName("deve repor tokens com o passar do tempo")
+        void shouldRefillOverTime() {
+            for (int i = 0; i < 5; i++) {
+                limiter.reserve();
+            }
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            assertThat(limiter.reserve()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("onResponse")
+    class OnResponse {
+        @Test
+        @DisplayName("deve pausar até o fim da janela quando a cota se esgota")
+        void shouldPauseWhenQuotaExhausted() {
+            limiter.onResponse(headers(Map.of(
+                    "X-RateLimit-Limit", "40",
+                    "X-RateLimit-Remaining", "0",
+                    "X-RateLimit-Retry-After", String.valueOf(EPOCH_MILLIS / 1000 + 3))));
+
+            assertThat(limiter.reserve()).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+        }
+
+        @Test
+        @DisplayName("deve espaçar pela taxa as reservas enfileiradas durante a pausa")
+        void shouldSpaceReservationsQueuedDuringPause() {
+            limiter.onResponse(headers(Map.of(
+                    "X-RateLimit-Remaining", "0",
+                    "X-RateLimit-Retry-After", String.valueOf(EPOCH_MILLIS / 1000 + 3))));
+            long pause = TimeUnit.SECONDS.toNanos(3);
+            long interval = TimeUnit.MILLISECONDS.toNanos(200);
+
+            List<Long> waits = List.of(limiter.reserve(), limiter.reserve(), limiter.reserve(), limiter.reserve());
+
+            assertThat(waits).containsExactly(pause, pause + interval, pause + 2 * interval, pause + 3 * interval);
+        }
+
+        @Test
+        @DisplayName("deve manter o espaçamento para quem chega no meio da pausa")
+        void shouldKeepSpacingForLateArrivals() {
+            limiter.onResponse(headers(Map.of(
+                    "X-RateLimit-Remaining", "0",
+                    "X-RateLimit-Retry-After", String.valueOf(EPOCH_MILLIS / 1000 + 3))));
+            limiter.reserve();
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+            assertThat(limiter.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1200));
+        }
+
+        @Test
+        @DisplayName("não deve pausar enquanto houver cota")
+        void shouldNotPauseWithQuotaLeft() {
+            limiter.onResponse(headers(Map.of(
+                    "X-RateLimit-Remaining", "12",
+                    "X-RateLimit-Retry-After", String.valueOf(EPOCH_MILLIS / 1000 + 3))));
+
+            assertThat(limiter.reserve()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("onTooManyRequests")
+    class OnTooManyRequests {
+        @Test
+        @DisplayName("deve respeitar Retry-After e reduzir a taxa")
+        void shouldHonorRetryAfter() {
+            long delay = limiter.onTooManyRequests(headers(Map.of("Retry-After", "2")), 1);
+
+            assertThat(delay).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+            assertThat(limiter.currentRate()).isEqualTo(2.5);
+            assertThat(limiter.reserve()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(2));
+        }
+
+        @Test
+        @DisplayName("deve usar o backoff quando não há cabeçalho")
+        void shouldFallBackToBackoff() {
+            long fallback = TimeUnit.MILLISECONDS.toNanos(500);
+
+            assertThat(limiter.onTooManyRequests(headers(Map.of()), fallback)).isEqualTo(fallback);
+        }
+
+        @Test
+        @DisplayName("deve recuperar a taxa gradualmente após respostas bem-sucedidas")
+        void shouldRecoverRate() {
+            limiter.onTooManyRequests(headers(Map.of()), 1);
+            for (int i = 0; i < 100; i++) {
+                limiter.onResponse(headers(Map.of()));
+            }
+
+            assertThat(limiter.currentRate()).isEqualTo(5.0);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.exception.ExternalApiUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MangaDexResilience - Testes Unitários")
+class MangaDexResilienceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private MangaDexCircuitBreaker apiBreaker;
+    private MangaDexResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime.set(0);
+        apiBreaker = new MangaDexCircuitBreaker("api", 4, 4, 50, 1000, 2, nanoTime::get);
+        resilience = new MangaDexResilience(true, apiBreaker,
+                new MangaDexCircuitBreaker("uploads", 4, 4, 50, 1000, 2, nanoTime::get),
+                2, 1, Map.of("manga-feed", 1));
+    }
+
+    private CompletableFuture<Integer> call(MangaDexEndpoint endpoint, int status) {
+        return resilience.execute(endpoint, () -> CompletableFuture.completedFuture(status), s -> s >= 500);
+    }
+
+    private void openApiCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(MangaDexEndpoint.AUTHOR, 503).join();
+        }
+    }
+
+    @Nested
+    @DisplayName("circuit breaker")
+    class CircuitBreaker {
+        @Test
+        @DisplayName("deve abrir ao atingir a taxa de falha com o mínimo de chamadas")
+        void shouldOpenOnFailureRate() {
+            call(MangaDexEndpoint.AUTHOR, 200).join();
+            call(MangaDexEndpoint.AUTHOR, 200).join();
+            call(MangaDexEndpoint.AUTHOR, 500).join();
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.CLOSED);
+
+            call(MangaDexEndpoint.AUTHOR, 502).join();
+
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("deve recusar chamadas sem executá-las enquanto aberto")
+        void shouldRejectWhileOpen() {
+            openApiCircuit();
+            AtomicInteger executed = new AtomicInteger();
+
+            CompletableFuture<Integer> rejected = resilience.execute(MangaDexEndpoint.MANGA, () -> {
+                executed.incrementAndGet();
+                return CompletableFuture.completedFuture(200);
+            }, s -> false);
+
+            assertThat(executed).hasValue(0);
+            assertThatThrownBy(() -> MangaDexHttpClient.await(rejected))
+                    .isInstanceOf(ExternalApiUnavailableException.class)
+                    .satisfies(e -> assertThat(((ExternalApiUnavailableException) e).getReason())
+                            .isEqualTo(ExternalApiUnavailableException.Reason.CIRCUIT_OPEN));
+            assertThat(apiBreaker.rejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("não deve afetar o circuito de uploads quando a API cai")
+        void shouldIsolateUploadsCircuit() {
+            openApiCircuit();
+
+            assertThat(call(MangaDexEndpoint.UPLOADS, 200).join()).isEqualTo(200);
+            assertThat(resilience.circuitState(MangaDexEndpoint.UPLOADS))
+                    .isEqualTo(MangaDexCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("deve fechar depois que todos os probes do meio-aberto derem certo")
+        void shouldCloseAfterSuccessfulProbes() {
+            openApiCircuit();
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            call(MangaDexEndpoint.AUTHOR, 200).join();
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.HALF_OPEN);
+            call(MangaDexEndpoint.AUTHOR, 200).join();
+
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("deve reabrir quando um probe falha")
+        void shouldReopenOnProbeFailure() {
+            openApiCircuit();
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            call(MangaDexEndpoint.AUTHOR, 500).join();
+
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.OPEN);
+            assertThat(apiBreaker.remainingOpenMillis()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("deve contar falhas de transporte mas não erros 4xx")
+        void shouldCountTransportErrorsButNotClientErrors() {
+            for (int i = 0; i < 4; i++) {
+                resilience.execute(MangaDexEndpoint.AUTHOR, () -> CompletableFuture.<Integer>failedFuture(
+                        new ExternalApiException("MangaDex", "HTTP 404", 404)), s -> false);
+            }
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.CLOSED);
+
+            for (int i = 0; i < 4; i++) {
+                resilience.execute(MangaDexEndpoint.AUTHOR, () -> CompletableFuture.<Integer>failedFuture(
+                        new ExternalApiException("MangaDex", "timeout")), s -> false);
+            }
+            assertThat(apiBreaker.state()).isEqualTo(MangaDexCircuitBreaker.State.OPEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("bulkhead")
+    class Bulkhead {
+        @Test
+        @DisplayName("deve enfileirar até o limite e recusar o excedente com BULKHEAD_FULL")
+        void shouldQueueThenReject() {
+            CompletableFuture<Integer> pending = new CompletableFuture<>();
+            AtomicInteger started = new AtomicInteger();
+
+            CompletableFuture<Integer> first = resilience.execute(MangaDexEndpoint.MANGA_FEED, () -> {
+                started.incrementAndGet();
+                return pending;
+            }, s -> false);
+            CompletableFuture<Integer> queued = resilience.execute(MangaDexEndpoint.MANGA_FEED, () -> {
+                started.incrementAndGet();
+                return CompletableFuture.completedFuture(200);
+            }, s -> false);
+            CompletableFuture<Integer> rejected = call(MangaDexEndpoint.MANGA_FEED, 200);
+
+            assertThat(started).hasValue(1);
+            assertThatThrownBy(() -> MangaDexHttpClient.await(rejected))
+                    .isInstanceOf(ExternalApiUnavailableException.class)
+                    .satisfies(e -> assertThat(((ExternalApiUnavailableException) e).getReason())
+                            .isEqualTo(ExternalApiUnavailableException.Reason.BULKHEAD_FULL));
+
+            pending.complete(200);
+
+            assertThat(first.join()).isEqualTo(200);
+            assertThat(queued.join()).isEqualTo(200);
+            assertThat(started).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("não deve deixar uma família lotada bloquear as outras")
+        void shouldIsolateEndpointFamilies() {
+            resilience.execute(MangaDexEndpoint.MANGA_FEED, CompletableFuture::new, s -> false);
+            resilience.execute(MangaDexEndpoint.MANGA_FEED, CompletableFuture::new, s -> false);
+
+            assertThat(call(MangaDexEndpoint.AUTHOR, 200).join()).isEqualTo(200);
+        }
+    }
+}
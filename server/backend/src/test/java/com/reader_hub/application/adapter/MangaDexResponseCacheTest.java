@@ -0,0 +1,79 @@
+package com.reader_hub.application.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MangaDexResponseCache - Testes Unitários")
+class MangaDexResponseCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MangaDexResponseCache cache(long maxBytes) {
+        return new MangaDexResponseCache(true, MangaDexEndpoint.parseTtls("manga-list=30s"),
+                60_000, maxBytes, null, new ObjectMapper(), clock::get);
+    }
+
+    @Nested
+    @DisplayName("TTL por endpoint")
+    class Ttl {
+        @Test
+        @DisplayName("deve aplicar TTL configurado e padrões por família")
+        void shouldApplyConfiguredAndDefaultTtls() {
+            MangaDexResponseCache cache = cache(1024);
+
+            assertThat(cache.ttl(MangaDexEndpoint.MANGA_LIST)).hasSeconds(30);
+            assertThat(cache.ttl(MangaDexEndpoint.AUTHOR)).hasHours(24);
+            assertThat(cache.isCacheable(MangaDexEndpoint.AT_HOME)).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve classificar URLs por família de endpoint")
+        void shouldClassifyEndpoints() {
+            String api = "api.mangadex.org";
+
+            assertThat(MangaDexEndpoint.of(api, "/manga", api)).isEqualTo(MangaDexEndpoint.MANGA_LIST);
+            assertThat(MangaDexEndpoint.of(api, "/manga/abc", api)).isEqualTo(MangaDexEndpoint.MANGA);
+            assertThat(MangaDexEndpoint.of(api, "/manga/abc/feed", api)).isEqualTo(MangaDexEndpoint.MANGA_FEED);
+            assertThat(MangaDexEndpoint.of(api, "/author", api)).isEqualTo(MangaDexEndpoint.AUTHOR_LIST);
+            assertThat(MangaDexEndpoint.of(api, "/at-home/server/x", api)).isEqualTo(MangaDexEndpoint.AT_HOME);
+            assertThat(MangaDexEndpoint.of("uploads.mangadex.org", "/covers/x", api)).isEqualTo(MangaDexEndpoint.UPLOADS);
+        }
+    }
+
+    @Nested
+    @DisplayName("lookup")
+    class Lookup {
+        @Test
+        @DisplayName("deve manter entrada vencida para revalidação até o fim da retenção")
+        void shouldKeepStaleEntryForRevalidation() {
+            MangaDexResponseCache cache = cache(1024);
+            cache.store("k", MangaDexEndpoint.MANGA_LIST, new byte[]{1}, "\"v1\"", null);
+
+            clock.addAndGet(31_000);
+            assertThat(cache.lookup("k")).hasValueSatisfying(entry -> assertThat(cache.isFresh(entry)).isFalse());
+
+            clock.addAndGet(60_000);
+            assertThat(cache.lookup("k")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve descartar as entradas menos usadas ao exceder o limite de bytes")
+        void shouldEvictLeastRecentlyUsed() {
+            MangaDexResponseCache cache = cache(250);
+            cache.store("a", MangaDexEndpoint.MANGA_LIST, new byte[100], null, null);
+            cache.store("b", MangaDexEndpoint.MANGA_LIST, new byte[100], null, null);
+            cache.lookup("a");
+            cache.store("c", MangaDexEndpoint.MANGA_LIST, new byte[100], null, null);
+
+            assertThat(cache.lookup("a")).isPresent();
+            assertThat(cache.lookup("b")).isEmpty();
+            assertThat(cache.localBytes()).isLessThanOrEqualTo(250);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.reader_hub.application.adapter;
+
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.StreamedPageDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PrefetchingChapterFeed - Testes Unitários")
+class PrefetchingChapterFeedTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PrefetchingChapterFeed.PageStreamer feedOf(int total) {
+        return (offset, limit, consumer) -> {
+            requestedOffsets.add(offset);
+            int end = Math.min(offset + limit, total);
+            for (int i = offset; i < end; i++) {
+                ChapterDto chapter = new ChapterDto();
+                chapter.setId("ch-" + i);
+                consumer.accept(chapter);
+            }
+            return new StreamedPageDto(Math.max(0, end - offset), total, offset, limit);
+        };
+    }
+
+    @Test
+    @DisplayName("deve percorrer todas as páginas do feed")
+    void shouldWalkEveryPage() {
+        List<String> ids = new ArrayList<>();
+        try (PrefetchingChapterFeed feed = new PrefetchingChapterFeed(feedOf(23), 10, TIMEOUT, executor)) {
+            feed.forEachRemaining(chapter -> ids.add(chapter.getId()));
+
+            assertThat(feed.getTotal()).isEqualTo(23);
+            assertThat(feed.getConsumed()).isEqualTo(23);
+            assertThat(feed.getRemaining()).isZero();
+        }
+
+        assertThat(ids).hasSize(23).startsWith("ch-0").endsWith("ch-22");
+        assertThat(requestedOffsets).containsExactly(0, 10, 20);
+    }
+
+    @Test
+    @DisplayName("deve terminar com feed vazio")
+    void shouldHandleEmptyFeed() {
+        try (PrefetchingChapterFeed feed = new PrefetchingChapterFeed(feedOf(0), 10, TIMEOUT, executor)) {
+            assertThat(feed.hasNext()).isFalse();
+            assertThat(feed.getTotal()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("deve propagar falha da API depois dos capítulos já lidos")
+    void shouldPropagateFailure() {
+        PrefetchingChapterFeed.PageStreamer failingOnSecondPage = (offset, limit, consumer) -> {
+            if (offset > 0) {
+                throw new ExternalApiException("MangaDex", "HTTP 503", 503);
+            }
+            return feedOf(20).stream(offset, limit, consumer);
+        };
+
+        try (PrefetchingChapterFeed feed = new PrefetchingChapterFeed(failingOnSecondPage, 10, TIMEOUT, executor)) {
+            for (int i = 0; i < 10; i++) {
+                feed.next();
+            }
+            assertThatThrownBy(feed::hasNext).isInstanceOf(ExternalApiException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("deve falhar e interromper o produtor quando nada chega no prazo")
+    void shouldFailWhenProducerStalls() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PrefetchingChapterFeed.PageStreamer stalled = (offset, limit, consumer) -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new StreamedPageDto(0, 0, offset, limit);
+        };
+
+        PrefetchingChapterFeed feed = new PrefetchingChapterFeed(stalled, 10, Duration.ofMillis(100), executor);
+
+        assertThatThrownBy(feed::hasNext).isInstanceOf(ExternalApiException.class);
+        assertThat(feed.hasNext()).isFalse();
+        assertThat(awaitQuietly(interrupted)).isTrue();
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("fechar o feed deve interromper o produtor")
+    void closingShouldStopProducer() {
+        PrefetchingChapterFeed feed = new PrefetchingChapterFeed(feedOf(1000), 10, TIMEOUT, executor);
+        feed.next();
+        feed.close();
+
+        assertThat(feed.hasNext()).isFalse();
+        assertThat(requestedOffsets.size()).isLessThan(100);
+    }
+}
@@ -0,0 +1,122 @@
+package com.reader_hub.application.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestCoalescer - Testes Unitários")
+class RequestCoalescerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CompletableFuture<String> load(CompletableFuture<String> source) {
+        loads.incrementAndGet();
+        return source;
+    }
+
+    @Nested
+    @DisplayName("em voo")
+    class InFlight {
+        @Test
+        @DisplayName("deve compartilhar uma única requisição entre chamadas concorrentes")
+        void shouldShareInFlightRequest() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(0, nanoTime::get);
+            CompletableFuture<String> source = new CompletableFuture<>();
+
+            CompletableFuture<String> first = coalescer.execute("url", () -> load(source));
+            CompletableFuture<String> second = coalescer.execute("url", () -> load(source));
+            source.complete("ok");
+
+            assertThat(loads).hasValue(1);
+            assertThat(first.join()).isEqualTo("ok");
+            assertThat(second.join()).isEqualTo("ok");
+            assertThat(coalescer.coalescedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("não deve coalescer chaves diferentes")
+        void shouldNotShareDifferentKeys() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(0, nanoTime::get);
+
+            coalescer.execute("a", () -> load(new CompletableFuture<>()));
+            coalescer.execute("b", () -> load(new CompletableFuture<>()));
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("cancelar a cópia de um chamador não afeta os demais")
+        void cancellingOneCallerShouldNotAffectOthers() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(0, nanoTime::get);
+            CompletableFuture<String> source = new CompletableFuture<>();
+
+            CompletableFuture<String> first = coalescer.execute("url", () -> load(source));
+            CompletableFuture<String> second = coalescer.execute("url", () -> load(source));
+            first.cancel(true);
+            source.complete("ok");
+
+            assertThat(second.join()).isEqualTo("ok");
+        }
+    }
+
+    @Nested
+    @DisplayName("após conclusão")
+    class AfterCompletion {
+        @Test
+        @DisplayName("sem carência deve disparar nova requisição")
+        void shouldReloadWithoutGracePeriod() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(0, nanoTime::get);
+
+            coalescer.execute("url", () -> load(CompletableFuture.completedFuture("a"))).join();
+            coalescer.execute("url", () -> load(CompletableFuture.completedFuture("b"))).join();
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("deve reaproveitar o resultado dentro da carência")
+        void shouldReuseWithinGracePeriod() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(1000, nanoTime::get);
+
+            coalescer.execute("url", () -> load(CompletableFuture.completedFuture("a"))).join();
+            String result = coalescer.execute("url", () -> load(CompletableFuture.completedFuture("b"))).join();
+
+            assertThat(result).isEqualTo("a");
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve recarregar depois que a carência expira")
+        void shouldReloadAfterGracePeriod() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(1000, nanoTime::get);
+
+            coalescer.execute("url", () -> load(CompletableFuture.completedFuture("a"))).join();
+            nanoTime.addAndGet(2_000_000_000L);
+            String result = coalescer.execute("url", () -> load(CompletableFuture.completedFuture("b"))).join();
+
+            assertThat(result).isEqualTo("b");
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("não deve reaproveitar falhas")
+        void shouldNotReuseFailures() {
+            RequestCoalescer<String> coalescer = new RequestCoalescer<>(1000, nanoTime::get);
+
+            CompletableFuture<String> failed = coalescer.execute("url",
+                    () -> load(CompletableFuture.failedFuture(new IllegalStateException("boom"))));
+            String result = coalescer.execute("url", () -> load(CompletableFuture.completedFuture("ok"))).join();
+
+            assertThat(failed).isCompletedExceptionally();
+            assertThat(result).isEqualTo("ok");
+            assertThat(loads).hasValue(2);
+        }
+    }
+}
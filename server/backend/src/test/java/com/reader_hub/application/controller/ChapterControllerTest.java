@@ -0,0 +1,74 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.exception.GlobalExceptionHandler;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.storage.ZeroCopyFileResponder;
+import com.reader_hub.domain.service.ChapterPageService;
+import com.reader_hub.domain.service.ChapterPrefetchService;
+import com.reader_hub.domain.service.ChapterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@DisplayName("ChapterController - Testes Unitários")
+class ChapterControllerTest {
+
+    private ChapterPageService chapterPageService;
+    private ZeroCopyFileResponder fileResponder;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        chapterPageService = mock(ChapterPageService.class);
+        fileResponder = mock(ZeroCopyFileResponder.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ChapterController(mock(AsyncApiService.class),
+                        mock(ChapterService.class), chapterPageService, mock(ChapterPrefetchService.class),
+                        fileResponder))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("GET /api/chapter/local/{id}/pages/{pageNumber}")
+    class PageImage {
+        private final Path file = Path.of("1.png");
+
+        @BeforeEach
+        void stubPage() throws Exception {
+            when(chapterPageService.getPage("ch-1", 1, false))
+                    .thenReturn(new ChapterPageService.PageImage(file, "image/png", "h1"));
+        }
+
+        @Test
+        @DisplayName("deve usar cache imutável quando ?v é o hash atual")
+        void shouldUseImmutableCacheForCurrentVersion() throws Exception {
+            mockMvc.perform(get("/api/chapter/local/ch-1/pages/1").param("v", "h1"));
+
+            verify(fileResponder).send(any(), any(), eq(file), eq("image/png"),
+                    eq(ZeroCopyFileResponder.IMMUTABLE_CACHE_CONTROL));
+        }
+
+        @Test
+        @DisplayName("deve usar cache curto sem versão ou com hash antigo")
+        void shouldUseShortCacheWithoutCurrentVersion() throws Exception {
+            mockMvc.perform(get("/api/chapter/local/ch-1/pages/1"));
+            mockMvc.perform(get("/api/chapter/local/ch-1/pages/1").param("v", "h0"));
+
+            verify(fileResponder, times(2)).send(any(), any(), eq(file), eq("image/png"),
+                    eq("public, max-age=300"));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.reader_hub.application.controller;
+
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.exception.GlobalExceptionHandler;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.storage.ZeroCopyFileResponder;
+import com.reader_hub.domain.service.AuthorService;
+import com.reader_hub.domain.service.ChapterPageService;
+import com.reader_hub.domain.service.ChapterPrefetchService;
+import com.reader_hub.domain.service.ChapterService;
+import com.reader_hub.domain.service.CoverService;
+import com.reader_hub.domain.service.MangaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Endpoints /external devolvem {@link CompletableFuture}: a requisição entra em modo
+ * async e a resposta só é escrita no dispatch seguinte, quando o future completa.
+ */
+@DisplayName("Endpoints externos assíncronos")
+class ExternalApiControllerAsyncTest {
+
+    private AsyncApiService asyncApiService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        asyncApiService = mock(AsyncApiService.class);
+        ZeroCopyFileResponder fileResponder = mock(ZeroCopyFileResponder.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MangaController(asyncApiService, mock(MangaService.class), mock(CoverService.class),
+                                fileResponder),
+                        new AuthorController(asyncApiService, mock(AuthorService.class)),
+                        new ChapterController(asyncApiService, mock(ChapterService.class),
+                                mock(ChapterPageService.class), mock(ChapterPrefetchService.class), fileResponder))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static ExternalMangaDto manga(String id) {
+        ExternalMangaDto manga = new ExternalMangaDto();
+        manga.setId(id);
+        return manga;
+    }
+
+    private static AuthorDto author(String id) {
+        AuthorDto author = new AuthorDto();
+        author.setId(id);
+        return author;
+    }
+
+    private static ChapterDto chapter(String id) {
+        ChapterDto chapter = new ChapterDto();
+        chapter.setId(id);
+        return chapter;
+    }
+
+    private static <T> PaginatedDto<T> page(List<T> data) {
+        return new PaginatedDto<>(data, data.size(), 0, 20);
+    }
+
+    @Nested
+    @DisplayName("MangaController")
+    class Mangas {
+        @Test
+        @DisplayName("GET /api/manga/external deve devolver a página após o dispatch")
+        void shouldDispatchMangaPage() throws Exception {
+            when(asyncApiService.getMangasAsync(10, 5))
+                    .thenReturn(CompletableFuture.completedFuture(page(List.of(manga("m1"), manga("m2")))));
+
+            performAsync(get("/api/manga/external").param("limit", "10").param("offset", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(2)))
+                    .andExpect(jsonPath("$.data[0].id", is("m1")));
+        }
+
+        @Test
+        @DisplayName("GET /api/manga/external/{id} deve devolver o manga após o dispatch")
+        void shouldDispatchMangaById() throws Exception {
+            when(asyncApiService.getMangaByIdAsync("m1"))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(manga("m1"))));
+
+            performAsync(get("/api/manga/external/m1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is("m1")));
+        }
+
+        @Test
+        @DisplayName("GET /api/manga/external/{id} deve virar 502 quando o future falha")
+        void shouldMapFailedFutureToBadGateway() throws Exception {
+            when(asyncApiService.getMangaByIdAsync("m1"))
+                    .thenReturn(CompletableFuture.failedFuture(new ExternalApiException("MangaDex", "fora do ar")));
+
+            performAsync(get("/api/manga/external/m1"))
+                    .andExpect(status().isBadGateway());
+        }
+
+        @Test
+        @DisplayName("GET /api/manga/external/search deve buscar com offset zero")
+        void shouldDispatchSearch() throws Exception {
+            when(asyncApiService.searchMangasAsync("naruto", 15, 0))
+                    .thenReturn(CompletableFuture.completedFuture(List.of(manga("m1"))));
+
+            performAsync(get("/api/manga/external/search").param("q", "naruto"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("GET /api/manga/external/{id}/cover deve devolver a URL da capa")
+        void shouldDispatchCoverUrl() throws Exception {
+            when(asyncApiService.getMangaCoverUrlAsync("m1"))
+                    .thenReturn(CompletableFuture.completedFuture("https://uploads.mangadex.org/covers/m1/c.jpg"));
+
+            performAsync(get("/api/manga/external/m1/cover"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.coverUrl", is("https://uploads.mangadex.org/covers/m1/c.jpg")));
+        }
+
+        @Test
+        @DisplayName("GET /api/manga/external/{id}/cover deve devolver 404 sem capa")
+        void shouldDispatchNotFoundWithoutCover() throws Exception {
+            when(asyncApiService.getMangaCoverUrlAsync("m1"))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            performAsync(get("/api/manga/external/m1/cover"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("AuthorController")
+    class Authors {
+        @Test
+        @DisplayName("GET /api/author/external/{id} deve devolver o autor após o dispatch")
+        void shouldDispatchAuthorById() throws Exception {
+            when(asyncApiService.getAuthorByIdAsync("a1"))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(author("a1"))));
+
+            performAsync(get("/api/author/external/a1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is("a1")));
+        }
+
+        @Test
+        @DisplayName("GET /api/author/external deve devolver a página após o dispatch")
+        void shouldDispatchAuthorPage() throws Exception {
+            when(asyncApiService.getAuthorsAsync(20, 0))
+                    .thenReturn(CompletableFuture.completedFuture(page(List.of(author("a1")))));
+
+            performAsync(get("/api/author/external"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].id", is("a1")));
+        }
+    }
+
+    @Nested
+    @DisplayName("ChapterController")
+    class Chapters {
+        @Test
+        @DisplayName("GET /api/chapter/external/{id} deve devolver o capítulo após o dispatch")
+        void shouldDispatchChapterById() throws Exception {
+            when(asyncApiService.getChapterByIdAsync("c1"))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(chapter("c1"))));
+
+            performAsync(get("/api/chapter/external/c1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is("c1")));
+        }
+
+        @Test
+        @DisplayName("GET /api/chapter/external/manga/{mangaId} deve repassar limit e offset")
+        void shouldDispatchChaptersByManga() throws Exception {
+            when(asyncApiService.getChaptersByMangaIdAsync("m1", 100, 200))
+                    .thenReturn(CompletableFuture.completedFuture(List.of(chapter("c1"), chapter("c2"))));
+
+            performAsync(get("/api/chapter/external/manga/m1").param("limit", "100").param("offset", "200"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("GET /api/chapter/external/{chapterId}/pages deve devolver as URLs das páginas")
+        void shouldDispatchChapterPages() throws Exception {
+            when(asyncApiService.getChapterPagesAsync("c1"))
+                    .thenReturn(CompletableFuture.completedFuture(List.of("https://host/data/h/1.jpg")));
+
+            performAsync(get("/api/chapter/external/c1/pages"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0]", is("https://host/data/h/1.jpg")));
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reader_hub.application.dto.CreateMangaDto;
 import com.reader_hub.application.exception.DuplicateResourceException;
 import com.reader_hub.application.exception.GlobalExceptionHandler;
-import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.AsyncApiService;
+import com.reader_hub.application.storage.ZeroCopyFileResponder;
 import com.reader_hub.domain.model.Manga;
+import com.reader_hub.domain.service.CoverService;
 import com.reader_hub.domain.service.MangaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,11 +45,17 @@ class MangaControllerTest {
     private ObjectMapper objectMapper;
 
     @MockitoBean
-    private ApiService apiService;
+    private AsyncApiService asyncApiService;
 
     @MockitoBean
     private MangaService mangaService;
 
+    @MockitoBean
+    private CoverService coverService;
+
+    @MockitoBean
+    private ZeroCopyFileResponder fileResponder;
+
     private Manga testManga;
 
     @BeforeEach
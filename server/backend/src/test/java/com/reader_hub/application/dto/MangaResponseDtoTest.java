@@ -1,5 +1,6 @@
 package com.reader_hub.application.dto;
 
+import com.reader_hub.application.storage.CoverVariant;
 import com.reader_hub.domain.model.Author;
 import com.reader_hub.domain.model.Chapter;
 import com.reader_hub.domain.model.Manga;
@@ -36,6 +37,17 @@ class MangaResponseDtoTest {
         assertThat(dto.getCoverImage()).isEqualTo("https://cover.jpg");
     }
 
+    @Test
+    @DisplayName("deve expor URLs versionadas das miniaturas da capa")
+    void shouldExposeCoverVariants() {
+        MangaResponseDto dto = MangaResponseDto.fromEntity(createFullManga());
+
+        String version = CoverVariant.version("https://cover.jpg");
+        assertThat(dto.getCoverVariants())
+                .containsEntry("256", "/api/manga/local/manga-1/cover/256?v=" + version)
+                .containsEntry("512", "/api/manga/local/manga-1/cover/512?v=" + version);
+    }
+
     @Test
     @DisplayName("deve retornar null quando entity é null")
     void shouldReturnNullWhenEntityIsNull() {
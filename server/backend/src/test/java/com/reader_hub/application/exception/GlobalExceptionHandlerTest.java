@@ -83,6 +83,20 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getCode()).isEqualTo(502);
     }
 
+    @Test
+    @DisplayName("deve retornar 503 com Retry-After para ExternalApiUnavailableException")
+    void shouldReturn503ForExternalApiUnavailable() {
+        ExternalApiUnavailableException ex = new ExternalApiUnavailableException("MangaDex",
+                ExternalApiUnavailableException.Reason.CIRCUIT_OPEN, "circuito aberto", 30);
+
+        ResponseEntity<ErrorResponse> response = handler.handleExternalApiUnavailableException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("30");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo(503);
+    }
+
     @Test
     @DisplayName("deve retornar 502 para RestClientException")
     void shouldReturn502ForRestClientException() {
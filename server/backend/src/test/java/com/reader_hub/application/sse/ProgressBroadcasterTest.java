@@ -0,0 +1,260 @@
+package com.reader_hub.application.sse;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProgressBroadcaster - Testes Unitários")
+class ProgressBroadcasterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ProgressBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ProgressBroadcaster(3, 1000, 60_000, clock::get, null);
+    }
+
+    /**
+     * Assinante que guarda o que recebeu.
+     */
+    private static class RecordingSink implements ProgressBroadcaster.Sink {
+        private final List<String> received = new ArrayList<>();
+        private boolean completed;
+        private boolean failing;
+
+        @Override
+        public void send(ProgressBroadcaster.Event event) throws IOException {
+            if (failing) {
+                throw new IOException("cliente desconectou");
+            }
+            received.add(event.id() + ":" + event.name() + ":" + event.data());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    @Nested
+    @DisplayName("publicação")
+    class Publishing {
+        @Test
+        @DisplayName("deve agrupar progressos e entregar só o último a cada envio")
+        void shouldCoalesceProgress() {
+            broadcaster.open("t");
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe("t", null, sink);
+
+            broadcaster.progress("t", 1);
+            broadcaster.progress("t", 2);
+            broadcaster.progress("t", 3);
+            broadcaster.flush();
+            broadcaster.flush();
+
+            assertThat(sink.received).containsExactly("1:progress:3");
+            assertThat(broadcaster.publishedCount()).isEqualTo(3);
+            assertThat(broadcaster.sentCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("deve entregar a todos os assinantes e encerrá-los no evento final")
+        void shouldMultiplexAndComplete() {
+            broadcaster.open("t");
+            RecordingSink first = new RecordingSink();
+            RecordingSink second = new RecordingSink();
+            broadcaster.subscribe("t", null, first);
+            broadcaster.subscribe("t", null, second);
+
+            broadcaster.progress("t", 5);
+            broadcaster.finish("t", "complete", "ok");
+            broadcaster.progress("t", 6);
+            broadcaster.flush();
+
+            assertThat(first.received).containsExactly("1:progress:5", "2:complete:ok");
+            assertThat(second.received).isEqualTo(first.received);
+            assertThat(first.completed).isTrue();
+            assertThat(broadcaster.isActive("t")).isFalse();
+            assertThat(broadcaster.subscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("deve remover só o assinante que falhou")
+        void shouldDropFailingSink() {
+            broadcaster.open("t");
+            RecordingSink broken = new RecordingSink();
+            RecordingSink healthy = new RecordingSink();
+            broadcaster.subscribe("t", null, broken);
+            broadcaster.subscribe("t", null, healthy);
+            broken.failing = true;
+
+            broadcaster.progress("t", 1);
+            broadcaster.flush();
+            broadcaster.progress("t", 2);
+            broadcaster.flush();
+
+            assertThat(broken.completed).isTrue();
+            assertThat(healthy.received).containsExactly("1:progress:1", "2:progress:2");
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("assinatura")
+    class Subscribing {
+        @Test
+        @DisplayName("deve enviar só o estado atual a quem assina sem Last-Event-ID")
+        void shouldSendLatestToNewSubscriber() {
+            broadcaster.open("t");
+            for (int i = 1; i <= 3; i++) {
+                broadcaster.progress("t", i);
+                broadcaster.flush();
+            }
+            RecordingSink sink = new RecordingSink();
+
+            broadcaster.subscribe("t", null, sink);
+
+            assertThat(sink.received).containsExactly("3:progress:3");
+        }
+
+        @Test
+        @DisplayName("deve reenviar os eventos guardados depois do Last-Event-ID")
+        void shouldReplayAfterLastEventId() {
+            broadcaster.open("t");
+            for (int i = 1; i <= 5; i++) {
+                broadcaster.progress("t", i);
+                broadcaster.flush();
+            }
+            RecordingSink sink = new RecordingSink();
+
+            broadcaster.subscribe("t", 3L, sink);
+
+            assertThat(sink.received).containsExactly("4:progress:4", "5:progress:5");
+        }
+
+        @Test
+        @DisplayName("deve entregar o evento final e encerrar quem assina um tópico já finalizado")
+        void shouldReplayFinishedTopic() {
+            broadcaster.open("t");
+            broadcaster.finish("t", "complete", "ok");
+            broadcaster.flush();
+            RecordingSink sink = new RecordingSink();
+
+            broadcaster.subscribe("t", null, sink);
+
+            assertThat(sink.received).containsExactly("1:complete:ok");
+            assertThat(sink.completed).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException para tópico inexistente")
+        void shouldRejectUnknownTopic() {
+            assertThatThrownBy(() -> broadcaster.subscribe("nada", null, new RecordingSink()))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("ciclo de vida")
+    class Lifecycle {
+        @Test
+        @DisplayName("não deve reabrir um tópico em andamento")
+        void shouldNotReopenActiveTopic() {
+            assertThat(broadcaster.open("t")).isTrue();
+            assertThat(broadcaster.open("t")).isFalse();
+
+            broadcaster.finish("t", "complete", "ok");
+            broadcaster.flush();
+
+            assertThat(broadcaster.open("t")).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve descartar o tópico finalizado após a retenção")
+        void shouldExpireFinishedTopic() {
+            broadcaster.open("t");
+            broadcaster.finish("t", "complete", "ok");
+            broadcaster.flush();
+
+            clock.addAndGet(1000);
+            broadcaster.flush();
+
+            assertThat(broadcaster.topicCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("deve fechar o tópico com o último assinante e deixar o próximo reabrir")
+        void shouldCloseWithLastSubscriber() {
+            AtomicInteger closed = new AtomicInteger();
+            broadcaster.open("t");
+            broadcaster.onClose("t", closed::incrementAndGet);
+            RecordingSink first = new RecordingSink();
+            RecordingSink second = new RecordingSink();
+            broadcaster.subscribe("t", null, first);
+            broadcaster.subscribe("t", null, second);
+
+            broadcaster.unsubscribe("t", first);
+            assertThat(closed).hasValue(0);
+            broadcaster.unsubscribe("t", second);
+
+            assertThat(closed).hasValue(1);
+            assertThat(broadcaster.topicCount()).isZero();
+            assertThat(broadcaster.open("t")).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve rodar o gancho uma vez quando o assinante falha e o tópico expira")
+        void shouldRunHookOnceOnFailureAndExpiry() {
+            AtomicInteger closed = new AtomicInteger();
+            broadcaster.open("t");
+            broadcaster.onClose("t", closed::incrementAndGet);
+            RecordingSink sink = new RecordingSink();
+            broadcaster.subscribe("t", null, sink);
+            sink.failing = true;
+
+            broadcaster.progress("t", 1);
+            broadcaster.flush();
+            clock.addAndGet(1000);
+            broadcaster.flush();
+
+            assertThat(closed).hasValue(1);
+            assertThat(broadcaster.topicCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("deve manter o tópico finalizado na retenção e rodar o gancho ao reabrir")
+        void shouldRunHookWhenFinishedTopicIsReopened() {
+            AtomicInteger closed = new AtomicInteger();
+            broadcaster.open("t");
+            broadcaster.onClose("t", closed::incrementAndGet);
+            broadcaster.finish("t", "complete", "ok");
+            broadcaster.flush();
+
+            assertThat(broadcaster.topicCount()).isEqualTo(1);
+            assertThat(broadcaster.open("t")).isTrue();
+            assertThat(closed).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve rodar o gancho na hora para tópico inexistente")
+        void shouldRunHookForMissingTopic() {
+            AtomicInteger closed = new AtomicInteger();
+
+            broadcaster.onClose("nada", closed::incrementAndGet);
+
+            assertThat(closed).hasValue(1);
+        }
+    }
+}
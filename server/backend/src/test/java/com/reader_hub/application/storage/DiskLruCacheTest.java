@@ -0,0 +1,158 @@
+package com.reader_hub.application.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DiskLruCache - Testes Unitários")
+class DiskLruCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static DiskLruCache.Loader bytes(int size) {
+        return target -> Files.write(target, new byte[size]);
+    }
+
+    @Nested
+    @DisplayName("getOrLoad")
+    class GetOrLoad {
+        @Test
+        @DisplayName("deve carregar no miss e servir do disco no acerto")
+        void shouldLoadOnceAndHit() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir, 1024);
+            AtomicInteger loads = new AtomicInteger();
+            DiskLruCache.Loader loader = target -> {
+                loads.incrementAndGet();
+                Files.writeString(target, "page");
+            };
+
+            Path first = cache.getOrLoad("data/h/1.png", "png", loader);
+            Path second = cache.getOrLoad("data/h/1.png", "png", loader);
+
+            assertThat(second).isEqualTo(first);
+            assertThat(first.getFileName().toString()).endsWith(".png");
+            assertThat(Files.readString(first)).isEqualTo("page");
+            assertThat(loads).hasValue(1);
+            assertThat(cache.hitCount()).isEqualTo(1);
+            assertThat(cache.missCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("não deve guardar nada quando o carregamento falha")
+        void shouldNotCacheFailedLoad() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir, 1024);
+
+            assertThatThrownBy(() -> cache.getOrLoad("k", "png", target -> {
+                Files.writeString(target, "parcial");
+                throw new IOException("falhou");
+            })).isInstanceOf(IOException.class);
+
+            assertThat(cache.get("k", "png")).isEmpty();
+            assertThat(cache.sizeBytes()).isZero();
+            try (var temp = Files.list(dir.resolve(".tmp"))) {
+                assertThat(temp).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("deve fazer um único carregamento para misses simultâneos da mesma chave")
+        void shouldSingleFlightConcurrentMisses() throws Exception {
+            DiskLruCache cache = new DiskLruCache("test", dir, 1024);
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Path>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    futures.add(executor.submit(() -> cache.getOrLoad("k", "jpg", target -> {
+                        loads.incrementAndGet();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        Files.write(target, new byte[10]);
+                    })));
+                }
+                Thread.sleep(100);
+                release.countDown();
+                for (Future<Path> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS)).exists();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(loads).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Despejo")
+    class Eviction {
+        @Test
+        @DisplayName("deve despejar o menos usado ao passar do limite")
+        void shouldEvictLeastRecentlyUsed() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir, 250);
+            Path a = cache.getOrLoad("a", "png", bytes(100));
+            cache.getOrLoad("b", "png", bytes(100));
+            cache.getOrLoad("a", "png", bytes(100));
+
+            cache.getOrLoad("c", "png", bytes(100));
+
+            assertThat(cache.get("a", "png")).contains(a);
+            assertThat(cache.get("b", "png")).isEmpty();
+            assertThat(cache.get("c", "png")).isPresent();
+            assertThat(cache.sizeBytes()).isEqualTo(200);
+            assertThat(cache.evictionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("não deve alterar a data de modificação do arquivo num acerto")
+        void shouldNotTouchFileOnHit() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir, 1000);
+            Path path = cache.getOrLoad("a", "png", bytes(100));
+            Files.setLastModifiedTime(path, FileTime.fromMillis(1_000));
+
+            cache.get("a", "png");
+            cache.getOrLoad("a", "png", bytes(100));
+
+            assertThat(Files.getLastModifiedTime(path)).isEqualTo(FileTime.fromMillis(1_000));
+        }
+
+        @Test
+        @DisplayName("deve reconstruir o índice pela data de modificação ao reiniciar")
+        void shouldRebuildIndexFromDisk() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir, 1000);
+            Path old = cache.getOrLoad("old", "png", bytes(100));
+            Path recent = cache.getOrLoad("recent", "png", bytes(100));
+            Files.setLastModifiedTime(old, FileTime.fromMillis(1_000));
+            Files.setLastModifiedTime(recent, FileTime.fromMillis(2_000));
+
+            DiskLruCache reopened = new DiskLruCache("test", dir, 150);
+
+            assertThat(reopened.entryCount()).isEqualTo(1);
+            assertThat(reopened.sizeBytes()).isEqualTo(100);
+            assertThat(reopened.get("recent", "png")).contains(recent);
+            assertThat(old).doesNotExist();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.reader_hub.application.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ZeroCopyFileResponder - Testes Unitários")
+class ZeroCopyFileResponderTest {
+
+    @TempDir
+    Path dir;
+
+    private final ZeroCopyFileResponder responder = new ZeroCopyFileResponder();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(dir.resolve("page.png"), "0123456789");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        return send(request, file);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, Path path) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.send(request, response, path, "image/png", ZeroCopyFileResponder.IMMUTABLE_CACHE_CONTROL);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("send")
+    class Send {
+        @Test
+        @DisplayName("deve enviar o arquivo inteiro com cabeçalhos de cache imutável")
+        void shouldSendWholeFile() throws IOException {
+            MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/page"));
+
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+            assertThat(response.getContentType()).isEqualTo("image/png");
+            assertThat(response.getHeader("Cache-Control")).isEqualTo(ZeroCopyFileResponder.IMMUTABLE_CACHE_CONTROL);
+            assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+            assertThat(response.getHeader("ETag")).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("deve responder 206 com o intervalo pedido")
+        void shouldSendPartialContent() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.addHeader("Range", "bytes=2-5");
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(response.getStatus()).isEqualTo(206);
+            assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+        }
+
+        @Test
+        @DisplayName("deve responder 416 para intervalo fora do arquivo")
+        void shouldRejectUnsatisfiableRange() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.addHeader("Range", "bytes=20-");
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(response.getStatus()).isEqualTo(416);
+            assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+        }
+
+        @Test
+        @DisplayName("deve responder 304 quando o ETag confere")
+        void shouldRespondNotModified() throws IOException {
+            String etag = send(new MockHttpServletRequest("GET", "/page")).getHeader("ETag");
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.addHeader("If-None-Match", etag);
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve responder 304 num novo acerto do cache com o ETag da primeira resposta")
+        void shouldRespondNotModifiedThroughCache() throws IOException {
+            DiskLruCache cache = new DiskLruCache("test", dir.resolve("cache"), 1024);
+            Path cached = cache.getOrLoad("data/h/1.png", "png", target -> Files.writeString(target, "page"));
+            MockHttpServletResponse first = send(new MockHttpServletRequest("GET", "/page"), cached);
+
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.addHeader("If-None-Match", first.getHeader("ETag"));
+            MockHttpServletResponse second = send(request, cache.get("data/h/1.png", "png").orElseThrow());
+
+            assertThat(second.getStatus()).isEqualTo(304);
+            assertThat(second.getHeader("ETag")).isEqualTo(first.getHeader("ETag"));
+            assertThat(second.getHeader("Last-Modified")).isEqualTo(first.getHeader("Last-Modified"));
+        }
+
+        @Test
+        @DisplayName("deve honrar If-Range com o ETag atual")
+        void shouldHonorIfRangeWithCurrentEtag() throws IOException {
+            String etag = send(new MockHttpServletRequest("GET", "/page")).getHeader("ETag");
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.addHeader("Range", "bytes=0-3");
+            request.addHeader("If-Range", etag);
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(response.getStatus()).isEqualTo(206);
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123");
+        }
+
+        @Test
+        @DisplayName("deve delegar ao sendfile do Tomcat quando suportado")
+        void shouldDelegateToSendfile() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/page");
+            request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+            MockHttpServletResponse response = send(request);
+
+            assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                    .isEqualTo(file.toAbsolutePath().toString());
+            assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+            assertThat(response.getContentLengthLong()).isEqualTo(10);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+    }
+}
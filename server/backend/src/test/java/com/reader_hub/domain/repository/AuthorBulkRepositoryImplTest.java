@@ -0,0 +1,93 @@
+package com.reader_hub.domain.repository;
+
+import com.reader_hub.domain.model.Author;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Caminho portátil (MERGE + SELECT) rodando de verdade num H2 em memória.
+ */
+@DisplayName("AuthorBulkRepositoryImpl - H2")
+class AuthorBulkRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AuthorBulkRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bulk-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE authors (id VARCHAR(255) PRIMARY KEY, "
+                + "api_id VARCHAR(255) NOT NULL UNIQUE, name VARCHAR(255) NOT NULL, "
+                + "biography_en VARCHAR(2000), biography_pt_br VARCHAR(2000), "
+                + "created_at TIMESTAMP WITH TIME ZONE, updated_at TIMESTAMP WITH TIME ZONE)");
+        repository = new AuthorBulkRepositoryImpl(jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "entityManager", mock(EntityManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    private static Author author(String apiId, String name) {
+        Author author = new Author();
+        author.setApiId(apiId);
+        author.setName(name);
+        return author;
+    }
+
+    @Test
+    @DisplayName("deve inserir os novos e devolver o ID existente sem alterar a linha")
+    void shouldInsertNewAndResolveExisting() {
+        jdbcTemplate.update("INSERT INTO authors (id, api_id, name) VALUES ('id-b', 'api-b', 'Original')");
+
+        Map<String, String> ids = repository.upsertAll(List.of(
+                author("api-c", "Novo C"), author("api-b", "Repetido"), author("api-a", "Novo A"),
+                author("api-a", "Duplicado")));
+
+        assertThat(ids).containsOnlyKeys("api-a", "api-b", "api-c").containsEntry("api-b", "id-b");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM authors WHERE api_id = 'api-b'", String.class))
+                .isEqualTo("Original");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM authors WHERE api_id = 'api-a'", String.class))
+                .isEqualTo("Novo A");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM authors", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("deve resolver IDs em mais de um bloco")
+    void shouldResolveAcrossChunks() {
+        List<Author> authors = new ArrayList<>();
+        for (int i = 0; i < AuthorBulkRepositoryImpl.CHUNK_SIZE + 5; i++) {
+            authors.add(author("api-" + i, "Autor " + i));
+        }
+
+        Map<String, String> ids = repository.upsertAll(authors);
+        Map<String, String> again = repository.upsertAll(authors);
+
+        assertThat(ids).hasSize(AuthorBulkRepositoryImpl.CHUNK_SIZE + 5);
+        assertThat(again).isEqualTo(ids);
+    }
+
+    @Test
+    @DisplayName("não deve reescrever linhas existentes no PostgreSQL")
+    void shouldNotUpdateExistingRowsOnPostgres() {
+        assertThat(AuthorBulkRepositoryImpl.POSTGRES_UPSERT_SUFFIX)
+                .isEqualTo(" ON CONFLICT (api_id) DO NOTHING RETURNING api_id, id");
+    }
+}
@@ -10,17 +10,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,13 +34,13 @@ class AuthorServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
-    @InjectMocks
     private AuthorService authorService;
 
     private Author testAuthor;
 
     @BeforeEach
     void setUp() {
+        authorService = new AuthorService(authorRepository, 100);
         testAuthor = new Author();
         testAuthor.setId("author-123");
         testAuthor.setApiId("api-author-123");
@@ -70,13 +74,54 @@ class AuthorServiceTest {
             newAuthor.setApiId("api-author-123");
             newAuthor.setName("Duplicado");
 
-            when(authorRepository.findByApiId("api-author-123")).thenReturn(Optional.of(testAuthor));
+            when(authorRepository.upsertAll(anyCollection())).thenReturn(Map.of("api-author-123", "author-123"));
+            when(authorRepository.findById("author-123")).thenReturn(Optional.of(testAuthor));
 
             Author result = authorService.saveAuthor(newAuthor);
 
             assertThat(result.getName()).isEqualTo("Mangaká Teste");
             verify(authorRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("deve usar o ID em cache sem novo upsert")
+        void shouldUseCachedIdOnSecondSave() {
+            Author first = new Author();
+            first.setApiId("api-author-123");
+            first.setName("Mangaká Teste");
+            when(authorRepository.upsertAll(anyCollection())).thenReturn(Map.of("api-author-123", "author-123"));
+            when(authorRepository.findById("author-123")).thenReturn(Optional.of(testAuthor));
+
+            authorService.saveAuthor(first);
+            Author second = new Author();
+            second.setApiId("api-author-123");
+            second.setName("Repetido");
+            Author result = authorService.saveAuthor(second);
+
+            assertThat(result).isSameAs(testAuthor);
+            verify(authorRepository, times(1)).upsertAll(anyCollection());
+        }
+
+        @Test
+        @DisplayName("deve refazer o upsert quando o ID em cache não existe mais")
+        void shouldUpsertAgainWhenCachedIdIsGone() {
+            Author author = new Author();
+            author.setApiId("api-author-123");
+            author.setName("Mangaká Teste");
+            when(authorRepository.upsertAll(anyCollection()))
+                    .thenAnswer(invocation -> Map.of("api-author-123", "author-123"))
+                    .thenAnswer(invocation -> Map.of("api-author-123", "author-456"));
+            when(authorRepository.findById("author-123"))
+                    .thenReturn(Optional.of(testAuthor))
+                    .thenReturn(Optional.empty());
+            when(authorRepository.findById("author-456")).thenReturn(Optional.of(author));
+
+            authorService.saveAuthor(author);
+            Author result = authorService.saveAuthor(author);
+
+            assertThat(result).isSameAs(author);
+            verify(authorRepository, times(2)).upsertAll(anyCollection());
+        }
     }
 
     @Nested
@@ -86,12 +131,7 @@ class AuthorServiceTest {
         @DisplayName("deve criar autor a partir de DTO")
         void shouldCreateAuthorFromDto() {
             AuthorDto dto = createAuthorDto("new-api-id", "Novo Mangaká");
-            when(authorRepository.findByApiId("new-api-id")).thenReturn(Optional.empty());
-            when(authorRepository.save(any(Author.class))).thenAnswer(inv -> {
-                Author a = inv.getArgument(0);
-                a.setId("generated-id");
-                return a;
-            });
+            stubUpsertInsertingAll();
 
             Author result = authorService.createAuthor(dto);
 
@@ -103,7 +143,8 @@ class AuthorServiceTest {
         @DisplayName("deve retornar existente quando apiId já cadastrado")
         void shouldReturnExistingWhenAlreadyExists() {
             AuthorDto dto = createAuthorDto("api-author-123", "Duplicado");
-            when(authorRepository.findByApiId("api-author-123")).thenReturn(Optional.of(testAuthor));
+            when(authorRepository.upsertAll(anyCollection())).thenReturn(Map.of("api-author-123", "author-123"));
+            when(authorRepository.findById("author-123")).thenReturn(Optional.of(testAuthor));
 
             Author result = authorService.createAuthor(dto);
 
@@ -117,8 +158,7 @@ class AuthorServiceTest {
             AuthorDto dto = createAuthorDto("bio-id", "Com Bio");
             dto.getAttributes().setBiography(Map.of("en", "English bio", "pt-br", "Bio BR"));
 
-            when(authorRepository.findByApiId("bio-id")).thenReturn(Optional.empty());
-            when(authorRepository.save(any(Author.class))).thenAnswer(inv -> inv.getArgument(0));
+            stubUpsertInsertingAll();
 
             Author result = authorService.createAuthor(dto);
 
@@ -128,6 +168,69 @@ class AuthorServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("upsertAuthors")
+    class UpsertAuthors {
+        @Test
+        @DisplayName("deve gravar a página numa chamada e contar só os criados")
+        void shouldUpsertInOneCallAndCountCreated() {
+            when(authorRepository.upsertAll(anyCollection())).thenAnswer(inv -> {
+                Collection<Author> authors = inv.getArgument(0);
+                Map<String, String> ids = new HashMap<>();
+                for (Author author : authors) {
+                    author.setId("generated-" + author.getApiId());
+                    // api-author-123 já existia com outro ID
+                    ids.put(author.getApiId(), "api-author-123".equals(author.getApiId())
+                            ? "author-123" : author.getId());
+                }
+                return ids;
+            });
+
+            int created = authorService.upsertAuthors(List.of(createAuthorDto("api-author-123", "Existente"),
+                    createAuthorDto("novo-1", "Novo 1"), createAuthorDto("novo-2", "Novo 2")));
+
+            assertThat(created).isEqualTo(2);
+            verify(authorRepository, times(1)).upsertAll(anyCollection());
+            verify(authorRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("deve responder existência pelo cache sem consultar o banco")
+        void shouldAnswerExistenceFromCache() {
+            stubUpsertInsertingAll();
+            authorService.upsertAuthors(List.of(createAuthorDto("novo-1", "Novo 1")));
+
+            assertThat(authorService.findExistingApiIds(List.of("novo-1"))).containsExactly("novo-1");
+            assertThat(authorService.upsertAuthors(List.of(createAuthorDto("novo-1", "Novo 1")))).isZero();
+            verify(authorRepository, never()).findExistingApiIds(anyCollection());
+            verify(authorRepository, times(1)).upsertAll(anyCollection());
+        }
+
+        @Test
+        @DisplayName("deve consultar o banco só pelos apiIds fora do cache")
+        void shouldQueryOnlyCacheMisses() {
+            stubUpsertInsertingAll();
+            authorService.upsertAuthors(List.of(createAuthorDto("novo-1", "Novo 1")));
+            when(authorRepository.findExistingApiIds(List.of("novo-2"))).thenReturn(Set.of());
+
+            assertThat(authorService.findExistingApiIds(List.of("novo-1", "novo-2"))).containsExactly("novo-1");
+            verify(authorRepository).findExistingApiIds(List.of("novo-2"));
+        }
+
+        @Test
+        @DisplayName("deve tirar do cache o autor deletado")
+        void shouldEvictDeletedAuthor() {
+            stubUpsertInsertingAll();
+            authorService.upsertAuthors(List.of(createAuthorDto("novo-1", "Novo 1")));
+            when(authorRepository.existsById("generated-novo-1")).thenReturn(true);
+            when(authorRepository.findExistingApiIds(List.of("novo-1"))).thenReturn(Set.of());
+
+            authorService.deleteAuthor("generated-novo-1");
+
+            assertThat(authorService.findExistingApiIds(List.of("novo-1"))).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("updateAuthor")
     class UpdateAuthor {
@@ -210,10 +313,44 @@ class AuthorServiceTest {
 
             assertThat(authorService.countAll()).isEqualTo(15L);
         }
+
+        @Test
+        @DisplayName("deve devolver apiIds já existentes com uma única consulta")
+        void shouldFindExistingApiIds() {
+            List<String> apiIds = List.of("api-author-123", "api-author-456");
+            when(authorRepository.findExistingApiIds(apiIds)).thenReturn(Set.of("api-author-123"));
+
+            assertThat(authorService.findExistingApiIds(apiIds)).containsExactly("api-author-123");
+            verify(authorRepository, times(1)).findExistingApiIds(apiIds);
+        }
+
+        @Test
+        @DisplayName("não deve consultar o banco com lista vazia")
+        void shouldSkipQueryForEmptyApiIds() {
+            assertThat(authorService.findExistingApiIds(List.of())).isEmpty();
+            verifyNoInteractions(authorRepository);
+        }
     }
 
     // ===== Helpers =====
 
+    // Upsert em que todos os autores são novos: ficam com o ID gerado e findById os devolve
+    private void stubUpsertInsertingAll() {
+        Map<String, Author> inserted = new HashMap<>();
+        when(authorRepository.upsertAll(anyCollection())).thenAnswer(inv -> {
+            Collection<Author> authors = inv.getArgument(0);
+            Map<String, String> ids = new HashMap<>();
+            for (Author author : authors) {
+                author.setId("generated-" + author.getApiId());
+                inserted.put(author.getId(), author);
+                ids.put(author.getApiId(), author.getId());
+            }
+            return ids;
+        });
+        lenient().when(authorRepository.findById(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(inserted.get(inv.<String>getArgument(0))));
+    }
+
     private AuthorDto createAuthorDto(String apiId, String name) {
         AuthorDto dto = new AuthorDto();
         dto.setId(apiId);
@@ -0,0 +1,225 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.CatalogCrawl;
+import com.reader_hub.domain.model.CatalogCrawlPage;
+import com.reader_hub.domain.repository.CatalogCrawlPageRepository;
+import com.reader_hub.domain.repository.CatalogCrawlRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogCrawlService - Testes Unitários")
+class CatalogCrawlServiceTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaImportPipeline importPipeline;
+
+    @Mock
+    private CatalogCrawlRepository crawlRepository;
+
+    @Mock
+    private CatalogCrawlPageRepository pageRepository;
+
+    private final List<Long> sleeps = new ArrayList<>();
+    private final List<CatalogCrawlPage> pages = new ArrayList<>();
+    private CatalogCrawlService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CatalogCrawlService(apiService, importPipeline, crawlRepository, pageRepository,
+                new DirectExecutor(), 2, 10, 2, 100, true, sleeps::add);
+        lenient().when(crawlRepository.save(any(CatalogCrawl.class))).thenAnswer(invocation -> {
+            CatalogCrawl crawl = invocation.getArgument(0);
+            if (crawl.getId() == null) {
+                crawl.setId("crawl-1");
+            }
+            return crawl;
+        });
+        lenient().when(pageRepository.save(any(CatalogCrawlPage.class))).thenAnswer(invocation -> {
+            pages.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(importPipeline.run(anyString(), any())).thenAnswer(invocation -> {
+            PaginatedDto<ExternalMangaDto> page = invocation.getArgument(1);
+            return new MangaImportPipeline.Result(page.getData().size(), 0, page.getTotal(), 0);
+        });
+    }
+
+    private static ExternalMangaDto manga(String id, OffsetDateTime createdAt) {
+        ExternalMangaDto dto = new ExternalMangaDto();
+        dto.setId(id);
+        ExternalMangaDto.ApiMangaAttributes attributes = new ExternalMangaDto.ApiMangaAttributes();
+        attributes.setCreatedAt(createdAt);
+        dto.setAttributes(attributes);
+        return dto;
+    }
+
+    private static PaginatedDto<ExternalMangaDto> page(int total, int offset, ExternalMangaDto... mangas) {
+        return new PaginatedDto<>(List.of(mangas), total, offset, 2);
+    }
+
+    @Nested
+    @DisplayName("Cursor")
+    class CursorTests {
+        @Test
+        @DisplayName("deve avançar para o último instante e contar os mangas nele")
+        void shouldMoveToLastInstant() {
+            SinceCursor cursor = CatalogCrawlService.advance(SinceCursor.START, List.of(
+                    manga("a", T0), manga("b", T0.plusSeconds(5)), manga("c", T0.plusSeconds(5))));
+
+            assertThat(cursor.at()).isEqualTo(T0.plusSeconds(5));
+            assertThat(cursor.lastId()).isEqualTo("c");
+            assertThat(cursor.offset()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("deve somar ao offset quando a página inteira tem o mesmo instante do cursor")
+        void shouldGrowOffsetOnTies() {
+            SinceCursor cursor = CatalogCrawlService.advance(new SinceCursor(T0, "a", 3),
+                    List.of(manga("b", T0.plusNanos(500)), manga("c", T0)));
+
+            assertThat(cursor.at()).isEqualTo(T0);
+            assertThat(cursor.offset()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("crawl")
+    class Crawl {
+        @Test
+        @DisplayName("deve percorrer as páginas pelo cursor e gravar checkpoint a cada página")
+        void shouldCrawlWithCheckpoints() {
+            when(crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)).thenReturn(Optional.empty());
+            when(apiService.getMangasCreatedSince(isNull(), eq(2), eq(0)))
+                    .thenReturn(page(3, 0, manga("a", T0), manga("b", T0.plusSeconds(1))));
+            when(apiService.getMangasCreatedSince(eq(T0.plusSeconds(1)), eq(2), eq(1)))
+                    .thenReturn(page(1, 1, manga("c", T0.plusSeconds(2))));
+
+            CatalogCrawl crawl = service.start(null);
+
+            assertThat(crawl.getStatus()).isEqualTo(CatalogCrawl.Status.COMPLETED);
+            assertThat(crawl.getCursorMangaId()).isEqualTo("c");
+            assertThat(crawl.getCursorCreatedAt()).isEqualTo(T0.plusSeconds(2));
+            assertThat(crawl.getMangasSeen()).isEqualTo(3);
+            assertThat(crawl.getPagesFetched()).isEqualTo(2);
+            assertThat(pages).extracting(CatalogCrawlPage::getOutcome)
+                    .containsExactly(CatalogCrawlPage.Outcome.IMPORTED, CatalogCrawlPage.Outcome.IMPORTED);
+            assertThat(sleeps).containsExactly(10L);
+            assertThat(service.isActive()).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve retomar do checkpoint gravado")
+        void shouldResumeFromCheckpoint() {
+            CatalogCrawl saved = CatalogCrawl.builder().id("crawl-1").name(CatalogCrawl.DEFAULT_NAME)
+                    .status(CatalogCrawl.Status.RUNNING).cursorCreatedAt(T0).cursorMangaId("x").boundaryOffset(4)
+                    .build();
+            when(crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)).thenReturn(Optional.of(saved));
+            when(apiService.getMangasCreatedSince(T0, 2, 4)).thenReturn(page(0, 4));
+
+            service.resumeAfterRestart();
+
+            verify(apiService).getMangasCreatedSince(T0, 2, 4);
+            assertThat(saved.getStatus()).isEqualTo(CatalogCrawl.Status.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("deve pausar ao atingir o limite da execução")
+        void shouldPauseAtRunLimit() {
+            when(crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)).thenReturn(Optional.empty());
+            when(apiService.getMangasCreatedSince(isNull(), eq(2), eq(0)))
+                    .thenReturn(page(10, 0, manga("a", T0), manga("b", T0.plusSeconds(1))));
+
+            CatalogCrawl crawl = service.start(2);
+
+            assertThat(crawl.getStatus()).isEqualTo(CatalogCrawl.Status.PAUSED);
+            assertThat(crawl.getRunSeen()).isEqualTo(2);
+            assertThat(crawl.getTotalRemaining()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("deve repetir com backoff e marcar FAILED após falhas seguidas")
+        void shouldFailAfterConsecutiveErrors() {
+            when(crawlRepository.findByName(CatalogCrawl.DEFAULT_NAME)).thenReturn(Optional.empty());
+            when(apiService.getMangasCreatedSince(any(), anyInt(), anyInt()))
+                    .thenThrow(new ExternalApiException("MangaDex", "indisponível"));
+
+            CatalogCrawl crawl = service.start(null);
+
+            assertThat(crawl.getStatus()).isEqualTo(CatalogCrawl.Status.FAILED);
+            assertThat(crawl.getFailedPages()).isEqualTo(2);
+            assertThat(crawl.getCursorCreatedAt()).isNull();
+            assertThat(sleeps).containsExactly(100L);
+            assertThat(pages).extracting(CatalogCrawlPage::getOutcome)
+                    .containsOnly(CatalogCrawlPage.Outcome.FAILED);
+        }
+
+        @Test
+        @DisplayName("deve recusar pausa sem crawl em andamento")
+        void shouldRejectPauseWhenIdle() {
+            assertThatThrownBy(() -> service.pause()).isInstanceOf(BusinessException.class);
+        }
+    }
+
+    /**
+     * Executa a tarefa na própria thread do teste.
+     */
+    private static class DirectExecutor extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.reader_hub.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.Author;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogDumpService - Testes Unitários")
+class CatalogDumpServiceTest {
+
+    private static final String AUTHOR = """
+            {"id":"author-1","type":"author","attributes":{"name":"Autor 1","biography":{"en":"Bio"}}}""";
+    private static final String MANGA = """
+            {"id":"manga-1","type":"manga","attributes":{"title":{"en":"Manga 1"},"status":"ongoing"},\
+            "relationships":[{"id":"author-2","type":"author","attributes":{"name":"Autor 2"}},\
+            {"id":"cover-1","type":"cover_art","attributes":{"fileName":"c1.jpg"}}]}""";
+    private static final String CHAPTER = """
+            {"id":"chapter-1","type":"chapter","attributes":{"chapter":"1","translatedLanguage":"en",\
+            "updatedAt":"2024-01-01T00:00:00Z"},"relationships":[{"id":"manga-1","type":"manga"}]}""";
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @TempDir
+    Path dumpDir;
+
+    private CatalogDumpService service;
+
+    @BeforeEach
+    void setUp() {
+        service = service(1000, "zstd");
+    }
+
+    private CatalogDumpService service(int batchSize, String zstdCommand) {
+        return new CatalogDumpService(new ObjectMapper().findAndRegisterModules(), mangaService, authorService,
+                chapterService, dumpDir.toString(), batchSize, zstdCommand, 0);
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = dumpDir.resolve(name);
+        Files.writeString(file, String.join("\n", lines) + "\n");
+        return file;
+    }
+
+    private Path writeGzip(String name, String... lines) throws IOException {
+        Path file = dumpDir.resolve(name);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return file;
+    }
+
+    private static String author(int index) {
+        return AUTHOR.replace("author-1", "author-" + index).replace("Autor 1", "Autor " + index);
+    }
+
+    @Nested
+    @DisplayName("ingest")
+    class Ingest {
+        @Test
+        @DisplayName("deve gravar autores, mangás e capítulos nessa ordem, ignorando linhas inválidas")
+        void shouldLoadInDependencyOrder() throws IOException {
+            Author includedAuthor = new Author();
+            includedAuthor.setApiId("author-2");
+            when(authorService.upsertAuthors(anyCollection())).thenReturn(2);
+            when(authorService.findByApiIds(List.of("author-2"))).thenReturn(Map.of("author-2", includedAuthor));
+            when(mangaService.saveNewMangas(anyList())).thenReturn(1);
+            when(chapterService.applyExternalUpdates(anyList()))
+                    .thenReturn(new ChapterService.ChapterSyncCounts(1, 0, 0, 0));
+            Path file = write("catalogo.ndjson", AUTHOR, MANGA, CHAPTER, "{inválido", "{\"type\":\"cover_art\"}", "");
+
+            CatalogDumpService.Result result = service.ingest(file, (current, total) -> { });
+
+            assertThat(result.lines()).isEqualTo(6);
+            assertThat(result.authorsSaved()).isEqualTo(2);
+            assertThat(result.mangasSaved()).isEqualTo(1);
+            assertThat(result.chaptersSaved()).isEqualTo(1);
+            assertThat(result.skipped()).isEqualTo(2);
+            InOrder order = inOrder(authorService, mangaService, chapterService);
+            order.verify(authorService).upsertAuthors(anyCollection());
+            order.verify(mangaService).saveNewMangas(anyList());
+            order.verify(chapterService).applyExternalUpdates(anyList());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<AuthorDto>> authors = ArgumentCaptor.forClass(Collection.class);
+            verify(authorService).upsertAuthors(authors.capture());
+            assertThat(authors.getValue()).extracting(AuthorDto::getId).containsExactly("author-1", "author-2");
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Manga>> mangas = ArgumentCaptor.forClass(List.class);
+            verify(mangaService).saveNewMangas(mangas.capture());
+            Manga manga = mangas.getValue().get(0);
+            assertThat(manga.getApiId()).isEqualTo("manga-1");
+            assertThat(manga.getAuthor()).isSameAs(includedAuthor);
+            assertThat(manga.getCoverImage()).isEqualTo(ExternalMangaDto.COVER_BASE_URL + "manga-1/c1.jpg");
+        }
+
+        @Test
+        @DisplayName("deve ler dump gzip em lotes e reportar o progresso em KiB")
+        void shouldReadGzipInBatches() throws IOException {
+            when(authorService.upsertAuthors(anyCollection())).thenAnswer(invocation ->
+                    invocation.getArgument(0, Collection.class).size());
+            Path file = writeGzip("autores.ndjson.gz", author(1), author(2), author(3), author(4), author(5));
+            List<String> progress = new ArrayList<>();
+
+            CatalogDumpService.Result result = service(2, "zstd")
+                    .ingest(file, (current, total) -> progress.add(current + "/" + total));
+
+            assertThat(result.authorsSaved()).isEqualTo(5);
+            verify(authorService, times(3)).upsertAuthors(anyCollection());
+            verifyNoInteractions(mangaService, chapterService);
+            assertThat(progress).first().isEqualTo("0/1");
+            assertThat(progress).last().isEqualTo("1/1");
+        }
+
+        @Test
+        @DisplayName("deve gravar um a um quando o lote de mangás falha")
+        void shouldFallBackToSingleMangas() throws IOException {
+            String second = MANGA.replace("manga-1", "manga-2");
+            when(authorService.findByApiIds(anyList())).thenReturn(Map.of());
+            when(mangaService.saveNewMangas(anyList())).thenAnswer(invocation -> {
+                List<Manga> batch = invocation.getArgument(0);
+                if (batch.size() > 1 || "manga-2".equals(batch.get(0).getApiId())) {
+                    throw new IllegalStateException("violação de constraint");
+                }
+                return 1;
+            });
+            Path file = write("mangas.ndjson", MANGA, second);
+
+            CatalogDumpService.Result result = service.ingest(file, (current, total) -> { });
+
+            assertThat(result.mangasSaved()).isEqualTo(1);
+            assertThat(result.failed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("deve recusar dump zstd quando o binário não está disponível")
+        void shouldRejectZstdWithoutBinary() throws IOException {
+            Path file = dumpDir.resolve("catalogo.ndjson.zst");
+            Files.write(file, new byte[]{(byte) 0x28, (byte) 0xb5, (byte) 0x2f, (byte) 0xfd, 0, 0});
+
+            assertThatThrownBy(() -> service(1000, "zstd-inexistente").ingest(file, (current, total) -> { }))
+                    .isInstanceOf(BusinessException.class);
+            verifyNoInteractions(authorService, mangaService, chapterService);
+        }
+    }
+
+    @Nested
+    @DisplayName("resolve")
+    class Resolve {
+        @Test
+        @DisplayName("deve resolver arquivo dentro do diretório de dumps")
+        void shouldResolveFileInsideDumpDir() throws IOException {
+            Path file = write("catalogo.ndjson", AUTHOR);
+
+            assertThat(service.resolve("catalogo.ndjson")).isEqualTo(file.toRealPath());
+        }
+
+        @Test
+        @DisplayName("deve recusar link simbólico que aponta para fora do diretório de dumps")
+        void shouldRejectSymlinkEscapingDumpDir(@TempDir Path outside) throws IOException {
+            Path secret = Files.writeString(outside.resolve("segredo.ndjson"), AUTHOR);
+            Files.createSymbolicLink(dumpDir.resolve("atalho.ndjson"), secret);
+
+            assertThatThrownBy(() -> service.resolve("atalho.ndjson")).isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("deve lançar 404 para link simbólico quebrado")
+        void shouldThrowWhenSymlinkIsBroken() throws IOException {
+            Files.createSymbolicLink(dumpDir.resolve("quebrado.ndjson"), dumpDir.resolve("sumiu.ndjson"));
+
+            assertThatThrownBy(() -> service.resolve("quebrado.ndjson"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("deve recusar caminhos fora do diretório de dumps")
+        void shouldRejectPathTraversal() {
+            assertThatThrownBy(() -> service.resolve("../segredo.ndjson")).isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("deve lançar 404 quando o arquivo não existe")
+        void shouldThrowWhenFileIsMissing() {
+            assertThatThrownBy(() -> service.resolve("nao-existe.ndjson"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
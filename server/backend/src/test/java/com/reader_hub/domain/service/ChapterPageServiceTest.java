@@ -0,0 +1,135 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.storage.DiskLruCache;
+import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.ChapterPageFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChapterPageService - Testes Unitários")
+class ChapterPageServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private ChapterService chapterService;
+    private ApiService apiService;
+    private DiskLruCache pageCache;
+    private ChapterPageService service;
+
+    @BeforeEach
+    void setUp() {
+        chapterService = mock(ChapterService.class);
+        apiService = mock(ApiService.class);
+        pageCache = new DiskLruCache("pages", dir, 1024 * 1024);
+        service = new ChapterPageService(chapterService, apiService, pageCache);
+    }
+
+    private static Chapter storedChapter() {
+        Chapter chapter = new Chapter();
+        chapter.setId("ch-1");
+        chapter.setApiId("api-ch-1");
+        chapter.setPageHash("h1");
+        chapter.setPageFiles(new ArrayList<>(List.of(
+                new ChapterPageFile("1.png", "1s.jpg"), new ChapterPageFile("2.png", null))));
+        return chapter;
+    }
+
+    private Chapter resolved(String baseUrl, boolean dataSaver) {
+        Chapter chapter = storedChapter();
+        chapter.setPageUrls(dataSaver
+                ? List.of(baseUrl + "/data-saver/h1/1s.jpg", baseUrl + "/data/h1/2.png")
+                : List.of(baseUrl + "/data/h1/1.png", baseUrl + "/data/h1/2.png"));
+        return chapter;
+    }
+
+    @Nested
+    @DisplayName("getPage")
+    class GetPage {
+        @Test
+        @DisplayName("deve servir página em cache sem resolver o at-home")
+        void shouldServeCachedPageWithoutAtHome() throws IOException {
+            Path cached = pageCache.getOrLoad("data/h1/2.png", "png", target -> Files.writeString(target, "img"));
+            when(chapterService.findByIdWithPageFiles("ch-1")).thenReturn(Optional.of(storedChapter()));
+
+            ChapterPageService.PageImage page = service.getPage("ch-1", 2, false);
+
+            assertThat(page.file()).isEqualTo(cached);
+            assertThat(page.contentType()).isEqualTo("image/png");
+            verify(chapterService, never()).loadPages(anyString(), anyBoolean());
+            verify(apiService, never()).getAtHomeServer(anyString());
+        }
+
+        @Test
+        @DisplayName("deve usar o arquivo data-saver gravado na chave do cache")
+        void shouldUseDataSaverFileInCacheKey() throws IOException {
+            pageCache.getOrLoad("data-saver/h1/1s.jpg", "jpg", target -> Files.writeString(target, "img"));
+            when(chapterService.findByIdWithPageFiles("ch-1")).thenReturn(Optional.of(storedChapter()));
+
+            ChapterPageService.PageImage page = service.getPage("ch-1", 1, true);
+
+            assertThat(page.contentType()).isEqualTo("image/jpeg");
+            verify(chapterService, never()).loadPages(anyString(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("deve resolver o at-home e baixar só no miss")
+        void shouldResolveAndDownloadOnMiss() throws IOException {
+            when(chapterService.findByIdWithPageFiles("ch-1")).thenReturn(Optional.of(storedChapter()));
+            when(chapterService.loadPages("ch-1", false)).thenReturn(resolved("https://node", false));
+            when(apiService.downloadFile(eq("https://node/data/h1/1.png"), any())).thenAnswer(invocation -> {
+                Files.writeString(invocation.getArgument(1), "img");
+                return "image/png";
+            });
+
+            ChapterPageService.PageImage first = service.getPage("ch-1", 1, false);
+            ChapterPageService.PageImage second = service.getPage("ch-1", 1, false);
+
+            assertThat(second.file()).isEqualTo(first.file());
+            verify(chapterService).loadPages("ch-1", false);
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException para página inexistente")
+        void shouldRejectMissingPage() {
+            when(chapterService.findByIdWithPageFiles("ch-1")).thenReturn(Optional.of(storedChapter()));
+            when(chapterService.loadPages("ch-1", false)).thenReturn(resolved("https://node", false));
+
+            assertThatThrownBy(() -> service.getPage("ch-1", 3, false))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException para capítulo inexistente")
+        void shouldRejectMissingChapter() {
+            when(chapterService.findByIdWithPageFiles("nada")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getPage("nada", 1, false))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(chapterService, never()).loadPages(anyString(), anyBoolean());
+        }
+    }
+}
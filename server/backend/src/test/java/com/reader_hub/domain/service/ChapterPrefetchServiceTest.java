@@ -0,0 +1,157 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChapterPrefetchService - Testes Unitários")
+class ChapterPrefetchServiceTest {
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private ChapterPageService chapterPageService;
+
+    @Mock
+    private ExecutorService executor;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private Manga manga;
+
+    @BeforeEach
+    void setUp() {
+        manga = new Manga();
+        manga.setId("manga-1");
+    }
+
+    private Chapter chapter(String id, String number) {
+        Chapter chapter = new Chapter();
+        chapter.setId(id);
+        chapter.setChapter(number);
+        chapter.setLanguage("pt-br");
+        chapter.setManga(manga);
+        return chapter;
+    }
+
+    private ChapterPrefetchService service(boolean warmImages) {
+        return new ChapterPrefetchService(chapterService, chapterPageService, executor, true, 2,
+                warmImages, 5, 60_000, clock::get);
+    }
+
+    private void runInline() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    @Nested
+    @DisplayName("nextInReadingOrder")
+    class NextInReadingOrder {
+        @Test
+        @DisplayName("deve ordenar numericamente e pular números repetidos")
+        void shouldOrderNumericallyAndSkipDuplicates() {
+            Chapter current = chapter("c9", "9");
+            List<Chapter> all = List.of(chapter("c10b", "10"), chapter("c11", "11"), current,
+                    chapter("c10", "10"), chapter("c8", "8"), chapter("c9.5", "9.5"), chapter("extra", "Extra"));
+
+            List<Chapter> next = ChapterPrefetchService.nextInReadingOrder(all, current, 2);
+
+            assertThat(next).extracting(Chapter::getChapter).containsExactly("9.5", "10");
+        }
+
+        @Test
+        @DisplayName("não deve pré-carregar nada para capítulo sem número")
+        void shouldIgnoreChapterWithoutNumber() {
+            Chapter oneshot = chapter("o", "Oneshot");
+
+            assertThat(ChapterPrefetchService.nextInReadingOrder(List.of(chapter("c1", "1")), oneshot, 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("prefetchAfter")
+    class PrefetchAfter {
+        @Test
+        @DisplayName("deve resolver os próximos capítulos e aquecer as páginas quando configurado")
+        void shouldResolveNextChapters() {
+            runInline();
+            Chapter current = chapter("c1", "1");
+            Chapter next = chapter("c2", "2");
+            when(chapterService.findByMangaIdAndLanguage("manga-1", "pt-br"))
+                    .thenReturn(List.of(current, next, chapter("c3", "3"), chapter("c4", "4")));
+            when(chapterService.loadPages(any(), anyBoolean())).thenReturn(next);
+
+            service(true).prefetchAfter(current, false);
+
+            verify(chapterService).loadPages("c2", false);
+            verify(chapterService).loadPages("c3", false);
+            verify(chapterService, never()).loadPages("c4", false);
+            verify(chapterPageService, times(2)).warm(next, 5);
+        }
+
+        @Test
+        @DisplayName("deve pré-carregar cada capítulo uma vez por janela, para todos os leitores")
+        void shouldDeduplicateWithinWindow() {
+            runInline();
+            Chapter current = chapter("c1", "1");
+            when(chapterService.findByMangaIdAndLanguage("manga-1", "pt-br"))
+                    .thenReturn(List.of(current, chapter("c2", "2")));
+            ChapterPrefetchService service = service(false);
+
+            service.prefetchAfter(current, false);
+            service.prefetchAfter(current, false);
+            clock.addAndGet(60_000);
+            service.prefetchAfter(current, false);
+
+            verify(chapterService, times(2)).loadPages("c2", false);
+            verifyNoInteractions(chapterPageService);
+        }
+
+        @Test
+        @DisplayName("deve descartar o prefetch quando o orçamento está esgotado")
+        void shouldDropWhenBudgetExhausted() {
+            doThrow(new RejectedExecutionException()).when(executor).execute(any(Runnable.class));
+            Chapter current = chapter("c1", "1");
+            ChapterPrefetchService service = service(false);
+
+            service.prefetchAfter(current, false);
+
+            assertThat(service.droppedCount()).isEqualTo(1);
+            assertThat(service.scheduledCount()).isZero();
+            verify(chapterService, never()).findByMangaIdAndLanguage(any(), any());
+            verify(chapterService, never()).loadPages(any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("não deve consultar os capítulos na thread da requisição")
+        void shouldLookUpNextChaptersOffRequestThread() {
+            Chapter current = chapter("c1", "1");
+            ChapterPrefetchService service = service(false);
+
+            service.prefetchAfter(current, false);
+            service.prefetchAfter(current, false);
+
+            verify(executor, times(1)).execute(any(Runnable.class));
+            verifyNoInteractions(chapterService);
+        }
+    }
+}
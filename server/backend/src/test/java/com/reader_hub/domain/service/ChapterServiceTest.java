@@ -1,8 +1,11 @@
 package com.reader_hub.domain.service;
 
+import com.reader_hub.application.dto.ChapterDto;
 import com.reader_hub.application.exception.ResourceNotFoundException;
 import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.ports.ChapterFeed;
 import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.ChapterPageFile;
 import com.reader_hub.domain.model.Manga;
 import com.reader_hub.domain.repository.ChapterRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +15,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +38,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,11 @@ class ChapterServiceTest {
     @Mock
     private MangaService mangaService;
 
+    private final TransactionRecorder transactions = new TransactionRecorder();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactions);
+
     @InjectMocks
     private ChapterService chapterService;
 
@@ -213,6 +234,170 @@ class ChapterServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("populateChaptersForManga")
+    class PopulateChaptersForManga {
+        @Test
+        @DisplayName("deve persistir todos os capítulos do feed em lote reportando o total")
+        void shouldPersistWholeFeedWithProgress() {
+            when(mangaService.findById("manga-1")).thenReturn(Optional.of(testManga));
+            when(chapterRepository.findChapterKeysByMangaId("manga-1")).thenReturn(List.of());
+            List<List<String>> batches = new ArrayList<>();
+            when(chapterRepository.insertIgnoringExisting(anyList())).thenAnswer(inv -> {
+                List<Chapter> chapters = inv.getArgument(0);
+                batches.add(chapters.stream().map(Chapter::getApiId).toList());
+                return chapters.size();
+            });
+            ListChapterFeed feed = new ListChapterFeed(List.of(
+                    createChapterDto("api-ch-1", "1"), createChapterDto("api-ch-2", "2")));
+            when(apiService.openChapterFeed("api-manga-1")).thenReturn(feed);
+            List<String> progress = new ArrayList<>();
+
+            int saved = chapterService.populateChaptersForManga("manga-1",
+                    (current, total) -> progress.add(current + "/" + total));
+
+            assertThat(saved).isEqualTo(2);
+            assertThat(progress).containsExactly("0/0", "1/2", "2/2");
+            assertThat(feed.closed).isTrue();
+            assertThat(batches).containsExactly(List.of("api-ch-1", "api-ch-2"));
+            verify(chapterRepository, never()).save(any(Chapter.class));
+            verify(mangaService).markChaptersSynced(eq("manga-1"), any());
+            verifyNoMoreInteractions(mangaService);
+        }
+
+        @Test
+        @DisplayName("deve deduplicar em memória pelas chaves (número, idioma) já gravadas")
+        void shouldSkipKnownKeys() {
+            when(mangaService.findById("manga-1")).thenReturn(Optional.of(testManga));
+            when(chapterRepository.findChapterKeysByMangaId("manga-1"))
+                    .thenReturn(List.<Object[]>of(new Object[]{"1", "pt-br"}));
+            List<String> inserted = new ArrayList<>();
+            when(chapterRepository.insertIgnoringExisting(anyList())).thenAnswer(inv -> {
+                List<Chapter> chapters = inv.getArgument(0);
+                chapters.forEach(chapter -> inserted.add(chapter.getApiId()));
+                return chapters.size();
+            });
+            ChapterDto english = createChapterDto("api-ch-1-en", "1");
+            english.getAttributes().setTranslatedLanguage("en");
+            when(apiService.openChapterFeed("api-manga-1")).thenReturn(new ListChapterFeed(List.of(
+                    createChapterDto("api-ch-1", "1"), english,
+                    createChapterDto("api-ch-2", "2"), createChapterDto("api-ch-2-outro-grupo", "2"))));
+
+            int saved = chapterService.populateChaptersForManga("manga-1", null);
+
+            assertThat(saved).isEqualTo(2);
+            assertThat(inserted).containsExactly("api-ch-1-en", "api-ch-2");
+        }
+
+        @Test
+        @DisplayName("deve percorrer o feed fora de transação e gravar cada lote numa transação curta")
+        void shouldWalkFeedOutsideTransactions() {
+            when(mangaService.findById("manga-1")).thenReturn(Optional.of(testManga));
+            when(chapterRepository.findChapterKeysByMangaId("manga-1")).thenAnswer(inv -> {
+                assertThat(transactions.open).isEqualTo(1);
+                return List.of();
+            });
+            when(chapterRepository.insertIgnoringExisting(anyList())).thenAnswer(inv -> {
+                assertThat(transactions.open).isEqualTo(1);
+                return ((List<?>) inv.getArgument(0)).size();
+            });
+            List<ChapterDto> dtos = new ArrayList<>();
+            for (int i = 1; i <= 150; i++) {
+                dtos.add(createChapterDto("api-ch-" + i, String.valueOf(i)));
+            }
+            List<Integer> openWhileReading = new ArrayList<>();
+            ChapterFeed feed = new ListChapterFeed(dtos) {
+                @Override
+                public boolean hasNext() {
+                    openWhileReading.add(transactions.open);
+                    return super.hasNext();
+                }
+            };
+            when(apiService.openChapterFeed("api-manga-1")).thenReturn(feed);
+
+            int saved = chapterService.populateChaptersForManga("manga-1", null);
+
+            assertThat(saved).isEqualTo(150);
+            assertThat(openWhileReading).isNotEmpty().containsOnly(0);
+            // Chaves + dois lotes (100 + 50)
+            assertThat(transactions.committed).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("loadPages")
+    class LoadPages {
+
+        private ChapterDto.ChapterPagesDto atHome(String baseUrl) {
+            ChapterDto.ChapterPagesDto server = new ChapterDto.ChapterPagesDto();
+            server.setBaseUrl(baseUrl);
+            ChapterDto.ChapterPagesDto.ChapterData data = new ChapterDto.ChapterPagesDto.ChapterData();
+            data.setHash("hash-1");
+            data.setData(List.of("1.png", "2.png"));
+            data.setDataSaver(List.of("1.jpg", "2.jpg"));
+            server.setChapter(data);
+            return server;
+        }
+
+        @Test
+        @DisplayName("deve gravar hash/arquivos e montar as URLs com o baseUrl atual")
+        void shouldStorePageFilesAndBuildUrls() {
+            testChapter.setApiId("api-chapter-1");
+            when(chapterRepository.findByIdWithPageFiles("chapter-1")).thenReturn(Optional.of(testChapter));
+            when(apiService.getAtHomeServer("api-chapter-1")).thenReturn(Optional.of(atHome("https://node.example")));
+
+            Chapter result = chapterService.loadPages("chapter-1", false);
+
+            assertThat(result.getPageHash()).isEqualTo("hash-1");
+            assertThat(result.getPageFiles()).hasSize(2);
+            assertThat(result.getPages()).isEqualTo(2);
+            assertThat(result.getPageUrls()).containsExactly(
+                    "https://node.example/data/hash-1/1.png", "https://node.example/data/hash-1/2.png");
+            verify(chapterRepository).save(testChapter);
+        }
+
+        @Test
+        @DisplayName("deve usar os arquivos comprimidos com dataSaver sem regravar o que não mudou")
+        void shouldUseDataSaverFiles() {
+            testChapter.setApiId("api-chapter-1");
+            testChapter.setPageHash("hash-1");
+            testChapter.setPageFiles(new ArrayList<>(List.of(
+                    new ChapterPageFile("1.png", "1.jpg"), new ChapterPageFile("2.png", "2.jpg"))));
+            when(chapterRepository.findByIdWithPageFiles("chapter-1")).thenReturn(Optional.of(testChapter));
+            when(apiService.getAtHomeServer("api-chapter-1")).thenReturn(Optional.of(atHome("https://node.example")));
+
+            Chapter result = chapterService.loadPages("chapter-1", true);
+
+            assertThat(result.getPageUrls()).containsExactly(
+                    "https://node.example/data-saver/hash-1/1.jpg", "https://node.example/data-saver/hash-1/2.jpg");
+            verify(chapterRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("deve montar as URLs pela origem quando o at-home está indisponível")
+        void shouldFallBackToOriginWhenAtHomeUnavailable() {
+            ReflectionTestUtils.setField(chapterService, "fallbackBaseUrl", "https://uploads.example");
+            testChapter.setApiId("api-chapter-1");
+            testChapter.setPageHash("hash-1");
+            testChapter.setPageFiles(new ArrayList<>(List.of(new ChapterPageFile("1.png", "1.jpg"))));
+            when(chapterRepository.findByIdWithPageFiles("chapter-1")).thenReturn(Optional.of(testChapter));
+            when(apiService.getAtHomeServer("api-chapter-1")).thenReturn(Optional.empty());
+
+            Chapter result = chapterService.loadPages("chapter-1", false);
+
+            assertThat(result.getPageUrls()).containsExactly("https://uploads.example/data/hash-1/1.png");
+        }
+
+        @Test
+        @DisplayName("deve lançar exceção quando o capítulo não existe")
+        void shouldThrowWhenChapterNotFound() {
+            when(chapterRepository.findByIdWithPageFiles("missing")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> chapterService.loadPages("missing", false))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("countByMangaId")
     class CountByMangaId {
@@ -224,4 +409,155 @@ class ChapterServiceTest {
             assertThat(chapterService.countByMangaId("manga-1")).isEqualTo(25L);
         }
     }
+
+    @Nested
+    @DisplayName("applyExternalUpdates")
+    class ApplyExternalUpdates {
+        private final OffsetDateTime before = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+        private Chapter stored(String id, String number) {
+            Chapter chapter = new Chapter();
+            chapter.setId(id);
+            chapter.setApiId("api-" + id);
+            chapter.setChapter(number);
+            chapter.setLanguage("pt-br");
+            chapter.setUpdatedAt(before);
+            chapter.setManga(testManga);
+            return chapter;
+        }
+
+        private ChapterDto update(String apiId, String number) {
+            ChapterDto dto = createChapterDto(apiId, number);
+            dto.getAttributes().setUpdatedAt(before.plusHours(1));
+            ChapterDto.SimpleRelationship manga = new ChapterDto.SimpleRelationship();
+            manga.setId("api-manga-1");
+            manga.setType("manga");
+            dto.setRelationships(List.of(manga));
+            return dto;
+        }
+
+        @Test
+        @DisplayName("deve pular a renumeração para uma chave ocupada e seguir com o resto do lote")
+        void shouldSkipRenumberOntoOccupiedKey() {
+            testChapter.setUpdatedAt(before);
+            Chapter other = stored("ch-3", "3");
+            when(mangaService.findByApiIds(any())).thenReturn(Map.of("api-manga-1", testManga));
+            when(chapterRepository.findByApiIdIn(anyList())).thenReturn(List.of(testChapter, other));
+            when(chapterRepository.findByNaturalKey("manga-1", "2", "pt-br")).thenReturn(Optional.of(stored("ch-2", "2")));
+            when(chapterRepository.insertIgnoringExisting(anyList())).thenAnswer(invocation ->
+                    ((List<?>) invocation.getArgument(0)).size());
+
+            ChapterService.ChapterSyncCounts counts = chapterService.applyExternalUpdates(List.of(
+                    update("api-ch-1", "2"), update("api-ch-3", "3"), update("api-ch-4", "4")));
+
+            assertThat(counts).isEqualTo(new ChapterService.ChapterSyncCounts(1, 1, 0, 1));
+            assertThat(testChapter.getChapter()).isEqualTo("1");
+            assertThat(testChapter.getUpdatedAt()).isEqualTo(before);
+            verify(chapterRepository, never()).save(testChapter);
+            verify(chapterRepository).save(other);
+        }
+
+        @Test
+        @DisplayName("deve renumerar quando a nova chave está livre")
+        void shouldRenumberOntoFreeKey() {
+            testChapter.setUpdatedAt(before);
+            when(mangaService.findByApiIds(any())).thenReturn(Map.of("api-manga-1", testManga));
+            when(chapterRepository.findByApiIdIn(anyList())).thenReturn(List.of(testChapter));
+            when(chapterRepository.findByNaturalKey("manga-1", "2", "pt-br")).thenReturn(Optional.empty());
+
+            ChapterService.ChapterSyncCounts counts = chapterService.applyExternalUpdates(List.of(update("api-ch-1", "2")));
+
+            assertThat(counts).isEqualTo(new ChapterService.ChapterSyncCounts(0, 1, 0, 0));
+            assertThat(testChapter.getChapter()).isEqualTo("2");
+            verify(chapterRepository).save(testChapter);
+        }
+
+        @Test
+        @DisplayName("não deve consultar a chave quando a versão remota não é mais nova")
+        void shouldNotCheckKeyForStaleUpdate() {
+            testChapter.setUpdatedAt(before.plusHours(2));
+            when(mangaService.findByApiIds(any())).thenReturn(Map.of("api-manga-1", testManga));
+            when(chapterRepository.findByApiIdIn(anyList())).thenReturn(List.of(testChapter));
+
+            ChapterService.ChapterSyncCounts counts = chapterService.applyExternalUpdates(List.of(update("api-ch-1", "2")));
+
+            assertThat(counts).isEqualTo(new ChapterService.ChapterSyncCounts(0, 0, 1, 0));
+            verify(chapterRepository, never()).findByNaturalKey(any(), any(), any());
+        }
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * Gerenciador de transação falso: conta as abertas e as confirmadas.
+     */
+    private static class TransactionRecorder implements PlatformTransactionManager {
+        private int open;
+        private int committed;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            open++;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            open--;
+            committed++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            open--;
+        }
+    }
+
+    private static class ListChapterFeed implements ChapterFeed {
+        private final Iterator<ChapterDto> iterator;
+        private final int total;
+        private int consumed;
+        private boolean closed;
+
+        ListChapterFeed(List<ChapterDto> chapters) {
+            this.iterator = chapters.iterator();
+            this.total = chapters.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public ChapterDto next() {
+            consumed++;
+            return iterator.next();
+        }
+
+        @Override
+        public int getTotal() {
+            return total;
+        }
+
+        @Override
+        public int getConsumed() {
+            return consumed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private ChapterDto createChapterDto(String apiId, String number) {
+        ChapterDto dto = new ChapterDto();
+        dto.setId(apiId);
+        ChapterDto.ApiChapterAttributes attrs = new ChapterDto.ApiChapterAttributes();
+        attrs.setChapter(number);
+        attrs.setTranslatedLanguage("pt-br");
+        dto.setAttributes(attrs);
+        return dto;
+    }
 }
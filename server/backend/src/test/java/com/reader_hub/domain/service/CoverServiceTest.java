@@ -0,0 +1,115 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.application.storage.CoverVariant;
+import com.reader_hub.application.storage.DiskLruCache;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoverService - Testes Unitários")
+class CoverServiceTest {
+
+    private static final String COVER_URL = "https://uploads.mangadex.org/covers/api-1/cover.png";
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private ApiService apiService;
+
+    @TempDir
+    Path dir;
+
+    private ExecutorService executor;
+    private CoverService coverService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        coverService = new CoverService(mangaService, apiService,
+                new DiskLruCache("covers", dir, 10 * 1024 * 1024), executor, 0.85f);
+
+        Manga manga = new Manga();
+        manga.setId("manga-1");
+        manga.setCoverImage(COVER_URL);
+        lenient().when(mangaService.findById("manga-1")).thenReturn(Optional.of(manga));
+        lenient().when(apiService.downloadFile(eq(COVER_URL), any(Path.class))).thenAnswer(invocation -> {
+            ImageIO.write(new BufferedImage(1000, 1500, BufferedImage.TYPE_INT_ARGB), "png",
+                    invocation.getArgument(1, Path.class).toFile());
+            return "image/png";
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("getVariant")
+    class GetVariant {
+        @Test
+        @DisplayName("deve redirecionar para a miniatura do MangaDex e agendar a geração no miss")
+        void shouldFallBackWhileGenerating() throws Exception {
+            CoverService.CoverImage cover = coverService.getVariant("manga-1", CoverVariant.SMALL);
+
+            assertThat(cover.file()).isNull();
+            assertThat(cover.fallbackUrl()).isEqualTo(COVER_URL + ".256.jpg");
+            assertThat(cover.version()).isEqualTo(CoverVariant.version(COVER_URL));
+
+            coverService.generate(COVER_URL).get(5, TimeUnit.SECONDS);
+            verify(apiService, times(1)).downloadFile(eq(COVER_URL), any(Path.class));
+        }
+
+        @Test
+        @DisplayName("deve servir todas as variantes redimensionadas após um único download")
+        void shouldServeGeneratedVariants() throws Exception {
+            coverService.generate(COVER_URL).get(5, TimeUnit.SECONDS);
+
+            for (CoverVariant variant : CoverVariant.values()) {
+                CoverService.CoverImage cover = coverService.getVariant("manga-1", variant);
+                assertThat(cover.file()).isNotNull();
+                assertThat(cover.contentType()).isEqualTo("image/jpeg");
+                BufferedImage image = ImageIO.read(cover.file().toFile());
+                assertThat(image.getWidth()).isEqualTo(variant.width());
+                assertThat(image.getHeight()).isEqualTo(variant.width() * 3 / 2);
+            }
+            verify(apiService, times(1)).downloadFile(eq(COVER_URL), any(Path.class));
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException quando o manga não tem capa")
+        void shouldThrowWhenMangaHasNoCover() {
+            Manga manga = new Manga();
+            manga.setId("manga-2");
+            when(mangaService.findById("manga-2")).thenReturn(Optional.of(manga));
+
+            assertThatThrownBy(() -> coverService.getVariant("manga-2", CoverVariant.SMALL))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataPopulationService - Testes Unitários")
+class DataPopulationServiceTest {
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private CoverService coverService;
+
+    @Mock
+    private MangaImportPipeline importPipeline;
+
+    @Mock
+    private ImportRetryQueue retryQueue;
+
+    private ExecutorService executor;
+    private DataPopulationService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new DataPopulationService(apiService, mangaService, authorService, chapterService, coverService,
+                importPipeline, retryQueue, executor, 2, Duration.ofHours(24));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Manga manga(String id, String apiId) {
+        Manga manga = new Manga();
+        manga.setId(id);
+        manga.setApiId(apiId);
+        return manga;
+    }
+
+    @Nested
+    @DisplayName("populateComplete")
+    class PopulateComplete {
+        @Test
+        @DisplayName("deve importar capítulos só dos mangás da importação que precisam")
+        void shouldImportChaptersOfSelectedMangas() {
+            when(importPipeline.run(anyString(), eq(10), eq(0), any(), any()))
+                    .thenReturn(new MangaImportPipeline.Result(2, 1, 500, 0, Set.of("api-1", "api-2", "api-3")));
+            when(mangaService.findChapterSyncTargets(eq(Set.of("api-1", "api-2", "api-3")), any()))
+                    .thenReturn(List.of("m1", "m2"));
+            when(chapterService.populateChaptersForManga("m1")).thenReturn(5);
+            when(chapterService.populateChaptersForManga("m2")).thenReturn(7);
+
+            DataPopulationService.PopulationCompleteResult result = service.populateComplete(10, 0, true);
+
+            assertThat(result.getTotalChaptersSaved()).isEqualTo(12);
+            assertThat(result.getMangaResult().getMangasSaved()).isEqualTo(2);
+            verify(mangaService, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("não deve buscar capítulos quando includeChapters é falso")
+        void shouldSkipChaptersWhenNotRequested() {
+            when(importPipeline.run(anyString(), anyInt(), anyInt(), any(), any()))
+                    .thenReturn(new MangaImportPipeline.Result(2, 1, 500, 0, Set.of("api-1")));
+
+            DataPopulationService.PopulationCompleteResult result = service.populateComplete(10, 0, false);
+
+            assertThat(result.getTotalChaptersSaved()).isZero();
+            verifyNoInteractions(chapterService);
+        }
+    }
+
+    @Nested
+    @DisplayName("populateChaptersConcurrently")
+    class PopulateChaptersConcurrently {
+        @Test
+        @DisplayName("deve limitar os mangás simultâneos e isolar falhas")
+        void shouldBoundConcurrencyAndIsolateFailures() {
+            when(mangaService.findChapterSyncTargets(any(), any())).thenReturn(List.of("m1", "m2", "m3", "m4", "m5"));
+            when(mangaService.findById("m3")).thenReturn(Optional.of(manga("m3", "api-3")));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            when(chapterService.populateChaptersForManga(anyString())).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                if ("m3".equals(invocation.getArgument(0))) {
+                    throw new IllegalStateException("feed indisponível");
+                }
+                return 1;
+            });
+            List<String> progress = new ArrayList<>();
+
+            int saved = service.populateChaptersConcurrently(Set.of("api"),
+                    (current, total) -> progress.add(current + "/" + total));
+
+            assertThat(saved).isEqualTo(4);
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+            assertThat(progress).containsExactly("0/5", "1/5", "2/5", "3/5", "4/5", "5/5");
+            verify(chapterService, times(5)).populateChaptersForManga(anyString());
+            verify(retryQueue).record(eq(ImportRetry.Operation.CHAPTERS), eq("api-3"), any(Throwable.class));
+        }
+
+        @Test
+        @DisplayName("deve parar de submeter e cancelar os em andamento quando o progresso cancela")
+        void shouldStopOnCancellation() throws InterruptedException {
+            when(mangaService.findChapterSyncTargets(any(), any())).thenReturn(List.of("m1", "m2", "m3", "m4"));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(chapterService.populateChaptersForManga(anyString())).thenAnswer(invocation -> {
+                if ("m1".equals(invocation.getArgument(0))) {
+                    // Só termina com m2 já em andamento
+                    started.await(2, TimeUnit.SECONDS);
+                    return 1;
+                }
+                started.countDown();
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 0;
+            });
+
+            assertThatThrownBy(() -> service.populateChaptersConcurrently(Set.of("api"), (current, total) -> {
+                if (current > 0) {
+                    throw new CancellationException("cancelado");
+                }
+            })).isInstanceOf(CancellationException.class);
+
+            assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+            verify(chapterService, never()).populateChaptersForManga("m3");
+        }
+    }
+
+    @Nested
+    @DisplayName("updateCoverImages")
+    class UpdateCoverImages {
+        private ExternalMangaDto withCover(String apiId, String fileName) {
+            ExternalMangaDto dto = new ExternalMangaDto();
+            dto.setId(apiId);
+            ExternalMangaDto.SimpleRelationship cover = new ExternalMangaDto.SimpleRelationship();
+            cover.setType("cover_art");
+            cover.setAttributes(Map.of("fileName", fileName));
+            dto.setRelationships(List.of(cover));
+            return dto;
+        }
+
+        @Test
+        @DisplayName("deve buscar o trecho numa requisição e gravar só as capas que mudaram")
+        void shouldWriteOnlyChangedCovers() {
+            String unchangedUrl = withCover("api-1", "a.jpg").findCoverUrl().orElseThrow();
+            when(mangaService.countCoverRefreshTargets()).thenReturn(3L);
+            when(mangaService.findCoverRefreshChunk("", 100)).thenReturn(List.of(
+                    new MangaService.CoverRow("m1", "api-1", unchangedUrl),
+                    new MangaService.CoverRow("m2", "api-2", "antiga.jpg"),
+                    new MangaService.CoverRow("m3", "api-3", null)));
+            when(apiService.getMangasByIds(List.of("api-1", "api-2", "api-3")))
+                    .thenReturn(List.of(withCover("api-1", "a.jpg"), withCover("api-2", "b.jpg")));
+            String newUrl = withCover("api-2", "b.jpg").findCoverUrl().orElseThrow();
+            when(mangaService.updateCoverImages(Map.of("m2", newUrl))).thenReturn(1);
+            List<String> progress = new ArrayList<>();
+
+            int updated = service.updateCoverImages((current, total) -> progress.add(current + "/" + total));
+
+            assertThat(updated).isEqualTo(1);
+            assertThat(progress).containsExactly("3/3");
+            verify(coverService).generate(newUrl);
+            verify(apiService, never()).getMangaCoverUrl(anyString());
+        }
+
+        @Test
+        @DisplayName("deve mandar o trecho para a fila de retry quando a busca falha e seguir para o próximo")
+        void shouldQueueFailedChunk() {
+            List<MangaService.CoverRow> first = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                first.add(new MangaService.CoverRow(String.format("m%03d", i), "api-" + i, null));
+            }
+            when(mangaService.countCoverRefreshTargets()).thenReturn(101L);
+            when(mangaService.findCoverRefreshChunk("", 100)).thenReturn(first);
+            when(mangaService.findCoverRefreshChunk("m099", 100))
+                    .thenReturn(List.of(new MangaService.CoverRow("m100", "api-100", null)));
+            when(apiService.getMangasByIds(anyList())).thenAnswer(invocation -> {
+                List<String> ids = invocation.getArgument(0);
+                if (ids.size() == 100) {
+                    throw new IllegalStateException("MangaDex indisponível");
+                }
+                return List.of(withCover("api-100", "c.jpg"));
+            });
+            when(mangaService.updateCoverImages(anyMap())).thenReturn(1);
+
+            int updated = service.updateCoverImages((current, total) -> { });
+
+            assertThat(updated).isEqualTo(1);
+            verify(retryQueue, times(100)).record(eq(ImportRetry.Operation.COVER), anyString(), any(Throwable.class));
+            verify(mangaService, times(1)).updateCoverImages(anyMap());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.ChapterDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ExternalApiException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.Chapter;
+import com.reader_hub.domain.model.Manga;
+import com.reader_hub.domain.model.SyncState;
+import com.reader_hub.domain.repository.ChapterRepository;
+import com.reader_hub.domain.repository.SyncStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeltaSyncService - Testes Unitários")
+class DeltaSyncServiceTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private SyncStateRepository repository;
+
+    private final AtomicLong clock = new AtomicLong(T0.toInstant().toEpochMilli());
+    private final List<OffsetDateTime> checkpoints = new ArrayList<>();
+    private DeltaSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeltaSyncService(apiService, mangaService, chapterService, repository, true, 2, 3,
+                Duration.ofHours(24), clock::get);
+        lenient().when(repository.save(any(SyncState.class))).thenAnswer(invocation -> {
+            SyncState state = invocation.getArgument(0);
+            checkpoints.add(state.getCursorAt());
+            return state;
+        });
+        lenient().when(mangaService.applyExternalUpdates(anyList()))
+                .thenAnswer(invocation -> new MangaService.SyncCounts(((List<?>) invocation.getArgument(0)).size(), 0, 0));
+        lenient().when(chapterService.applyExternalUpdates(anyList()))
+                .thenReturn(new ChapterService.ChapterSyncCounts(0, 0, 0, 0));
+        lenient().when(apiService.getChaptersUpdatedSince(any(), anyInt(), anyInt()))
+                .thenReturn(new PaginatedDto<>(List.of(), 0, 0, 2));
+    }
+
+    private static ExternalMangaDto manga(String id, OffsetDateTime updatedAt) {
+        ExternalMangaDto dto = new ExternalMangaDto();
+        dto.setId(id);
+        ExternalMangaDto.ApiMangaAttributes attributes = new ExternalMangaDto.ApiMangaAttributes();
+        attributes.setUpdatedAt(updatedAt);
+        dto.setAttributes(attributes);
+        return dto;
+    }
+
+    private static Chapter storedChapter(Manga manga, String apiId, String number) {
+        Chapter chapter = new Chapter();
+        chapter.setId("id-" + apiId);
+        chapter.setApiId(apiId);
+        chapter.setChapter(number);
+        chapter.setLanguage("pt-br");
+        chapter.setUpdatedAt(T0.minusDays(2));
+        chapter.setManga(manga);
+        return chapter;
+    }
+
+    private static ChapterDto chapterUpdate(String apiId, String number, OffsetDateTime updatedAt) {
+        ChapterDto dto = new ChapterDto();
+        dto.setId(apiId);
+        ChapterDto.ApiChapterAttributes attributes = new ChapterDto.ApiChapterAttributes();
+        attributes.setChapter(number);
+        attributes.setTitle("Título " + apiId);
+        attributes.setTranslatedLanguage("pt-br");
+        attributes.setUpdatedAt(updatedAt);
+        dto.setAttributes(attributes);
+        ChapterDto.SimpleRelationship manga = new ChapterDto.SimpleRelationship();
+        manga.setId("m1");
+        manga.setType("manga");
+        dto.setRelationships(List.of(manga));
+        return dto;
+    }
+
+    private static PaginatedDto<ExternalMangaDto> page(ExternalMangaDto... mangas) {
+        return new PaginatedDto<>(List.of(mangas), 10, 0, 2);
+    }
+
+    @Nested
+    @DisplayName("syncAll")
+    class SyncAll {
+        @Test
+        @DisplayName("deve começar pela janela inicial e gravar o cursor a cada página")
+        void shouldStartFromLookbackAndCheckpoint() {
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+            OffsetDateTime start = T0.minusHours(24);
+            when(apiService.getMangasUpdatedSince(start, 2, 0))
+                    .thenReturn(page(manga("a", start.plusMinutes(1)), manga("b", start.plusMinutes(2))));
+            when(apiService.getMangasUpdatedSince(start.plusMinutes(2), 2, 1))
+                    .thenReturn(page(manga("c", start.plusMinutes(3))));
+
+            List<DeltaSyncService.StreamResult> results = service.syncAll((current, total) -> { });
+
+            assertThat(results.get(0)).isEqualTo(new DeltaSyncService.StreamResult(SyncState.MANGAS, 2, 3, true, null));
+            assertThat(results.get(1).caughtUp()).isTrue();
+            // Checkpoint após a primeira página cheia e gravação final de cada fluxo
+            assertThat(checkpoints).startsWith(start.plusMinutes(2), start.plusMinutes(3));
+            assertThat(service.lagSeconds(SyncState.MANGAS)).isZero();
+            assertThat(service.isRunning()).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve parar no limite de páginas sem marcar como em dia")
+        void shouldStopAtPageLimit() {
+            SyncState state = SyncState.builder().stream(SyncState.MANGAS).cursorAt(T0).build();
+            when(repository.findById(SyncState.MANGAS)).thenReturn(Optional.of(state));
+            when(repository.findById(SyncState.CHAPTERS)).thenReturn(Optional.empty());
+            when(apiService.getMangasUpdatedSince(any(), eq(2), anyInt())).thenAnswer(invocation -> {
+                OffsetDateTime since = invocation.getArgument(0);
+                return page(manga("x", since.plusSeconds(1)), manga("y", since.plusSeconds(2)));
+            });
+
+            DeltaSyncService.StreamResult result = service.syncAll((current, total) -> { }).get(0);
+
+            assertThat(result.pages()).isEqualTo(3);
+            assertThat(result.caughtUp()).isFalse();
+            assertThat(state.getCursorAt()).isEqualTo(T0.plusSeconds(6));
+            assertThat(state.getCaughtUpAt()).isNull();
+            assertThat(state.getTotalChanged()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("deve manter o cursor e seguir para capítulos quando a busca falha")
+        void shouldKeepCursorOnError() {
+            SyncState state = SyncState.builder().stream(SyncState.MANGAS).cursorAt(T0).cursorId("a")
+                    .boundaryOffset(1).build();
+            when(repository.findById(SyncState.MANGAS)).thenReturn(Optional.of(state));
+            when(repository.findById(SyncState.CHAPTERS)).thenReturn(Optional.empty());
+            when(apiService.getMangasUpdatedSince(T0, 2, 1))
+                    .thenThrow(new ExternalApiException("MangaDex", "indisponível"));
+
+            List<DeltaSyncService.StreamResult> results = service.syncAll((current, total) -> { });
+
+            assertThat(results.get(0).error()).contains("indisponível");
+            assertThat(state.getCursorAt()).isEqualTo(T0);
+            assertThat(state.getBoundaryOffset()).isEqualTo(1);
+            assertThat(state.getLastError()).contains("indisponível");
+            verify(apiService).getChaptersUpdatedSince(any(), eq(2), eq(0));
+        }
+
+        @Test
+        @DisplayName("deve contar capítulos criados e atualizados como alterações")
+        void shouldCountChapterChanges() {
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+            when(apiService.getMangasUpdatedSince(any(), anyInt(), anyInt())).thenReturn(page());
+            ChapterDto chapter = new ChapterDto();
+            chapter.setId("c1");
+            ChapterDto.ApiChapterAttributes attributes = new ChapterDto.ApiChapterAttributes();
+            attributes.setUpdatedAt(T0.minusHours(1));
+            chapter.setAttributes(attributes);
+            when(apiService.getChaptersUpdatedSince(any(), anyInt(), anyInt()))
+                    .thenReturn(new PaginatedDto<>(List.of(chapter), 1, 0, 2));
+            when(chapterService.applyExternalUpdates(List.of(chapter)))
+                    .thenReturn(new ChapterService.ChapterSyncCounts(1, 0, 0, 0));
+
+            DeltaSyncService.StreamResult result = service.syncAll((current, total) -> { }).get(1);
+
+            assertThat(result.changed()).isEqualTo(1);
+            clock.addAndGet(60_000);
+            assertThat(service.lagSeconds(SyncState.CHAPTERS)).isEqualTo(60.0);
+            assertThat(service.highWaterAgeSeconds(SyncState.CHAPTERS)).isEqualTo(3660.0);
+        }
+
+        @Test
+        @DisplayName("deve avançar o cursor quando uma renumeração colide com outro capítulo")
+        void shouldAdvanceCursorPastRenumberCollision() {
+            ChapterRepository chapterRepository = mock(ChapterRepository.class);
+            DeltaSyncService service = new DeltaSyncService(apiService, mangaService,
+                    new ChapterService(chapterRepository, apiService, mangaService,
+                            new TransactionTemplate(mock(PlatformTransactionManager.class))), repository, true, 2, 3,
+                    Duration.ofHours(24), clock::get);
+            Manga manga = new Manga();
+            manga.setId("manga-1");
+            Chapter first = storedChapter(manga, "c1", "1");
+            Chapter second = storedChapter(manga, "c2", "2");
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+            when(apiService.getMangasUpdatedSince(any(), anyInt(), anyInt())).thenReturn(page());
+            when(mangaService.findByApiIds(any())).thenReturn(Map.of("m1", manga));
+            when(chapterRepository.findByApiIdIn(anyList())).thenReturn(List.of(first, second));
+            when(chapterRepository.findByNaturalKey("manga-1", "2", "pt-br")).thenReturn(Optional.of(second));
+            // c1 vira o capítulo 2 (já gravado); c2 só ganha título novo
+            ChapterDto renumbered = chapterUpdate("c1", "2", T0.minusHours(2));
+            ChapterDto retitled = chapterUpdate("c2", "2", T0.minusHours(1));
+            when(apiService.getChaptersUpdatedSince(any(), anyInt(), anyInt()))
+                    .thenReturn(new PaginatedDto<>(List.of(renumbered, retitled), 2, 0, 2))
+                    .thenReturn(new PaginatedDto<>(List.of(), 2, 2, 2));
+
+            DeltaSyncService.StreamResult result = service.syncAll((current, total) -> { }).get(1);
+
+            assertThat(result.error()).isNull();
+            assertThat(result.changed()).isEqualTo(1);
+            assertThat(first.getChapter()).isEqualTo("1");
+            verify(chapterRepository).save(second);
+            verify(chapterRepository, never()).save(first);
+            assertThat(checkpoints).contains(T0.minusHours(1));
+        }
+
+        @Test
+        @DisplayName("deve recusar uma segunda execução simultânea")
+        void shouldRejectConcurrentRun() {
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+            when(apiService.getMangasUpdatedSince(any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+                assertThatThrownBy(() -> service.syncAll((current, total) -> { }))
+                        .isInstanceOf(BusinessException.class);
+                return page();
+            });
+
+            service.syncAll((current, total) -> { });
+
+            verify(apiService, times(1)).getMangasUpdatedSince(any(), anyInt(), anyInt());
+        }
+    }
+
+    @Test
+    @DisplayName("não deve rodar pelo agendamento quando desabilitado")
+    void shouldSkipScheduledWhenDisabled() {
+        service = new DeltaSyncService(apiService, mangaService, chapterService, repository, false, 2, 3,
+                Duration.ofHours(24), () -> Instant.EPOCH.toEpochMilli());
+
+        service.scheduledSync();
+
+        verifyNoInteractions(apiService, repository);
+    }
+}
@@ -0,0 +1,177 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.ImportDeadLetter;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.repository.ImportDeadLetterRepository;
+import com.reader_hub.domain.repository.ImportRetryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportRetryQueue - Testes Unitários")
+class ImportRetryQueueTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private ImportRetryRepository retryRepository;
+
+    @Mock
+    private ImportDeadLetterRepository deadLetterRepository;
+
+    private final AtomicLong clock = new AtomicLong(T0.toEpochMilli());
+    private ImportRetryQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ImportRetryQueue(retryRepository, deadLetterRepository, Duration.ofMinutes(1),
+                Duration.ofMinutes(10), 3, clock::get);
+        lenient().when(retryRepository.save(any(ImportRetry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static ImportRetry retry(int attempts) {
+        return ImportRetry.builder().id("r1").operation(ImportRetry.Operation.COVER).apiId("api-1")
+                .attempts(attempts).nextAttemptAt(T0).createdAt(T0.minusSeconds(60)).build();
+    }
+
+    @Nested
+    @DisplayName("record")
+    class Record {
+        @Test
+        @DisplayName("deve agendar um item novo para depois do atraso base")
+        void shouldScheduleNewItem() {
+            when(retryRepository.findByOperationAndApiId(ImportRetry.Operation.MANGA, "api-1"))
+                    .thenReturn(Optional.empty());
+            when(deadLetterRepository.findByOperationAndApiId(ImportRetry.Operation.MANGA, "api-1"))
+                    .thenReturn(Optional.empty());
+
+            queue.record(ImportRetry.Operation.MANGA, "api-1", new IllegalStateException("timeout"));
+
+            ArgumentCaptor<ImportRetry> saved = ArgumentCaptor.forClass(ImportRetry.class);
+            verify(retryRepository).save(saved.capture());
+            assertThat(saved.getValue().getAttempts()).isZero();
+            assertThat(saved.getValue().getNextAttemptAt()).isEqualTo(T0.plus(Duration.ofMinutes(1)));
+            assertThat(saved.getValue().getLastError()).isEqualTo("timeout");
+        }
+
+        @Test
+        @DisplayName("deve só atualizar o erro de um item já na fila")
+        void shouldKeepScheduleOfQueuedItem() {
+            ImportRetry existing = retry(2);
+            when(retryRepository.findByOperationAndApiId(ImportRetry.Operation.COVER, "api-1"))
+                    .thenReturn(Optional.of(existing));
+
+            queue.record(ImportRetry.Operation.COVER, "api-1", "503");
+
+            assertThat(existing.getAttempts()).isEqualTo(2);
+            assertThat(existing.getNextAttemptAt()).isEqualTo(T0);
+            assertThat(existing.getLastError()).isEqualTo("503");
+        }
+
+        @Test
+        @DisplayName("não deve lançar quando o registro falha")
+        void shouldNeverThrow() {
+            when(retryRepository.findByOperationAndApiId(any(), any())).thenReturn(Optional.empty());
+            when(deadLetterRepository.findByOperationAndApiId(any(), any())).thenReturn(Optional.empty());
+            when(retryRepository.save(any(ImportRetry.class))).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+            assertThatCode(() -> queue.record(ImportRetry.Operation.AUTHOR, "a1", "erro")).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("failed")
+    class Failed {
+        @Test
+        @DisplayName("deve reagendar com backoff exponencial limitado")
+        void shouldBackOffExponentially() {
+            assertThat(queue.backoff(0)).isEqualTo(Duration.ofMinutes(1));
+            assertThat(queue.backoff(2)).isEqualTo(Duration.ofMinutes(4));
+            assertThat(queue.backoff(5)).isEqualTo(Duration.ofMinutes(10));
+            assertThat(queue.backoff(100)).isEqualTo(Duration.ofMinutes(10));
+
+            ImportRetry item = retry(0);
+            boolean dead = queue.failed(item, "timeout", false);
+
+            assertThat(dead).isFalse();
+            assertThat(item.getAttempts()).isEqualTo(1);
+            assertThat(item.getNextAttemptAt()).isEqualTo(T0.plus(Duration.ofMinutes(2)));
+            verifyNoInteractions(deadLetterRepository);
+        }
+
+        @Test
+        @DisplayName("deve mover para a dead-letter ao atingir o limite de tentativas")
+        void shouldDeadLetterAtMaxAttempts() {
+            ImportRetry item = retry(2);
+
+            boolean dead = queue.failed(item, "timeout", false);
+
+            assertThat(dead).isTrue();
+            ArgumentCaptor<ImportDeadLetter> saved = ArgumentCaptor.forClass(ImportDeadLetter.class);
+            verify(deadLetterRepository).save(saved.capture());
+            assertThat(saved.getValue().getApiId()).isEqualTo("api-1");
+            assertThat(saved.getValue().getOperation()).isEqualTo(ImportRetry.Operation.COVER);
+            assertThat(saved.getValue().getAttempts()).isEqualTo(3);
+            assertThat(saved.getValue().getLastError()).isEqualTo("timeout");
+            assertThat(saved.getValue().getFirstFailedAt()).isEqualTo(T0.minusSeconds(60));
+            verify(retryRepository).delete(item);
+        }
+
+        @Test
+        @DisplayName("deve mover na hora uma falha permanente")
+        void shouldDeadLetterPermanentFailure() {
+            ImportRetry item = retry(0);
+
+            assertThat(queue.failed(item, "não encontrado", true)).isTrue();
+            verify(retryRepository).delete(item);
+        }
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+        @Test
+        @DisplayName("deve devolver o item à fila vencido agora e com tentativas zeradas")
+        void shouldRequeueDeadLetter() {
+            ImportDeadLetter deadLetter = ImportDeadLetter.builder().id("d1").operation(ImportRetry.Operation.MANGA)
+                    .apiId("api-9").attempts(8).lastError("timeout").firstFailedAt(T0).deadAt(T0).build();
+            when(deadLetterRepository.findById("d1")).thenReturn(Optional.of(deadLetter));
+            when(retryRepository.findByOperationAndApiId(ImportRetry.Operation.MANGA, "api-9"))
+                    .thenReturn(Optional.empty());
+
+            ImportRetry requeued = queue.replay("d1");
+
+            assertThat(requeued.getApiId()).isEqualTo("api-9");
+            assertThat(requeued.getAttempts()).isZero();
+            assertThat(requeued.getNextAttemptAt()).isEqualTo(T0);
+            verify(deadLetterRepository).delete(deadLetter);
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException para item inexistente")
+        void shouldThrowForUnknownDeadLetter() {
+            when(deadLetterRepository.findById("nada")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> queue.replay("nada")).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.exception.ExternalApiUnavailableException;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportRetryWorker - Testes Unitários")
+class ImportRetryWorkerTest {
+
+    @Mock
+    private ImportRetryQueue queue;
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private ChapterService chapterService;
+
+    @Mock
+    private CoverService coverService;
+
+    @Mock
+    private MangaImportPipeline importPipeline;
+
+    private ImportRetryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ImportRetryWorker(queue, apiService, mangaService, authorService, chapterService, coverService,
+                importPipeline, true, 10);
+    }
+
+    private static Manga manga(String id, String apiId) {
+        Manga manga = new Manga();
+        manga.setId(id);
+        manga.setApiId(apiId);
+        return manga;
+    }
+
+    private static ImportRetry retry(ImportRetry.Operation operation, String apiId) {
+        return ImportRetry.builder().id(apiId).operation(operation).apiId(apiId).build();
+    }
+
+    @Test
+    @DisplayName("deve reprocessar só o item que falhou e removê-lo da fila")
+    void shouldRetryOnlyFailedItem() {
+        ImportRetry chapters = retry(ImportRetry.Operation.CHAPTERS, "api-1");
+        ImportRetry author = retry(ImportRetry.Operation.AUTHOR, "author-1");
+        when(queue.due(10)).thenReturn(List.of(chapters, author));
+        when(mangaService.findByApiIds(List.of("api-1")))
+                .thenReturn(Map.of("api-1", manga("m1", "api-1")));
+        when(authorService.findExistingApiIds(List.of("author-1"))).thenReturn(Set.of());
+        AuthorDto authorDto = new AuthorDto();
+        authorDto.setId("author-1");
+        when(apiService.getAuthorById("author-1")).thenReturn(Optional.of(authorDto));
+
+        ImportRetryWorker.RunResult result = worker.processDue();
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        verify(chapterService).populateChaptersForManga("m1");
+        verify(authorService).createAuthor(authorDto);
+        verify(queue).succeeded(chapters);
+        verify(queue).succeeded(author);
+        verifyNoInteractions(importPipeline);
+    }
+
+    @Test
+    @DisplayName("deve reagendar falhas temporárias e mandar para a dead-letter o que não existe mais")
+    void shouldClassifyFailures() {
+        ImportRetry cover = retry(ImportRetry.Operation.COVER, "api-1");
+        ImportRetry manga = retry(ImportRetry.Operation.MANGA, "api-2");
+        when(queue.due(10)).thenReturn(List.of(cover, manga));
+        when(mangaService.findByApiIds(List.of("api-1")))
+                .thenReturn(Map.of("api-1", manga("m1", "api-1")));
+        when(apiService.getMangaCoverUrl("api-1")).thenThrow(new IllegalStateException("timeout"));
+        when(mangaService.findExistingApiIds(List.of("api-2"))).thenReturn(Set.of());
+        when(apiService.getMangaById("api-2")).thenReturn(Optional.empty());
+        when(queue.failed(cover, "timeout", false)).thenReturn(false);
+        when(queue.failed(eq(manga), anyString(), eq(true))).thenReturn(true);
+
+        ImportRetryWorker.RunResult result = worker.processDue();
+
+        assertThat(result.rescheduled()).isEqualTo(1);
+        assertThat(result.deadLettered()).isEqualTo(1);
+        verify(queue, never()).succeeded(any());
+    }
+
+    @Test
+    @DisplayName("deve parar sem gastar tentativas quando o MangaDex está indisponível")
+    void shouldStopWhenApiUnavailable() {
+        ImportRetry first = retry(ImportRetry.Operation.COVER, "api-1");
+        ImportRetry second = retry(ImportRetry.Operation.COVER, "api-2");
+        when(queue.due(10)).thenReturn(List.of(first, second));
+        when(mangaService.findByApiIds(List.of("api-1")))
+                .thenReturn(Map.of("api-1", manga("m1", "api-1")));
+        when(apiService.getMangaCoverUrl("api-1")).thenThrow(new ExternalApiUnavailableException("MangaDex",
+                ExternalApiUnavailableException.Reason.CIRCUIT_OPEN, "circuito aberto", 30));
+
+        ImportRetryWorker.RunResult result = worker.processDue();
+
+        assertThat(result.interrupted()).isTrue();
+        verify(queue, never()).failed(any(), any(), anyBoolean());
+        verify(mangaService, never()).findByApiIds(List.of("api-2"));
+    }
+
+    @Test
+    @DisplayName("deve avisar o progresso e parar no cancelamento sem contar falha do item")
+    void shouldReportProgressAndStopOnCancellation() {
+        ImportRetry first = retry(ImportRetry.Operation.AUTHOR, "author-1");
+        ImportRetry second = retry(ImportRetry.Operation.AUTHOR, "author-2");
+        when(queue.due(10)).thenReturn(List.of(first, second));
+        when(authorService.findExistingApiIds(List.of("author-1"))).thenReturn(Set.of("author-1"));
+        List<Integer> reported = new ArrayList<>();
+
+        assertThatThrownBy(() -> worker.processDue((current, total) -> {
+            reported.add(current);
+            if (current == 1) {
+                throw new CancellationException("cancelado");
+            }
+        })).isInstanceOf(CancellationException.class);
+
+        assertThat(reported).containsExactly(0, 1);
+        verify(queue).succeeded(first);
+        verify(queue, never()).failed(any(), any(), anyBoolean());
+        verify(authorService, never()).findExistingApiIds(List.of("author-2"));
+        // A trava foi liberada: a próxima execução roda
+        when(queue.due(10)).thenReturn(List.of());
+        assertThat(worker.processDue()).isEqualTo(new ImportRetryWorker.RunResult(0, 0, 0, false));
+        verify(queue, times(2)).due(10);
+    }
+}
@@ -0,0 +1,297 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.dto.AuthorDto;
+import com.reader_hub.application.dto.ExternalMangaDto;
+import com.reader_hub.application.dto.PaginatedDto;
+import com.reader_hub.application.ports.ApiService;
+import com.reader_hub.domain.model.ImportRetry;
+import com.reader_hub.domain.model.Manga;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MangaImportPipeline - Testes Unitários")
+class MangaImportPipelineTest {
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private AuthorService authorService;
+
+    @Mock
+    private ImportRetryQueue retryQueue;
+
+    private ExecutorService executor;
+    private MangaImportPipeline pipeline;
+    private final List<List<Manga>> savedBatches = new CopyOnWriteArrayList<>();
+    private final Set<String> storedAuthors = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        pipeline = new MangaImportPipeline(apiService, mangaService, authorService, retryQueue, executor,
+                new MangaImportPipeline.Settings(100, 2, 3, 1, 1, 40, 2));
+
+        lenient().when(mangaService.findExistingApiIds(anyCollection())).thenReturn(Set.of());
+        lenient().when(mangaService.saveNewMangas(anyList())).thenAnswer(invocation -> {
+            List<Manga> batch = new ArrayList<>(invocation.getArgument(0));
+            savedBatches.add(batch);
+            return batch.size();
+        });
+        lenient().when(authorService.findExistingApiIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().filter(storedAuthors::contains).collect(Collectors.toSet());
+        });
+        lenient().when(authorService.upsertAuthors(anyCollection())).thenAnswer(invocation -> {
+            Collection<AuthorDto> authors = invocation.getArgument(0);
+            return (int) authors.stream().filter(author -> storedAuthors.add(author.getId())).count();
+        });
+        lenient().when(authorService.findByApiIds(anyCollection())).thenReturn(Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static ExternalMangaDto manga(int index) {
+        ExternalMangaDto dto = new ExternalMangaDto();
+        dto.setId("manga-" + index);
+        ExternalMangaDto.ApiMangaAttributes attributes = new ExternalMangaDto.ApiMangaAttributes();
+        attributes.setTitle(Map.of("en", "Manga " + index));
+        attributes.setStatus("ongoing");
+        dto.setAttributes(attributes);
+
+        ExternalMangaDto.SimpleRelationship author = new ExternalMangaDto.SimpleRelationship();
+        author.setId("author-shared");
+        author.setType("author");
+        author.setAttributes(Map.of("name", "Autor"));
+        ExternalMangaDto.SimpleRelationship cover = new ExternalMangaDto.SimpleRelationship();
+        cover.setType("cover_art");
+        cover.setAttributes(Map.of("fileName", "c" + index + ".jpg"));
+        dto.setRelationships(List.of(author, cover));
+        return dto;
+    }
+
+    // Relacionamento sem atributos: o autor precisa ser buscado pelo ids[]
+    private static ExternalMangaDto.SimpleRelationship authorRelationship(String id) {
+        ExternalMangaDto.SimpleRelationship author = new ExternalMangaDto.SimpleRelationship();
+        author.setId(id);
+        author.setType("author");
+        return author;
+    }
+
+    private static PaginatedDto<ExternalMangaDto> page(int limit, int offset, int total) {
+        List<ExternalMangaDto> data = IntStream.range(offset, Math.min(offset + limit, total))
+                .mapToObj(MangaImportPipelineTest::manga).toList();
+        return new PaginatedDto<>(data, total, offset, limit);
+    }
+
+    private List<String> savedApiIds() {
+        return savedBatches.stream().flatMap(List::stream).map(Manga::getApiId).toList();
+    }
+
+    @Nested
+    @DisplayName("run")
+    class Run {
+        @Test
+        @DisplayName("deve buscar todas as páginas e gravar em lotes limitados")
+        void shouldImportAllPagesInBatches() {
+            List<String> requested = new CopyOnWriteArrayList<>();
+
+            MangaImportPipeline.Result result = pipeline.run("teste", 250, 0, (limit, offset) -> {
+                requested.add(limit + "@" + offset);
+                return page(limit, offset, 1000);
+            });
+
+            assertThat(requested).containsExactlyInAnyOrder("100@0", "100@100", "50@200");
+            assertThat(result.mangasSaved()).isEqualTo(250);
+            assertThat(result.totalFound()).isEqualTo(1000);
+            assertThat(result.failures()).isZero();
+            assertThat(savedApiIds()).hasSize(250).doesNotHaveDuplicates();
+            assertThat(savedBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(40));
+            assertThat(savedBatches.stream().flatMap(List::stream))
+                    .allSatisfy(manga -> assertThat(manga.getCoverImage()).startsWith(ExternalMangaDto.COVER_BASE_URL));
+        }
+
+        @Test
+        @DisplayName("deve criar o autor compartilhado uma única vez")
+        void shouldCreateSharedAuthorOnce() {
+            MangaImportPipeline.Result result = pipeline.run("teste", 300, 0, (limit, offset) -> page(limit, offset, 300));
+
+            assertThat(result.authorsSaved()).isEqualTo(1);
+            assertThat(storedAuthors).containsExactly("author-shared");
+            verify(authorService, never()).createAuthor(any());
+        }
+
+        @Test
+        @DisplayName("deve agendar retry dos autores quando o upsert falha")
+        void shouldRecordRetryWhenAuthorUpsertFails() {
+            when(authorService.upsertAuthors(anyCollection())).thenThrow(new IllegalStateException("banco indisponível"));
+
+            MangaImportPipeline.Result result = pipeline.run("busca", page(5, 0, 5));
+
+            assertThat(result.mangasSaved()).isEqualTo(5);
+            assertThat(result.authorsSaved()).isZero();
+            verify(retryQueue).record(eq(ImportRetry.Operation.AUTHOR), eq("author-shared"), any(Throwable.class));
+        }
+
+        @Test
+        @DisplayName("deve agendar retry dos autores que a busca em lote não devolveu")
+        void shouldRecordRetryForAuthorsMissingFromBulkFetch() {
+            PaginatedDto<ExternalMangaDto> page = page(2, 0, 2);
+            page.getData().get(0).findRelationships("author").get(0).setAttributes(null);
+            page.getData().get(1).setRelationships(List.of(authorRelationship("author-lost")));
+            AuthorDto shared = new AuthorDto();
+            shared.setId("author-shared");
+            when(apiService.getAuthorsByIds(anyCollection())).thenReturn(List.of(shared));
+
+            MangaImportPipeline.Result result = pipeline.run("busca", page);
+
+            assertThat(result.authorsSaved()).isEqualTo(1);
+            assertThat(storedAuthors).containsExactly("author-shared");
+            verify(retryQueue).record(ImportRetry.Operation.AUTHOR, "author-lost", "Autor não retornado pela busca em lote");
+            verify(retryQueue, never()).record(eq(ImportRetry.Operation.AUTHOR), eq("author-shared"), anyString());
+        }
+
+        @Test
+        @DisplayName("deve pular mangás já existentes e páginas além do total")
+        void shouldSkipExistingAndPagesBeyondTotal() {
+            when(mangaService.findExistingApiIds(anyCollection())).thenReturn(Set.of("manga-0", "manga-1"));
+            List<Integer> offsets = new CopyOnWriteArrayList<>();
+            MangaImportPipeline pipeline = new MangaImportPipeline(apiService, mangaService, authorService,
+                    retryQueue, executor, new MangaImportPipeline.Settings(100, 1, 2, 1, 1, 50, 2));
+
+            MangaImportPipeline.Result result = pipeline.run("teste", 400, 0, (limit, offset) -> {
+                offsets.add(offset);
+                return page(limit, offset, 150);
+            });
+
+            assertThat(offsets).containsExactly(0, 100);
+            assertThat(result.mangasSaved()).isEqualTo(148);
+            assertThat(savedApiIds()).doesNotContain("manga-0", "manga-1");
+            // Existentes também entram: a população completa decide quais precisam de capítulos
+            assertThat(result.apiIds()).hasSize(150).contains("manga-0", "manga-1");
+        }
+
+        @Test
+        @DisplayName("deve continuar quando uma página falha")
+        void shouldContinueWhenPageFails() {
+            MangaImportPipeline.Result result = pipeline.run("teste", 300, 0, (limit, offset) -> {
+                if (offset == 100) {
+                    throw new IllegalStateException("MangaDex indisponível");
+                }
+                return page(limit, offset, 300);
+            });
+
+            assertThat(result.mangasSaved()).isEqualTo(200);
+            assertThat(result.failures()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("deve agendar retry só do manga que não pôde ser gravado")
+        void shouldRecordRetryForFailedManga() {
+            when(mangaService.saveNewMangas(anyList())).thenAnswer(invocation -> {
+                List<Manga> batch = invocation.getArgument(0);
+                if (batch.stream().anyMatch(manga -> "manga-7".equals(manga.getApiId()))) {
+                    throw new IllegalStateException("violação de constraint");
+                }
+                return batch.size();
+            });
+
+            MangaImportPipeline.Result result = pipeline.run("teste", 10, 0, (limit, offset) -> page(limit, offset, 10));
+
+            assertThat(result.mangasSaved()).isEqualTo(9);
+            verify(retryQueue).record(eq(ImportRetry.Operation.MANGA), eq("manga-7"), any(Throwable.class));
+            verify(retryQueue, times(1)).record(any(), anyString(), any(Throwable.class));
+        }
+
+        @Test
+        @DisplayName("deve reportar o progresso após cada lote gravado")
+        void shouldReportProgressPerBatch() {
+            List<Integer> progress = new CopyOnWriteArrayList<>();
+
+            pipeline.run("teste", 200, 0, (limit, offset) -> page(limit, offset, 1000),
+                    (processed, total) -> {
+                        assertThat(total).isEqualTo(200);
+                        progress.add(processed);
+                    });
+
+            assertThat(progress).isSorted().last().isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("deve interromper a importação quando o callback cancela")
+        void shouldStopWhenCallbackCancels() {
+            assertThatThrownBy(() -> pipeline.run("teste", 1000, 0, (limit, offset) -> page(limit, offset, 1000),
+                    (processed, total) -> {
+                        throw new CancellationException("cancelado");
+                    }))
+                    .isInstanceOf(CancellationException.class);
+
+            assertThat(savedApiIds().size()).isLessThan(1000);
+        }
+
+        @Test
+        @DisplayName("deve recusar e desfazer os workers iniciados quando o pool está no limite")
+        void shouldRejectWhenPoolIsFull() throws InterruptedException {
+            ThreadPoolExecutor small = new ThreadPoolExecutor(0, 3, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+            MangaImportPipeline pipeline = new MangaImportPipeline(apiService, mangaService, authorService,
+                    retryQueue, small, new MangaImportPipeline.Settings(100, 2, 3, 1, 1, 40, 2));
+            try {
+                assertThatThrownBy(() -> pipeline.run("teste", 100, 0, (limit, offset) -> page(limit, offset, 100)))
+                        .isInstanceOf(RejectedExecutionException.class);
+
+                small.shutdown();
+                assertThat(small.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(savedBatches).isEmpty();
+            } finally {
+                small.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("deve importar uma página já buscada")
+        void shouldImportPrefetchedPage() {
+            MangaImportPipeline.Result result = pipeline.run("busca", page(20, 0, 20));
+
+            assertThat(result.mangasSaved()).isEqualTo(20);
+            assertThat(result.totalFound()).isEqualTo(20);
+            verifyNoInteractions(apiService);
+        }
+    }
+}
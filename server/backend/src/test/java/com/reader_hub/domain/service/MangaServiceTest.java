@@ -21,6 +21,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -220,6 +222,28 @@ class MangaServiceTest {
             verify(mangaRepository).save(any(Manga.class));
         }
 
+        @Test
+        @DisplayName("deve usar cover_art e autor incluídos sem chamar a API")
+        void shouldUseIncludedRelationshipsWithoutApiCalls() {
+            ExternalMangaDto dto = createExternalMangaDto();
+            dto.setRelationships(List.of(
+                    relationship("cover_art", "cover-1", Map.of("fileName", "capa.jpg")),
+                    relationship("author", "api-author-1", Map.of("name", "Autor Incluído"))));
+            Author author = new Author();
+            author.setName("Autor Incluído");
+
+            when(mangaRepository.existsByApiId("ext-123")).thenReturn(false);
+            when(authorService.findByApiId("api-author-1")).thenReturn(Optional.empty());
+            when(authorService.createAuthor(any())).thenReturn(author);
+            when(mangaRepository.save(any(Manga.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            Manga result = mangaService.createManga(dto);
+
+            assertThat(result.getCoverImage()).isEqualTo("https://uploads.mangadex.org/covers/ext-123/capa.jpg");
+            assertThat(result.getAuthor()).isEqualTo(author);
+            verifyNoInteractions(apiService);
+        }
+
         @Test
         @DisplayName("deve lançar DuplicateResourceException quando manga já existe")
         void shouldThrowWhenMangaAlreadyExists() {
@@ -365,8 +389,49 @@ class MangaServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("applyExternalUpdates")
+    class ApplyExternalUpdates {
+        @Test
+        @DisplayName("deve gravar só os mangás locais cuja versão remota é mais nova")
+        void shouldApplyOnlyNewerLocalMangas() {
+            OffsetDateTime t0 = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+            testManga.setApiId("ext-123");
+            testManga.setSourceUpdatedAt(t0);
+            Manga current = new Manga();
+            current.setApiId("ext-456");
+            current.setSourceUpdatedAt(t0.plusDays(1));
+
+            ExternalMangaDto newer = createExternalMangaDto();
+            newer.getAttributes().setUpdatedAt(t0.plusHours(1));
+            ExternalMangaDto older = createExternalMangaDto();
+            older.setId("ext-456");
+            older.getAttributes().setUpdatedAt(t0.plusHours(1));
+            ExternalMangaDto unknown = createExternalMangaDto();
+            unknown.setId("ext-789");
+            when(mangaRepository.findByApiIdIn(List.of("ext-123", "ext-456", "ext-789")))
+                    .thenReturn(List.of(testManga, current));
+
+            MangaService.SyncCounts counts = mangaService.applyExternalUpdates(List.of(newer, older, unknown));
+
+            assertThat(counts).isEqualTo(new MangaService.SyncCounts(1, 1, 1));
+            assertThat(testManga.getTitle()).containsEntry("en", "External Manga");
+            assertThat(testManga.getSourceUpdatedAt()).isEqualTo(t0.plusHours(1));
+            verify(mangaRepository).save(testManga);
+            verify(mangaRepository, never()).save(current);
+        }
+    }
+
     // ===== Helpers =====
 
+    private ExternalMangaDto.SimpleRelationship relationship(String type, String id, Map<String, Object> attributes) {
+        ExternalMangaDto.SimpleRelationship relationship = new ExternalMangaDto.SimpleRelationship();
+        relationship.setType(type);
+        relationship.setId(id);
+        relationship.setAttributes(attributes);
+        return relationship;
+    }
+
     private ExternalMangaDto createExternalMangaDto() {
         ExternalMangaDto dto = new ExternalMangaDto();
         dto.setId("ext-123");
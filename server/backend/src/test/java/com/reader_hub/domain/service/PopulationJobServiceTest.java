@@ -0,0 +1,305 @@
+package com.reader_hub.domain.service;
+
+import com.reader_hub.application.exception.BusinessException;
+import com.reader_hub.application.exception.ResourceNotFoundException;
+import com.reader_hub.domain.model.PopulationJob;
+import com.reader_hub.domain.repository.PopulationJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopulationJobService - Testes Unitários")
+class PopulationJobServiceTest {
+
+    @Mock
+    private PopulationJobRepository repository;
+
+    @Mock
+    private DataPopulationService dataPopulationService;
+
+    @Mock
+    private DeltaSyncService deltaSyncService;
+
+    @Mock
+    private CatalogDumpService catalogDumpService;
+
+    @Mock
+    private ImportRetryWorker retryWorker;
+
+    private ManualExecutor executor;
+    private final AtomicLong clock = new AtomicLong();
+    private PopulationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        service = new PopulationJobService(repository, dataPopulationService, deltaSyncService, catalogDumpService,
+                retryWorker, executor, 1000, clock::get);
+        lenient().when(repository.save(any(PopulationJob.class))).thenAnswer(invocation -> {
+            PopulationJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(UUID.randomUUID().toString());
+            }
+            return job;
+        });
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class Submit {
+        @Test
+        @DisplayName("deve devolver o job na fila e gravar o resultado ao terminar")
+        void shouldQueueAndRecordResult() {
+            when(dataPopulationService.populatePopularMangas(eq(50), eq(0), any()))
+                    .thenReturn(new DataPopulationService.PopulationResult(40, 12, 900L, "ok"));
+
+            PopulationJob job = service.submitPopularMangas(50, 0);
+
+            assertThat(job.getId()).isNotNull();
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.QUEUED);
+            assertThat(job.getParameters()).containsEntry("limit", "50").containsEntry("offset", "0");
+
+            executor.runAll();
+
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.SUCCEEDED);
+            assertThat(job.getMangasSaved()).isEqualTo(40);
+            assertThat(job.getAuthorsSaved()).isEqualTo(12);
+            assertThat(job.getTotalFound()).isEqualTo(900L);
+            assertThat(job.getStartedAt()).isNotNull();
+            assertThat(job.getFinishedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("deve gravar FAILED com o erro quando o trabalho falha")
+        void shouldRecordFailure() {
+            when(dataPopulationService.populateChaptersForMangaWithProgress(eq("m1"), any()))
+                    .thenThrow(new IllegalStateException("MangaDex indisponível"));
+
+            PopulationJob job = service.submitChapters("m1");
+            executor.runAll();
+
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.FAILED);
+            assertThat(job.getError()).contains("MangaDex indisponível");
+        }
+
+        @Test
+        @DisplayName("deve gravar os erros do delta sync em error, sem estourar a mensagem")
+        void shouldKeepDeltaSyncErrorsOutOfMessage() {
+            String longError = "x".repeat(2000);
+            when(deltaSyncService.syncAll(any())).thenReturn(List.of(
+                    new DeltaSyncService.StreamResult("mangas", 2, 5, true, null),
+                    new DeltaSyncService.StreamResult("chapters", 1, 0, false, longError)));
+
+            PopulationJob job = service.submitDeltaSync();
+            executor.runAll();
+
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.SUCCEEDED);
+            assertThat(job.getMessage()).isEqualTo("Delta sync concluído: mangas=5, chapters=0 (com erro)");
+            assertThat(job.getError()).startsWith("chapters: xxx").hasSize(PopulationJob.MAX_ERROR_LENGTH);
+            assertThat(job.getMangasSaved()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("deve rodar o retry de importação no pool, fora da requisição")
+        void shouldRunImportRetryInPool() {
+            when(retryWorker.processDue(any())).thenReturn(new ImportRetryWorker.RunResult(3, 1, 1, true));
+
+            PopulationJob job = service.submitImportRetry();
+
+            assertThat(job.getType()).isEqualTo(PopulationJob.Type.IMPORT_RETRY);
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.QUEUED);
+            verifyNoInteractions(retryWorker);
+
+            executor.runAll();
+
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.SUCCEEDED);
+            assertThat(job.getMessage()).isEqualTo("Retry de importação: 3 reprocessados, 1 reagendados, "
+                    + "1 para a dead-letter (interrompido: MangaDex indisponível)");
+        }
+
+        @Test
+        @DisplayName("deve marcar FAILED e propagar quando a fila está cheia")
+        void shouldFailWhenQueueIsFull() {
+            executor.rejecting = true;
+
+            assertThatThrownBy(() -> service.submitUpdateCoverImages())
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            verify(repository, times(2)).save(argThat(job -> job.getStatus() == PopulationJob.Status.FAILED));
+        }
+    }
+
+    @Nested
+    @DisplayName("progresso")
+    class Progress {
+        @Test
+        @DisplayName("deve gravar e notificar o progresso no máximo uma vez por intervalo")
+        void shouldThrottleProgress() {
+            List<Integer> notified = new ArrayList<>();
+            PopulationJob job = service.submit(PopulationJob.Type.CHAPTERS, Map.of(), progress -> {
+                progress.accept(1, 10);
+                clock.addAndGet(100);
+                progress.accept(2, 10);
+                clock.addAndGet(1000);
+                progress.accept(3, 10);
+                progress.accept(10, 10);
+                return finished -> { };
+            });
+            service.subscribe(job.getId(), snapshot -> notified.add(snapshot.getProgressCurrent()));
+
+            executor.runAll();
+
+            // Estado inicial, RUNNING, 3 (após o intervalo), 10 (fim) e o estado final
+            assertThat(notified).containsExactly(0, 0, 3, 10, 10);
+            assertThat(job.getPercentage()).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("cancel")
+    class Cancel {
+        @Test
+        @DisplayName("deve cancelar na hora um job que ainda está na fila")
+        void shouldCancelQueuedJob() {
+            PopulationJob job = service.submitUpdateCoverImages();
+
+            service.cancel(job.getId());
+            executor.runAll();
+
+            assertThat(job.getStatus()).isEqualTo(PopulationJob.Status.CANCELLED);
+            verifyNoInteractions(dataPopulationService);
+        }
+
+        @Test
+        @DisplayName("deve interromper um job em execução no próximo progresso")
+        void shouldStopRunningJobAtNextProgress() {
+            List<Integer> reached = new ArrayList<>();
+            PopulationJob[] holder = new PopulationJob[1];
+            holder[0] = service.submit(PopulationJob.Type.POPULAR_MANGAS, Map.of(), progress -> {
+                progress.accept(1, 3);
+                reached.add(1);
+                service.cancel(holder[0].getId());
+                progress.accept(2, 3);
+                reached.add(2);
+                return finished -> { };
+            });
+
+            executor.runAll();
+
+            assertThat(reached).containsExactly(1);
+            assertThat(holder[0].getStatus()).isEqualTo(PopulationJob.Status.CANCELLED);
+            assertThat(holder[0].isCancelRequested()).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve recusar o cancelamento de job finalizado")
+        void shouldRejectFinishedJob() {
+            PopulationJob finished = PopulationJob.builder().id("j1").type(PopulationJob.Type.CHAPTERS)
+                    .status(PopulationJob.Status.SUCCEEDED).build();
+            when(repository.findById("j1")).thenReturn(Optional.of(finished));
+
+            assertThatThrownBy(() -> service.cancel("j1")).isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("deve lançar ResourceNotFoundException para job inexistente")
+        void shouldThrowForUnknownJob() {
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.cancel("nao-existe")).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("não deve enfileirar a atualização de capas agendada se já houver uma ativa")
+    void shouldSkipScheduledCoverRefreshWhenActive() {
+        service.scheduledCoverRefresh();
+        service.scheduledCoverRefresh();
+
+        verify(repository, times(1)).save(argThat(job -> job.getType() == PopulationJob.Type.UPDATE_COVER_IMAGES));
+
+        executor.runAll();
+        service.scheduledCoverRefresh();
+
+        verify(dataPopulationService, times(1)).updateCoverImages(any());
+        assertThat(executor.tasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("deve marcar como FAILED os jobs interrompidos por reinício")
+    void shouldFailInterruptedJobsOnStartup() {
+        when(repository.failUnfinished(eq(PopulationJobService.INTERRUPTED_MESSAGE), any())).thenReturn(2);
+
+        service.failInterruptedJobs();
+
+        verify(repository).failUnfinished(eq(PopulationJobService.INTERRUPTED_MESSAGE), any());
+    }
+
+    /**
+     * Executor que só roda as tarefas quando o teste pede.
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean rejecting;
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("fila cheia");
+            }
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.reader_hub.simulator;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribuição de latência simulada por requisição.
+ *
+ * Formatos aceitos:
+ * <ul>
+ *   <li>{@code none} - sem atraso</li>
+ *   <li>{@code fixed:50} - sempre 50 ms</li>
+ *   <li>{@code uniform:20:200} - uniforme entre 20 e 200 ms</li>
+ *   <li>{@code lognormal:80:0.6} - log-normal com mediana 80 ms e sigma 0.6
+ *       (cauda longa parecida com a de uma API real)</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> 0;
+
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "uniform" -> uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "lognormal" -> logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                default -> throw new IllegalArgumentException("Distribuição desconhecida: " + parts[0]);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Latência inválida: " + spec, e);
+        }
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> Math.max(0, millis);
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        long min = Math.max(0, Math.min(minMillis, maxMillis));
+        long max = Math.max(minMillis, maxMillis);
+        return random -> min == max ? min : random.nextLong(min, max + 1);
+    }
+
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        double mu = Math.log(Math.max(1e-3, medianMillis));
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+}
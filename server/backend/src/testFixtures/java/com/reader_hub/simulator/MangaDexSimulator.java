@@ -0,0 +1,740 @@
+package com.reader_hub.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Servidor local que imita a API do MangaDex com dados gerados, para medir o
+ * pipeline de importação sem rede e de forma reprodutível.
+ *
+ * Atende {@code /manga}, {@code /manga/{id}}, {@code /manga/{id}/feed},
+ * {@code /author}, {@code /author/{id}}, {@code /chapter}, {@code /chapter/{id}},
+ * {@code /cover/{id}} e {@code /at-home/server/{id}} com o mesmo formato JSON da
+ * API real, além das imagens em {@code /data}, {@code /data-saver} e {@code /covers}.
+ * Latência, taxa de erro (503) e rate limit (429 + cabeçalhos X-RateLimit-*)
+ * são configuráveis em {@link SimulatorSettings}; respostas JSON têm ETag.
+ *
+ * Para apontar a aplicação para o simulador:
+ * <pre>
+ * ./gradlew mangadexSimulator -PsimulatorArgs="--port=5050 --mangas=2000 --latency=lognormal:80:0.6"
+ * MANGADEX_API_URL=http://localhost:5050 ./gradlew bootRun
+ * </pre>
+ * Contadores ficam em {@code GET /__simulator/stats}.
+ */
+public class MangaDexSimulator implements AutoCloseable {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssxxx");
+    private static final int MAX_WINDOW = 10_000;
+    private static final String SCANLATION_GROUP = "00000000-e000-4000-8000-000000000001";
+    private static final String UPLOADER = "00000000-f000-4000-8000-000000000001";
+
+    private final SimulatorSettings settings;
+    private final SimulatedCatalog catalog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SplittableRandom random;
+    private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private volatile double errorRate;
+
+    private long windowSecond;
+    private int windowCount;
+
+    private MangaDexSimulator(SimulatorSettings settings) throws IOException {
+        this.settings = settings;
+        this.catalog = new SimulatedCatalog(settings);
+        this.random = new SplittableRandom(settings.seed);
+        this.errorRate = settings.errorRate;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "mangadex-sim-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.port), 256);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static MangaDexSimulator start(SimulatorSettings settings) {
+        try {
+            MangaDexSimulator simulator = new MangaDexSimulator(settings);
+            simulator.server.start();
+            return simulator;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível iniciar o simulador do MangaDex", e);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulatorSettings settings = SimulatorSettings.fromArgs(args);
+        if (Arrays.stream(args).noneMatch(arg -> arg.startsWith("--port="))) {
+            settings.port(5050);
+        }
+        MangaDexSimulator simulator = start(settings);
+        System.out.println("Simulador MangaDex em " + simulator.baseUrl() + " (" + settings + ")");
+        System.out.println("Use MANGADEX_API_URL=" + simulator.baseUrl() + " na aplicação");
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        Thread.currentThread().join();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public SimulatedCatalog catalog() {
+        return catalog;
+    }
+
+    /**
+     * Altera a taxa de erro com o servidor no ar (ex.: simular uma queda no meio do benchmark).
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = Math.max(0, Math.min(1, errorRate));
+    }
+
+    /**
+     * Requisições recebidas por rota ({@code manga-list}, {@code manga-feed}, {@code author-list}...).
+     */
+    public long requestCount(String route) {
+        LongAdder counter = requestCounts.get(route);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    public long totalRequests() {
+        return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long rateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, Response.error(405, "method_not_allowed", "Somente GET"));
+                return;
+            }
+            String[] path = Arrays.stream(exchange.getRequestURI().getRawPath().split("/"))
+                    .filter(segment -> !segment.isEmpty())
+                    .map(segment -> URLDecoder.decode(segment, StandardCharsets.UTF_8))
+                    .toArray(String[]::new);
+            Map<String, List<String>> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if (path.length == 2 && path[0].equals("__simulator") && path[1].equals("stats")) {
+                send(exchange, Response.json(200, stats()));
+                return;
+            }
+            if (path.length > 0 && Set.of("data", "data-saver", "covers").contains(path[0])) {
+                count(path[0].equals("covers") ? "cover-image" : "page-image");
+                pause(settings.imageLatency);
+                send(exchange, image(path));
+                return;
+            }
+
+            pause(settings.latency);
+            Map<String, String> rateHeaders = new HashMap<>();
+            if (settings.rateLimit > 0 && !admit(rateHeaders)) {
+                rateLimited.increment();
+                count("rate-limited");
+                send(exchange, Response.error(429, "ratelimit_exceeded", "Rate limit excedido")
+                        .withHeaders(rateHeaders).withHeader("Retry-After", "1"));
+                return;
+            }
+            if (errorRate > 0 && nextDouble() < errorRate) {
+                injectedErrors.increment();
+                count("injected-error");
+                send(exchange, Response.error(503, "service_unavailable", "Erro simulado").withHeaders(rateHeaders));
+                return;
+            }
+
+            Response response = route(path, query).withHeaders(rateHeaders);
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (response.status() == 200 && response.etag().equals(ifNoneMatch)) {
+                response = new Response(304, response.contentType(), new byte[0], response.headers());
+            }
+            send(exchange, response);
+        } catch (IllegalArgumentException e) {
+            send(exchange, Response.error(400, "bad_request_http_exception", e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, Response.error(500, "internal_server_error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private Response route(String[] path, Map<String, List<String>> query) {
+        String root = path.length > 0 ? path[0] : "";
+        switch (root) {
+            case "manga" -> {
+                if (path.length == 1) {
+                    count("manga-list");
+                    return mangaList(query);
+                }
+                if (path.length == 3 && path[2].equals("feed")) {
+                    count("manga-feed");
+                    return catalog.manga(path[1]).map(manga -> mangaFeed(manga, query))
+                            .orElseGet(() -> notFound("Manga", path[1]));
+                }
+                count("manga");
+                return catalog.manga(path[1])
+                        .map(manga -> entity(mangaJson(manga, new HashSet<>(values(query, "includes[]")))))
+                        .orElseGet(() -> notFound("Manga", path[1]));
+            }
+            case "author" -> {
+                if (path.length == 1) {
+                    count("author-list");
+                    return authorList(query);
+                }
+                count("author");
+                return catalog.author(path[1]).map(author -> entity(authorJson(author)))
+                        .orElseGet(() -> notFound("Author", path[1]));
+            }
+            case "chapter" -> {
+                if (path.length == 1) {
+                    count("chapter-list");
+                    return chapterList(query);
+                }
+                count("chapter");
+                return catalog.chapter(path[1]).map(chapter -> entity(chapterJson(chapter)))
+                        .orElseGet(() -> notFound("Chapter", path[1]));
+            }
+            case "cover" -> {
+                count("cover");
+                return coverFor(path.length > 1 ? path[1] : "").map(this::entity)
+                        .orElseGet(() -> notFound("Cover", path.length > 1 ? path[1] : ""));
+            }
+            case "at-home" -> {
+                count("at-home");
+                String chapterId = path.length == 3 ? path[2] : "";
+                return catalog.chapter(chapterId).map(this::atHome)
+                        .orElseGet(() -> notFound("Chapter", chapterId));
+            }
+            default -> {
+                count("other");
+                return Response.error(404, "not_found_http_exception", "Rota não simulada");
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- listagens
+
+    private Response mangaList(Map<String, List<String>> query) {
+        int limit = limit(query, 10, 100);
+        int offset = offset(query, limit);
+        Set<String> ids = new HashSet<>(values(query, "ids[]"));
+        String title = first(query, "title");
+        Instant createdSince = since(query, "createdAtSince");
+        Instant updatedSince = since(query, "updatedAtSince");
+
+        Predicate<SimulatedCatalog.Manga> filter = manga -> (ids.isEmpty() || ids.contains(manga.id()))
+                && (title == null || manga.title().toLowerCase().contains(title.toLowerCase()))
+                && (createdSince == null || !manga.createdAt().isBefore(createdSince))
+                && (updatedSince == null || !catalog.updatedAt(manga).isBefore(updatedSince));
+
+        List<SimulatedCatalog.Manga> matches = catalog.mangas().stream()
+                .filter(filter)
+                .sorted(mangaOrder(query))
+                .toList();
+        Set<String> includes = new HashSet<>(values(query, "includes[]"));
+        return collection(page(matches, offset, limit).stream().map(manga -> mangaJson(manga, includes)),
+                limit, offset, matches.size());
+    }
+
+    private Comparator<SimulatedCatalog.Manga> mangaOrder(Map<String, List<String>> query) {
+        Comparator<SimulatedCatalog.Manga> order = Comparator.comparing(SimulatedCatalog.Manga::createdAt);
+        for (Map.Entry<String, List<String>> entry : query.entrySet()) {
+            if (!entry.getKey().startsWith("order[")) {
+                continue;
+            }
+            String field = entry.getKey().substring(6, entry.getKey().length() - 1);
+            Comparator<SimulatedCatalog.Manga> byField = switch (field) {
+                case "followedCount", "relevance", "rating" ->
+                        Comparator.comparingInt(SimulatedCatalog.Manga::followedCount);
+                case "updatedAt", "latestUploadedChapter" -> Comparator.comparing(catalog::updatedAt);
+                case "title" -> Comparator.comparing(SimulatedCatalog.Manga::title);
+                case "year" -> Comparator.comparingInt(SimulatedCatalog.Manga::year);
+                default -> Comparator.comparing(SimulatedCatalog.Manga::createdAt);
+            };
+            order = "desc".equalsIgnoreCase(entry.getValue().get(0)) ? byField.reversed() : byField;
+            break;
+        }
+        return order.thenComparing(SimulatedCatalog.Manga::id);
+    }
+
+    private Response mangaFeed(SimulatedCatalog.Manga manga, Map<String, List<String>> query) {
+        int limit = limit(query, 100, 500);
+        int offset = offset(query, limit);
+        Set<String> languages = new HashSet<>(values(query, "translatedLanguage[]"));
+        List<SimulatedCatalog.Chapter> chapters = catalog.chapters(manga).stream()
+                .filter(chapter -> languages.isEmpty() || languages.contains(chapter.language()))
+                .toList();
+        if ("desc".equalsIgnoreCase(first(query, "order[chapter]"))) {
+            chapters = new ArrayList<>(chapters);
+            Collections.reverse(chapters);
+        }
+        return collection(page(chapters, offset, limit).stream().map(this::chapterJson),
+                limit, offset, chapters.size());
+    }
+
+    private Response chapterList(Map<String, List<String>> query) {
+        int limit = limit(query, 10, 100);
+        int offset = offset(query, limit);
+        String mangaId = first(query, "manga");
+        Set<String> ids = new HashSet<>(values(query, "ids[]"));
+        Set<String> languages = new HashSet<>(values(query, "translatedLanguage[]"));
+        Instant updatedSince = since(query, "updatedAtSince");
+
+        Stream<SimulatedCatalog.Manga> mangas = mangaId != null
+                ? catalog.manga(mangaId).stream()
+                : catalog.mangas().stream();
+        List<SimulatedCatalog.Chapter> chapters = mangas
+                .flatMap(manga -> catalog.chapters(manga).stream())
+                .filter(chapter -> ids.isEmpty() || ids.contains(chapter.id()))
+                .filter(chapter -> languages.isEmpty() || languages.contains(chapter.language()))
+                .filter(chapter -> updatedSince == null || !chapter.publishAt().isBefore(updatedSince))
+                .sorted(Comparator.comparing(SimulatedCatalog.Chapter::publishAt)
+                        .thenComparing(SimulatedCatalog.Chapter::id))
+                .toList();
+        return collection(page(chapters, offset, limit).stream().map(this::chapterJson),
+                limit, offset, chapters.size());
+    }
+
+    private Response authorList(Map<String, List<String>> query) {
+        int limit = limit(query, 10, 100);
+        int offset = offset(query, limit);
+        Set<String> ids = new HashSet<>(values(query, "ids[]"));
+        String name = first(query, "name");
+        List<SimulatedCatalog.Author> matches = catalog.authors().stream()
+                .filter(author -> ids.isEmpty() || ids.contains(author.id()))
+                .filter(author -> name == null || author.name().toLowerCase().contains(name.toLowerCase()))
+                .toList();
+        return collection(page(matches, offset, limit).stream().map(this::authorJson),
+                limit, offset, matches.size());
+    }
+
+    // ---------------------------------------------------------------- entidades
+
+    private ObjectNode mangaJson(SimulatedCatalog.Manga manga, Set<String> includes) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", manga.id());
+        node.put("type", "manga");
+        ObjectNode attributes = node.putObject("attributes");
+        attributes.putObject("title").put("en", manga.title());
+        attributes.putArray("altTitles").addObject().put("pt-br", manga.title() + " (BR)");
+        attributes.putObject("description")
+                .put("en", "Generated description for " + manga.title() + ".")
+                .put("pt-br", "Descrição gerada para " + manga.title() + ".");
+        attributes.put("isLocked", false);
+        attributes.putObject("links");
+        attributes.put("originalLanguage", manga.originalLanguage());
+        attributes.put("lastVolume", "");
+        attributes.put("lastChapter", manga.status().equals("completed") ? String.valueOf(manga.chapterCount()) : "");
+        attributes.put("publicationDemographic", manga.demographic());
+        attributes.put("status", manga.status());
+        attributes.put("year", manga.year());
+        attributes.put("contentRating", "safe");
+        attributes.putArray("tags");
+        attributes.put("state", "published");
+        attributes.put("chapterNumbersResetOnNewVolume", false);
+        attributes.put("createdAt", timestamp(manga.createdAt()));
+        attributes.put("updatedAt", timestamp(catalog.updatedAt(manga)));
+        attributes.put("version", 1);
+        attributes.putArray("availableTranslatedLanguages").add("en").add("pt-br");
+        if (manga.chapterCount() > 0) {
+            attributes.put("latestUploadedChapter",
+                    SimulatedCatalog.id(manga.index(), 'c', manga.chapterCount() - 1L));
+        }
+
+        ArrayNode relationships = node.putArray("relationships");
+        addAuthorRelationship(relationships, "author", manga.authorIndex(), includes.contains("author"));
+        addAuthorRelationship(relationships, "artist", manga.artistIndex(), includes.contains("artist"));
+        ObjectNode cover = relationships.addObject();
+        cover.put("id", manga.coverId());
+        cover.put("type", "cover_art");
+        if (includes.contains("cover_art")) {
+            cover.set("attributes", coverAttributes(manga));
+        }
+        return node;
+    }
+
+    private void addAuthorRelationship(ArrayNode relationships, String type, int authorIndex, boolean included) {
+        SimulatedCatalog.Author author = catalog.authors().get(authorIndex);
+        ObjectNode relationship = relationships.addObject();
+        relationship.put("id", author.id());
+        relationship.put("type", type);
+        if (included) {
+            relationship.set("attributes", authorJson(author).get("attributes"));
+        }
+    }
+
+    private ObjectNode authorJson(SimulatedCatalog.Author author) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", author.id());
+        node.put("type", "author");
+        ObjectNode attributes = node.putObject("attributes");
+        attributes.put("name", author.name());
+        attributes.putNull("imageUrl");
+        attributes.putObject("biography").put("en", "Biography of " + author.name() + ".");
+        for (String social : List.of("twitter", "pixiv", "melonBook", "fanBox", "booth", "nicoVideo", "skeb",
+                "fantia", "tumblr", "youtube", "weibo", "naver", "website")) {
+            attributes.putNull(social);
+        }
+        attributes.put("createdAt", timestamp(author.createdAt()));
+        attributes.put("updatedAt", timestamp(author.createdAt()));
+        attributes.put("version", 1);
+        node.putArray("relationships");
+        return node;
+    }
+
+    private ObjectNode chapterJson(SimulatedCatalog.Chapter chapter) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", chapter.id());
+        node.put("type", "chapter");
+        ObjectNode attributes = node.putObject("attributes");
+        attributes.put("volume", chapter.volume());
+        attributes.put("chapter", chapter.number());
+        attributes.put("title", "Capítulo " + chapter.number());
+        attributes.put("translatedLanguage", chapter.language());
+        attributes.putNull("externalUrl");
+        attributes.put("publishAt", timestamp(chapter.publishAt()));
+        attributes.put("readableAt", timestamp(chapter.publishAt()));
+        attributes.put("createdAt", timestamp(chapter.publishAt()));
+        attributes.put("updatedAt", timestamp(chapter.publishAt()));
+        attributes.put("pages", chapter.pages());
+        attributes.put("version", 1);
+        ArrayNode relationships = node.putArray("relationships");
+        relationships.addObject().put("id", SCANLATION_GROUP).put("type", "scanlation_group");
+        relationships.addObject().put("id", chapter.manga().id()).put("type", "manga");
+        relationships.addObject().put("id", UPLOADER).put("type", "user");
+        return node;
+    }
+
+    private Optional<ObjectNode> coverFor(String coverId) {
+        return catalog.mangas().stream()
+                .filter(manga -> manga.coverId().equals(coverId))
+                .findFirst()
+                .map(manga -> {
+                    ObjectNode node = objectMapper.createObjectNode();
+                    node.put("id", manga.coverId());
+                    node.put("type", "cover_art");
+                    node.set("attributes", coverAttributes(manga));
+                    node.putArray("relationships").addObject().put("id", manga.id()).put("type", "manga");
+                    return node;
+                });
+    }
+
+    private ObjectNode coverAttributes(SimulatedCatalog.Manga manga) {
+        ObjectNode attributes = objectMapper.createObjectNode();
+        attributes.put("description", "");
+        attributes.put("volume", "1");
+        attributes.put("fileName", manga.coverFileName());
+        attributes.put("locale", manga.originalLanguage());
+        attributes.put("createdAt", timestamp(manga.createdAt()));
+        attributes.put("updatedAt", timestamp(manga.createdAt()));
+        attributes.put("version", 1);
+        return attributes;
+    }
+
+    private Response atHome(SimulatedCatalog.Chapter chapter) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("result", "ok");
+        node.put("baseUrl", baseUrl());
+        ObjectNode data = node.putObject("chapter");
+        data.put("hash", chapter.hash());
+        ArrayNode files = data.putArray("data");
+        chapter.pageFiles(false).forEach(files::add);
+        ArrayNode saverFiles = data.putArray("dataSaver");
+        chapter.pageFiles(true).forEach(saverFiles::add);
+        return Response.json(200, write(node));
+    }
+
+    // ---------------------------------------------------------------- imagens
+
+    private Response image(String[] path) {
+        if (path.length != 3) {
+            return Response.error(404, "not_found_http_exception", "Imagem não encontrada");
+        }
+        String file = path[2];
+        boolean png = file.endsWith(".png");
+        int width;
+        if (path[0].equals("covers")) {
+            if (catalog.manga(path[1]).isEmpty()) {
+                return Response.error(404, "not_found_http_exception", "Capa não encontrada");
+            }
+            width = file.endsWith(".256.jpg") ? 256 : file.endsWith(".512.jpg") ? 512 : settings.coverWidth;
+        } else {
+            width = path[0].equals("data-saver") ? Math.max(1, settings.pageWidth / 2) : settings.pageWidth;
+        }
+        byte[] bytes = images.computeIfAbsent((png ? "png:" : "jpg:") + width, key -> render(width, png));
+        return new Response(200, png ? "image/png" : "image/jpeg", bytes,
+                Map.of("Cache-Control", "public, max-age=31536000"));
+    }
+
+    private static byte[] render(int width, boolean png) {
+        int height = width * 3 / 2;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(240, 236, 228), width, height, new Color(60, 72, 96)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.DARK_GRAY);
+        for (int y = height / 10; y < height; y += height / 10) {
+            graphics.drawLine(width / 12, y, width - width / 12, y);
+        }
+        graphics.dispose();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, png ? "png" : "jpg", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---------------------------------------------------------------- infraestrutura
+
+    private Response collection(Stream<ObjectNode> items, int limit, int offset, int total) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("result", "ok");
+        node.put("response", "collection");
+        ArrayNode data = node.putArray("data");
+        items.forEach(data::add);
+        // Como na API real, a paginação vem depois de "data"
+        node.put("limit", limit);
+        node.put("offset", offset);
+        node.put("total", total);
+        return Response.json(200, write(node));
+    }
+
+    private Response entity(ObjectNode data) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("result", "ok");
+        node.put("response", "entity");
+        node.set("data", data);
+        return Response.json(200, write(node));
+    }
+
+    private Response notFound(String type, String id) {
+        return Response.error(404, "not_found_http_exception", type + " com ID " + id + " não encontrado");
+    }
+
+    /**
+     * Janela fixa de um segundo compartilhada por todas as rotas da API.
+     */
+    private synchronized boolean admit(Map<String, String> headers) {
+        long second = System.currentTimeMillis() / 1000;
+        if (second != windowSecond) {
+            windowSecond = second;
+            windowCount = 0;
+        }
+        boolean admitted = windowCount < settings.rateLimit;
+        if (admitted) {
+            windowCount++;
+        }
+        headers.put("X-RateLimit-Limit", String.valueOf(settings.rateLimit));
+        headers.put("X-RateLimit-Remaining", String.valueOf(settings.rateLimit - windowCount));
+        headers.put("X-RateLimit-Retry-After", String.valueOf(second + 1));
+        return admitted;
+    }
+
+    private void pause(LatencyDistribution distribution) {
+        long millis;
+        synchronized (random) {
+            millis = distribution.sampleMillis(random);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private void count(String route) {
+        requestCounts.computeIfAbsent(route, key -> new LongAdder()).increment();
+    }
+
+    private byte[] stats() {
+        ObjectNode node = objectMapper.createObjectNode();
+        ObjectNode requests = node.putObject("requests");
+        new TreeMap<>(requestCounts).forEach((route, counter) -> requests.put(route, counter.sum()));
+        node.put("total", totalRequests());
+        node.put("rateLimited", rateLimited.sum());
+        node.put("injectedErrors", injectedErrors.sum());
+        return write(node);
+    }
+
+    private byte[] write(ObjectNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", response.contentType());
+        response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        if (response.contentType().startsWith("application/json")) {
+            exchange.getResponseHeaders().add("ETag", response.etag());
+        }
+        boolean empty = response.body().length == 0;
+        exchange.sendResponseHeaders(response.status(), empty ? -1 : response.body().length);
+        if (!empty) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+        }
+    }
+
+    private static <T> List<T> page(List<T> items, int offset, int limit) {
+        return offset >= items.size() ? List.of() : items.subList(offset, Math.min(items.size(), offset + limit));
+    }
+
+    private static int limit(Map<String, List<String>> query, int defaultLimit, int maxLimit) {
+        String value = first(query, "limit");
+        int limit = value != null ? Integer.parseInt(value) : defaultLimit;
+        if (limit < 0 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit deve estar entre 0 e " + maxLimit);
+        }
+        return limit;
+    }
+
+    private static int offset(Map<String, List<String>> query, int limit) {
+        String value = first(query, "offset");
+        int offset = value != null ? Integer.parseInt(value) : 0;
+        // Mesma trava da API real: paginação por offset não passa de 10.000 itens
+        if (offset < 0 || offset + limit > MAX_WINDOW) {
+            throw new IllegalArgumentException("offset + limit deve ser no máximo " + MAX_WINDOW);
+        }
+        return offset;
+    }
+
+    private static Instant since(Map<String, List<String>> query, String name) {
+        String value = first(query, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " deve estar no formato YYYY-MM-DDTHH:MM:SS");
+        }
+    }
+
+    private static String timestamp(Instant instant) {
+        return TIMESTAMP.format(instant.atOffset(ZoneOffset.UTC));
+    }
+
+    private static Map<String, List<String>> parseQuery(String rawQuery) {
+        Map<String, List<String>> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = URLDecoder.decode(separator >= 0 ? pair.substring(0, separator) : pair, StandardCharsets.UTF_8);
+            String value = separator >= 0 ? URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8) : "";
+            query.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        return query;
+    }
+
+    private static List<String> values(Map<String, List<String>> query, String name) {
+        return query.getOrDefault(name, List.of());
+    }
+
+    private static String first(Map<String, List<String>> query, String name) {
+        List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private record Response(int status, String contentType, byte[] body, Map<String, String> headers) {
+
+        static Response json(int status, byte[] body) {
+            return new Response(status, "application/json", body, Map.of());
+        }
+
+        static Response error(int status, String title, String detail) {
+            String body = "{\"result\":\"error\",\"errors\":[{\"status\":" + status + ",\"title\":\"" + title
+                    + "\",\"detail\":\"" + detail.replace("\"", "'") + "\"}]}";
+            return json(status, body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Response withHeaders(Map<String, String> extra) {
+            if (extra.isEmpty()) {
+                return this;
+            }
+            Map<String, String> merged = new HashMap<>(headers);
+            merged.putAll(extra);
+            return new Response(status, contentType, body, merged);
+        }
+
+        Response withHeader(String name, String value) {
+            return withHeaders(Map.of(name, value));
+        }
+
+        String etag() {
+            return "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+        }
+    }
+}
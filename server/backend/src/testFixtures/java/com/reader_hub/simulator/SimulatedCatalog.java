@@ -0,0 +1,163 @@
+package com.reader_hub.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo gerado de forma determinística a partir da semente: a mesma
+ * configuração sempre produz os mesmos IDs, títulos e capítulos, então
+ * benchmarks podem ser comparados entre execuções.
+ *
+ * Os IDs têm formato de UUID e carregam o tipo e o índice da entidade
+ * (ex.: {@code 0000002a-c000-4000-8000-000000000007} é o 8º capítulo do manga 42),
+ * o que permite responder a {@code /chapter/{id}} sem guardar índice reverso.
+ * Capítulos não ficam em memória: são regerados a cada leitura do feed.
+ */
+public class SimulatedCatalog {
+
+    static final Instant CATALOG_START = Instant.parse("2018-03-01T00:00:00Z");
+    private static final String[] STATUSES = {"ongoing", "completed", "hiatus", "cancelled"};
+    private static final String[] DEMOGRAPHICS = {"shounen", "seinen", "shoujo", "josei"};
+    private static final String[] ORIGINAL_LANGUAGES = {"ja", "ko", "zh"};
+
+    private final SimulatorSettings settings;
+    private final List<Manga> mangas;
+    private final List<Author> authors;
+    private final Map<Integer, Instant> touched = new ConcurrentHashMap<>();
+
+    public SimulatedCatalog(SimulatorSettings settings) {
+        this.settings = settings;
+        SplittableRandom random = new SplittableRandom(settings.seed);
+
+        List<Author> generatedAuthors = new ArrayList<>(settings.authors);
+        for (int i = 0; i < settings.authors; i++) {
+            generatedAuthors.add(new Author(i, id(i, 'b', 0), "Autor Simulado " + (i + 1),
+                    CATALOG_START.plus(Duration.ofHours(i))));
+        }
+        this.authors = Collections.unmodifiableList(generatedAuthors);
+
+        List<Manga> generatedMangas = new ArrayList<>(settings.mangas);
+        for (int i = 0; i < settings.mangas; i++) {
+            // Mangas mais antigos tendem a ser mais populares e ter mais capítulos
+            int chapters = settings.minChapters + (int) Math.round((settings.maxChapters - settings.minChapters)
+                    * Math.pow(random.nextDouble(), 2) * (1 - 0.5 * i / Math.max(1.0, settings.mangas)));
+            Instant createdAt = CATALOG_START.plus(Duration.ofMinutes(37L * i + random.nextInt(30)));
+            int author = random.nextInt(settings.authors);
+            int artist = random.nextDouble() < 0.6 ? author : random.nextInt(settings.authors);
+            generatedMangas.add(new Manga(i, id(i, 'a', 0), "Título Simulado " + (i + 1),
+                    STATUSES[random.nextInt(STATUSES.length)], DEMOGRAPHICS[random.nextInt(DEMOGRAPHICS.length)],
+                    ORIGINAL_LANGUAGES[random.nextInt(ORIGINAL_LANGUAGES.length)], 1990 + random.nextInt(35),
+                    author, artist, chapters, settings.mangas - i + random.nextInt(10),
+                    id(i, 'd', 0), createdAt, createdAt.plus(Duration.ofDays(random.nextInt(1, 2000)))));
+        }
+        this.mangas = Collections.unmodifiableList(generatedMangas);
+    }
+
+    public List<Manga> mangas() {
+        return mangas;
+    }
+
+    public List<Author> authors() {
+        return authors;
+    }
+
+    public Optional<Manga> manga(String id) {
+        return parse(id, 'a').filter(index -> index < mangas.size()).map(mangas::get);
+    }
+
+    public Optional<Author> author(String id) {
+        return parse(id, 'b').filter(index -> index < authors.size()).map(authors::get);
+    }
+
+    public Optional<Chapter> chapter(String id) {
+        Optional<Integer> mangaIndex = parse(id, 'c');
+        if (mangaIndex.isEmpty() || mangaIndex.get() >= mangas.size()) {
+            return Optional.empty();
+        }
+        long ordinal = Long.parseLong(id.substring(24), 16);
+        List<Chapter> chapters = chapters(mangas.get(mangaIndex.get()));
+        return ordinal < chapters.size() ? Optional.of(chapters.get((int) ordinal)) : Optional.empty();
+    }
+
+    /**
+     * Capítulos do manga em ordem de número, um por idioma disponível.
+     */
+    public List<Chapter> chapters(Manga manga) {
+        SplittableRandom random = new SplittableRandom(settings.seed * 31 + manga.index());
+        List<Chapter> chapters = new ArrayList<>();
+        Instant uploadedAt = manga.createdAt();
+        for (int number = 1; number <= manga.chapterCount(); number++) {
+            uploadedAt = uploadedAt.plus(Duration.ofHours(random.nextInt(24, 24 * 14)));
+            String volume = String.valueOf((number - 1) / 10 + 1);
+            int pages = random.nextInt(settings.minPages, settings.maxPages + 1);
+            chapters.add(new Chapter(manga, chapters.size(), id(manga.index(), 'c', chapters.size()),
+                    String.valueOf(number), volume, "en", pages, uploadedAt));
+            if (random.nextDouble() < settings.portugueseRatio) {
+                chapters.add(new Chapter(manga, chapters.size(), id(manga.index(), 'c', chapters.size()),
+                        String.valueOf(number), volume, "pt-br", pages, uploadedAt.plus(Duration.ofHours(6))));
+            }
+        }
+        return chapters;
+    }
+
+    /**
+     * Marca o manga como alterado (para exercitar sincronização incremental).
+     */
+    public void touch(Manga manga, Instant updatedAt) {
+        touched.put(manga.index(), updatedAt);
+    }
+
+    public Instant updatedAt(Manga manga) {
+        return touched.getOrDefault(manga.index(), manga.generatedUpdatedAt());
+    }
+
+    static String id(int index, char kind, long ordinal) {
+        return String.format("%08x-%c000-4000-8000-%012x", index, kind, ordinal);
+    }
+
+    private static Optional<Integer> parse(String id, char kind) {
+        if (id == null || id.length() != 36 || id.charAt(9) != kind) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.parseInt(id.substring(0, 8), 16));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public record Manga(int index, String id, String title, String status, String demographic,
+                        String originalLanguage, int year, int authorIndex, int artistIndex, int chapterCount,
+                        int followedCount, String coverId, Instant createdAt, Instant generatedUpdatedAt) {
+
+        public String coverFileName() {
+            return coverId + ".jpg";
+        }
+    }
+
+    public record Author(int index, String id, String name, Instant createdAt) {
+    }
+
+    public record Chapter(Manga manga, int ordinal, String id, String number, String volume,
+                          String language, int pages, Instant publishAt) {
+
+        public String hash() {
+            return String.format("%032x", (((long) manga.index()) << 32) | ordinal);
+        }
+
+        public List<String> pageFiles(boolean dataSaver) {
+            List<String> files = new ArrayList<>(pages);
+            for (int page = 1; page <= pages; page++) {
+                files.add(page + "-" + hash().substring(16) + (dataSaver ? ".jpg" : ".png"));
+            }
+            return files;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reader_hub.simulator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do simulador. Os valores padrão geram um catálogo pequeno e
+ * respondem sem atraso, sem erros e sem rate limit (bom para testes); para
+ * benchmarks, ajuste latência, taxa de erro e rate limit.
+ *
+ * Na linha de comando cada campo vira {@code --chave=valor}, ex.:
+ * {@code --port=5050 --mangas=2000 --latency=lognormal:80:0.6 --error-rate=0.01 --rate-limit=5}.
+ */
+public class SimulatorSettings {
+
+    /** Porta HTTP (0 = porta livre qualquer). */
+    int port = 0;
+    /** Semente da geração do catálogo e das amostras de latência/erro. */
+    long seed = 42;
+    int mangas = 200;
+    int authors = 80;
+    int minChapters = 5;
+    int maxChapters = 300;
+    /** Fração dos capítulos que também existem em pt-br (todos existem em en). */
+    double portugueseRatio = 0.5;
+    int minPages = 8;
+    int maxPages = 40;
+    LatencyDistribution latency = LatencyDistribution.NONE;
+    /** Latência dos servidores de imagem (uploads / at-home). */
+    LatencyDistribution imageLatency = LatencyDistribution.NONE;
+    /** Probabilidade (0-1) de uma requisição à API responder 503. */
+    double errorRate = 0;
+    /** Requisições por segundo aceitas pela API antes de responder 429 (0 = sem limite). */
+    int rateLimit = 0;
+    /** Lado maior (px) das páginas geradas; data-saver usa metade. */
+    int pageWidth = 800;
+    int coverWidth = 512;
+
+    public static SimulatorSettings defaults() {
+        return new SimulatorSettings();
+    }
+
+    public static SimulatorSettings fromArgs(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = trimmed.indexOf('=');
+            if (separator > 0) {
+                values.put(trimmed.substring(0, separator), trimmed.substring(separator + 1));
+            }
+        }
+        SimulatorSettings settings = new SimulatorSettings();
+        values.forEach((key, value) -> {
+            switch (key) {
+                case "port" -> settings.port(Integer.parseInt(value));
+                case "seed" -> settings.seed(Long.parseLong(value));
+                case "mangas" -> settings.mangas(Integer.parseInt(value));
+                case "authors" -> settings.authors(Integer.parseInt(value));
+                case "chapters" -> {
+                    String[] range = value.split("-");
+                    settings.chapters(Integer.parseInt(range[0]), Integer.parseInt(range[range.length - 1]));
+                }
+                case "pages" -> {
+                    String[] range = value.split("-");
+                    settings.pages(Integer.parseInt(range[0]), Integer.parseInt(range[range.length - 1]));
+                }
+                case "portuguese-ratio" -> settings.portugueseRatio(Double.parseDouble(value));
+                case "latency" -> settings.latency(LatencyDistribution.parse(value));
+                case "image-latency" -> settings.imageLatency(LatencyDistribution.parse(value));
+                case "error-rate" -> settings.errorRate(Double.parseDouble(value));
+                case "rate-limit" -> settings.rateLimit(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("Opção desconhecida: --" + key);
+            }
+        });
+        return settings;
+    }
+
+    public SimulatorSettings port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public SimulatorSettings seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public SimulatorSettings mangas(int mangas) {
+        this.mangas = Math.max(0, mangas);
+        return this;
+    }
+
+    public SimulatorSettings authors(int authors) {
+        this.authors = Math.max(1, authors);
+        return this;
+    }
+
+    public SimulatorSettings chapters(int min, int max) {
+        this.minChapters = Math.max(0, Math.min(min, max));
+        this.maxChapters = Math.max(min, max);
+        return this;
+    }
+
+    public SimulatorSettings pages(int min, int max) {
+        this.minPages = Math.max(1, Math.min(min, max));
+        this.maxPages = Math.max(this.minPages, max);
+        return this;
+    }
+
+    public SimulatorSettings portugueseRatio(double ratio) {
+        this.portugueseRatio = Math.max(0, Math.min(1, ratio));
+        return this;
+    }
+
+    public SimulatorSettings latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public SimulatorSettings imageLatency(LatencyDistribution imageLatency) {
+        this.imageLatency = imageLatency;
+        return this;
+    }
+
+    public SimulatorSettings errorRate(double errorRate) {
+        this.errorRate = Math.max(0, Math.min(1, errorRate));
+        return this;
+    }
+
+    public SimulatorSettings rateLimit(int requestsPerSecond) {
+        this.rateLimit = Math.max(0, requestsPerSecond);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "mangas=" + mangas + ", autores=" + authors + ", capítulos=" + minChapters + "-" + maxChapters
+                + ", erro=" + errorRate + ", rate-limit=" + (rateLimit == 0 ? "off" : rateLimit + "/s");
+    }
+}